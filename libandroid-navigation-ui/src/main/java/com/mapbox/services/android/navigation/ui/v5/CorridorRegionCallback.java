@@ -0,0 +1,34 @@
+package com.mapbox.services.android.navigation.ui.v5;
+
+import com.mapbox.mapboxsdk.offline.OfflineManager;
+import com.mapbox.mapboxsdk.offline.OfflineRegion;
+
+class CorridorRegionCallback implements OfflineManager.CreateOfflineRegionCallback, OfflineRegionDownloadCallback {
+
+  private final MapOfflineManager mapOfflineManager;
+  private final long block;
+  private final CreateOfflineRegionCallback createOfflineRegionCallback;
+
+  CorridorRegionCallback(MapOfflineManager mapOfflineManager, long block) {
+    this.mapOfflineManager = mapOfflineManager;
+    this.block = block;
+    this.createOfflineRegionCallback = new CreateOfflineRegionCallback(this);
+  }
+
+  @Override
+  public void onCreate(OfflineRegion offlineRegion) {
+    if (mapOfflineManager.onCorridorRegionCreated(block, offlineRegion)) {
+      createOfflineRegionCallback.onCreate(offlineRegion);
+    }
+  }
+
+  @Override
+  public void onComplete() {
+    mapOfflineManager.onCorridorRegionDownloaded(block);
+  }
+
+  @Override
+  public void onError(String error) {
+    mapOfflineManager.onCorridorRegionFailed(block, error);
+  }
+}
@@ -0,0 +1,18 @@
+package com.mapbox.services.android.navigation.ui.v5;
+
+import com.mapbox.mapboxsdk.offline.OfflineRegion;
+
+import timber.log.Timber;
+
+class DeleteOfflineRegionCallback implements OfflineRegion.OfflineRegionDeleteCallback {
+
+  @Override
+  public void onDelete() {
+    // No-op
+  }
+
+  @Override
+  public void onError(String error) {
+    Timber.e(error);
+  }
+}
@@ -0,0 +1,51 @@
+package com.mapbox.services.android.navigation.ui.v5;
+
+import com.mapbox.mapboxsdk.offline.OfflineManager;
+import com.mapbox.mapboxsdk.offline.OfflineRegion;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import timber.log.Timber;
+
+class ListCorridorRegionsCallback implements OfflineManager.ListOfflineRegionsCallback {
+
+  private MapOfflineManager mapOfflineManager;
+  private final OfflineMetadataProvider metadataProvider;
+
+  ListCorridorRegionsCallback(MapOfflineManager mapOfflineManager, OfflineMetadataProvider metadataProvider) {
+    this.mapOfflineManager = mapOfflineManager;
+    this.metadataProvider = metadataProvider;
+  }
+
+  @Override
+  public void onList(OfflineRegion[] offlineRegions) {
+    Map<OfflineRegion, Set<Long>> corridorRegions = new HashMap<>();
+    if (offlineRegions != null) {
+      for (OfflineRegion offlineRegion : offlineRegions) {
+        Set<Long> cells = metadataProvider.retrieveCorridorCellsFrom(offlineRegion.getMetadata());
+        if (cells != null) {
+          corridorRegions.put(offlineRegion, cells);
+        }
+      }
+    }
+    notifyListed(corridorRegions);
+  }
+
+  @Override
+  public void onError(String error) {
+    Timber.e(error);
+    notifyListed(new HashMap<OfflineRegion, Set<Long>>());
+  }
+
+  void onDestroy() {
+    mapOfflineManager = null;
+  }
+
+  private void notifyListed(Map<OfflineRegion, Set<Long>> corridorRegions) {
+    if (mapOfflineManager != null) {
+      mapOfflineManager.onStoredRegionsListed(corridorRegions);
+    }
+  }
+}
@@ -3,13 +3,41 @@ package com.mapbox.services.android.navigation.ui.v5;
 import android.location.Location;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.core.constants.Constants;
 import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
 import com.mapbox.mapboxsdk.offline.OfflineGeometryRegionDefinition;
 import com.mapbox.mapboxsdk.offline.OfflineManager;
+import com.mapbox.mapboxsdk.offline.OfflineRegion;
 import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Keeps the route buffer available offline, downloading it as {@link OfflineCorridor} blocks.
+ * <p>
+ * When the route buffer changes, only the cells which aren't stored yet are downloaded, the blocks
+ * ahead of the vehicle first, one region at a time. The corridor regions of blocks which are no
+ * longer part of the route buffer are deleted, stopping their download if it's still running.
+ * <p>
+ * A block is only stored once its region finished downloading. A failed region is deleted and its
+ * cells are downloaded again with the next route buffer. Once all the blocks are downloaded, the
+ * {@link RegionDownloadCallback} is notified, with the last error if any region failed.
+ */
 class MapOfflineManager implements ProgressChangeListener {
 
   private final OfflineManager offlineManager;
@@ -17,8 +45,22 @@ class MapOfflineManager implements ProgressChangeListener {
   private final OfflineMetadataProvider metadataProvider;
   private final MapConnectivityController connectivityController;
   private final RegionDownloadCallback regionDownloadCallback;
+  private final Map<Long, Set<Long>> storedCells = new HashMap<>();
+  private final Map<Long, List<OfflineRegion>> storedRegions = new HashMap<>();
+  private final Queue<Long> blocksToDownload = new ArrayDeque<>();
+  private final Map<Long, Set<Long>> cellsToDownload = new HashMap<>();
   private Geometry previousRouteGeometry;
   private MergeOfflineRegionsCallback mergeOfflineRegionsCallback;
+  private ListCorridorRegionsCallback listCorridorRegionsCallback;
+  private boolean isStoredListed = false;
+  private String routeSummary;
+  private DirectionsRoute route;
+  private List<Point> routePoints = Collections.emptyList();
+  private Point vehicle;
+  private Long downloadingBlock;
+  private Set<Long> downloadingCells;
+  private OfflineRegion downloadingRegion;
+  private String downloadError;
 
   MapOfflineManager(OfflineManager offlineManager, OfflineRegionDefinitionProvider definitionProvider,
                     OfflineMetadataProvider metadataProvider, MapConnectivityController connectivityController,
@@ -46,10 +88,19 @@ class MapOfflineManager implements ProgressChangeListener {
   @Override
   public void onProgressChange(Location location, RouteProgress routeProgress) {
     Geometry currentRouteGeometry = routeProgress.routeGeometryWithBuffer();
+    if (currentRouteGeometry == null) {
+      return;
+    }
     if (previousRouteGeometry == null || !previousRouteGeometry.equals(currentRouteGeometry)) {
       previousRouteGeometry = currentRouteGeometry;
-      String routeSummary = routeProgress.directionsRoute().routeOptions().requestUuid();
-      download(routeSummary, previousRouteGeometry, regionDownloadCallback);
+      updateRoute(routeProgress.directionsRoute());
+      vehicle = Point.fromLngLat(location.getLongitude(), location.getLatitude());
+      if (isStoredListed) {
+        updateCorridor();
+      } else if (listCorridorRegionsCallback == null) {
+        listCorridorRegionsCallback = new ListCorridorRegionsCallback(this, metadataProvider);
+        offlineManager.listOfflineRegions(listCorridorRegionsCallback);
+      }
     }
   }
 
@@ -62,13 +113,170 @@ class MapOfflineManager implements ProgressChangeListener {
     if (mergeOfflineRegionsCallback != null) {
       mergeOfflineRegionsCallback.onDestroy();
     }
+    if (listCorridorRegionsCallback != null) {
+      listCorridorRegionsCallback.onDestroy();
+    }
+    blocksToDownload.clear();
+    cellsToDownload.clear();
+  }
+
+  void onStoredRegionsListed(Map<OfflineRegion, Set<Long>> corridorRegions) {
+    for (Map.Entry<OfflineRegion, Set<Long>> corridorRegion : corridorRegions.entrySet()) {
+      Set<Long> cells = corridorRegion.getValue();
+      if (!cells.isEmpty()) {
+        addStored(OfflineCorridor.blockOf(cells.iterator().next()), cells, corridorRegion.getKey());
+      }
+    }
+    isStoredListed = true;
+    updateCorridor();
+  }
+
+  boolean onCorridorRegionCreated(long block, OfflineRegion region) {
+    if (!isDownloading(block)) {
+      // the block left the route buffer while its region was being created
+      region.delete(new DeleteOfflineRegionCallback());
+      return false;
+    }
+    downloadingRegion = region;
+    addStored(block, Collections.<Long>emptySet(), region);
+    return true;
+  }
+
+  void onCorridorRegionDownloaded(long block) {
+    if (!isDownloading(block)) {
+      return;
+    }
+    addStored(block, downloadingCells, null);
+    resetDownload();
+    downloadNext();
+  }
+
+  void onCorridorRegionFailed(long block, String error) {
+    if (!isDownloading(block)) {
+      return;
+    }
+    if (downloadingRegion != null) {
+      // the cells aren't stored, they are downloaded again with the next route buffer
+      storedRegions.get(block).remove(downloadingRegion);
+      downloadingRegion.delete(new DeleteOfflineRegionCallback());
+    }
+    downloadError = error;
+    resetDownload();
+    downloadNext();
+  }
+
+  private void updateRoute(DirectionsRoute directionsRoute) {
+    if (directionsRoute == route) {
+      return;
+    }
+    route = directionsRoute;
+    routeSummary = directionsRoute.routeOptions() == null ? null : directionsRoute.routeOptions().requestUuid();
+    String geometry = directionsRoute.geometry();
+    routePoints = geometry == null
+      ? Collections.<Point>emptyList() : LineString.fromPolyline(geometry, Constants.PRECISION_6).coordinates();
+  }
+
+  private void updateCorridor() {
+    Map<Long, Set<Long>> corridor = OfflineCorridor.groupByBlock(OfflineCorridor.cellsFor(previousRouteGeometry));
+    boolean isDownloadEvicted = deleteStaleRegions(corridor.keySet());
+    blocksToDownload.clear();
+    cellsToDownload.clear();
+    for (Long block : OfflineCorridor.orderAhead(corridor.keySet(), routePoints, vehicle)) {
+      Set<Long> missingCells = new HashSet<>(corridor.get(block));
+      Set<Long> cells = storedCells.get(block);
+      if (cells != null) {
+        missingCells.removeAll(cells);
+      }
+      if (isDownloading(block)) {
+        missingCells.removeAll(downloadingCells);
+      }
+      if (!missingCells.isEmpty()) {
+        blocksToDownload.add(block);
+        cellsToDownload.put(block, missingCells);
+      }
+    }
+    if (isDownloadEvicted) {
+      downloadNext();
+    } else if (!blocksToDownload.isEmpty() && downloadingBlock == null) {
+      connectivityController.assign(null);
+      downloadNext();
+    }
+  }
+
+  private boolean deleteStaleRegions(Set<Long> corridorBlocks) {
+    boolean isDownloadEvicted = downloadingBlock != null && !corridorBlocks.contains(downloadingBlock);
+    Iterator<Map.Entry<Long, List<OfflineRegion>>> regions = storedRegions.entrySet().iterator();
+    while (regions.hasNext()) {
+      Map.Entry<Long, List<OfflineRegion>> blockRegions = regions.next();
+      if (corridorBlocks.contains(blockRegions.getKey())) {
+        continue;
+      }
+      for (OfflineRegion region : blockRegions.getValue()) {
+        region.setDownloadState(OfflineRegion.STATE_INACTIVE);
+        region.delete(new DeleteOfflineRegionCallback());
+      }
+      storedCells.remove(blockRegions.getKey());
+      regions.remove();
+    }
+    if (isDownloadEvicted) {
+      resetDownload();
+    }
+    return isDownloadEvicted;
   }
 
-  private void download(@NonNull String routeSummary, @NonNull Geometry routeGeometry,
-                        final OfflineRegionDownloadCallback callback) {
-    OfflineGeometryRegionDefinition definition = definitionProvider.buildRegionFor(routeGeometry);
-    byte[] metadata = metadataProvider.buildMetadataFor(routeSummary);
-    connectivityController.assign(null);
-    offlineManager.createOfflineRegion(definition, metadata, new CreateOfflineRegionCallback(callback));
+  private void downloadNext() {
+    Long block = blocksToDownload.poll();
+    if (block == null) {
+      reportDownloaded();
+      return;
+    }
+    downloadingBlock = block;
+    downloadingCells = cellsToDownload.remove(block);
+    download(block, downloadingCells);
+  }
+
+  private void reportDownloaded() {
+    if (downloadError == null) {
+      regionDownloadCallback.onComplete();
+    } else {
+      String error = downloadError;
+      downloadError = null;
+      regionDownloadCallback.onError(error);
+    }
+  }
+
+  private boolean isDownloading(long block) {
+    return downloadingBlock != null && downloadingBlock == block;
+  }
+
+  private void resetDownload() {
+    downloadingBlock = null;
+    downloadingCells = null;
+    downloadingRegion = null;
+  }
+
+  private void download(long block, Set<Long> cells) {
+    Geometry cellsGeometry = OfflineCorridor.geometryFor(cells);
+    OfflineGeometryRegionDefinition definition = definitionProvider.buildRegionFor(cellsGeometry);
+    byte[] metadata = metadataProvider.buildMetadataFor(routeSummary, cells);
+    offlineManager.createOfflineRegion(definition, metadata, new CorridorRegionCallback(this, block));
+  }
+
+  private void addStored(long block, Set<Long> cells, @Nullable OfflineRegion region) {
+    Set<Long> blockCells = storedCells.get(block);
+    if (blockCells == null) {
+      blockCells = new HashSet<>();
+      storedCells.put(block, blockCells);
+    }
+    blockCells.addAll(cells);
+    if (region == null) {
+      return;
+    }
+    List<OfflineRegion> blockRegions = storedRegions.get(block);
+    if (blockRegions == null) {
+      blockRegions = new ArrayList<>();
+      storedRegions.put(block, blockRegions);
+    }
+    blockRegions.add(region);
   }
-}
\ No newline at end of file
+}
@@ -8,6 +8,7 @@ import android.preference.PreferenceManager;
 
 import com.google.gson.Gson;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.v5.internal.navigation.DirectionsRouteJson;
 import com.mapbox.services.android.navigation.v5.navigation.NavigationConstants;
 
 /**
@@ -64,7 +65,7 @@ public class NavigationLauncher {
   static DirectionsRoute extractRoute(Context context) {
     SharedPreferences preferences = PreferenceManager.getDefaultSharedPreferences(context);
     String directionsRouteJson = preferences.getString(NavigationConstants.NAVIGATION_VIEW_ROUTE_KEY, "");
-    return DirectionsRoute.fromJson(directionsRouteJson);
+    return DirectionsRouteJson.fromJson(directionsRouteJson);
   }
 
   static void cleanUpPreferences(Context context) {
@@ -85,7 +86,8 @@ public class NavigationLauncher {
   }
 
   private static void storeDirectionsRouteValue(NavigationLauncherOptions options, SharedPreferences.Editor editor) {
-    editor.putString(NavigationConstants.NAVIGATION_VIEW_ROUTE_KEY, options.directionsRoute().toJson());
+    editor.putString(NavigationConstants.NAVIGATION_VIEW_ROUTE_KEY,
+      DirectionsRouteJson.toJson(options.directionsRoute()));
   }
 
   private static void storeConfiguration(NavigationLauncherOptions options, SharedPreferences.Editor editor) {
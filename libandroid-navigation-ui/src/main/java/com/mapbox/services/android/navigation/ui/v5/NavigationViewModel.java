@@ -75,13 +75,13 @@ public class NavigationViewModel extends AndroidViewModel {
   private SpeechPlayer speechPlayer;
   private VoiceInstructionLoader voiceInstructionLoader;
   private VoiceInstructionCache voiceInstructionCache;
-  private int voiceInstructionsToAnnounce = 0;
   private RouteProgress routeProgress;
   private String feedbackId;
   private String screenshot;
   private String language;
   private RouteUtils routeUtils;
   private DistanceFormatter distanceFormatter;
+  private RouteProgressModelPublisher progressModelPublisher;
   private String accessToken;
   @TimeFormatType
   private int timeFormatType;
@@ -128,6 +128,7 @@ public class NavigationViewModel extends AndroidViewModel {
   protected void onCleared() {
     super.onCleared();
     destroyRouter();
+    destroyProgressModelPublisher();
   }
 
   public void onDestroy(boolean isChangingConfigurations) {
@@ -212,6 +213,7 @@ public class NavigationViewModel extends AndroidViewModel {
     initializeLanguage(options);
     initializeTimeFormat(navigationOptions);
     initializeDistanceFormatter(options);
+    initializeProgressModelPublisher(options);
     if (!isRunning()) {
       LocationEngine locationEngine = initializeLocationEngineFrom(options);
       initializeNavigation(getApplication(), navigationOptions, locationEngine);
@@ -269,9 +271,11 @@ public class NavigationViewModel extends AndroidViewModel {
 
   void updateRouteProgress(RouteProgress routeProgress) {
     this.routeProgress = routeProgress;
+    voiceInstructionCache.update(routeProgress);
     sendEventArrival(routeProgress);
-    instructionModel.setValue(new InstructionModel(distanceFormatter, routeProgress));
-    summaryModel.setValue(new SummaryModel(getApplication(), distanceFormatter, routeProgress, timeFormatType));
+    if (progressModelPublisher != null) {
+      progressModelPublisher.publish(routeProgress);
+    }
   }
 
   void updateLocation(Location location) {
@@ -339,9 +343,23 @@ public class NavigationViewModel extends AndroidViewModel {
   }
 
   private void initializeDistanceFormatter(NavigationViewOptions options) {
+    distanceFormatter = buildDistanceFormatter(options);
+  }
+
+  private DistanceFormatter buildDistanceFormatter(NavigationViewOptions options) {
     String unitType = initializeUnitType(options);
     int roundingIncrement = initializeRoundingIncrement(options);
-    distanceFormatter = new DistanceFormatter(getApplication(), language, unitType, roundingIncrement);
+    return new DistanceFormatter(getApplication(), language, unitType, roundingIncrement);
+  }
+
+  private void initializeProgressModelPublisher(NavigationViewOptions options) {
+    if (progressModelPublisher == null) {
+      progressModelPublisher = new RouteProgressModelPublisher(getApplication(), instructionModel, summaryModel);
+    }
+    // The publisher formats on its own thread, so it doesn't share the main thread formatter
+    DistanceFormatter publisherDistanceFormatter = buildDistanceFormatter(options);
+    progressModelPublisher.updateFormatting(publisherDistanceFormatter, timeFormatType,
+      options.progressViewUpdateInterval());
   }
 
   private void initializeNavigationSpeechPlayer(NavigationViewOptions options) {
@@ -380,7 +398,7 @@ public class NavigationViewModel extends AndroidViewModel {
 
   private void initializeVoiceInstructionCache() {
     ConnectivityStatusProvider connectivityStatus = new ConnectivityStatusProvider(getApplication());
-    voiceInstructionCache = new VoiceInstructionCache(navigation, voiceInstructionLoader, connectivityStatus);
+    voiceInstructionCache = new VoiceInstructionCache(voiceInstructionLoader, connectivityStatus);
   }
 
   @NonNull
@@ -453,8 +471,10 @@ public class NavigationViewModel extends AndroidViewModel {
   private void startNavigation(DirectionsRoute route) {
     if (route != null) {
       navigation.startNavigation(route);
-      voiceInstructionsToAnnounce = 0;
       voiceInstructionCache.preCache(route);
+      if (speechPlayer instanceof NavigationSpeechPlayer) {
+        ((NavigationSpeechPlayer) speechPlayer).preSynthesize(route);
+      }
     }
   }
 
@@ -471,6 +491,12 @@ public class NavigationViewModel extends AndroidViewModel {
     }
   }
 
+  private void destroyProgressModelPublisher() {
+    if (progressModelPublisher != null) {
+      progressModelPublisher.onDestroy();
+    }
+  }
+
   private void endNavigation() {
     if (navigation != null) {
       navigation.onDestroy();
@@ -502,8 +528,6 @@ public class NavigationViewModel extends AndroidViewModel {
 
   private void playVoiceAnnouncement(Milestone milestone) {
     if (milestone instanceof VoiceInstructionMilestone) {
-      voiceInstructionsToAnnounce++;
-      voiceInstructionCache.update(voiceInstructionsToAnnounce);
       VoiceInstructions announcement = VoiceInstructions.builder()
         .announcement(((VoiceInstructionMilestone) milestone).getAnnouncement())
         .ssmlAnnouncement(((VoiceInstructionMilestone) milestone).getSsmlAnnouncement())
@@ -24,6 +24,8 @@ import java.util.List;
 @AutoValue
 public abstract class NavigationViewOptions extends NavigationUiOptions {
 
+  private static final long DEFAULT_PROGRESS_VIEW_UPDATE_INTERVAL = 250;
+
   public abstract MapboxNavigationOptions navigationOptions();
 
   @Nullable
@@ -62,6 +64,14 @@ public abstract class NavigationViewOptions extends NavigationUiOptions {
   @Nullable
   public abstract LocationEngine locationEngine();
 
+  /**
+   * The minimum time in milliseconds between two updates of the instruction banner distance and
+   * the summary. Progress updates in between are coalesced into the next update.
+   *
+   * @return minimum update interval in milliseconds
+   */
+  public abstract long progressViewUpdateInterval();
+
   @AutoValue.Builder
   public abstract static class Builder {
 
@@ -101,6 +111,16 @@ public abstract class NavigationViewOptions extends NavigationUiOptions {
 
     public abstract Builder locationEngine(LocationEngine locationEngine);
 
+    /**
+     * Limits how often the instruction banner distance and the summary are updated.
+     * <p>
+     * Defaults to 250 milliseconds, 0 updates them with every progress that changes their text.
+     *
+     * @param progressViewUpdateInterval minimum time in milliseconds between two updates
+     * @return this builder
+     */
+    public abstract Builder progressViewUpdateInterval(long progressViewUpdateInterval);
+
     /**
      * Add an offline path for loading offline routing data.
      * <p>
@@ -138,6 +158,7 @@ public abstract class NavigationViewOptions extends NavigationUiOptions {
     return new AutoValue_NavigationViewOptions.Builder()
       .navigationOptions(new MapboxNavigationOptions.Builder().build())
       .shouldSimulateRoute(false)
-      .waynameChipEnabled(true);
+      .waynameChipEnabled(true)
+      .progressViewUpdateInterval(DEFAULT_PROGRESS_VIEW_UPDATE_INTERVAL);
   }
 }
\ No newline at end of file
@@ -0,0 +1,203 @@
+package com.mapbox.services.android.navigation.ui.v5;
+
+import androidx.annotation.Nullable;
+
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Splits a route buffer into the grid cells it covers, and the cells into blocks which are
+ * downloaded as separate offline regions.
+ * <p>
+ * The cell size matches the grid the navigator builds the route buffer with, so that the cells
+ * cover exactly the route buffer. A block is 8 by 8 cells, wider than the route buffer, so that
+ * every block of the corridor is next to a block the route goes through.
+ */
+class OfflineCorridor {
+
+  static final double CELL_SIZE = 0.0025;
+  private static final int BLOCK_SHIFT = 3;
+  private static final int NOT_ON_ROUTE = Integer.MAX_VALUE;
+
+  private OfflineCorridor() {
+  }
+
+  /**
+   * @return the cells whose center is inside the given {@link Polygon} or {@link MultiPolygon}
+   */
+  static Set<Long> cellsFor(Geometry routeBuffer) {
+    List<List<Point>> rings = new ArrayList<>();
+    if (routeBuffer instanceof Polygon) {
+      rings.addAll(((Polygon) routeBuffer).coordinates());
+    } else if (routeBuffer instanceof MultiPolygon) {
+      for (List<List<Point>> polygon : ((MultiPolygon) routeBuffer).coordinates()) {
+        rings.addAll(polygon);
+      }
+    }
+    double minLatitude = Double.MAX_VALUE;
+    double maxLatitude = -Double.MAX_VALUE;
+    for (List<Point> ring : rings) {
+      for (Point point : ring) {
+        minLatitude = Math.min(minLatitude, point.latitude());
+        maxLatitude = Math.max(maxLatitude, point.latitude());
+      }
+    }
+    Set<Long> cells = new HashSet<>();
+    if (rings.isEmpty()) {
+      return cells;
+    }
+    int firstRow = (int) Math.floor(minLatitude / CELL_SIZE);
+    int lastRow = (int) Math.floor(maxLatitude / CELL_SIZE);
+    double[] crossings = new double[16];
+    for (int row = firstRow; row <= lastRow; row++) {
+      double latitude = (row + 0.5) * CELL_SIZE;
+      int crossingCount = 0;
+      for (List<Point> ring : rings) {
+        for (int i = 0, j = ring.size() - 1; i < ring.size(); j = i++) {
+          Point start = ring.get(j);
+          Point end = ring.get(i);
+          if ((start.latitude() <= latitude) != (end.latitude() <= latitude)) {
+            double ratio = (latitude - start.latitude()) / (end.latitude() - start.latitude());
+            if (crossingCount == crossings.length) {
+              crossings = Arrays.copyOf(crossings, crossingCount * 2);
+            }
+            crossings[crossingCount++] = start.longitude() + ratio * (end.longitude() - start.longitude());
+          }
+        }
+      }
+      Arrays.sort(crossings, 0, crossingCount);
+      for (int i = 0; i + 1 < crossingCount; i += 2) {
+        int firstColumn = (int) Math.ceil(crossings[i] / CELL_SIZE - 0.5);
+        int lastColumn = (int) Math.floor(crossings[i + 1] / CELL_SIZE - 0.5);
+        for (int column = firstColumn; column <= lastColumn; column++) {
+          cells.add(cell(column, row));
+        }
+      }
+    }
+    return cells;
+  }
+
+  static long cellAt(Point point) {
+    int column = (int) Math.floor(point.longitude() / CELL_SIZE);
+    int row = (int) Math.floor(point.latitude() / CELL_SIZE);
+    return cell(column, row);
+  }
+
+  static long blockOf(long cell) {
+    return cell(column(cell) >> BLOCK_SHIFT, row(cell) >> BLOCK_SHIFT);
+  }
+
+  static Map<Long, Set<Long>> groupByBlock(Collection<Long> cells) {
+    Map<Long, Set<Long>> blocks = new HashMap<>();
+    for (Long cell : cells) {
+      long block = blockOf(cell);
+      Set<Long> blockCells = blocks.get(block);
+      if (blockCells == null) {
+        blockCells = new HashSet<>();
+        blocks.put(block, blockCells);
+      }
+      blockCells.add(cell);
+    }
+    return blocks;
+  }
+
+  /**
+   * @return a {@link MultiPolygon} made of the squares of the given cells
+   */
+  static Geometry geometryFor(Collection<Long> cells) {
+    List<List<List<Point>>> squares = new ArrayList<>(cells.size());
+    for (Long cell : cells) {
+      double west = column(cell) * CELL_SIZE;
+      double south = row(cell) * CELL_SIZE;
+      double east = west + CELL_SIZE;
+      double north = south + CELL_SIZE;
+      List<Point> square = Arrays.asList(
+        Point.fromLngLat(west, south),
+        Point.fromLngLat(east, south),
+        Point.fromLngLat(east, north),
+        Point.fromLngLat(west, north),
+        Point.fromLngLat(west, south)
+      );
+      squares.add(Collections.singletonList(square));
+    }
+    return MultiPolygon.fromLngLats(squares);
+  }
+
+  /**
+   * Orders the blocks in the order the route goes through them, starting from the block the
+   * vehicle is in. The blocks behind the vehicle and the ones the route doesn't go through come last.
+   */
+  static List<Long> orderAhead(Collection<Long> blocks, List<Point> routePoints, @Nullable Point vehicle) {
+    final Map<Long, Integer> ranks = rankAlongRoute(routePoints);
+    Integer vehicleRank = vehicle == null ? null : ranks.get(blockOf(cellAt(vehicle)));
+    final int firstRankAhead = vehicleRank == null ? 0 : vehicleRank;
+    List<Long> orderedBlocks = new ArrayList<>(blocks);
+    Collections.sort(orderedBlocks, new Comparator<Long>() {
+      @Override
+      public int compare(Long first, Long second) {
+        return compareRanks(rankOf(first), rankOf(second));
+      }
+
+      private long rankOf(Long block) {
+        Integer rank = ranks.get(block);
+        int routeRank = rank == null ? NOT_ON_ROUTE : rank;
+        return routeRank >= firstRankAhead ? routeRank : (long) NOT_ON_ROUTE + routeRank;
+      }
+    });
+    return orderedBlocks;
+  }
+
+  private static Map<Long, Integer> rankAlongRoute(List<Point> routePoints) {
+    Map<Long, Integer> ranks = new HashMap<>();
+    for (int i = 0; i < routePoints.size(); i++) {
+      long block = blockOf(cellAt(routePoints.get(i)));
+      if (!ranks.containsKey(block)) {
+        ranks.put(block, i);
+      }
+    }
+    Map<Long, Integer> neighbourRanks = new HashMap<>();
+    for (Map.Entry<Long, Integer> routeBlock : ranks.entrySet()) {
+      long block = routeBlock.getKey();
+      for (int columnOffset = -1; columnOffset <= 1; columnOffset++) {
+        for (int rowOffset = -1; rowOffset <= 1; rowOffset++) {
+          long neighbour = cell(column(block) + columnOffset, row(block) + rowOffset);
+          Integer neighbourRank = neighbourRanks.get(neighbour);
+          if (!ranks.containsKey(neighbour) && (neighbourRank == null || routeBlock.getValue() < neighbourRank)) {
+            neighbourRanks.put(neighbour, routeBlock.getValue());
+          }
+        }
+      }
+    }
+    ranks.putAll(neighbourRanks);
+    return ranks;
+  }
+
+  private static int compareRanks(long first, long second) {
+    return first < second ? -1 : (first == second ? 0 : 1);
+  }
+
+  private static long cell(int column, int row) {
+    return ((long) column << 32) | (row & 0xffffffffL);
+  }
+
+  private static int column(long cell) {
+    return (int) (cell >> 32);
+  }
+
+  private static int row(long cell) {
+    return (int) cell;
+  }
+}
@@ -3,22 +3,57 @@ package com.mapbox.services.android.navigation.ui.v5;
 
 import androidx.annotation.Nullable;
 
+import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
 class OfflineMetadataProvider {
 
   private static final String ROUTE_SUMMARY = "route_summary";
+  private static final String CORRIDOR_CELLS = "corridor_cells";
   private static final String JSON_CHARSET = "UTF-8";
 
   @Nullable
-  byte[] buildMetadataFor(String routeSummary) {
+  byte[] buildMetadataFor(String routeSummary, Collection<Long> corridorCells) {
     try {
       JSONObject jsonObject = new JSONObject();
       jsonObject.put(ROUTE_SUMMARY, routeSummary);
+      JSONArray cells = new JSONArray();
+      for (Long cell : corridorCells) {
+        cells.put(cell.longValue());
+      }
+      jsonObject.put(CORRIDOR_CELLS, cells);
       String json = jsonObject.toString();
       return json.getBytes(JSON_CHARSET);
     } catch (Exception exception) {
       return null;
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * @return the {@link OfflineCorridor} cells of the region, null if it isn't a corridor region
+   */
+  @Nullable
+  Set<Long> retrieveCorridorCellsFrom(@Nullable byte[] metadata) {
+    if (metadata == null) {
+      return null;
+    }
+    try {
+      JSONObject jsonObject = new JSONObject(new String(metadata, JSON_CHARSET));
+      JSONArray cells = jsonObject.optJSONArray(CORRIDOR_CELLS);
+      if (cells == null) {
+        return null;
+      }
+      Set<Long> corridorCells = new HashSet<>(cells.length());
+      for (int i = 0; i < cells.length(); i++) {
+        corridorCells.add(cells.getLong(i));
+      }
+      return corridorCells;
+    } catch (Exception exception) {
+      return null;
+    }
+  }
+}
@@ -4,6 +4,8 @@ import com.mapbox.mapboxsdk.offline.OfflineRegion;
 import com.mapbox.mapboxsdk.offline.OfflineRegionError;
 import com.mapbox.mapboxsdk.offline.OfflineRegionStatus;
 
+import timber.log.Timber;
+
 class OfflineRegionObserver implements OfflineRegion.OfflineRegionObserver {
 
   private final OfflineRegionDownloadCallback callback;
@@ -23,7 +25,8 @@ class OfflineRegionObserver implements OfflineRegion.OfflineRegionObserver {
 
   @Override
   public void onError(OfflineRegionError error) {
-    callback.onError(String.format("%s %s", error.getMessage(), error.getReason()));
+    // the download keeps retrying, only the tile limit stops it
+    Timber.w("%s %s", error.getMessage(), error.getReason());
   }
 
   @Override
@@ -6,14 +6,19 @@ import androidx.annotation.Nullable;
 
 import com.mapbox.api.directions.v5.models.DirectionsResponse;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.api.directions.v5.models.StepIntersection;
+import com.mapbox.geojson.Point;
 
+import java.util.Arrays;
 import java.util.List;
 
 class RouteComparator {
 
   private static final int FIRST_ROUTE = 0;
   private static final int ONE_ROUTE = 1;
+  private static final double SEGMENT_PRECISION = 1E5;
   private final NavigationViewRouter navigationViewRouter;
 
   RouteComparator(NavigationViewRouter navigationViewRouter) {
@@ -40,28 +45,93 @@ class RouteComparator {
     return mostSimilarRoute;
   }
 
+  /**
+   * The most similar route is the one with the largest part of its distance on the road segments
+   * of the chosen route, the first one when several routes are as similar.
+   */
   private DirectionsRoute compareRoutes(DirectionsRoute chosenRoute, List<DirectionsRoute> routes) {
     int routeIndex = 0;
-    String chosenRouteLegDescription = obtainRouteLegDescriptionFrom(chosenRoute);
-    int minSimilarity = Integer.MAX_VALUE;
+    long[] chosenRouteSegments = obtainRouteSegmentsFrom(chosenRoute);
+    double maxSimilarity = -1;
     for (int index = 0; index < routes.size(); index++) {
-      String routeLegDescription = obtainRouteLegDescriptionFrom(routes.get(index));
-      int currentSimilarity = DamerauLevenshteinAlgorithm.execute(chosenRouteLegDescription, routeLegDescription);
-      if (currentSimilarity < minSimilarity) {
-        minSimilarity = currentSimilarity;
+      double currentSimilarity = calculateSimilarity(chosenRouteSegments, routes.get(index));
+      if (currentSimilarity > maxSimilarity) {
+        maxSimilarity = currentSimilarity;
         routeIndex = index;
       }
     }
     return routes.get(routeIndex);
   }
 
-  private String obtainRouteLegDescriptionFrom(DirectionsRoute route) {
-    List<RouteLeg> routeLegs = route.legs();
-    StringBuilder routeLegDescription = new StringBuilder();
-    for (RouteLeg leg : routeLegs) {
-      routeLegDescription.append(leg.summary());
+  /**
+   * @return the sorted keys of the intersections along the route
+   */
+  private long[] obtainRouteSegmentsFrom(DirectionsRoute route) {
+    long[] segments = new long[countIntersections(route)];
+    int count = 0;
+    for (RouteLeg leg : route.legs()) {
+      for (LegStep step : leg.steps()) {
+        List<StepIntersection> intersections = step.intersections();
+        if (intersections == null || intersections.isEmpty()) {
+          segments[count++] = buildSegmentKey(step.maneuver().location());
+          continue;
+        }
+        for (StepIntersection intersection : intersections) {
+          segments[count++] = buildSegmentKey(intersection.location());
+        }
+      }
+    }
+    Arrays.sort(segments);
+    return segments;
+  }
+
+  /**
+   * @return the fraction of the route distance on the chosen route segments, each step distance
+   * being split between its intersections
+   */
+  private double calculateSimilarity(long[] chosenRouteSegments, DirectionsRoute route) {
+    double sharedDistance = 0;
+    double totalDistance = 0;
+    for (RouteLeg leg : route.legs()) {
+      for (LegStep step : leg.steps()) {
+        List<StepIntersection> intersections = step.intersections();
+        totalDistance += step.distance();
+        if (intersections == null || intersections.isEmpty()) {
+          if (Arrays.binarySearch(chosenRouteSegments, buildSegmentKey(step.maneuver().location())) >= 0) {
+            sharedDistance += step.distance();
+          }
+          continue;
+        }
+        double intersectionDistance = step.distance() / intersections.size();
+        for (StepIntersection intersection : intersections) {
+          if (Arrays.binarySearch(chosenRouteSegments, buildSegmentKey(intersection.location())) >= 0) {
+            sharedDistance += intersectionDistance;
+          }
+        }
+      }
     }
-    return routeLegDescription.toString();
+    return totalDistance > 0 ? sharedDistance / totalDistance : 0;
+  }
+
+  private int countIntersections(DirectionsRoute route) {
+    int count = 0;
+    for (RouteLeg leg : route.legs()) {
+      for (LegStep step : leg.steps()) {
+        List<StepIntersection> intersections = step.intersections();
+        count += intersections == null || intersections.isEmpty() ? 1 : intersections.size();
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Intersections of the same road are snapped to the same nodes in all the routes of a response,
+   * so a location rounded to about a meter identifies them.
+   */
+  private long buildSegmentKey(Point location) {
+    long latitude = Math.round(location.latitude() * SEGMENT_PRECISION);
+    long longitude = Math.round(location.longitude() * SEGMENT_PRECISION);
+    return (latitude << Integer.SIZE) ^ (longitude & 0xFFFFFFFFL);
   }
 
   private boolean isValidRoute(DirectionsResponse response) {
@@ -0,0 +1,130 @@
+package com.mapbox.services.android.navigation.ui.v5;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.MutableLiveData;
+
+import com.mapbox.services.android.navigation.ui.v5.instruction.InstructionModel;
+import com.mapbox.services.android.navigation.ui.v5.summary.SummaryModel;
+import com.mapbox.services.android.navigation.v5.navigation.TimeFormatType;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
+
+/**
+ * Builds the {@link InstructionModel} and {@link SummaryModel} of the {@link RouteProgress} on a
+ * worker thread and publishes them only when their rendered text changed.
+ * <p>
+ * Progress updates arriving faster than the minimum update interval are coalesced, the latest
+ * one is formatted once the interval elapsed.
+ */
+class RouteProgressModelPublisher {
+
+  private static final String THREAD_NAME = "RouteProgressModelPublisher";
+  private final Context context;
+  private final MutableLiveData<InstructionModel> instructionModel;
+  private final MutableLiveData<SummaryModel> summaryModel;
+  private final HandlerThread workerThread;
+  private final Handler workerHandler;
+  private final Runnable formatRunnable = new Runnable() {
+    @Override
+    public void run() {
+      formatLatestProgress();
+    }
+  };
+  private volatile DistanceFormatter distanceFormatter;
+  private volatile int timeFormatType;
+  private volatile long minimumUpdateInterval;
+  private RouteProgress latestProgress;
+  private boolean isFormatScheduled;
+  private long lastFormatTime;
+  private InstructionModel publishedInstructionModel;
+  private SummaryModel publishedSummaryModel;
+
+  RouteProgressModelPublisher(Context context, MutableLiveData<InstructionModel> instructionModel,
+                              MutableLiveData<SummaryModel> summaryModel) {
+    this.context = context;
+    this.instructionModel = instructionModel;
+    this.summaryModel = summaryModel;
+    workerThread = new HandlerThread(THREAD_NAME, Process.THREAD_PRIORITY_BACKGROUND);
+    workerThread.start();
+    workerHandler = new Handler(workerThread.getLooper());
+  }
+
+  // Package private (no modifier) for testing purposes
+  RouteProgressModelPublisher(Context context, MutableLiveData<InstructionModel> instructionModel,
+                              MutableLiveData<SummaryModel> summaryModel, Handler workerHandler) {
+    this.context = context;
+    this.instructionModel = instructionModel;
+    this.summaryModel = summaryModel;
+    this.workerThread = null;
+    this.workerHandler = workerHandler;
+  }
+
+  /**
+   * Updates how the models are formatted. The next progress is published even if its text didn't change.
+   *
+   * @param distanceFormatter     used by this publisher only, as it isn't thread safe
+   * @param timeFormatType        for the arrival time
+   * @param minimumUpdateInterval in milliseconds between two formatted progress updates
+   */
+  void updateFormatting(@NonNull DistanceFormatter distanceFormatter, @TimeFormatType int timeFormatType,
+                        long minimumUpdateInterval) {
+    this.distanceFormatter = distanceFormatter;
+    this.timeFormatType = timeFormatType;
+    this.minimumUpdateInterval = minimumUpdateInterval;
+    workerHandler.post(new Runnable() {
+      @Override
+      public void run() {
+        publishedInstructionModel = null;
+        publishedSummaryModel = null;
+      }
+    });
+  }
+
+  void publish(RouteProgress routeProgress) {
+    synchronized (this) {
+      latestProgress = routeProgress;
+      if (isFormatScheduled) {
+        return;
+      }
+      isFormatScheduled = true;
+      long formatTime = Math.max(SystemClock.uptimeMillis(), lastFormatTime + minimumUpdateInterval);
+      workerHandler.postAtTime(formatRunnable, formatTime);
+    }
+  }
+
+  void onDestroy() {
+    workerHandler.removeCallbacksAndMessages(null);
+    if (workerThread != null) {
+      workerThread.quit();
+    }
+  }
+
+  private void formatLatestProgress() {
+    RouteProgress routeProgress;
+    synchronized (this) {
+      routeProgress = latestProgress;
+      latestProgress = null;
+      isFormatScheduled = false;
+      lastFormatTime = SystemClock.uptimeMillis();
+    }
+    if (routeProgress == null || distanceFormatter == null) {
+      return;
+    }
+    InstructionModel newInstructionModel = new InstructionModel(distanceFormatter, routeProgress);
+    if (!newInstructionModel.equals(publishedInstructionModel)) {
+      publishedInstructionModel = newInstructionModel;
+      instructionModel.postValue(newInstructionModel);
+    }
+    SummaryModel newSummaryModel = new SummaryModel(context, distanceFormatter, routeProgress, timeFormatType);
+    if (!newSummaryModel.equals(publishedSummaryModel)) {
+      publishedSummaryModel = newSummaryModel;
+      summaryModel.postValue(newSummaryModel);
+    }
+  }
+}
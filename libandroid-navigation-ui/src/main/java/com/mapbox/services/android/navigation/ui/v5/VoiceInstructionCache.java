@@ -4,81 +4,159 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.api.directions.v5.models.VoiceInstructions;
+import com.mapbox.services.android.navigation.ui.v5.voice.InstructionCacheListener;
 import com.mapbox.services.android.navigation.ui.v5.voice.VoiceInstructionLoader;
-import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import java.util.ArrayList;
 import java.util.List;
 
-class VoiceInstructionCache {
+/**
+ * Prefetches the voice instructions announced within a lookahead ahead of the user, nearest first,
+ * so that they're served from the cache when announced.
+ * <p>
+ * The lookahead is the biggest of a distance and of the distance covered in a given time at the
+ * speed expected for the rest of the route. The number of parallel requests depends on the
+ * connection quality, and once an instruction has been announced the previous one is evicted.
+ * <p>
+ * Announcements are identified by their position along the route, offset by the number of
+ * announcements of the previous routes, so that a repeated announcement isn't evicted while still ahead.
+ */
+class VoiceInstructionCache implements InstructionCacheListener {
 
-  private static final int MAX_VOICE_INSTRUCTIONS_TO_CACHE = 10;
-  private static final int VOICE_INSTRUCTIONS_TO_CACHE_THRESHOLD = 5;
-  private final MapboxNavigation navigation;
+  private static final double DEFAULT_LOOKAHEAD_DISTANCE = 2000;
+  private static final double DEFAULT_LOOKAHEAD_TIME = 120;
+  private static final int MAX_PARALLEL_REQUESTS_FAST = 4;
+  private static final int MAX_PARALLEL_REQUESTS_SLOW = 1;
   private final VoiceInstructionLoader voiceInstructionLoader;
   private final ConnectivityStatusProvider connectivityStatus;
-  private int totalVoiceInstructions = 0;
-  private int currentVoiceInstructionsCachedIndex = 0;
-  private boolean isVoiceInstructionsToCacheThresholdReached = false;
+  private final double lookaheadDistance;
+  private final double lookaheadTime;
+  private String[] announcements = new String[0];
+  private int firstAnnouncementId = 0;
+  private double[] triggerDistances = new double[0];
+  private int nextToRequest = 0;
+  private int nextToAnnounce = 0;
+  private int requestsInFlight = 0;
+  private double distanceTraveled = 0;
+  private double expectedSpeed = 0;
+  private boolean isRequesting = false;
 
-  VoiceInstructionCache(MapboxNavigation navigation, VoiceInstructionLoader voiceInstructionLoader,
+  VoiceInstructionCache(VoiceInstructionLoader voiceInstructionLoader,
                         ConnectivityStatusProvider connectivityStatus) {
-    this.navigation = navigation;
+    this(voiceInstructionLoader, connectivityStatus, DEFAULT_LOOKAHEAD_DISTANCE, DEFAULT_LOOKAHEAD_TIME);
+  }
+
+  /**
+   * @param lookaheadDistance in meters, instructions announced closer than that are prefetched
+   * @param lookaheadTime     in seconds, instructions announced sooner than that are prefetched
+   */
+  VoiceInstructionCache(VoiceInstructionLoader voiceInstructionLoader, ConnectivityStatusProvider connectivityStatus,
+                        double lookaheadDistance, double lookaheadTime) {
     this.voiceInstructionLoader = voiceInstructionLoader;
     this.connectivityStatus = connectivityStatus;
+    this.lookaheadDistance = lookaheadDistance;
+    this.lookaheadTime = lookaheadTime;
   }
 
   void preCache(DirectionsRoute route) {
-    if (!connectivityStatus.isConnected()) {
+    firstAnnouncementId += announcements.length;
+    indexAnnouncements(route);
+    nextToRequest = 0;
+    nextToAnnounce = 0;
+    distanceTraveled = 0;
+    expectedSpeed = route.duration() > 0 ? route.distance() / route.duration() : 0;
+    requestAnnouncementsAhead();
+  }
+
+  void update(RouteProgress routeProgress) {
+    Double traveled = routeProgress.distanceTraveled();
+    if (traveled == null) {
       return;
     }
-
-    totalVoiceInstructions = 0;
-    currentVoiceInstructionsCachedIndex = 0;
-    isVoiceInstructionsToCacheThresholdReached = false;
-    for (int i = 0; i < route.legs().size(); i++) {
-      RouteLeg leg = route.legs().get(i);
-      for (int j = 0; j < leg.steps().size(); j++) {
-        LegStep step = leg.steps().get(j);
-        for (VoiceInstructions ignored : step.voiceInstructions()) {
-          totalVoiceInstructions++;
-        }
-      }
+    distanceTraveled = traveled;
+    Double distanceRemaining = routeProgress.distanceRemaining();
+    Double durationRemaining = routeProgress.durationRemaining();
+    if (distanceRemaining != null && durationRemaining != null && durationRemaining > 0) {
+      expectedSpeed = distanceRemaining / durationRemaining;
     }
-    List<String> voiceInstructionsToCache = new ArrayList<>();
-    for (int i = currentVoiceInstructionsCachedIndex; i < totalVoiceInstructions; i++) {
-      voiceInstructionsToCache.add(navigation.retrieveSsmlAnnouncementInstruction(i));
-      currentVoiceInstructionsCachedIndex++;
-      if ((currentVoiceInstructionsCachedIndex + 1) % MAX_VOICE_INSTRUCTIONS_TO_CACHE == 0) {
-        break;
+    while (nextToAnnounce < triggerDistances.length && triggerDistances[nextToAnnounce] <= distanceTraveled) {
+      // the last announced instruction may still be playing, only the one before can go
+      if (nextToAnnounce > 0) {
+        voiceInstructionLoader.markAsPassed(firstAnnouncementId + nextToAnnounce - 1);
       }
+      nextToAnnounce++;
     }
-    voiceInstructionLoader.cacheInstructions(voiceInstructionsToCache);
+    requestAnnouncementsAhead();
   }
 
   void cache() {
     if (!connectivityStatus.isConnected()) {
       return;
     }
+    voiceInstructionLoader.evictVoiceInstructions();
+  }
 
-    if (isVoiceInstructionsToCacheThresholdReached) {
-      isVoiceInstructionsToCacheThresholdReached = false;
-      voiceInstructionLoader.evictVoiceInstructions();
-      List<String> voiceInstructionsToCache = new ArrayList<>();
-      for (int i = currentVoiceInstructionsCachedIndex; i < totalVoiceInstructions; i++) {
-        voiceInstructionsToCache.add(navigation.retrieveSsmlAnnouncementInstruction(i));
-        currentVoiceInstructionsCachedIndex++;
-        if ((currentVoiceInstructionsCachedIndex + 1) % MAX_VOICE_INSTRUCTIONS_TO_CACHE == 0) {
-          break;
+  @Override
+  public void onInstructionCached(String instruction, boolean isCached) {
+    if (requestsInFlight > 0) {
+      requestsInFlight--;
+    }
+    requestAnnouncementsAhead();
+  }
+
+  private void indexAnnouncements(DirectionsRoute route) {
+    List<String> ssmlAnnouncements = new ArrayList<>();
+    List<Double> distances = new ArrayList<>();
+    double stepStartDistance = 0;
+    for (RouteLeg leg : route.legs()) {
+      for (LegStep step : leg.steps()) {
+        double stepEndDistance = stepStartDistance + step.distance();
+        List<VoiceInstructions> voiceInstructions = step.voiceInstructions();
+        if (voiceInstructions != null) {
+          for (VoiceInstructions voiceInstruction : voiceInstructions) {
+            String ssmlAnnouncement = voiceInstruction.ssmlAnnouncement();
+            Double distanceAlongGeometry = voiceInstruction.distanceAlongGeometry();
+            if (ssmlAnnouncement != null && distanceAlongGeometry != null) {
+              ssmlAnnouncements.add(ssmlAnnouncement);
+              distances.add(Math.max(stepStartDistance, stepEndDistance - distanceAlongGeometry));
+            }
+          }
         }
+        stepStartDistance = stepEndDistance;
       }
-      voiceInstructionLoader.cacheInstructions(voiceInstructionsToCache);
+    }
+    announcements = ssmlAnnouncements.toArray(new String[0]);
+    triggerDistances = new double[distances.size()];
+    for (int i = 0; i < triggerDistances.length; i++) {
+      triggerDistances[i] = distances.get(i);
     }
   }
 
-  void update(int voiceInstructionsToAnnounce) {
-    if (voiceInstructionsToAnnounce % VOICE_INSTRUCTIONS_TO_CACHE_THRESHOLD == 0) {
-      isVoiceInstructionsToCacheThresholdReached = true;
+  private void requestAnnouncementsAhead() {
+    // a request failing right away calls back while still requesting
+    if (isRequesting) {
+      return;
     }
+    nextToRequest = Math.max(nextToRequest, nextToAnnounce);
+    if (nextToRequest >= announcements.length || !isWithinLookahead(nextToRequest)
+      || !connectivityStatus.isConnected()) {
+      return;
+    }
+    isRequesting = true;
+    int maxRequestsInFlight = connectivityStatus.isConnectedFast()
+      ? MAX_PARALLEL_REQUESTS_FAST : MAX_PARALLEL_REQUESTS_SLOW;
+    while (requestsInFlight < maxRequestsInFlight && nextToRequest < announcements.length
+      && isWithinLookahead(nextToRequest)) {
+      requestsInFlight++;
+      int index = nextToRequest++;
+      voiceInstructionLoader.cacheInstruction(firstAnnouncementId + index, announcements[index], this);
+    }
+    isRequesting = false;
+  }
+
+  private boolean isWithinLookahead(int index) {
+    double lookahead = Math.max(lookaheadDistance, expectedSpeed * lookaheadTime);
+    return triggerDistances[index] <= distanceTraveled + lookahead;
   }
 }
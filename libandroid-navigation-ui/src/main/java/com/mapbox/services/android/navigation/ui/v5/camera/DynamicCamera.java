@@ -169,8 +169,9 @@ public class DynamicCamera extends SimpleCamera {
    * @return true if new step, false if not
    */
   private boolean isNewStep(RouteProgress routeProgress) {
-    boolean isNewStep = currentStep == null || !currentStep.equals(routeProgress.currentLegProgress().currentStep());
-    currentStep = routeProgress.currentLegProgress().currentStep();
+    LegStep step = routeProgress.currentLegProgress().currentStep();
+    boolean isNewStep = currentStep == null || (currentStep != step && !currentStep.equals(step));
+    currentStep = step;
     resetAlertLevels(isNewStep);
     return isNewStep;
   }
@@ -15,7 +15,6 @@ import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdate;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
 import com.mapbox.mapboxsdk.constants.MapboxConstants;
-import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.geometry.LatLngBounds;
 import com.mapbox.mapboxsdk.location.LocationComponent;
 import com.mapbox.mapboxsdk.location.OnCameraTrackingChangedListener;
@@ -31,7 +30,6 @@ import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -70,6 +68,8 @@ public class NavigationCamera implements LifecycleObserver {
    */
   public static final int NAVIGATION_TRACKING_MODE_NONE = 2;
   private static final int ONE_POINT = 1;
+  private static final double MAX_LATITUDE = 90;
+  private static final double MAX_LONGITUDE = 180;
   private final CopyOnWriteArrayList<OnTrackingModeTransitionListener> onTrackingModeTransitionListeners
           = new CopyOnWriteArrayList<>();
   private final CopyOnWriteArrayList<OnTrackingModeChangedListener> onTrackingModeChangedListeners
@@ -87,6 +87,8 @@ public class NavigationCamera implements LifecycleObserver {
   private int trackingCameraMode = NAVIGATION_TRACKING_MODE_GPS;
   private boolean isCameraResetting;
   private CameraAnimationDelegate animationDelegate;
+  private List<Point> overviewRoutePoints;
+  private LatLngBounds overviewBounds;
   private ProgressChangeListener progressChangeListener = new ProgressChangeListener() {
     @Override
     public void onProgressChange(Location location, RouteProgress routeProgress) {
@@ -467,14 +469,26 @@ public class NavigationCamera implements LifecycleObserver {
     );
   }
 
+  /**
+   * The camera engine returns the same points for a route, their envelope is only computed once.
+   */
   private LatLngBounds convertRoutePointsToLatLngBounds(List<Point> routePoints) {
-    List<LatLng> latLngs = new ArrayList<>();
+    if (routePoints == overviewRoutePoints && overviewBounds != null) {
+      return overviewBounds;
+    }
+    double north = -MAX_LATITUDE;
+    double south = MAX_LATITUDE;
+    double east = -MAX_LONGITUDE;
+    double west = MAX_LONGITUDE;
     for (Point routePoint : routePoints) {
-      latLngs.add(new LatLng(routePoint.latitude(), routePoint.longitude()));
+      north = Math.max(north, routePoint.latitude());
+      south = Math.min(south, routePoint.latitude());
+      east = Math.max(east, routePoint.longitude());
+      west = Math.min(west, routePoint.longitude());
     }
-    return new LatLngBounds.Builder()
-            .includes(latLngs)
-            .build();
+    overviewRoutePoints = routePoints;
+    overviewBounds = LatLngBounds.from(north, east, south, west);
+    return overviewBounds;
   }
 
   private void setCameraMode(@TrackingMode int trackingCameraMode) {
@@ -4,18 +4,27 @@ import android.content.Context;
 import android.os.Build;
 import android.text.Spannable;
 import android.text.SpannableString;
+import android.text.SpannedString;
 import android.text.style.ImageSpan;
+import android.util.LruCache;
 import android.widget.TextView;
 
 import com.mapbox.api.directions.v5.models.BannerComponents;
 import com.mapbox.api.directions.v5.models.BannerInstructions;
 import com.mapbox.api.directions.v5.models.BannerText;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.services.android.navigation.v5.internal.navigation.SdkVersionChecker;
+import com.squareup.picasso.Callback;
+import com.squareup.picasso.OkHttp3Downloader;
 import com.squareup.picasso.Picasso;
 
+import java.io.File;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Utility class that can be used to load a given {@link BannerText} into the provided
@@ -26,20 +35,39 @@ import java.util.List;
  * <p>
  * If a shield URL is found, {@link Picasso} is used to load the image.  Then, once the image is loaded,
  * a new {@link ImageSpan} is created and set to the appropriate position of the {@link Spannable}
+ * <p>
+ * Shields are kept in a dedicated memory cache backed by a disk cache, and the text and loaded
+ * shields are memoized per banner, so that a banner already shown is set at once.
  */
 public class ImageCreator extends NodeCreator<BannerComponentNode, ImageVerifier> {
 
+  private static final String SHIELD_CACHE = "mapbox_shield_cache";
+  private static final int SHIELD_MEMORY_CACHE_SIZE = 2 * 1024 * 1024;
+  private static final long SHIELD_DISK_CACHE_SIZE = 10 * 1024 * 1024;
+  private static final int MAX_MEMOIZED_BANNERS = 50;
   private static ImageCreator instance;
   private boolean isInitialized;
   private Picasso picassoImageLoader;
   private List<InstructionTarget> targets;
   private UrlDensityMap urlDensityMap;
   private List<BannerShield> bannerShieldList;
+  private final TextViewUtils textViewUtils = new TextViewUtils();
+  private LruCache<String, MemoizedBanner> memoizedBanners;
+  private Set<String> prefetchedUrls;
+  private Set<String> prefetchingUrls;
+  private DirectionsRoute prefetchedRoute;
 
   private ImageCreator(ImageVerifier imageVerifier) {
     super(imageVerifier);
   }
 
+  ImageCreator(ImageVerifier imageVerifier, Picasso picassoImageLoader, UrlDensityMap urlDensityMap) {
+    super(imageVerifier);
+    this.picassoImageLoader = picassoImageLoader;
+    initializeData(urlDensityMap);
+    isInitialized = true;
+  }
+
   @Override
   BannerComponentNode setupNode(BannerComponents components, int index, int startIndex,
                                 String modifier) {
@@ -82,7 +110,7 @@ public class ImageCreator extends NodeCreator<BannerComponentNode, ImageVerifier
   public void initialize(Context context) {
     if (!isInitialized) {
       initializePicasso(context);
-      initializeData(context);
+      initializeData(buildUrlDensityMap(context));
       isInitialized = true;
     }
   }
@@ -100,8 +128,38 @@ public class ImageCreator extends NodeCreator<BannerComponentNode, ImageVerifier
     fetchInstructions(legStep);
   }
 
+  /**
+   * Will pre-fetch images for all the steps of a given {@link DirectionsRoute}, each image only once.
+   * <p>
+   * Calling it again with the same route does nothing, so it can be called on every progress update.
+   *
+   * @param route providing the image Urls
+   */
+  public void prefetchImageCache(DirectionsRoute route) {
+    checkIsInitialized();
+    if (route == null || route == prefetchedRoute) {
+      return;
+    }
+    prefetchedRoute = route;
+    for (RouteLeg leg : route.legs()) {
+      List<LegStep> steps = leg.steps();
+      if (steps == null) {
+        continue;
+      }
+      for (LegStep step : steps) {
+        fetchInstructions(step);
+      }
+    }
+  }
+
   public void shutdown() {
     targets.clear();
+    if (isInitialized) {
+      memoizedBanners.evictAll();
+      prefetchedUrls.clear();
+      prefetchingUrls.clear();
+      prefetchedRoute = null;
+    }
   }
 
   /**
@@ -118,21 +176,39 @@ public class ImageCreator extends NodeCreator<BannerComponentNode, ImageVerifier
     }
 
     updateShieldUrlIndices(bannerComponentNodes);
-    createTargets(textView);
+    String bannerKey = buildBannerKey(textView);
+    MemoizedBanner memoizedBanner = memoizedBanners.get(bannerKey);
+    if (memoizedBanner != null) {
+      bannerShieldList.clear();
+      Spannable bannerSpannable = memoizedBanner.buildSpannable(textView, textViewUtils);
+      textView.setText(InstructionTarget.truncateImageSpan(bannerSpannable, textView));
+      return;
+    }
+    createTargets(textView, bannerKey);
     loadTargets();
   }
 
   private void initializePicasso(Context context) {
-    Picasso.Builder builder = new Picasso.Builder(context);
-    picassoImageLoader = builder.build();
+    File shieldCache = new File(context.getCacheDir(), SHIELD_CACHE);
+    picassoImageLoader = new Picasso.Builder(context)
+      .memoryCache(new com.squareup.picasso.LruCache(SHIELD_MEMORY_CACHE_SIZE))
+      .downloader(new OkHttp3Downloader(shieldCache, SHIELD_DISK_CACHE_SIZE))
+      .build();
   }
 
-  private void initializeData(Context context) {
+  private UrlDensityMap buildUrlDensityMap(Context context) {
     SdkVersionChecker currentVersionChecker = new SdkVersionChecker(Build.VERSION.SDK_INT);
     int displayDensity = context.getResources().getDisplayMetrics().densityDpi;
-    urlDensityMap = new UrlDensityMap(displayDensity, currentVersionChecker);
+    return new UrlDensityMap(displayDensity, currentVersionChecker);
+  }
+
+  private void initializeData(UrlDensityMap urlDensityMap) {
+    this.urlDensityMap = urlDensityMap;
     targets = new ArrayList<>();
     bannerShieldList = new ArrayList<>();
+    memoizedBanners = new LruCache<>(MAX_MEMOIZED_BANNERS);
+    prefetchedUrls = new HashSet<>();
+    prefetchingUrls = new HashSet<>();
   }
 
   private void fetchInstructions(LegStep legStep) {
@@ -169,19 +245,56 @@ public class ImageCreator extends NodeCreator<BannerComponentNode, ImageVerifier
   /**
    * Takes a given {@link BannerText} and fetches a valid
    * imageBaseUrl if one is found.
+   * <p>
+   * A URL is only marked as prefetched once it's loaded, so that a failed one is fetched again for the next route.
    *
    * @param bannerText to provide the base URL
    */
   private void fetchImageBaseUrls(BannerText bannerText) {
     for (BannerComponents components : bannerText.components()) {
       if (nodeVerifier.hasImageUrl(components)) {
-        picassoImageLoader.load(urlDensityMap.get(components.imageBaseUrl())).fetch();
+        fetchImageBaseUrl(components.imageBaseUrl());
       }
     }
   }
 
-  private void createTargets(TextView textView) {
-    Spannable instructionSpannable = new SpannableString(textView.getText());
+  private void fetchImageBaseUrl(final String imageBaseUrl) {
+    if (prefetchedUrls.contains(imageBaseUrl) || !prefetchingUrls.add(imageBaseUrl)) {
+      return;
+    }
+    picassoImageLoader.load(urlDensityMap.get(imageBaseUrl)).fetch(new Callback() {
+      @Override
+      public void onSuccess() {
+        prefetchingUrls.remove(imageBaseUrl);
+        prefetchedUrls.add(imageBaseUrl);
+      }
+
+      @Override
+      public void onError(Exception exception) {
+        prefetchingUrls.remove(imageBaseUrl);
+      }
+    });
+  }
+
+  /**
+   * The drawables are sized after the line height, so it's part of the key along with the text and shields.
+   */
+  private String buildBannerKey(TextView textView) {
+    StringBuilder key = new StringBuilder()
+      .append(textView.getLineHeight())
+      .append('|')
+      .append(textView.getText());
+    for (BannerShield bannerShield : bannerShieldList) {
+      key.append('|').append(bannerShield.getUrl());
+    }
+    return key.toString();
+  }
+
+  private void createTargets(final TextView textView, final String bannerKey) {
+    final CharSequence bannerText = new SpannedString(textView.getText());
+    final Spannable instructionSpannable = new SpannableString(bannerText);
+    final List<InstructionTarget> loadedTargets = new ArrayList<>();
+    final int shieldCount = bannerShieldList.size();
 
     for (final BannerShield bannerShield : bannerShieldList) {
       targets.add(new InstructionTarget(textView, instructionSpannable, bannerShieldList, bannerShield,
@@ -189,6 +302,14 @@ public class ImageCreator extends NodeCreator<BannerComponentNode, ImageVerifier
           @Override
           public void onInstructionLoaded(InstructionTarget target) {
             targets.remove(target);
+            if (!target.isLoaded()) {
+              // a banner with a shield which failed to load keeps its text, so it isn't memoized
+              return;
+            }
+            loadedTargets.add(target);
+            if (loadedTargets.size() == shieldCount) {
+              memoizedBanners.put(bannerKey, new MemoizedBanner(bannerText, loadedTargets));
+            }
           }
         }));
     }
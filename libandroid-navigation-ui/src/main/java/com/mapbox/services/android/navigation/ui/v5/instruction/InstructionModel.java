@@ -1,6 +1,9 @@
 package com.mapbox.services.android.navigation.ui.v5.instruction;
 
 import android.text.SpannableString;
+import android.text.TextUtils;
+
+import androidx.core.util.ObjectsCompat;
 
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
@@ -29,4 +32,30 @@ public class InstructionModel {
   String retrieveDrivingSide() {
     return drivingSide;
   }
+
+  /**
+   * Two models are equal when they render the same step distance text, for the same step of the same route.
+   */
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof InstructionModel)) {
+      return false;
+    }
+    InstructionModel model = (InstructionModel) other;
+    return progress.directionsRoute() == model.progress.directionsRoute()
+      && ObjectsCompat.equals(progress.legIndex(), model.progress.legIndex())
+      && ObjectsCompat.equals(progress.currentLegProgress().stepIndex(),
+      model.progress.currentLegProgress().stepIndex())
+      && TextUtils.equals(stepDistanceRemaining, model.stepDistanceRemaining)
+      && TextUtils.equals(drivingSide, model.drivingSide);
+  }
+
+  @Override
+  public int hashCode() {
+    return ObjectsCompat.hash(progress.legIndex(), progress.currentLegProgress().stepIndex(),
+      stepDistanceRemaining.toString(), drivingSide);
+  }
 }
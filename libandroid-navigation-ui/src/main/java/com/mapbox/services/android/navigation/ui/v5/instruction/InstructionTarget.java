@@ -23,6 +23,8 @@ public class InstructionTarget implements Target {
   private BannerShield shield;
   private InstructionLoadedCallback instructionLoadedCallback;
   private TextViewUtils textViewUtils;
+  private boolean isLoaded;
+  private Bitmap bitmap;
 
   InstructionTarget(TextView textView, Spannable instructionSpannable, List<BannerShield> shields,
                     BannerShield shield, InstructionLoadedCallback instructionLoadedCallback) {
@@ -44,10 +46,20 @@ public class InstructionTarget implements Target {
     return shield;
   }
 
+  boolean isLoaded() {
+    return isLoaded;
+  }
+
+  Bitmap getBitmap() {
+    return bitmap;
+  }
+
   @Override
   public void onBitmapLoaded(Bitmap bitmap, Picasso.LoadedFrom from) {
     Drawable drawable = textViewUtils.createDrawable(textView, bitmap);
     createAndSetImageSpan(drawable);
+    this.bitmap = bitmap;
+    isLoaded = true;
     sendInstructionLoadedCallback();
   }
 
@@ -87,7 +99,7 @@ public class InstructionTarget implements Target {
     }
   }
 
-  private static CharSequence truncateImageSpan(Spannable instructionSpannable, TextView textView) {
+  static CharSequence truncateImageSpan(Spannable instructionSpannable, TextView textView) {
     int availableSpace = textView.getWidth() - textView.getPaddingRight() - textView.getPaddingLeft();
     if (availableSpace > 0) {
       return TextUtils.ellipsize(instructionSpannable, textView.getPaint(), availableSpace, TextUtils.TruncateAt.END);
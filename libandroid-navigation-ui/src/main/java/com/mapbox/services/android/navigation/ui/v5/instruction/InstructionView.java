@@ -36,6 +36,7 @@ import androidx.transition.TransitionManager;
 import com.mapbox.api.directions.v5.models.BannerComponents;
 import com.mapbox.api.directions.v5.models.BannerInstructions;
 import com.mapbox.api.directions.v5.models.BannerText;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.services.android.navigation.ui.v5.R;
 import com.mapbox.services.android.navigation.ui.v5.FeedbackButton;
@@ -654,8 +655,9 @@ public class InstructionView extends RelativeLayout implements LifecycleObserver
    * @return true if new step, false if not
    */
   private boolean newStep(RouteProgress routeProgress) {
-    boolean newStep = currentStep == null || !currentStep.equals(routeProgress.currentLegProgress().currentStep());
-    currentStep = routeProgress.currentLegProgress().currentStep();
+    LegStep step = routeProgress.currentLegProgress().currentStep();
+    boolean newStep = currentStep == null || (currentStep != step && !currentStep.equals(step));
+    currentStep = step;
     return newStep;
   }
 
@@ -798,8 +800,9 @@ public class InstructionView extends RelativeLayout implements LifecycleObserver
     updateDistanceText(model);
     updateInstructionList(model);
     if (newStep(model.retrieveProgress())) {
-      LegStep upComingStep = model.retrieveProgress().currentLegProgress().upComingStep();
-      ImageCreator.getInstance().prefetchImageCache(upComingStep);
+      DirectionsRoute route = model.retrieveProgress().directionsRoute();
+      ImageCreator.getInstance().prefetchImageCache(route);
+      upcomingManeuverView.preRenderManeuvers(route);
     }
   }
 
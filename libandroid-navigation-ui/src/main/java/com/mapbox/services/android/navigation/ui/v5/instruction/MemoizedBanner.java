@@ -0,0 +1,42 @@
+package com.mapbox.services.android.navigation.ui.v5.instruction;
+
+import android.graphics.Bitmap;
+import android.text.Spannable;
+import android.text.SpannableString;
+import android.text.Spanned;
+import android.text.style.ImageSpan;
+import android.widget.TextView;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Text and loaded shields of a banner already shown.
+ * <p>
+ * A {@link Spannable} and its {@link ImageSpan}s can't be shared between {@link TextView}s,
+ * so a new one is built each time the banner is set.
+ */
+class MemoizedBanner {
+
+  private final CharSequence text;
+  private final List<BannerShield> shields = new ArrayList<>();
+  private final List<Bitmap> bitmaps = new ArrayList<>();
+
+  MemoizedBanner(CharSequence text, List<InstructionTarget> loadedTargets) {
+    this.text = text;
+    for (InstructionTarget target : loadedTargets) {
+      shields.add(target.getShield());
+      bitmaps.add(target.getBitmap());
+    }
+  }
+
+  Spannable buildSpannable(TextView textView, TextViewUtils textViewUtils) {
+    Spannable bannerSpannable = new SpannableString(text);
+    for (int i = 0; i < shields.size(); i++) {
+      BannerShield shield = shields.get(i);
+      bannerSpannable.setSpan(new ImageSpan(textViewUtils.createDrawable(textView, bitmaps.get(i))),
+        shield.getStartIndex(), shield.getEndIndex(), Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+    }
+    return bannerSpannable;
+  }
+}
@@ -0,0 +1,85 @@
+package com.mapbox.services.android.navigation.ui.v5.instruction.maneuver;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.PointF;
+import android.util.LruCache;
+
+import androidx.annotation.Nullable;
+import androidx.core.util.Pair;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the maneuver icons rasterized by {@link ManeuversStyleKit}, so that a {@link ManeuverView}
+ * only replays the vector drawing once per type, modifier, roundabout angle, size and colors.
+ * <p>
+ * {@link ManeuversStyleKit} reuses static paints and paths, so rasterizing is serialized. The lock is
+ * fair and taken per maneuver, so a view drawing on the main thread waits for at most one maneuver
+ * being pre-rendered in the background.
+ */
+class ManeuverBitmapCache {
+
+  private static final int MAX_SIZE_IN_BYTES = 4 * 1024 * 1024;
+  private static final int ROUNDABOUT_ANGLE_BUCKET = 5;
+  private static ManeuverBitmapCache instance;
+  private final ReentrantLock renderLock = new ReentrantLock(true);
+  private final LruCache<String, Bitmap> bitmaps = new LruCache<String, Bitmap>(MAX_SIZE_IN_BYTES) {
+    @Override
+    protected int sizeOf(String key, Bitmap bitmap) {
+      return bitmap.getRowBytes() * bitmap.getHeight();
+    }
+  };
+
+  static synchronized ManeuverBitmapCache getInstance() {
+    if (instance == null) {
+      instance = new ManeuverBitmapCache();
+    }
+    return instance;
+  }
+
+  /**
+   * Retrieves the rasterized maneuver, rendering it if it isn't cached yet.
+   * <p>
+   * The roundabout angle is rounded to a few degrees, which isn't noticeable at icon sizes.
+   *
+   * @return the maneuver bitmap, null if the size isn't known yet
+   */
+  @Nullable
+  Bitmap retrieve(Pair<String, String> typeAndModifier, ManeuverViewUpdate maneuverViewUpdate,
+                  int primaryColor, int secondaryColor, PointF size, float roundaboutAngle) {
+    if (size == null || size.x < 1 || size.y < 1) {
+      return null;
+    }
+    float bucketedAngle = Math.round(roundaboutAngle / ROUNDABOUT_ANGLE_BUCKET) * ROUNDABOUT_ANGLE_BUCKET;
+    String key = buildKey(typeAndModifier, primaryColor, secondaryColor, size, bucketedAngle);
+    Bitmap bitmap = bitmaps.get(key);
+    if (bitmap != null) {
+      return bitmap;
+    }
+    renderLock.lock();
+    try {
+      bitmap = bitmaps.get(key);
+      if (bitmap == null) {
+        bitmap = Bitmap.createBitmap((int) Math.ceil(size.x), (int) Math.ceil(size.y), Bitmap.Config.ARGB_8888);
+        maneuverViewUpdate.updateManeuverView(new Canvas(bitmap), primaryColor, secondaryColor, size, bucketedAngle);
+        bitmaps.put(key, bitmap);
+      }
+      return bitmap;
+    } finally {
+      renderLock.unlock();
+    }
+  }
+
+  private String buildKey(Pair<String, String> typeAndModifier, int primaryColor, int secondaryColor,
+                          PointF size, float roundaboutAngle) {
+    return new StringBuilder()
+      .append(typeAndModifier.first).append('|')
+      .append(typeAndModifier.second).append('|')
+      .append((int) roundaboutAngle).append('|')
+      .append(size.x).append('x').append(size.y).append('|')
+      .append(primaryColor).append('|')
+      .append(secondaryColor)
+      .toString();
+  }
+}
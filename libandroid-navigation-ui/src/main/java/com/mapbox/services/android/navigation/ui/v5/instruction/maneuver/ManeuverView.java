@@ -2,8 +2,10 @@ package com.mapbox.services.android.navigation.ui.v5.instruction.maneuver;
 
 import android.content.Context;
 import android.content.res.TypedArray;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.PointF;
+import android.os.AsyncTask;
 import android.text.TextUtils;
 import android.util.AttributeSet;
 import android.view.View;
@@ -15,9 +17,16 @@ import androidx.annotation.Nullable;
 import androidx.core.content.ContextCompat;
 import androidx.core.util.Pair;
 
+import com.mapbox.api.directions.v5.models.BannerInstructions;
+import com.mapbox.api.directions.v5.models.BannerText;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.services.android.navigation.ui.v5.R;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -49,6 +58,7 @@ public class ManeuverView extends View {
   private static final float BOTTOM_ROUNDABOUT_ANGLE_LIMIT = 60f;
   private static final float DEFAULT_ROUNDABOUT_ANGLE = 180f;
   private static final Map<Pair<String, String>, ManeuverViewUpdate> MANEUVER_VIEW_UPDATE_MAP = new ManeuverViewMap();
+  private static final ManeuverBitmapCache BITMAP_CACHE = ManeuverBitmapCache.getInstance();
   private static final Set<String> SHOULD_FLIP_MODIFIERS = new HashSet<String>() {
     {
       add(STEP_MANEUVER_MODIFIER_SLIGHT_LEFT);
@@ -90,6 +100,7 @@ public class ManeuverView extends View {
   private Pair<String, String> maneuverTypeAndModifier = new Pair<>(null, null);
   private PointF size;
   private String drivingSide = STEP_MANEUVER_MODIFIER_RIGHT;
+  private DirectionsRoute preRenderedRoute;
 
   /**
    * A custom view that can be used with the Mapbox Directions API.
@@ -146,11 +157,7 @@ public class ManeuverView extends View {
     if (isNewTypeOrModifier(maneuverType, maneuverModifier)) {
       this.maneuverType = maneuverType;
       this.maneuverModifier = maneuverModifier;
-      if (checkManeuverTypeWithNullModifier(maneuverType)) {
-        return;
-      }
-      maneuverType = checkManeuverModifier(maneuverType, maneuverModifier);
-      maneuverTypeAndModifier = new Pair<>(maneuverType, maneuverModifier);
+      maneuverTypeAndModifier = buildTypeAndModifier(maneuverType, maneuverModifier);
       invalidate();
     }
   }
@@ -203,10 +210,37 @@ public class ManeuverView extends View {
     invalidate();
   }
 
-  @Override
-  protected void onFinishInflate() {
-    super.onFinishInflate();
-    setLayerType(LAYER_TYPE_SOFTWARE, null);
+  /**
+   * Renders the primary maneuvers of the given route in the background, with the current size
+   * and colors of this view, so that they're drawn from the cache once they're upcoming.
+   * <p>
+   * Has no effect until this view has been measured, or if the route was already pre-rendered.
+   *
+   * @param route with the maneuvers to render
+   */
+  public void preRenderManeuvers(@NonNull DirectionsRoute route) {
+    if (size == null || route == preRenderedRoute) {
+      return;
+    }
+    preRenderedRoute = route;
+    final List<BannerText> maneuvers = findPrimaryManeuvers(route);
+    final int primaryColor = this.primaryColor;
+    final int secondaryColor = this.secondaryColor;
+    final PointF size = new PointF(this.size.x, this.size.y);
+    AsyncTask.THREAD_POOL_EXECUTOR.execute(new Runnable() {
+      @Override
+      public void run() {
+        for (BannerText maneuver : maneuvers) {
+          Pair<String, String> typeAndModifier = buildTypeAndModifier(maneuver.type(), maneuver.modifier());
+          ManeuverViewUpdate maneuverViewUpdate = MANEUVER_VIEW_UPDATE_MAP.get(typeAndModifier);
+          if (maneuverViewUpdate != null) {
+            float roundaboutAngle = findRoundaboutAngle(typeAndModifier, maneuver.degrees());
+            BITMAP_CACHE.retrieve(typeAndModifier, maneuverViewUpdate, primaryColor, secondaryColor,
+              size, roundaboutAngle);
+          }
+        }
+      }
+    });
   }
 
   @Override
@@ -233,7 +267,12 @@ public class ManeuverView extends View {
 
     ManeuverViewUpdate maneuverViewUpdate = MANEUVER_VIEW_UPDATE_MAP.get(maneuverTypeAndModifier);
     if (maneuverViewUpdate != null) {
-      maneuverViewUpdate.updateManeuverView(canvas, primaryColor, secondaryColor, size, roundaboutAngle);
+      float angle = ROUNDABOUT_MANEUVER_TYPES.contains(maneuverType) ? roundaboutAngle : DEFAULT_ROUNDABOUT_ANGLE;
+      Bitmap maneuverBitmap = BITMAP_CACHE.retrieve(maneuverTypeAndModifier, maneuverViewUpdate,
+        primaryColor, secondaryColor, size, angle);
+      if (maneuverBitmap != null) {
+        canvas.drawBitmap(maneuverBitmap, 0, 0, null);
+      }
     }
     boolean flip = SHOULD_FLIP_MODIFIERS.contains(maneuverModifier);
     if (ROUNDABOUT_MANEUVER_TYPES.contains(maneuverType)) {
@@ -263,23 +302,47 @@ public class ManeuverView extends View {
       || !TextUtils.equals(this.maneuverModifier, maneuverModifier);
   }
 
-  private boolean checkManeuverTypeWithNullModifier(String maneuverType) {
+  private static Pair<String, String> buildTypeAndModifier(String maneuverType, String maneuverModifier) {
     if (MANEUVER_TYPES_WITH_NULL_MODIFIERS.contains(maneuverType)) {
-      maneuverTypeAndModifier = new Pair<>(maneuverType, null);
-      invalidate();
-      return true;
+      return new Pair<>(maneuverType, null);
     }
-    return false;
+    return new Pair<>(checkManeuverModifier(maneuverType, maneuverModifier), maneuverModifier);
   }
 
   @Nullable
-  private String checkManeuverModifier(String maneuverType, String maneuverModifier) {
-    if (!maneuverType.contentEquals(STEP_MANEUVER_TYPE_ARRIVE) && maneuverModifier != null) {
+  private static String checkManeuverModifier(String maneuverType, String maneuverModifier) {
+    if (!STEP_MANEUVER_TYPE_ARRIVE.equals(maneuverType) && maneuverModifier != null) {
       maneuverType = null;
     }
     return maneuverType;
   }
 
+  private static List<BannerText> findPrimaryManeuvers(DirectionsRoute route) {
+    List<BannerText> maneuvers = new ArrayList<>();
+    for (RouteLeg leg : route.legs()) {
+      for (LegStep step : leg.steps()) {
+        List<BannerInstructions> bannerInstructions = step.bannerInstructions();
+        if (bannerInstructions == null) {
+          continue;
+        }
+        for (BannerInstructions bannerInstruction : bannerInstructions) {
+          BannerText primary = bannerInstruction.primary();
+          if (primary.type() != null) {
+            maneuvers.add(primary);
+          }
+        }
+      }
+    }
+    return maneuvers;
+  }
+
+  private static float findRoundaboutAngle(Pair<String, String> typeAndModifier, Double degrees) {
+    if (!ROUNDABOUT_MANEUVER_TYPES.contains(typeAndModifier.first) || degrees == null) {
+      return DEFAULT_ROUNDABOUT_ANGLE;
+    }
+    return Math.max(BOTTOM_ROUNDABOUT_ANGLE_LIMIT, Math.min(TOP_ROUNDABOUT_ANGLE_LIMIT, degrees.floatValue()));
+  }
+
   private void updateRoundaboutAngle(float roundaboutAngle) {
     if (checkRoundaboutBottomLimit(roundaboutAngle)) {
       return;
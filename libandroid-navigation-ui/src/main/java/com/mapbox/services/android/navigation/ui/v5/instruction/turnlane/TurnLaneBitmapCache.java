@@ -0,0 +1,64 @@
+package com.mapbox.services.android.navigation.ui.v5.instruction.turnlane;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.util.LruCache;
+
+import androidx.annotation.Nullable;
+import androidx.vectordrawable.graphics.drawable.VectorDrawableCompat;
+
+import com.mapbox.services.android.navigation.ui.v5.R;
+import com.mapbox.services.android.navigation.ui.v5.ThemeSwitcher;
+
+/**
+ * Holds the rasterized turn lane drawables, so that a {@link TurnLaneView} doesn't inflate
+ * and draw the vector drawable each time it's bound.
+ * <p>
+ * Lane drawables are tinted with the banner maneuver color of the theme, which is part of the key.
+ */
+class TurnLaneBitmapCache {
+
+  private static final int MAX_SIZE_IN_BYTES = 1024 * 1024;
+  private static TurnLaneBitmapCache instance;
+  private final LruCache<String, Bitmap> bitmaps = new LruCache<String, Bitmap>(MAX_SIZE_IN_BYTES) {
+    @Override
+    protected int sizeOf(String key, Bitmap bitmap) {
+      return bitmap.getRowBytes() * bitmap.getHeight();
+    }
+  };
+
+  static synchronized TurnLaneBitmapCache getInstance() {
+    if (instance == null) {
+      instance = new TurnLaneBitmapCache();
+    }
+    return instance;
+  }
+
+  /**
+   * @param width  of the bitmap
+   * @param height of the bitmap
+   * @return the rasterized lane drawable, null if the size isn't known yet or it couldn't be inflated
+   */
+  @Nullable
+  Bitmap retrieve(Context context, int resId, int width, int height) {
+    if (width < 1 || height < 1) {
+      return null;
+    }
+    int color = ThemeSwitcher.retrieveThemeColor(context, R.attr.navigationViewBannerManeuverPrimary);
+    String key = resId + "|" + color + "|" + width + "x" + height;
+    Bitmap bitmap = bitmaps.get(key);
+    if (bitmap != null) {
+      return bitmap;
+    }
+    VectorDrawableCompat drawable = VectorDrawableCompat.create(context.getResources(), resId, context.getTheme());
+    if (drawable == null) {
+      return null;
+    }
+    bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+    drawable.setBounds(0, 0, width, height);
+    drawable.draw(new Canvas(bitmap));
+    bitmaps.put(key, bitmap);
+    return bitmap;
+  }
+}
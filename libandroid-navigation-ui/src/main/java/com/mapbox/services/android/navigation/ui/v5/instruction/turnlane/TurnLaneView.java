@@ -1,13 +1,12 @@
 package com.mapbox.services.android.navigation.ui.v5.instruction.turnlane;
 
 import android.content.Context;
-import android.graphics.drawable.Drawable;
+import android.graphics.Bitmap;
 import android.util.AttributeSet;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.appcompat.widget.AppCompatImageView;
-import androidx.vectordrawable.graphics.drawable.VectorDrawableCompat;
 
 import com.mapbox.api.directions.v5.models.BannerComponents;
 
@@ -24,6 +23,9 @@ public class TurnLaneView extends AppCompatImageView {
   private static final int SCALE_FLIPPED = -1;
   private static final int SCALE_NORMAL = 1;
   private final TurnLaneDrawableMap laneDrawableMap = new TurnLaneDrawableMap();
+  private final TurnLaneBitmapCache laneBitmapCache = TurnLaneBitmapCache.getInstance();
+  @Nullable
+  private Integer laneResId;
 
   public TurnLaneView(Context context) {
     super(context);
@@ -81,12 +83,29 @@ public class TurnLaneView extends AppCompatImageView {
     return resId;
   }
 
+  @Override
+  protected void onSizeChanged(int width, int height, int oldWidth, int oldHeight) {
+    super.onSizeChanged(width, height, oldWidth, oldHeight);
+    updateLaneBitmap();
+  }
+
   private void drawFor(@NonNull BannerComponents lane, TurnLaneViewData drawData, Integer resId) {
-    final Drawable turnLaneDrawable = VectorDrawableCompat.create(
-      getResources(), resId, getContext().getTheme()
-    );
-    setImageDrawable(turnLaneDrawable);
+    laneResId = resId;
+    updateLaneBitmap();
     setAlpha(!lane.active() ? HALF_OPACITY : FULL_OPACITY);
     setScaleX(drawData.shouldBeFlipped() ? SCALE_FLIPPED : SCALE_NORMAL);
   }
+
+  /**
+   * The lane is rasterized with the size of this view, so it's deferred until it's laid out.
+   */
+  private void updateLaneBitmap() {
+    if (laneResId == null) {
+      return;
+    }
+    Bitmap turnLaneBitmap = laneBitmapCache.retrieve(getContext(), laneResId, getWidth(), getHeight());
+    if (turnLaneBitmap != null) {
+      setImageBitmap(turnLaneBitmap);
+    }
+  }
 }
@@ -3,26 +3,44 @@ package com.mapbox.services.android.navigation.ui.v5.map;
 import android.graphics.PointF;
 import android.location.Location;
 import android.os.AsyncTask;
+import android.os.SystemClock;
 
 import androidx.annotation.NonNull;
 
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.Point;
 import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.mapbox.services.android.navigation.ui.v5.map.NavigationMapboxMap.STREETS_LAYER_ID;
 
+/**
+ * Resolves the current way name from the current step name or ref. For steps without any, the map
+ * is queried for the road under the user, at most once a second, and the name found is kept for
+ * the road segment of the step the user is on.
+ */
 class MapWayName {
 
   private static final String NAME_PROPERTY = "name";
   private static final String EMPTY_CURRENT_WAY_NAME = "";
+  private static final long QUERY_INTERVAL_IN_MILLIS = 1000;
+  private static final int MAX_SEGMENT_WAY_NAMES = 50;
   private final MapWaynameProgressChangeListener progressChangeListener = new MapWaynameProgressChangeListener(this);
   private final Set<OnWayNameChangedListener> onWayNameChangedListeners;
+  private final StepWayNameResolver stepWayNameResolver = new StepWayNameResolver();
+  private final Map<String, String> segmentWayNames = new LinkedHashMap<String, String>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+      return size() > MAX_SEGMENT_WAY_NAMES;
+    }
+  };
   private WaynameFeatureFinder featureInteractor;
   private List<Point> currentStepPoints = new ArrayList<>();
   private Location currentLocation = null;
@@ -30,6 +48,8 @@ class MapWayName {
   private boolean isAutoQueryEnabled;
   private FeatureFilterTask filterTask;
   private String wayName = EMPTY_CURRENT_WAY_NAME;
+  private long lastQueryElapsedTime;
+  private boolean hasQueried = false;
 
   MapWayName(WaynameFeatureFinder featureInteractor, MapPaddingAdjustor paddingAdjustor) {
     this.featureInteractor = featureInteractor;
@@ -38,9 +58,11 @@ class MapWayName {
   }
 
   void updateWayNameWithPoint(PointF point) {
-    if (!isAutoQueryEnabled) {
+    if (!shouldQueryMap()) {
       return;
     }
+    hasQueried = true;
+    lastQueryElapsedTime = SystemClock.elapsedRealtime();
     List<Feature> roadLabelFeatures = findRoadLabelFeatures(point);
     boolean invalidLabelFeatures = roadLabelFeatures.isEmpty();
     if (invalidLabelFeatures) {
@@ -49,13 +71,27 @@ class MapWayName {
     executeFeatureFilterTask(roadLabelFeatures);
   }
 
-  void updateProgress(Location currentLocation, List<Point> currentStepPoints) {
-    if (!this.currentStepPoints.equals(currentStepPoints)) {
+  void updateProgress(Location currentLocation, RouteProgress routeProgress) {
+    List<Point> currentStepPoints = routeProgress.currentStepPoints();
+    if (currentStepPoints != null && !this.currentStepPoints.equals(currentStepPoints)) {
       this.currentStepPoints = currentStepPoints;
     }
     if (this.currentLocation == null || !this.currentLocation.equals(currentLocation)) {
       this.currentLocation = currentLocation;
     }
+    stepWayNameResolver.update(routeProgress);
+    if (!isAutoQueryEnabled) {
+      return;
+    }
+    String stepWayName = stepWayNameResolver.retrieveStepWayName();
+    if (stepWayName != null) {
+      updateWayName(stepWayName);
+      return;
+    }
+    String segmentWayName = segmentWayNames.get(stepWayNameResolver.retrieveSegmentKey());
+    if (segmentWayName != null) {
+      updateWayName(segmentWayName);
+    }
   }
 
   void updateWayNameQueryMap(boolean isEnabled) {
@@ -95,17 +131,25 @@ class MapWayName {
     return featureInteractor.queryRenderedFeatures(point, layerIds);
   }
 
-  private void executeFeatureFilterTask(List<Feature> roadFeatures) {
-    if (isTaskRunning()) {
-      filterTask.cancel(true);
+  private boolean shouldQueryMap() {
+    if (!isAutoQueryEnabled || isTaskRunning() || stepWayNameResolver.retrieveStepWayName() != null) {
+      return false;
+    }
+    String segmentKey = stepWayNameResolver.retrieveSegmentKey();
+    if (segmentKey != null && segmentWayNames.containsKey(segmentKey)) {
+      return false;
     }
+    return !hasQueried || SystemClock.elapsedRealtime() - lastQueryElapsedTime >= QUERY_INTERVAL_IN_MILLIS;
+  }
 
+  private void executeFeatureFilterTask(List<Feature> roadFeatures) {
     if (hasValidProgressData()) {
+      final String segmentKey = stepWayNameResolver.retrieveSegmentKey();
       filterTask = new FeatureFilterTask(roadFeatures, currentLocation, currentStepPoints,
         new OnFeatureFilteredCallback() {
           @Override
           public void onFeatureFiltered(@NonNull Feature feature) {
-            updateWayNameLayerWithNameProperty(feature);
+            updateWayNameLayerWithNameProperty(feature, segmentKey);
           }
         });
       filterTask.execute();
@@ -122,20 +166,30 @@ class MapWayName {
     return currentLocation != null && !currentStepPoints.isEmpty();
   }
 
-  private void updateWayNameLayerWithNameProperty(Feature roadFeature) {
+  private void updateWayNameLayerWithNameProperty(Feature roadFeature, String segmentKey) {
     boolean hasValidNameProperty = roadFeature.hasNonNullValueForProperty(NAME_PROPERTY);
     if (hasValidNameProperty) {
       String currentWayName = roadFeature.getStringProperty(NAME_PROPERTY);
-      boolean newWayName = !wayName.contentEquals(currentWayName);
-      if (newWayName) {
-        updateListenersWith(currentWayName);
-        wayName = currentWayName;
+      if (segmentKey != null) {
+        segmentWayNames.put(segmentKey, currentWayName);
+      }
+      // the step way name wins if the user reached a named step meanwhile
+      if (stepWayNameResolver.retrieveStepWayName() == null) {
+        updateWayName(currentWayName);
       }
     } else {
       updateListenersWith(EMPTY_CURRENT_WAY_NAME);
     }
   }
 
+  private void updateWayName(String currentWayName) {
+    boolean newWayName = !wayName.contentEquals(currentWayName);
+    if (newWayName) {
+      updateListenersWith(currentWayName);
+      wayName = currentWayName;
+    }
+  }
+
   private void updateListenersWith(String currentWayName) {
     for (OnWayNameChangedListener listener : onWayNameChangedListeners) {
       listener.onWayNameChanged(currentWayName);
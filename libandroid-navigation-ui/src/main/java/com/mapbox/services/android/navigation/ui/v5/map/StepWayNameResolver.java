@@ -0,0 +1,129 @@
+package com.mapbox.services.android.navigation.ui.v5.map;
+
+import android.text.TextUtils;
+
+import androidx.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.StepIntersection;
+import com.mapbox.geojson.Point;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteStepProgress;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMeasurement;
+
+import java.util.List;
+
+/**
+ * Resolves the way name from the name or ref of the current step, and otherwise identifies the
+ * road segment the user is on, between two intersections of the current step, so that way names
+ * found on the map can be kept for the rest of the segment.
+ */
+class StepWayNameResolver {
+
+  private static final double SAME_POINT_TOLERANCE = 1e-6;
+  private DirectionsRoute route;
+  private int routeCount = 0;
+  private int legIndex = -1;
+  private int stepIndex = -1;
+  private String stepWayName;
+  private double[] intersectionDistances = new double[0];
+  private String segmentKey;
+
+  void update(RouteProgress routeProgress) {
+    RouteLegProgress legProgress = routeProgress.currentLegProgress();
+    Integer currentLegIndex = routeProgress.legIndex();
+    if (legProgress == null || currentLegIndex == null || legProgress.stepIndex() == null) {
+      return;
+    }
+    int currentStepIndex = legProgress.stepIndex();
+    if (routeProgress.directionsRoute() != route) {
+      // indices restart on a new route, the segments of the previous one must not match
+      route = routeProgress.directionsRoute();
+      routeCount++;
+      legIndex = -1;
+    }
+    if (currentLegIndex != legIndex || currentStepIndex != stepIndex) {
+      legIndex = currentLegIndex;
+      stepIndex = currentStepIndex;
+      updateStep(legProgress.currentStep(), routeProgress.currentStepPoints());
+    }
+    RouteStepProgress stepProgress = legProgress.currentStepProgress();
+    Double distanceTraveled = stepProgress == null ? null : stepProgress.distanceTraveled();
+    int segment = 0;
+    if (distanceTraveled != null) {
+      while (segment < intersectionDistances.length && intersectionDistances[segment] <= distanceTraveled) {
+        segment++;
+      }
+    }
+    segmentKey = routeCount + ":" + legIndex + ":" + stepIndex + ":" + segment;
+  }
+
+  /**
+   * @return the way name of the current step, null if the step has no name nor ref
+   */
+  @Nullable
+  String retrieveStepWayName() {
+    return stepWayName;
+  }
+
+  /**
+   * @return a key identifying the road segment of the route the user is on, null until the progress is known
+   */
+  @Nullable
+  String retrieveSegmentKey() {
+    return segmentKey;
+  }
+
+  private void updateStep(@Nullable LegStep step, @Nullable List<Point> stepPoints) {
+    stepWayName = null;
+    intersectionDistances = new double[0];
+    if (step == null) {
+      return;
+    }
+    if (!TextUtils.isEmpty(step.name())) {
+      stepWayName = step.name();
+    } else if (!TextUtils.isEmpty(step.ref())) {
+      stepWayName = step.ref();
+    } else if (stepPoints != null) {
+      // only needed to find way names on the map
+      intersectionDistances = findIntersectionDistances(step.intersections(), stepPoints);
+    }
+  }
+
+  private double[] findIntersectionDistances(@Nullable List<StepIntersection> intersections, List<Point> stepPoints) {
+    if (intersections == null || intersections.isEmpty() || stepPoints.isEmpty()) {
+      return new double[0];
+    }
+    double[] distances = new double[intersections.size()];
+    int count = 0;
+    int pointIndex = 0;
+    double distance = 0;
+    for (StepIntersection intersection : intersections) {
+      Point location = intersection.location();
+      while (pointIndex < stepPoints.size() && !isSamePoint(stepPoints.get(pointIndex), location)) {
+        if (pointIndex + 1 < stepPoints.size()) {
+          distance += TurfMeasurement.distance(stepPoints.get(pointIndex), stepPoints.get(pointIndex + 1),
+            TurfConstants.UNIT_METERS);
+        }
+        pointIndex++;
+      }
+      if (pointIndex == stepPoints.size()) {
+        break;
+      }
+      if (pointIndex > 0) {
+        distances[count++] = distance;
+      }
+    }
+    double[] intersectionDistances = new double[count];
+    System.arraycopy(distances, 0, intersectionDistances, 0, count);
+    return intersectionDistances;
+  }
+
+  private boolean isSamePoint(Point point, Point otherPoint) {
+    return Math.abs(point.longitude() - otherPoint.longitude()) < SAME_POINT_TOLERANCE
+      && Math.abs(point.latitude() - otherPoint.latitude()) < SAME_POINT_TOLERANCE;
+  }
+}
@@ -0,0 +1,112 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import android.os.Handler;
+
+import androidx.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.core.constants.Constants;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.FIRST_COLLECTION_INDEX;
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.LEG_INDEX_PROPERTY_KEY;
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.PRIMARY_ROUTE_PROPERTY_KEY;
+
+/**
+ * Rebuilds the congestion features of the refreshed legs of a route, the features of its other
+ * legs are kept as they are.
+ */
+class CongestionUpdateTask extends Thread {
+
+  private final int routeIndex;
+  private final FeatureCollection routeFeatureCollection;
+  private final DirectionsRoute refreshedRoute;
+  private final Set<Integer> changedLegIndices;
+  @Nullable
+  private final RouteGeometryPyramid pyramid;
+  private final WeakReference<OnCongestionUpdatedCallback> callbackWeakReference;
+  private AtomicBoolean cancelThread = new AtomicBoolean(false);
+  private Handler postHandler;
+
+  CongestionUpdateTask(int routeIndex, FeatureCollection routeFeatureCollection, DirectionsRoute refreshedRoute,
+                       Set<Integer> changedLegIndices, @Nullable RouteGeometryPyramid pyramid,
+                       OnCongestionUpdatedCallback callback, Handler handler) {
+    this.routeIndex = routeIndex;
+    this.routeFeatureCollection = routeFeatureCollection;
+    this.refreshedRoute = refreshedRoute;
+    this.changedLegIndices = changedLegIndices;
+    this.pyramid = pyramid;
+    this.callbackWeakReference = new WeakReference<>(callback);
+    this.postHandler = handler;
+  }
+
+  void cancel() {
+    cancelThread.set(true);
+  }
+
+  /**
+   * The features of a leg follow each other, the ones of a refreshed leg are replaced by the
+   * features built from its refreshed annotation.
+   */
+  @Override
+  public void run() {
+    List<Feature> features = routeFeatureCollection.features();
+    List<RouteLeg> legs = refreshedRoute.legs();
+    if (features == null || features.isEmpty() || legs == null) {
+      return;
+    }
+    RouteGeometryPyramid routePyramid = pyramid != null ? pyramid : new RouteGeometryPyramid(
+      LineString.fromPolyline(refreshedRoute.geometry(), Constants.PRECISION_6).coordinates());
+    // Routes are simplified at the level they were first drawn with
+    int level = routeIndex == FIRST_COLLECTION_INDEX
+      ? RouteGeometryPyramid.LEVEL_DETAILED : RouteGeometryPyramid.LEVEL_ALTERNATIVE;
+    Feature routeFeature = features.get(0);
+    boolean isPrimary = routeFeature.hasProperty(PRIMARY_ROUTE_PROPERTY_KEY)
+      && routeFeature.getBooleanProperty(PRIMARY_ROUTE_PROPERTY_KEY);
+    List<Feature> updatedFeatures = new ArrayList<>(features.size());
+    updatedFeatures.add(routeFeature);
+    int rebuiltLegIndex = -1;
+    for (int i = 1; i < features.size(); i++) {
+      if (cancelThread.get()) {
+        return;
+      }
+      Feature feature = features.get(i);
+      int legIndex = feature.hasProperty(LEG_INDEX_PROPERTY_KEY)
+        ? feature.getNumberProperty(LEG_INDEX_PROPERTY_KEY).intValue() : -1;
+      if (!changedLegIndices.contains(legIndex)) {
+        updatedFeatures.add(feature);
+      } else if (legIndex != rebuiltLegIndex && legIndex < legs.size()) {
+        updatedFeatures.addAll(FeatureProcessingTask.buildLegFeatures(legs.get(legIndex), legIndex, routePyramid,
+          level, isPrimary));
+        rebuiltLegIndex = legIndex;
+      }
+    }
+    if (!cancelThread.get()) {
+      complete(FeatureCollection.fromFeatures(updatedFeatures));
+    }
+  }
+
+  private void complete(final FeatureCollection updatedRouteFeatureCollection) {
+    final OnCongestionUpdatedCallback callback = callbackWeakReference.get();
+    if (callback != null) {
+      postHandler.post(new Runnable() {
+        @Override
+        public void run() {
+          if (cancelThread.get()) {
+            return;
+          }
+          callback.onCongestionUpdated(routeIndex, updatedRouteFeatureCollection);
+        }
+      });
+    }
+  }
+}
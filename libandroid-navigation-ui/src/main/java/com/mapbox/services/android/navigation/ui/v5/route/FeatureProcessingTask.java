@@ -8,7 +8,6 @@ import com.mapbox.core.constants.Constants;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.LineString;
-import com.mapbox.geojson.Point;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
@@ -16,6 +15,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.LEG_INDEX_PROPERTY_KEY;
 import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.PRIMARY_ROUTE_PROPERTY_KEY;
 
 class FeatureProcessingTask extends Thread {
@@ -24,6 +24,7 @@ class FeatureProcessingTask extends Thread {
   private final List<FeatureCollection> routeFeatureCollections = new ArrayList<>();
   private final WeakReference<OnRouteFeaturesProcessedCallback> callbackWeakReference;
   private final HashMap<LineString, DirectionsRoute> routeLineStrings = new HashMap<>();
+  private final List<RouteGeometryPyramid> routeGeometryPyramids = new ArrayList<>();
   private AtomicBoolean cancelThread = new AtomicBoolean(false);
   private Handler postHandler;
 
@@ -62,7 +63,7 @@ class FeatureProcessingTask extends Thread {
           if (cancelThread.get()) {
             return;
           }
-          callback.onRouteFeaturesProcessed(routeFeatureCollections, routeLineStrings);
+          callback.onRouteFeaturesProcessed(routeFeatureCollections, routeLineStrings, routeGeometryPyramids);
         }
       });
     }
@@ -72,42 +73,66 @@ class FeatureProcessingTask extends Thread {
     final List<Feature> features = new ArrayList<>();
 
     LineString routeGeometry = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
-    Feature routeFeature = Feature.fromGeometry(routeGeometry);
+    routeLineStrings.put(routeGeometry, route);
+    RouteGeometryPyramid pyramid = new RouteGeometryPyramid(routeGeometry.coordinates());
+    routeGeometryPyramids.add(pyramid);
+    int level = isPrimary ? RouteGeometryPyramid.LEVEL_DETAILED : RouteGeometryPyramid.LEVEL_ALTERNATIVE;
+    Feature routeFeature = Feature.fromGeometry(LineString.fromLngLats(pyramid.retrievePoints(level)));
     routeFeature.addBooleanProperty(PRIMARY_ROUTE_PROPERTY_KEY, isPrimary);
     features.add(routeFeature);
-    routeLineStrings.put(routeGeometry, route);
 
-    List<Feature> congestionFeatures = buildCongestionFeaturesFromRoute(route, routeGeometry, isPrimary);
+    List<Feature> congestionFeatures = buildCongestionFeaturesFromRoute(route, pyramid, level, isPrimary);
     features.addAll(congestionFeatures);
     return FeatureCollection.fromFeatures(features);
   }
 
-  private List<Feature> buildCongestionFeaturesFromRoute(DirectionsRoute route, LineString lineString,
-                                                         boolean isPrimary) {
+  private List<Feature> buildCongestionFeaturesFromRoute(DirectionsRoute route, RouteGeometryPyramid pyramid,
+                                                         int level, boolean isPrimary) {
     final List<Feature> features = new ArrayList<>();
-    for (RouteLeg leg : route.legs()) {
-      if (leg.annotation() != null && leg.annotation().congestion() != null) {
-        for (int i = 0; i < leg.annotation().congestion().size(); i++) {
-          // See https://github.com/mapbox/mapbox-navigation-android/issues/353
-          if (leg.annotation().congestion().size() + 1 <= lineString.coordinates().size()) {
-
-            List<Point> points = new ArrayList<>();
-            points.add(lineString.coordinates().get(i));
-            points.add(lineString.coordinates().get(i + 1));
-
-            LineString congestionLineString = LineString.fromLngLats(points);
-            Feature feature = Feature.fromGeometry(congestionLineString);
-            String congestionValue = leg.annotation().congestion().get(i);
-            feature.addStringProperty(RouteConstants.CONGESTION_KEY, congestionValue);
-            feature.addBooleanProperty(PRIMARY_ROUTE_PROPERTY_KEY, isPrimary);
-            features.add(feature);
-          }
+    List<RouteLeg> legs = route.legs();
+    for (int legIndex = 0; legIndex < legs.size(); legIndex++) {
+      features.addAll(buildLegFeatures(legs.get(legIndex), legIndex, pyramid, level, isPrimary));
+    }
+    return features;
+  }
+
+  /**
+   * Consecutive segments with the same congestion are merged into one feature. The features are
+   * tagged with the index of their leg, so that the legs of a refreshed route can be redrawn on
+   * their own, see {@link CongestionUpdateTask}.
+   */
+  static List<Feature> buildLegFeatures(RouteLeg leg, int legIndex, RouteGeometryPyramid pyramid, int level,
+                                        boolean isPrimary) {
+    final List<Feature> features = new ArrayList<>();
+    if (leg.annotation() != null && leg.annotation().congestion() != null) {
+      List<String> congestion = leg.annotation().congestion();
+      // See https://github.com/mapbox/mapbox-navigation-android/issues/353
+      if (congestion.size() + 1 > pyramid.retrievePointCount()) {
+        return features;
+      }
+      int runStart = 0;
+      for (int i = 1; i <= congestion.size(); i++) {
+        String congestionValue = congestion.get(runStart);
+        if (i < congestion.size() && isSameCongestion(congestionValue, congestion.get(i))) {
+          continue;
         }
-      } else {
-        Feature feature = Feature.fromGeometry(lineString);
+        LineString congestionLineString = LineString.fromLngLats(pyramid.retrievePoints(level, runStart, i));
+        Feature feature = Feature.fromGeometry(congestionLineString);
+        feature.addStringProperty(RouteConstants.CONGESTION_KEY, congestionValue);
+        feature.addBooleanProperty(PRIMARY_ROUTE_PROPERTY_KEY, isPrimary);
+        feature.addNumberProperty(LEG_INDEX_PROPERTY_KEY, legIndex);
         features.add(feature);
+        runStart = i;
       }
+    } else {
+      Feature feature = Feature.fromGeometry(LineString.fromLngLats(pyramid.retrievePoints(level)));
+      feature.addNumberProperty(LEG_INDEX_PROPERTY_KEY, legIndex);
+      features.add(feature);
     }
     return features;
   }
+
+  private static boolean isSameCongestion(String congestionValue, String otherCongestionValue) {
+    return congestionValue == null ? otherCongestionValue == null : congestionValue.equals(otherCongestionValue);
+  }
 }
@@ -9,8 +9,10 @@ import androidx.annotation.ColorInt;
 import androidx.annotation.StyleRes;
 import androidx.appcompat.content.res.AppCompatResources;
 import androidx.core.content.ContextCompat;
+import androidx.core.util.ObjectsCompat;
 import androidx.core.graphics.drawable.DrawableCompat;
 
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.LineString;
@@ -28,6 +30,7 @@ import com.mapbox.mapboxsdk.style.sources.GeoJsonOptions;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 import com.mapbox.mapboxsdk.utils.MathUtils;
 import com.mapbox.services.android.navigation.ui.v5.utils.MapImageUtils;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteIdentity;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.turf.TurfConstants;
 import com.mapbox.turf.TurfMeasurement;
@@ -88,6 +91,11 @@ class MapRouteArrow {
   private List<String> arrowLayerIds;
   private GeoJsonSource arrowShaftGeoJsonSource;
   private GeoJsonSource arrowHeadGeoJsonSource;
+  private DirectionsRoute arrowRoute;
+  private Integer arrowLegIndex;
+  private Integer arrowStepIndex;
+  private boolean isArrowValid;
+  private Boolean isVisible;
 
   private final MapView mapView;
   private final MapboxMap mapboxMap;
@@ -107,11 +115,32 @@ class MapRouteArrow {
     initialize(aboveLayer);
   }
 
+  MapRouteArrow(MapView mapView, MapboxMap mapboxMap, GeoJsonSource arrowShaftGeoJsonSource,
+                GeoJsonSource arrowHeadGeoJsonSource, List<String> arrowLayerIds) {
+    this.mapView = mapView;
+    this.mapboxMap = mapboxMap;
+    this.arrowShaftGeoJsonSource = arrowShaftGeoJsonSource;
+    this.arrowHeadGeoJsonSource = arrowHeadGeoJsonSource;
+    this.arrowLayerIds = arrowLayerIds;
+    arrowColor = 0;
+    arrowBorderColor = 0;
+  }
+
+  /**
+   * The arrow only changes with the step, so its geometry is built and pushed to the map
+   * once per step rather than with every progress update.
+   */
   void addUpcomingManeuverArrow(RouteProgress routeProgress) {
+    if (isCurrentArrowStep(routeProgress)) {
+      updateVisibilityTo(isArrowValid);
+      return;
+    }
+    updateArrowStep(routeProgress);
     boolean invalidUpcomingStepPoints = routeProgress.upcomingStepPoints() == null
       || routeProgress.upcomingStepPoints().size() < TWO_POINTS;
     boolean invalidCurrentStepPoints = routeProgress.currentStepPoints().size() < TWO_POINTS;
-    if (invalidUpcomingStepPoints || invalidCurrentStepPoints) {
+    isArrowValid = !invalidUpcomingStepPoints && !invalidCurrentStepPoints;
+    if (!isArrowValid) {
       updateVisibilityTo(false);
       return;
     }
@@ -123,8 +152,12 @@ class MapRouteArrow {
   }
 
   void updateVisibilityTo(boolean visible) {
+    if (isVisible != null && isVisible == visible) {
+      return;
+    }
     Style style = mapboxMap.getStyle();
     if (style != null) {
+      isVisible = visible;
       for (String layerId : arrowLayerIds) {
         Layer layer = style.getLayer(layerId);
         if (layer != null) {
@@ -137,6 +170,32 @@ class MapRouteArrow {
     }
   }
 
+  private boolean isCurrentArrowStep(RouteProgress routeProgress) {
+    Integer stepIndex = routeProgress.currentLegProgress().stepIndex();
+    return arrowRoute != null
+      && isArrowRoute(routeProgress.directionsRoute())
+      && ObjectsCompat.equals(arrowLegIndex, routeProgress.legIndex())
+      && ObjectsCompat.equals(arrowStepIndex, stepIndex);
+  }
+
+  private boolean isArrowRoute(DirectionsRoute route) {
+    if (route == arrowRoute) {
+      return true;
+    }
+    if (RouteIdentity.isSameRoute(arrowRoute, route)) {
+      // compared by reference from now on
+      arrowRoute = route;
+      return true;
+    }
+    return false;
+  }
+
+  private void updateArrowStep(RouteProgress routeProgress) {
+    arrowRoute = routeProgress.directionsRoute();
+    arrowLegIndex = routeProgress.legIndex();
+    arrowStepIndex = routeProgress.currentLegProgress().stepIndex();
+  }
+
   private List<Point> obtainArrowPointsFrom(RouteProgress routeProgress) {
     List<Point> reversedCurrent = new ArrayList<>(routeProgress.currentStepPoints());
     Collections.reverse(reversedCurrent);
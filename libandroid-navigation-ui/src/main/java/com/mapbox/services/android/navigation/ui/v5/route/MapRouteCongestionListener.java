@@ -0,0 +1,30 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import androidx.annotation.NonNull;
+
+import com.mapbox.services.android.navigation.v5.navigation.CongestionRange;
+import com.mapbox.services.android.navigation.v5.navigation.RouteAnnotations;
+import com.mapbox.services.android.navigation.v5.navigation.RouteAnnotationsListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+class MapRouteCongestionListener implements RouteAnnotationsListener {
+
+  private final MapRouteLine routeLine;
+
+  MapRouteCongestionListener(MapRouteLine routeLine) {
+    this.routeLine = routeLine;
+  }
+
+  @Override
+  public void onRouteAnnotationsRefresh(@NonNull RouteAnnotations routeAnnotations,
+                                        @NonNull List<CongestionRange> changedCongestion) {
+    Set<Integer> changedLegIndices = new HashSet<>();
+    for (CongestionRange range : changedCongestion) {
+      changedLegIndices.add(range.getLegIndex());
+    }
+    routeLine.updateCongestion(routeAnnotations.getRoute(), changedLegIndices);
+  }
+}
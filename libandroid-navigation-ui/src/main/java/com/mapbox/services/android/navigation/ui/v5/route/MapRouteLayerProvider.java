@@ -33,7 +33,10 @@ import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.
 import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.HEAVY_CONGESTION_VALUE;
 import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.MODERATE_CONGESTION_VALUE;
 import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.ORIGIN_MARKER_NAME;
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.PRIMARY_ROUTE_LAYER_ID;
 import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.PRIMARY_ROUTE_PROPERTY_KEY;
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.PRIMARY_ROUTE_SHIELD_LAYER_ID;
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.PRIMARY_ROUTE_SOURCE_ID;
 import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.ROUTE_LAYER_ID;
 import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.ROUTE_SHIELD_LAYER_ID;
 import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.ROUTE_SOURCE_ID;
@@ -56,28 +59,7 @@ class MapRouteLayerProvider {
     shieldLayer = new LineLayer(ROUTE_SHIELD_LAYER_ID, ROUTE_SOURCE_ID).withProperties(
       lineCap(Property.LINE_CAP_ROUND),
       lineJoin(Property.LINE_JOIN_ROUND),
-      lineWidth(
-        interpolate(
-          exponential(1.5f), zoom(),
-          stop(10f, 7f),
-          stop(14f, product(literal(10.5f),
-            switchCase(
-              get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
-              literal(alternativeRouteScale)))),
-          stop(16.5f, product(literal(15.5f),
-            switchCase(
-              get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
-              literal(alternativeRouteScale)))),
-          stop(19f, product(literal(24f),
-            switchCase(
-              get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
-              literal(alternativeRouteScale)))),
-          stop(22f, product(literal(29f),
-            switchCase(
-              get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
-              literal(alternativeRouteScale))))
-        )
-      ),
+      lineWidth(buildShieldLineWidth(routeScale, alternativeRouteScale)),
       lineColor(
         switchCase(
           get(PRIMARY_ROUTE_PROPERTY_KEY), color(routeShieldColor),
@@ -107,35 +89,7 @@ class MapRouteLayerProvider {
     routeLayer = new LineLayer(ROUTE_LAYER_ID, ROUTE_SOURCE_ID).withProperties(
       lineCap(lineCap),
       lineJoin(lineJoin),
-      lineWidth(
-        interpolate(
-          exponential(1.5f), zoom(),
-          stop(4f, product(literal(3f),
-            switchCase(
-              get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
-              literal(alternativeRouteScale)))),
-          stop(10f, product(literal(4f),
-            switchCase(
-              get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
-              literal(alternativeRouteScale)))),
-          stop(13f, product(literal(6f),
-            switchCase(
-              get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
-              literal(alternativeRouteScale)))),
-          stop(16f, product(literal(10f),
-            switchCase(
-              get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
-              literal(alternativeRouteScale)))),
-          stop(19f, product(literal(14f),
-            switchCase(
-              get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
-              literal(alternativeRouteScale)))),
-          stop(22f, product(literal(18f),
-            switchCase(
-              get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
-              literal(alternativeRouteScale))))
-        )
-      ),
+      lineWidth(buildRouteLineWidth(routeScale, alternativeRouteScale)),
       lineColor(
         switchCase(
           get(PRIMARY_ROUTE_PROPERTY_KEY), match(
@@ -158,6 +112,44 @@ class MapRouteLayerProvider {
     return routeLayer;
   }
 
+  /**
+   * The primary route is drawn from its own source in the vanishing route line mode, with the
+   * same width as in the shared route layers. Its colors come from the line-gradient of
+   * {@link RouteLineGradient}, set once the route is drawn.
+   */
+  LineLayer initializePrimaryRouteShieldLayer(Style style, float routeScale) {
+    LineLayer shieldLayer = style.getLayerAs(PRIMARY_ROUTE_SHIELD_LAYER_ID);
+    if (shieldLayer != null) {
+      style.removeLayer(shieldLayer);
+    }
+
+    return new LineLayer(PRIMARY_ROUTE_SHIELD_LAYER_ID, PRIMARY_ROUTE_SOURCE_ID).withProperties(
+      lineCap(Property.LINE_CAP_ROUND),
+      lineJoin(Property.LINE_JOIN_ROUND),
+      lineWidth(buildShieldLineWidth(routeScale, routeScale))
+    );
+  }
+
+  LineLayer initializePrimaryRouteLayer(Style style, boolean roundedLineCap, float routeScale) {
+    LineLayer routeLayer = style.getLayerAs(PRIMARY_ROUTE_LAYER_ID);
+    if (routeLayer != null) {
+      style.removeLayer(routeLayer);
+    }
+
+    String lineCap = Property.LINE_CAP_ROUND;
+    String lineJoin = Property.LINE_JOIN_ROUND;
+    if (!roundedLineCap) {
+      lineCap = Property.LINE_CAP_BUTT;
+      lineJoin = Property.LINE_JOIN_BEVEL;
+    }
+
+    return new LineLayer(PRIMARY_ROUTE_LAYER_ID, PRIMARY_ROUTE_SOURCE_ID).withProperties(
+      lineCap(lineCap),
+      lineJoin(lineJoin),
+      lineWidth(buildRouteLineWidth(routeScale, routeScale))
+    );
+  }
+
   SymbolLayer initializeWayPointLayer(Style style, Drawable originIcon,
                                       Drawable destinationIcon) {
     SymbolLayer wayPointLayer = style.getLayerAs(WAYPOINT_LAYER_ID);
@@ -192,4 +184,57 @@ class MapRouteLayerProvider {
     );
     return wayPointLayer;
   }
-}
\ No newline at end of file
+
+  private Expression buildShieldLineWidth(float routeScale, float alternativeRouteScale) {
+    return interpolate(
+      exponential(1.5f), zoom(),
+      stop(10f, 7f),
+      stop(14f, product(literal(10.5f),
+        switchCase(
+          get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
+          literal(alternativeRouteScale)))),
+      stop(16.5f, product(literal(15.5f),
+        switchCase(
+          get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
+          literal(alternativeRouteScale)))),
+      stop(19f, product(literal(24f),
+        switchCase(
+          get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
+          literal(alternativeRouteScale)))),
+      stop(22f, product(literal(29f),
+        switchCase(
+          get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
+          literal(alternativeRouteScale))))
+    );
+  }
+
+  private Expression buildRouteLineWidth(float routeScale, float alternativeRouteScale) {
+    return interpolate(
+      exponential(1.5f), zoom(),
+      stop(4f, product(literal(3f),
+        switchCase(
+          get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
+          literal(alternativeRouteScale)))),
+      stop(10f, product(literal(4f),
+        switchCase(
+          get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
+          literal(alternativeRouteScale)))),
+      stop(13f, product(literal(6f),
+        switchCase(
+          get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
+          literal(alternativeRouteScale)))),
+      stop(16f, product(literal(10f),
+        switchCase(
+          get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
+          literal(alternativeRouteScale)))),
+      stop(19f, product(literal(14f),
+        switchCase(
+          get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
+          literal(alternativeRouteScale)))),
+      stop(22f, product(literal(18f),
+        switchCase(
+          get(PRIMARY_ROUTE_PROPERTY_KEY), literal(routeScale),
+          literal(alternativeRouteScale))))
+    );
+  }
+}
@@ -24,17 +24,26 @@ import com.mapbox.mapboxsdk.style.sources.GeoJsonOptions;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 import com.mapbox.services.android.navigation.ui.v5.R;
 import com.mapbox.services.android.navigation.ui.v5.utils.MapUtils;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteIdentity;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static com.mapbox.mapboxsdk.style.expressions.Expression.literal;
 import static com.mapbox.mapboxsdk.style.layers.Property.NONE;
 import static com.mapbox.mapboxsdk.style.layers.Property.VISIBLE;
+import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.lineGradient;
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.visibility;
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.FIRST_COLLECTION_INDEX;
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.PRIMARY_ROUTE_LAYER_ID;
 import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.PRIMARY_ROUTE_PROPERTY_KEY;
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.PRIMARY_ROUTE_SHIELD_LAYER_ID;
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.PRIMARY_ROUTE_SOURCE_ID;
 import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.ROUTE_LAYER_ID;
 import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.ROUTE_SHIELD_LAYER_ID;
 import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.ROUTE_SOURCE_ID;
@@ -69,6 +78,7 @@ class MapRouteLine {
 
   private final HashMap<LineString, DirectionsRoute> routeLineStrings = new HashMap<>();
   private final List<FeatureCollection> routeFeatureCollections = new ArrayList<>();
+  private final List<RouteGeometryPyramid> routeGeometryPyramids = new ArrayList<>();
   private final List<DirectionsRoute> directionsRoutes = new ArrayList<>();
   private final List<String> routeLayerIds;
 
@@ -85,7 +95,14 @@ class MapRouteLine {
   private AtomicReference<PrimaryRouteUpdateTask> primaryRouteUpdateTaskRef = new AtomicReference<>(null);
   private PrimaryRouteUpdateTask primaryRouteUpdateTask;
   private boolean isPrimaryRouteUpdateTaskInjected = false;
+  private AtomicReference<CongestionUpdateTask> congestionUpdateTaskRef = new AtomicReference<>(null);
   private Handler mainHandler;
+  private MapRouteSourceProvider sourceProvider;
+  private MapRouteLayerProvider layerProvider;
+  private GeoJsonSource primaryRouteLineSource;
+  private boolean isVanishingRouteLineEnabled;
+  private RouteLineGradient routeLineGradient;
+  private Float vanishingPointFraction;
 
   MapRouteLine(Context context,
                Style style,
@@ -133,6 +150,8 @@ class MapRouteLine {
     this.routeLayerIds = new ArrayList<>();
     this.mainHandler = handler;
     this.style = style;
+    this.sourceProvider = sourceProvider;
+    this.layerProvider = layerProvider;
 
     TypedArray typedArray = context.obtainStyledAttributes(styleRes, R.styleable.NavigationMapRoute);
     // Primary Route attributes
@@ -303,6 +322,69 @@ class MapRouteLine {
     return primaryRouteIndex;
   }
 
+  /**
+   * Swaps in the refreshed primary route and redraws the congestion of its changed legs only, the
+   * features of its other legs and of the alternative routes are kept.
+   */
+  void updateCongestion(DirectionsRoute refreshedRoute, Set<Integer> changedLegIndices) {
+    if (primaryRouteIndex < 0 || primaryRouteIndex >= directionsRoutes.size()) {
+      return;
+    }
+    DirectionsRoute primaryRoute = directionsRoutes.get(primaryRouteIndex);
+    if (!RouteIdentity.isSameRoute(primaryRoute, refreshedRoute)) {
+      return;
+    }
+    directionsRoutes.set(primaryRouteIndex, refreshedRoute);
+    for (Map.Entry<LineString, DirectionsRoute> routeLineString : routeLineStrings.entrySet()) {
+      if (routeLineString.getValue() == primaryRoute) {
+        routeLineString.setValue(refreshedRoute);
+      }
+    }
+    if (changedLegIndices.isEmpty() || primaryRouteIndex >= routeFeatureCollections.size()) {
+      return;
+    }
+    RouteGeometryPyramid pyramid = primaryRouteIndex < routeGeometryPyramids.size()
+      ? routeGeometryPyramids.get(primaryRouteIndex) : null;
+    CongestionUpdateTask task = congestionUpdateTaskRef.getAndSet(new CongestionUpdateTask(primaryRouteIndex,
+      routeFeatureCollections.get(primaryRouteIndex), refreshedRoute, changedLegIndices, pyramid,
+      congestionUpdatedCallback, mainHandler));
+    if (task != null) {
+      task.cancel();
+    }
+    task = congestionUpdateTaskRef.get();
+    if (task != null) {
+      task.start();
+    }
+  }
+
+  /**
+   * In the vanishing route line mode, the primary route is uploaded once to its own source with
+   * line metrics, and the traveled part is hidden with the line-gradient of its layers.
+   */
+  void updateVanishingRouteLineEnabled(boolean isEnabled) {
+    if (isVanishingRouteLineEnabled == isEnabled) {
+      return;
+    }
+    isVanishingRouteLineEnabled = isEnabled;
+    if (isEnabled && primaryRouteLineSource == null) {
+      initializeVanishingRouteLine();
+    }
+    updateAlternativeVisibilityTo(alternativesVisible);
+    drawPrimaryRouteLine();
+  }
+
+  boolean retrieveVanishingRouteLineEnabled() {
+    return isVanishingRouteLineEnabled;
+  }
+
+  void updateVanishingPoint(RouteProgress routeProgress) {
+    Float fractionTraveled = routeProgress.fractionTraveled();
+    if (!isVanishingRouteLineEnabled || fractionTraveled == null || fractionTraveled.equals(vanishingPointFraction)) {
+      return;
+    }
+    updateVanishingPointTo(fractionTraveled);
+  }
+
   String getTopLayerId() {
     if (routeLayerIds.isEmpty()) {
       return LocationComponentConstants.SHADOW_LAYER;
@@ -322,6 +404,7 @@ class MapRouteLine {
     clearRouteListData();
     setRoutesSource(FeatureCollection.fromFeatures(new Feature[]{}));
     setWaypointsSource(FeatureCollection.fromFeatures(new Feature[]{}));
+    drawPrimaryRouteLine();
   }
 
   private void clearRouteListData() {
@@ -334,6 +417,11 @@ class MapRouteLine {
     if (!routeFeatureCollections.isEmpty()) {
       routeFeatureCollections.clear();
     }
+    routeGeometryPyramids.clear();
+    CongestionUpdateTask task = congestionUpdateTaskRef.getAndSet(null);
+    if (task != null) {
+      task.cancel();
+    }
   }
 
   private void generateRouteFeatureCollectionsFrom(List<DirectionsRoute> routes) {
@@ -368,10 +456,13 @@ class MapRouteLine {
   private OnRouteFeaturesProcessedCallback routeFeaturesProcessedCallback = new OnRouteFeaturesProcessedCallback() {
     @Override
     public void onRouteFeaturesProcessed(List<FeatureCollection> routeFeatureCollections,
-                                         HashMap<LineString, DirectionsRoute> routeLineStrings) {
+                                         HashMap<LineString, DirectionsRoute> routeLineStrings,
+                                         List<RouteGeometryPyramid> routeGeometryPyramids) {
       MapRouteLine.this.routeFeatureCollections.addAll(routeFeatureCollections);
       MapRouteLine.this.routeLineStrings.putAll(routeLineStrings);
+      MapRouteLine.this.routeGeometryPyramids.addAll(routeGeometryPyramids);
       drawRoutes(routeFeatureCollections);
+      drawPrimaryRouteLine();
       drawWayPoints();
       updateAlternativeVisibilityTo(alternativesVisible);
       updateRoutesFor(primaryRouteIndex);
@@ -444,6 +535,7 @@ class MapRouteLine {
     @Override
     public void onPrimaryRouteUpdated(List<FeatureCollection> updatedRouteCollections) {
       drawRoutes(updatedRouteCollections);
+      drawPrimaryRouteLine();
     }
   };
 
@@ -452,6 +544,33 @@ class MapRouteLine {
     return primaryRouteUpdatedCallback;
   }
 
+  /**
+   * The routes source is set again with the updated features, the primary route keeps its
+   * geometry and only its gradient is rebuilt.
+   */
+  private OnCongestionUpdatedCallback congestionUpdatedCallback = new OnCongestionUpdatedCallback() {
+    @Override
+    public void onCongestionUpdated(int routeIndex, FeatureCollection routeFeatureCollection) {
+      if (routeIndex >= routeFeatureCollections.size()) {
+        return;
+      }
+      routeFeatureCollections.set(routeIndex, routeFeatureCollection);
+      List<FeatureCollection> orderedRouteCollections = new ArrayList<>(routeFeatureCollections);
+      if (primaryRouteIndex >= 0 && primaryRouteIndex < orderedRouteCollections.size()) {
+        orderedRouteCollections.add(FIRST_COLLECTION_INDEX, orderedRouteCollections.remove(primaryRouteIndex));
+      }
+      drawRoutes(orderedRouteCollections);
+      if (routeIndex == primaryRouteIndex) {
+        updatePrimaryRouteGradient();
+      }
+    }
+  };
+
+  // Testing only
+  OnCongestionUpdatedCallback retrieveCongestionUpdatedCallback() {
+    return congestionUpdatedCallback;
+  }
+
   private void initializeLayers(Style style, MapRouteLayerProvider layerProvider,
                                 Drawable originIcon, Drawable destinationIcon,
                                 String belowLayer) {
@@ -486,17 +605,94 @@ class MapRouteLine {
           Layer layer = style.getLayer(layerId);
           if (layer != null) {
             LineLayer route = (LineLayer) layer;
-            if (isAlternativeVisible) {
-              route.setFilter(literal(true));
-            } else {
-              route.setFilter(Expression.eq(Expression.get(PRIMARY_ROUTE_PROPERTY_KEY), true));
-            }
+            route.setFilter(buildRouteFilter(isAlternativeVisible));
           }
         }
       }
     }
   }
 
+  /**
+   * In the vanishing route line mode, the primary route is drawn by its own layers.
+   */
+  private Expression buildRouteFilter(boolean isAlternativeVisible) {
+    if (isVanishingRouteLineEnabled) {
+      if (isAlternativeVisible) {
+        return Expression.eq(Expression.get(PRIMARY_ROUTE_PROPERTY_KEY), false);
+      }
+      return literal(false);
+    }
+    if (isAlternativeVisible) {
+      return literal(true);
+    }
+    return Expression.eq(Expression.get(PRIMARY_ROUTE_PROPERTY_KEY), true);
+  }
+
+  private void initializeVanishingRouteLine() {
+    GeoJsonOptions primaryRouteLineGeoJsonOptions = new GeoJsonOptions().withMaxZoom(16).withLineMetrics(true);
+    primaryRouteLineSource = sourceProvider.build(PRIMARY_ROUTE_SOURCE_ID,
+            FeatureCollection.fromFeatures(new Feature[]{}), primaryRouteLineGeoJsonOptions);
+    style.addSource(primaryRouteLineSource);
+
+    LineLayer primaryRouteShieldLayer = layerProvider.initializePrimaryRouteShieldLayer(style, routeScale);
+    style.addLayerAbove(primaryRouteShieldLayer, ROUTE_LAYER_ID);
+    LineLayer primaryRouteLayer = layerProvider.initializePrimaryRouteLayer(style, roundedLineCap, routeScale);
+    style.addLayerAbove(primaryRouteLayer, primaryRouteShieldLayer.getId());
+
+    int index = routeLayerIds.indexOf(ROUTE_LAYER_ID) + 1;
+    routeLayerIds.add(index, primaryRouteShieldLayer.getId());
+    routeLayerIds.add(index + 1, primaryRouteLayer.getId());
+    updateAllLayersVisibilityTo(isVisible);
+  }
+
+  /**
+   * The gradient stops are computed once per primary route, from the features it's drawn with.
+   */
+  private void drawPrimaryRouteLine() {
+    if (primaryRouteLineSource == null) {
+      return;
+    }
+    routeLineGradient = null;
+    vanishingPointFraction = null;
+    boolean hasPrimaryRoute = primaryRouteIndex >= 0 && primaryRouteIndex < routeFeatureCollections.size();
+    List<Feature> primaryRouteFeatures = hasPrimaryRoute
+      ? routeFeatureCollections.get(primaryRouteIndex).features() : null;
+    if (!isVanishingRouteLineEnabled || primaryRouteFeatures == null || primaryRouteFeatures.isEmpty()) {
+      primaryRouteLineSource.setGeoJson(FeatureCollection.fromFeatures(new Feature[]{}));
+      return;
+    }
+    Feature primaryRouteFeature = Feature.fromGeometry(primaryRouteFeatures.get(0).geometry());
+    primaryRouteFeature.addBooleanProperty(PRIMARY_ROUTE_PROPERTY_KEY, true);
+    primaryRouteLineSource.setGeoJson(primaryRouteFeature);
+    routeLineGradient = new RouteLineGradient(routeFeatureCollections.get(primaryRouteIndex),
+      routeDefaultColor, routeModerateColor, routeSevereColor, routeShieldColor);
+    updateVanishingPointTo(0f);
+  }
+
+  private void updatePrimaryRouteGradient() {
+    if (routeLineGradient == null) {
+      return;
+    }
+    routeLineGradient = new RouteLineGradient(routeFeatureCollections.get(primaryRouteIndex),
+      routeDefaultColor, routeModerateColor, routeSevereColor, routeShieldColor);
+    updateVanishingPointTo(vanishingPointFraction == null ? 0f : vanishingPointFraction);
+  }
+
+  private void updateVanishingPointTo(float fractionTraveled) {
+    if (routeLineGradient == null || style == null || !style.isFullyLoaded()) {
+      return;
+    }
+    vanishingPointFraction = fractionTraveled;
+    Layer primaryRouteShieldLayer = style.getLayer(PRIMARY_ROUTE_SHIELD_LAYER_ID);
+    if (primaryRouteShieldLayer != null) {
+      primaryRouteShieldLayer.setProperties(lineGradient(routeLineGradient.buildShieldExpression(fractionTraveled)));
+    }
+    Layer primaryRouteLayer = style.getLayer(PRIMARY_ROUTE_LAYER_ID);
+    if (primaryRouteLayer != null) {
+      primaryRouteLayer.setProperties(lineGradient(routeLineGradient.buildRouteExpression(fractionTraveled)));
+    }
+  }
+
   private void updateAllLayersVisibilityTo(boolean isVisible) {
     this.isVisible = isVisible;
     if (style != null && style.isFullyLoaded()) {
@@ -4,6 +4,7 @@ import android.location.Location;
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteIdentity;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import java.util.List;
@@ -32,6 +33,7 @@ class MapRouteProgressChangeListener implements ProgressChangeListener {
     List<DirectionsRoute> directionsRoutes = routeLine.retrieveDirectionsRoutes();
     int primaryRouteIndex = routeLine.retrievePrimaryRouteIndex();
     addNewRoute(currentRoute, directionsRoutes, primaryRouteIndex);
+    routeLine.updateVanishingPoint(routeProgress);
     routeArrow.addUpcomingManeuverArrow(routeProgress);
   }
 
@@ -49,6 +51,6 @@ class MapRouteProgressChangeListener implements ProgressChangeListener {
   private boolean isANewRoute(DirectionsRoute currentRoute, List<DirectionsRoute> directionsRoutes,
                               int primaryRouteIndex) {
     boolean noRoutes = directionsRoutes.isEmpty();
-    return noRoutes || !currentRoute.equals(directionsRoutes.get(primaryRouteIndex));
+    return noRoutes || !RouteIdentity.isSameRoute(currentRoute, directionsRoutes.get(primaryRouteIndex));
   }
 }
@@ -48,6 +48,7 @@ public class NavigationMapRoute implements LifecycleObserver {
   private final MapView mapView;
   private MapRouteClickListener mapRouteClickListener;
   private MapRouteProgressChangeListener mapRouteProgressChangeListener;
+  private MapRouteCongestionListener mapRouteCongestionListener;
   private boolean isMapClickListenerAdded = false;
   private MapView.OnDidFinishLoadingStyleListener didFinishLoadingStyleListener;
   private boolean isDidFinishLoadingStyleListenerAdded = false;
@@ -144,6 +145,7 @@ public class NavigationMapRoute implements LifecycleObserver {
     this.routeArrow = new MapRouteArrow(mapView, mapboxMap, styleRes, routeLine.getTopLayerId());
     this.mapRouteClickListener = new MapRouteClickListener(routeLine);
     this.mapRouteProgressChangeListener = new MapRouteProgressChangeListener(routeLine, routeArrow);
+    this.mapRouteCongestionListener = new MapRouteCongestionListener(routeLine);
     initializeDidFinishLoadingStyleListener();
     addListeners();
   }
@@ -162,6 +164,7 @@ public class NavigationMapRoute implements LifecycleObserver {
     this.mapRouteClickListener = mapClickListener;
     this.didFinishLoadingStyleListener = didFinishLoadingStyleListener;
     this.mapRouteProgressChangeListener = progressChangeListener;
+    this.mapRouteCongestionListener = new MapRouteCongestionListener(routeLine);
     addListeners();
   }
 
@@ -181,6 +184,7 @@ public class NavigationMapRoute implements LifecycleObserver {
     this.mapRouteClickListener = mapClickListener;
     this.didFinishLoadingStyleListener = didFinishLoadingStyleListener;
     this.mapRouteProgressChangeListener = progressChangeListener;
+    this.mapRouteCongestionListener = new MapRouteCongestionListener(routeLine);
     this.routeLine = routeLine;
     this.routeArrow = routeArrow;
   }
@@ -243,6 +247,18 @@ public class NavigationMapRoute implements LifecycleObserver {
     routeArrow.updateVisibilityTo(isVisible);
   }
 
+  /**
+   * Toggle whether the traveled part of the primary route should disappear as the user moves along it.
+   * <p>
+   * The primary route is drawn once and each progress update from {@link MapboxNavigation} only
+   * updates the line-gradient of its layers, with {@link RouteProgress#fractionTraveled()}.
+   *
+   * @param isEnabled true to hide the traveled part of the primary route, else false
+   */
+  public void updateVanishingRouteLineEnabled(boolean isEnabled) {
+    routeLine.updateVanishingRouteLineEnabled(isEnabled);
+  }
+
   /**
    * Add a {@link OnRouteSelectionChangeListener} to know which route the user has currently
    * selected as their primary route.
@@ -277,13 +293,15 @@ public class NavigationMapRoute implements LifecycleObserver {
    * the progress updates from {@link MapboxNavigation}.
    * <p>
    * If a new route is given to {@link MapboxNavigation#startNavigation(DirectionsRoute)}, this
-   * class will automatically draw the new route.
+   * class will automatically draw the new route. When the route is refreshed, only the congestion
+   * of its changed legs is redrawn.
    *
    * @param navigation to add the progress change listener
    */
   public void addProgressChangeListener(MapboxNavigation navigation) {
     this.navigation = navigation;
     navigation.addProgressChangeListener(mapRouteProgressChangeListener);
+    navigation.addRouteAnnotationsListener(mapRouteCongestionListener);
   }
 
 
@@ -296,6 +314,7 @@ public class NavigationMapRoute implements LifecycleObserver {
   public void removeProgressChangeListener(MapboxNavigation navigation) {
     if (navigation != null) {
       navigation.removeProgressChangeListener(mapRouteProgressChangeListener);
+      navigation.removeRouteAnnotationsListener(mapRouteCongestionListener);
     }
   }
 
@@ -352,6 +371,7 @@ public class NavigationMapRoute implements LifecycleObserver {
     }
     if (navigation != null) {
       navigation.addProgressChangeListener(mapRouteProgressChangeListener);
+      navigation.addRouteAnnotationsListener(mapRouteCongestionListener);
     }
     if (!isDidFinishLoadingStyleListenerAdded) {
       mapView.addOnDidFinishLoadingStyleListener(didFinishLoadingStyleListener);
@@ -366,6 +386,7 @@ public class NavigationMapRoute implements LifecycleObserver {
     }
     if (navigation != null) {
       navigation.removeProgressChangeListener(mapRouteProgressChangeListener);
+      navigation.removeRouteAnnotationsListener(mapRouteCongestionListener);
     }
     if (isDidFinishLoadingStyleListenerAdded) {
       mapView.removeOnDidFinishLoadingStyleListener(didFinishLoadingStyleListener);
@@ -386,7 +407,7 @@ public class NavigationMapRoute implements LifecycleObserver {
     MapRouteLayerProvider layerProvider = new MapRouteLayerProvider();
     Handler handler = new Handler(context.getMainLooper());
 
-    routeLine = new MapRouteLine(
+    MapRouteLine newRouteLine = new MapRouteLine(
             context,
             style,
             styleRes,
@@ -404,6 +425,8 @@ public class NavigationMapRoute implements LifecycleObserver {
             routeLine.retrieveAlternativesVisible(),
             handler
     );
+    newRouteLine.updateVanishingRouteLineEnabled(routeLine.retrieveVanishingRouteLineEnabled());
+    routeLine = newRouteLine;
     mapboxMap.removeOnMapClickListener(mapRouteClickListener);
     mapRouteClickListener = new MapRouteClickListener(routeLine);
     mapboxMap.addOnMapClickListener(mapRouteClickListener);
@@ -412,10 +435,13 @@ public class NavigationMapRoute implements LifecycleObserver {
   private void updateProgressChangeListener() {
     if (navigation != null) {
       navigation.removeProgressChangeListener(mapRouteProgressChangeListener);
+      navigation.removeRouteAnnotationsListener(mapRouteCongestionListener);
     }
     mapRouteProgressChangeListener = new MapRouteProgressChangeListener(routeLine, routeArrow);
+    mapRouteCongestionListener = new MapRouteCongestionListener(routeLine);
     if (navigation != null) {
       navigation.addProgressChangeListener(mapRouteProgressChangeListener);
+      navigation.addRouteAnnotationsListener(mapRouteCongestionListener);
     }
   }
 
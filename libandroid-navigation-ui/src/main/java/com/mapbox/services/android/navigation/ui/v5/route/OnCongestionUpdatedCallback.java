@@ -0,0 +1,7 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import com.mapbox.geojson.FeatureCollection;
+
+interface OnCongestionUpdatedCallback {
+  void onCongestionUpdated(int routeIndex, FeatureCollection routeFeatureCollection);
+}
@@ -9,5 +9,6 @@ import java.util.List;
 
 interface OnRouteFeaturesProcessedCallback {
   void onRouteFeaturesProcessed(List<FeatureCollection> routeFeatureCollections,
-                                HashMap<LineString, DirectionsRoute> routeLineStrings);
+                                HashMap<LineString, DirectionsRoute> routeLineStrings,
+                                List<RouteGeometryPyramid> routeGeometryPyramids);
 }
@@ -5,6 +5,9 @@ class RouteConstants {
   static final String ROUTE_SOURCE_ID = "mapbox-navigation-route-source";
   static final String ROUTE_LAYER_ID = "mapbox-navigation-route-layer";
   static final String ROUTE_SHIELD_LAYER_ID = "mapbox-navigation-route-shield-layer";
+  static final String PRIMARY_ROUTE_SOURCE_ID = "mapbox-navigation-primary-route-source";
+  static final String PRIMARY_ROUTE_LAYER_ID = "mapbox-navigation-primary-route-layer";
+  static final String PRIMARY_ROUTE_SHIELD_LAYER_ID = "mapbox-navigation-primary-route-shield-layer";
   static final String WAYPOINT_SOURCE_ID = "mapbox-navigation-waypoint-source";
   static final String WAYPOINT_LAYER_ID = "mapbox-navigation-waypoint-layer";
   static final int TWO_POINTS = 2;
@@ -40,6 +43,7 @@ class RouteConstants {
   static final String WAYPOINT_ORIGIN_VALUE = "origin";
   static final String WAYPOINT_DESTINATION_VALUE = "destination";
   static final String PRIMARY_ROUTE_PROPERTY_KEY = "primary-route";
+  static final String LEG_INDEX_PROPERTY_KEY = "leg-index";
   static final String MODERATE_CONGESTION_VALUE = "moderate";
   static final String HEAVY_CONGESTION_VALUE = "heavy";
   static final String SEVERE_CONGESTION_VALUE = "severe";
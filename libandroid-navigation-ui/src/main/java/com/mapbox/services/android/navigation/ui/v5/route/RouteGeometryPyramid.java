@@ -0,0 +1,156 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import com.mapbox.geojson.Point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Simplified levels of a route geometry, built once per route with Douglas-Peucker at
+ * increasing tolerances.
+ * <p>
+ * A level keeps a subset of the route point indices, so that a part of the route, like a
+ * congestion segment, can be drawn from the same level as the whole route.
+ */
+class RouteGeometryPyramid {
+
+  /**
+   * About a meter, not noticeable at any zoom level.
+   */
+  static final int LEVEL_DETAILED = 0;
+  /**
+   * About five meters, for the alternative routes shown while the map is zoomed out.
+   */
+  static final int LEVEL_ALTERNATIVE = 1;
+  private static final double[] TOLERANCES_IN_DEGREES = {0.00001, 0.00005};
+  private final List<Point> points;
+  private final int[][] levels;
+
+  RouteGeometryPyramid(List<Point> points) {
+    this.points = points;
+    levels = new int[TOLERANCES_IN_DEGREES.length][];
+    double longitudeScale = calculateLongitudeScale(points);
+    for (int level = 0; level < TOLERANCES_IN_DEGREES.length; level++) {
+      levels[level] = simplify(points, TOLERANCES_IN_DEGREES[level], longitudeScale);
+    }
+  }
+
+  int retrievePointCount() {
+    return points.size();
+  }
+
+  List<Point> retrievePoints(int level) {
+    if (points.isEmpty()) {
+      return new ArrayList<>();
+    }
+    return retrievePoints(level, 0, points.size() - 1);
+  }
+
+  /**
+   * @return the points of the given level between the two route point indices, both included
+   */
+  List<Point> retrievePoints(int level, int fromIndex, int toIndex) {
+    int[] indices = levels[level];
+    List<Point> levelPoints = new ArrayList<>();
+    levelPoints.add(points.get(fromIndex));
+    int position = Arrays.binarySearch(indices, fromIndex + 1);
+    if (position < 0) {
+      position = -position - 1;
+    }
+    for (; position < indices.length && indices[position] < toIndex; position++) {
+      levelPoints.add(points.get(indices[position]));
+    }
+    if (toIndex > fromIndex) {
+      levelPoints.add(points.get(toIndex));
+    }
+    return levelPoints;
+  }
+
+  private static double calculateLongitudeScale(List<Point> points) {
+    if (points.isEmpty()) {
+      return 1;
+    }
+    double latitude = points.get(points.size() / 2).latitude();
+    return Math.cos(Math.toRadians(latitude));
+  }
+
+  /**
+   * Iterative Douglas-Peucker, long routes would overflow the stack of a recursive one.
+   *
+   * @return the sorted indices of the kept points
+   */
+  private static int[] simplify(List<Point> points, double tolerance, double longitudeScale) {
+    int size = points.size();
+    if (size < 3) {
+      int[] indices = new int[size];
+      for (int i = 0; i < size; i++) {
+        indices[i] = i;
+      }
+      return indices;
+    }
+    boolean[] isKept = new boolean[size];
+    isKept[0] = true;
+    isKept[size - 1] = true;
+    int keptCount = 2;
+    double squareTolerance = tolerance * tolerance;
+    int[] stack = new int[64];
+    int stackSize = 0;
+    stack[stackSize++] = 0;
+    stack[stackSize++] = size - 1;
+    while (stackSize > 0) {
+      int last = stack[--stackSize];
+      int first = stack[--stackSize];
+      double maxSquareDistance = 0;
+      int farthest = -1;
+      for (int i = first + 1; i < last; i++) {
+        double squareDistance = squareSegmentDistance(points.get(i), points.get(first), points.get(last),
+          longitudeScale);
+        if (squareDistance > maxSquareDistance) {
+          maxSquareDistance = squareDistance;
+          farthest = i;
+        }
+      }
+      if (farthest != -1 && maxSquareDistance > squareTolerance) {
+        isKept[farthest] = true;
+        keptCount++;
+        if (stackSize + 4 > stack.length) {
+          stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        stack[stackSize++] = first;
+        stack[stackSize++] = farthest;
+        stack[stackSize++] = farthest;
+        stack[stackSize++] = last;
+      }
+    }
+    int[] indices = new int[keptCount];
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      if (isKept[i]) {
+        indices[count++] = i;
+      }
+    }
+    return indices;
+  }
+
+  private static double squareSegmentDistance(Point point, Point start, Point end, double longitudeScale) {
+    double x = start.longitude() * longitudeScale;
+    double y = start.latitude();
+    double dx = end.longitude() * longitudeScale - x;
+    double dy = end.latitude() - y;
+    if (dx != 0 || dy != 0) {
+      double ratio = ((point.longitude() * longitudeScale - x) * dx + (point.latitude() - y) * dy)
+        / (dx * dx + dy * dy);
+      if (ratio > 1) {
+        x = end.longitude() * longitudeScale;
+        y = end.latitude();
+      } else if (ratio > 0) {
+        x += dx * ratio;
+        y += dy * ratio;
+      }
+    }
+    dx = point.longitude() * longitudeScale - x;
+    dy = point.latitude() - y;
+    return dx * dx + dy * dy;
+  }
+}
@@ -0,0 +1,148 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import android.graphics.Color;
+
+import androidx.annotation.ColorInt;
+
+import com.google.gson.JsonElement;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.LineString;
+import com.mapbox.mapboxsdk.style.expressions.Expression;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMeasurement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.mapbox.mapboxsdk.style.expressions.Expression.color;
+import static com.mapbox.mapboxsdk.style.expressions.Expression.lineProgress;
+import static com.mapbox.mapboxsdk.style.expressions.Expression.step;
+import static com.mapbox.mapboxsdk.style.expressions.Expression.stop;
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.CONGESTION_KEY;
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.HEAVY_CONGESTION_VALUE;
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.MODERATE_CONGESTION_VALUE;
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.SEVERE_CONGESTION_VALUE;
+
+/**
+ * Colors of the primary route line along its length, built once per route from its congestion
+ * features.
+ * <p>
+ * The traveled part of the route is hidden with a transparent first step of the line-gradient,
+ * so that moving along the route only updates a layer property.
+ */
+class RouteLineGradient {
+
+  private static final float FIRST_FRACTION = 0f;
+  private static final float LAST_FRACTION = 1f;
+  private final float[] stopFractions;
+  @ColorInt
+  private final int[] stopColors;
+  @ColorInt
+  private final int shieldColor;
+
+  RouteLineGradient(FeatureCollection primaryRouteCollection, @ColorInt int defaultColor,
+                    @ColorInt int moderateColor, @ColorInt int severeColor, @ColorInt int shieldColor) {
+    this.shieldColor = shieldColor;
+    List<Feature> congestionFeatures = findCongestionFeatures(primaryRouteCollection);
+    if (congestionFeatures.isEmpty()) {
+      stopFractions = new float[] {FIRST_FRACTION};
+      stopColors = new int[] {defaultColor};
+      return;
+    }
+    double[] lengths = new double[congestionFeatures.size()];
+    double totalLength = 0;
+    for (int i = 0; i < congestionFeatures.size(); i++) {
+      lengths[i] = TurfMeasurement.length((LineString) congestionFeatures.get(i).geometry(),
+        TurfConstants.UNIT_METERS);
+      totalLength += lengths[i];
+    }
+    float[] fractions = new float[congestionFeatures.size()];
+    int[] colors = new int[congestionFeatures.size()];
+    int stopCount = 0;
+    double length = 0;
+    for (int i = 0; i < congestionFeatures.size(); i++) {
+      float fraction = totalLength > 0 ? (float) (length / totalLength) : FIRST_FRACTION;
+      JsonElement congestion = congestionFeatures.get(i).getProperty(CONGESTION_KEY);
+      int color = retrieveCongestionColor(congestion, defaultColor, moderateColor, severeColor);
+      length += lengths[i];
+      // step stops have to be strictly ascending, a segment without length is replaced by the next one
+      if (stopCount > 0 && fractions[stopCount - 1] >= fraction) {
+        colors[stopCount - 1] = color;
+      } else {
+        fractions[stopCount] = fraction;
+        colors[stopCount] = color;
+        stopCount++;
+      }
+    }
+    stopFractions = Arrays.copyOf(fractions, stopCount);
+    stopColors = Arrays.copyOf(colors, stopCount);
+  }
+
+  /**
+   * @return a gradient hiding the route line up to the given fraction and colored by
+   * congestion after it
+   */
+  Expression buildRouteExpression(float fractionTraveled) {
+    float fraction = clamp(fractionTraveled);
+    int index = 0;
+    while (index + 1 < stopFractions.length && stopFractions[index + 1] <= fraction) {
+      index++;
+    }
+    List<Expression.Stop> stops = new ArrayList<>();
+    stops.add(stop(fraction, color(stopColors[index])));
+    for (int i = index + 1; i < stopFractions.length; i++) {
+      if (stopFractions[i] > fraction && stopColors[i] != stopColors[i - 1]) {
+        stops.add(stop(stopFractions[i], color(stopColors[i])));
+      }
+    }
+    return step(lineProgress(), color(Color.TRANSPARENT), stops.toArray(new Expression.Stop[0]));
+  }
+
+  /**
+   * @return a gradient hiding the route shield up to the given fraction
+   */
+  Expression buildShieldExpression(float fractionTraveled) {
+    return step(lineProgress(), color(Color.TRANSPARENT), stop(clamp(fractionTraveled), color(shieldColor)));
+  }
+
+  /**
+   * The first feature of a route collection is the whole route, the congestion features follow it.
+   * Without congestion on every leg, the route is drawn with the default color.
+   */
+  private static List<Feature> findCongestionFeatures(FeatureCollection primaryRouteCollection) {
+    List<Feature> congestionFeatures = new ArrayList<>();
+    List<Feature> features = primaryRouteCollection.features();
+    if (features == null) {
+      return congestionFeatures;
+    }
+    for (int i = 1; i < features.size(); i++) {
+      Feature feature = features.get(i);
+      Geometry geometry = feature.geometry();
+      if (!feature.hasProperty(CONGESTION_KEY) || !(geometry instanceof LineString)) {
+        congestionFeatures.clear();
+        return congestionFeatures;
+      }
+      congestionFeatures.add(feature);
+    }
+    return congestionFeatures;
+  }
+
+  @ColorInt
+  private static int retrieveCongestionColor(JsonElement congestionElement, @ColorInt int defaultColor,
+                                             @ColorInt int moderateColor, @ColorInt int severeColor) {
+    String congestion = congestionElement.isJsonNull() ? null : congestionElement.getAsString();
+    if (MODERATE_CONGESTION_VALUE.equals(congestion)) {
+      return moderateColor;
+    } else if (HEAVY_CONGESTION_VALUE.equals(congestion) || SEVERE_CONGESTION_VALUE.equals(congestion)) {
+      return severeColor;
+    }
+    return defaultColor;
+  }
+
+  private static float clamp(float fractionTraveled) {
+    return Math.max(FIRST_FRACTION, Math.min(LAST_FRACTION, fractionTraveled));
+  }
+}
@@ -2,8 +2,11 @@ package com.mapbox.services.android.navigation.ui.v5.summary;
 
 import android.content.Context;
 import android.text.SpannableStringBuilder;
+import android.text.TextUtils;
 import android.text.format.DateFormat;
 
+import androidx.core.util.ObjectsCompat;
+
 import com.mapbox.services.android.navigation.v5.navigation.TimeFormatType;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
@@ -38,4 +41,26 @@ public class SummaryModel {
   String getArrivalTime() {
     return arrivalTime;
   }
+
+  /**
+   * Two models are equal when they render the same distance, time remaining and arrival time text.
+   */
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof SummaryModel)) {
+      return false;
+    }
+    SummaryModel model = (SummaryModel) other;
+    return TextUtils.equals(distanceRemaining, model.distanceRemaining)
+      && TextUtils.equals(timeRemaining, model.timeRemaining)
+      && TextUtils.equals(arrivalTime, model.arrivalTime);
+  }
+
+  @Override
+  public int hashCode() {
+    return ObjectsCompat.hash(distanceRemaining, timeRemaining.toString(), arrivalTime);
+  }
 }
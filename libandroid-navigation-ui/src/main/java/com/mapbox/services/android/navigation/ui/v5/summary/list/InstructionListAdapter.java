@@ -5,6 +5,8 @@ import android.view.View;
 import android.view.ViewGroup;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.AdapterListUpdateCallback;
+import androidx.recyclerview.widget.ListUpdateCallback;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.mapbox.services.android.navigation.ui.v5.R;
@@ -14,9 +16,12 @@ import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
 public class InstructionListAdapter extends RecyclerView.Adapter<InstructionViewHolder> {
 
   private final InstructionListPresenter presenter;
+  private final ListUpdateCallback listUpdateCallback;
 
   public InstructionListAdapter(DistanceFormatter distanceFormatter) {
     presenter = new InstructionListPresenter(distanceFormatter);
+    listUpdateCallback = new AdapterListUpdateCallback(this);
+    setHasStableIds(true);
   }
 
   @NonNull
@@ -37,6 +42,11 @@ public class InstructionListAdapter extends RecyclerView.Adapter<InstructionView
     return presenter.retrieveBannerInstructionListSize();
   }
 
+  @Override
+  public long getItemId(int position) {
+    return presenter.retrieveBannerInstructionIdAtPosition(position);
+  }
+
   @Override
   public void onViewDetachedFromWindow(@NonNull InstructionViewHolder holder) {
     super.onViewDetachedFromWindow(holder);
@@ -45,8 +55,8 @@ public class InstructionListAdapter extends RecyclerView.Adapter<InstructionView
 
   public void updateBannerListWith(RouteProgress routeProgress, boolean isListShowing) {
     boolean didUpdate = presenter.updateBannerListWith(routeProgress);
-    if (didUpdate && isListShowing) {
-      notifyDataSetChanged();
+    if (didUpdate) {
+      presenter.dispatchUpdatesTo(isListShowing ? listUpdateCallback : null);
     }
   }
 
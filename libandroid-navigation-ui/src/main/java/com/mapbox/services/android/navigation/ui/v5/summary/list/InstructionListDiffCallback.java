@@ -0,0 +1,37 @@
+package com.mapbox.services.android.navigation.ui.v5.summary.list;
+
+import androidx.recyclerview.widget.DiffUtil;
+
+import java.util.List;
+
+class InstructionListDiffCallback extends DiffUtil.Callback {
+
+  private final List<InstructionListItem> oldItems;
+  private final List<InstructionListItem> newItems;
+
+  InstructionListDiffCallback(List<InstructionListItem> oldItems, List<InstructionListItem> newItems) {
+    this.oldItems = oldItems;
+    this.newItems = newItems;
+  }
+
+  @Override
+  public int getOldListSize() {
+    return oldItems.size();
+  }
+
+  @Override
+  public int getNewListSize() {
+    return newItems.size();
+  }
+
+  @Override
+  public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+    return oldItems.get(oldItemPosition).retrieveId() == newItems.get(newItemPosition).retrieveId();
+  }
+
+  @Override
+  public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+    // A row id is only used for one banner instruction of one leg
+    return areItemsTheSame(oldItemPosition, newItemPosition);
+  }
+}
@@ -0,0 +1,28 @@
+package com.mapbox.services.android.navigation.ui.v5.summary.list;
+
+import com.mapbox.api.directions.v5.models.BannerInstructions;
+
+/**
+ * A row of the instruction list, built once per leg.
+ * <p>
+ * The id stays the same while the row is in the list, so that removing the passed
+ * instructions only removes their rows.
+ */
+class InstructionListItem {
+
+  private final long id;
+  private final BannerInstructions bannerInstructions;
+
+  InstructionListItem(long id, BannerInstructions bannerInstructions) {
+    this.id = id;
+    this.bannerInstructions = bannerInstructions;
+  }
+
+  long retrieveId() {
+    return id;
+  }
+
+  BannerInstructions retrieveBannerInstructions() {
+    return bannerInstructions;
+  }
+}
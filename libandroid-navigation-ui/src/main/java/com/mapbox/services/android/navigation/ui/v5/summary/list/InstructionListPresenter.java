@@ -5,10 +5,15 @@ import android.view.View;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.core.util.ObjectsCompat;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListUpdateCallback;
 
 import com.mapbox.api.directions.v5.models.BannerInstructions;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteIdentity;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
@@ -16,7 +21,9 @@ import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 class InstructionListPresenter {
 
@@ -25,25 +32,35 @@ class InstructionListPresenter {
   private static final float TWO_LINE_BIAS = 0.65f;
   private static final float ONE_LINE_BIAS = 0.5f;
   private static final int FIRST_INSTRUCTION_INDEX = 0;
+  private static final int MAX_DISTANCE_TEXTS = 256;
+  private final Map<Long, SpannableString> distanceTexts = new HashMap<>();
   private DistanceFormatter distanceFormatter;
-  private List<BannerInstructions> instructions;
+  private List<InstructionListItem> items;
+  private List<InstructionListItem> dispatchedItems;
   private RouteLeg currentLeg;
+  private DirectionsRoute currentRoute;
+  private Integer currentLegIndex;
+  private int legCount;
   private String drivingSide;
 
   InstructionListPresenter(DistanceFormatter distanceFormatter) {
     this.distanceFormatter = distanceFormatter;
-    instructions = new ArrayList<>();
+    items = new ArrayList<>();
+    dispatchedItems = new ArrayList<>();
   }
 
   void onBindInstructionListViewAtPosition(int position, @NonNull InstructionListView listView) {
-    BannerInstructions bannerInstructions = instructions.get(position);
-    double distance = bannerInstructions.distanceAlongGeometry();
-    SpannableString distanceText = distanceFormatter.formatDistance(distance);
+    BannerInstructions bannerInstructions = items.get(position).retrieveBannerInstructions();
+    SpannableString distanceText = retrieveDistanceText(bannerInstructions.distanceAlongGeometry());
     updateListView(listView, bannerInstructions, distanceText);
   }
 
   int retrieveBannerInstructionListSize() {
-    return instructions.size();
+    return items.size();
+  }
+
+  long retrieveBannerInstructionIdAtPosition(int position) {
+    return items.get(position).retrieveId();
   }
 
   boolean updateBannerListWith(RouteProgress routeProgress) {
@@ -51,10 +68,42 @@ class InstructionListPresenter {
     return updateInstructionList(routeProgress);
   }
 
+  /**
+   * Dispatches the rows inserted and removed since the last dispatch.
+   *
+   * @param callback to notify, null if the list isn't showing and is notified as a whole once shown
+   */
+  void dispatchUpdatesTo(@Nullable ListUpdateCallback callback) {
+    List<InstructionListItem> previousItems = dispatchedItems;
+    dispatchedItems = new ArrayList<>(items);
+    if (callback != null) {
+      DiffUtil.calculateDiff(new InstructionListDiffCallback(previousItems, dispatchedItems), false)
+        .dispatchUpdatesTo(callback);
+    }
+  }
+
   void updateDistanceFormatter(DistanceFormatter distanceFormatter) {
     if (shouldUpdate(distanceFormatter)) {
       this.distanceFormatter = distanceFormatter;
+      distanceTexts.clear();
+    }
+  }
+
+  /**
+   * The distances are formatted once per meter, a row bound again or a banner instruction
+   * at the same distance reuses the text.
+   */
+  private SpannableString retrieveDistanceText(double distance) {
+    long bucket = Math.round(distance);
+    SpannableString distanceText = distanceTexts.get(bucket);
+    if (distanceText == null) {
+      if (distanceTexts.size() >= MAX_DISTANCE_TEXTS) {
+        distanceTexts.clear();
+      }
+      distanceText = distanceFormatter.formatDistance(distance);
+      distanceTexts.put(bucket, distanceText);
     }
+    return distanceText;
   }
 
   private boolean shouldUpdate(DistanceFormatter distanceFormatter) {
@@ -113,25 +162,44 @@ class InstructionListPresenter {
 
   private void addBannerInstructions(RouteProgress routeProgress) {
     if (isNewLeg(routeProgress)) {
-      instructions = new ArrayList<>();
+      items = new ArrayList<>();
       currentLeg = routeProgress.currentLeg();
+      currentRoute = routeProgress.directionsRoute();
+      currentLegIndex = routeProgress.legIndex();
       drivingSide = routeProgress.currentLegProgress().currentStep().drivingSide();
+      long legId = (long) legCount++ << Integer.SIZE;
       List<LegStep> steps = currentLeg.steps();
       for (LegStep step : steps) {
         List<BannerInstructions> bannerInstructions = step.bannerInstructions();
-        if (bannerInstructions != null && !bannerInstructions.isEmpty()) {
-          instructions.addAll(bannerInstructions);
+        if (bannerInstructions != null) {
+          for (BannerInstructions instructions : bannerInstructions) {
+            items.add(new InstructionListItem(legId | items.size(), instructions));
+          }
         }
       }
     }
   }
 
   private boolean isNewLeg(RouteProgress routeProgress) {
-    return currentLeg == null || !currentLeg.equals(routeProgress.currentLeg());
+    return currentLeg == null
+      || !isCurrentRoute(routeProgress.directionsRoute())
+      || !ObjectsCompat.equals(currentLegIndex, routeProgress.legIndex());
+  }
+
+  private boolean isCurrentRoute(DirectionsRoute route) {
+    if (route == currentRoute) {
+      return true;
+    }
+    if (RouteIdentity.isSameRoute(currentRoute, route)) {
+      // compared by reference from now on
+      currentRoute = route;
+      return true;
+    }
+    return false;
   }
 
   private boolean updateInstructionList(RouteProgress routeProgress) {
-    if (instructions.isEmpty()) {
+    if (items.isEmpty()) {
       return false;
     }
     RouteLegProgress legProgress = routeProgress.currentLegProgress();
@@ -140,19 +208,32 @@ class InstructionListPresenter {
     BannerInstructions currentBannerInstructions = findCurrentBannerInstructions(
       currentStep, stepDistanceRemaining
     );
-    if (!instructions.contains(currentBannerInstructions)) {
+    int currentInstructionIndex = indexOf(currentBannerInstructions);
+    if (currentInstructionIndex < 0) {
       return false;
     }
-    int currentInstructionIndex = instructions.indexOf(currentBannerInstructions);
     return removeInstructionsFrom(currentInstructionIndex);
   }
 
+  private int indexOf(@Nullable BannerInstructions bannerInstructions) {
+    if (bannerInstructions == null) {
+      return -1;
+    }
+    for (int i = 0; i < items.size(); i++) {
+      BannerInstructions itemInstructions = items.get(i).retrieveBannerInstructions();
+      if (itemInstructions == bannerInstructions || itemInstructions.equals(bannerInstructions)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
   private boolean removeInstructionsFrom(int currentInstructionIndex) {
     if (currentInstructionIndex == FIRST_INSTRUCTION_INDEX) {
-      instructions.remove(FIRST_INSTRUCTION_INDEX);
+      items.remove(FIRST_INSTRUCTION_INDEX);
       return true;
-    } else if (currentInstructionIndex <= instructions.size()) {
-      instructions.subList(FIRST_INSTRUCTION_INDEX, currentInstructionIndex).clear();
+    } else if (currentInstructionIndex <= items.size()) {
+      items.subList(FIRST_INSTRUCTION_INDEX, currentInstructionIndex).clear();
       return true;
     }
     return false;
@@ -5,9 +5,14 @@ import android.os.Build;
 import android.speech.tts.TextToSpeech;
 import android.text.TextUtils;
 
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.api.directions.v5.models.VoiceInstructions;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 
 import timber.log.Timber;
@@ -22,8 +27,10 @@ import timber.log.Timber;
 class AndroidSpeechPlayer implements SpeechPlayer {
 
   private static final String DEFAULT_UTTERANCE_ID = "default_id";
+  private static final long SYNTHESIZED_SPEECH_CACHE_SIZE = 10 * 1024 * 1024;
 
   private TextToSpeech textToSpeech;
+  private SpeechSynthesizer speechSynthesizer;
   private SpeechListener speechListener;
 
   private boolean isMuted;
@@ -49,6 +56,32 @@ class AndroidSpeechPlayer implements SpeechPlayer {
         initializeWithLanguage(new Locale(language));
       }
     });
+    SynthesizedSpeechCache cache = new SynthesizedSpeechCache(context.getCacheDir(), SYNTHESIZED_SPEECH_CACHE_SIZE);
+    speechSynthesizer = new SpeechSynthesizer(textToSpeech, cache);
+  }
+
+  /**
+   * Synthesizes the route announcements ahead of time, a few at a time as they get closer,
+   * so that they're played back without synthesis delay.
+   *
+   * @param route with the announcements to be synthesized
+   */
+  void preSynthesize(DirectionsRoute route) {
+    List<String> announcements = new ArrayList<>();
+    for (RouteLeg leg : route.legs()) {
+      for (LegStep step : leg.steps()) {
+        List<VoiceInstructions> voiceInstructions = step.voiceInstructions();
+        if (voiceInstructions == null) {
+          continue;
+        }
+        for (VoiceInstructions voiceInstruction : voiceInstructions) {
+          if (!TextUtils.isEmpty(voiceInstruction.announcement())) {
+            announcements.add(voiceInstruction.announcement());
+          }
+        }
+      }
+    }
+    speechSynthesizer.preSynthesize(announcements);
   }
 
   /**
@@ -69,7 +102,13 @@ class AndroidSpeechPlayer implements SpeechPlayer {
 
     HashMap<String, String> params = new HashMap<>(1);
     params.put(TextToSpeech.Engine.KEY_PARAM_UTTERANCE_ID, DEFAULT_UTTERANCE_ID);
-    textToSpeech.speak(speechAnnouncement.announcement(), TextToSpeech.QUEUE_ADD, params);
+    speechSynthesizer.onAnnouncementQueued();
+    String earcon = speechSynthesizer.retrieveEarcon(speechAnnouncement.announcement());
+    if (earcon != null) {
+      textToSpeech.playEarcon(earcon, TextToSpeech.QUEUE_ADD, params);
+    } else {
+      textToSpeech.speak(speechAnnouncement.announcement(), TextToSpeech.QUEUE_ADD, params);
+    }
   }
 
   /**
@@ -110,6 +149,7 @@ class AndroidSpeechPlayer implements SpeechPlayer {
   @Override
   public void onDestroy() {
     if (textToSpeech != null) {
+      speechSynthesizer.shutdown();
       textToSpeech.stop();
       textToSpeech.shutdown();
     }
@@ -118,6 +158,7 @@ class AndroidSpeechPlayer implements SpeechPlayer {
   private void muteTts() {
     if (textToSpeech.isSpeaking()) {
       textToSpeech.stop();
+      speechSynthesizer.onStopped();
     }
   }
 
@@ -129,6 +170,7 @@ class AndroidSpeechPlayer implements SpeechPlayer {
     }
     languageSupported = true;
     textToSpeech.setLanguage(language);
+    speechSynthesizer.setLocale(language);
   }
 
   private void fireInstructionListenerIfApi14() {
@@ -141,9 +183,9 @@ class AndroidSpeechPlayer implements SpeechPlayer {
     this.speechListener = speechListener;
 
     if (Build.VERSION.SDK_INT < Build.VERSION_CODES.ICE_CREAM_SANDWICH_MR1) {
-      textToSpeech.setOnUtteranceCompletedListener(new Api14UtteranceListener(speechListener));
+      textToSpeech.setOnUtteranceCompletedListener(new Api14UtteranceListener(speechListener, speechSynthesizer));
     } else {
-      textToSpeech.setOnUtteranceProgressListener(new UtteranceListener(speechListener));
+      textToSpeech.setOnUtteranceProgressListener(new UtteranceListener(speechListener, speechSynthesizer));
     }
   }
 }
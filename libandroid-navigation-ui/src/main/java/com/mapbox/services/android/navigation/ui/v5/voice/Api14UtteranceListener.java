@@ -4,13 +4,20 @@ import android.speech.tts.TextToSpeech;
 
 class Api14UtteranceListener implements TextToSpeech.OnUtteranceCompletedListener {
   private SpeechListener speechListener;
+  private SpeechSynthesizer speechSynthesizer;
 
-  Api14UtteranceListener(SpeechListener speechListener) {
+  Api14UtteranceListener(SpeechListener speechListener, SpeechSynthesizer speechSynthesizer) {
     this.speechListener = speechListener;
+    this.speechSynthesizer = speechSynthesizer;
   }
 
   @Override
   public void onUtteranceCompleted(String utteranceId) {
+    if (speechSynthesizer.isSynthesis(utteranceId)) {
+      speechSynthesizer.onSynthesized(utteranceId, true);
+      return;
+    }
+    speechSynthesizer.onAnnouncementDone();
     speechListener.onDone();
   }
-}
\ No newline at end of file
+}
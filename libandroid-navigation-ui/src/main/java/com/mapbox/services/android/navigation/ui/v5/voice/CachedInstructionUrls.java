@@ -0,0 +1,80 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Urls of the instructions available in the HTTP cache, keyed by announcement id and kept in
+ * least recently used order.
+ * <p>
+ * The same announcement repeated along a route has the same url, so urls are counted and only
+ * moved to a pending set once no announcement needs them anymore, because they were passed or pushed
+ * out as the map is full. The HTTP cache can then be cleaned in a single pass.
+ */
+class CachedInstructionUrls {
+
+  private final Map<Integer, String> urls;
+  private final Map<String, Integer> urlCounts = new HashMap<>();
+  private final Set<String> urlsToEvict = new HashSet<>();
+
+  CachedInstructionUrls(final int maxSize) {
+    this.urls = new LinkedHashMap<Integer, String>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+        if (size() > maxSize) {
+          release(eldest.getValue());
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  void put(int announcementId, String url) {
+    String previousUrl = urls.get(announcementId);
+    if (url.equals(previousUrl)) {
+      return;
+    }
+    if (previousUrl != null) {
+      release(previousUrl);
+    }
+    Integer count = urlCounts.get(url);
+    urlCounts.put(url, count == null ? 1 : count + 1);
+    urlsToEvict.remove(url);
+    urls.put(announcementId, url);
+  }
+
+  void markAsPassed(int announcementId) {
+    String url = urls.remove(announcementId);
+    if (url != null) {
+      release(url);
+    }
+  }
+
+  boolean isEmpty() {
+    return urls.isEmpty();
+  }
+
+  Set<String> urlsToEvict() {
+    return urlsToEvict;
+  }
+
+  void clear() {
+    urls.clear();
+    urlCounts.clear();
+    urlsToEvict.clear();
+  }
+
+  private void release(String url) {
+    Integer count = urlCounts.get(url);
+    if (count == null || count <= 1) {
+      urlCounts.remove(url);
+      urlsToEvict.add(url);
+    } else {
+      urlCounts.put(url, count - 1);
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.mapbox.services.android.navigation.ui.v5.voice;
 
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import okhttp3.ResponseBody;
 import retrofit2.Call;
@@ -12,22 +13,33 @@ import timber.log.Timber;
 class InstructionCacheCallback implements Callback<ResponseBody> {
 
   private final VoiceInstructionLoader loader;
+  private final int announcementId;
+  private final String instruction;
+  @Nullable
+  private final InstructionCacheListener listener;
 
-  InstructionCacheCallback(VoiceInstructionLoader loader) {
+  InstructionCacheCallback(VoiceInstructionLoader loader, int announcementId, String instruction,
+                           @Nullable InstructionCacheListener listener) {
     this.loader = loader;
+    this.announcementId = announcementId;
+    this.instruction = instruction;
+    this.listener = listener;
   }
 
   @Override
   public void onResponse(@NonNull Call<ResponseBody> call, @NonNull Response<ResponseBody> response) {
-    if (closeResponseBody(response)) {
+    boolean isCached = closeResponseBody(response);
+    if (isCached) {
       String url = call.request().url().toString();
-      loader.addCachedUrl(url);
+      loader.addCachedUrl(announcementId, url);
     }
+    notifyListener(isCached);
   }
 
   @Override
   public void onFailure(@NonNull Call<ResponseBody> call, @NonNull Throwable throwable) {
     Timber.e(throwable, "onFailure cache instruction");
+    notifyListener(false);
   }
 
   private boolean closeResponseBody(@NonNull Response<ResponseBody> response) {
@@ -39,4 +51,10 @@ class InstructionCacheCallback implements Callback<ResponseBody> {
     }
     return false;
   }
-}
\ No newline at end of file
+
+  private void notifyListener(boolean isCached) {
+    if (listener != null) {
+      listener.onInstructionCached(instruction, isCached);
+    }
+  }
+}
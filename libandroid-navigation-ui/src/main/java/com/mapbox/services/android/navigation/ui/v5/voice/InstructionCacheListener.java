@@ -0,0 +1,13 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+/**
+ * Notified once a request caching an instruction finished, successfully or not.
+ */
+public interface InstructionCacheListener {
+
+  /**
+   * @param instruction the SSML instruction that was requested
+   * @param isCached    true if the instruction is now available in the cache
+   */
+  void onInstructionCached(String instruction, boolean isCached);
+}
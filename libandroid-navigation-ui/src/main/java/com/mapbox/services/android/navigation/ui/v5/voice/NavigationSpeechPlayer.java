@@ -3,6 +3,7 @@ package com.mapbox.services.android.navigation.ui.v5.voice;
 import androidx.fragment.app.Fragment;
 import androidx.fragment.app.FragmentActivity;
 
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.VoiceInstructions;
 
 /**
@@ -36,6 +37,17 @@ public class NavigationSpeechPlayer implements SpeechPlayer {
     speechPlayerProvider.retrieveSpeechPlayer().play(speechAnnouncement);
   }
 
+  /**
+   * Synthesizes the announcements of the given route ahead of time with the on-device
+   * {@link android.speech.tts.TextToSpeech} engine, so that they're played without delay whenever
+   * falling back to the {@link AndroidSpeechPlayer}.
+   *
+   * @param route to be navigated
+   */
+  public void preSynthesize(DirectionsRoute route) {
+    speechPlayerProvider.preSynthesize(route);
+  }
+
   /**
    * Returns the current muted state of the player.
    *
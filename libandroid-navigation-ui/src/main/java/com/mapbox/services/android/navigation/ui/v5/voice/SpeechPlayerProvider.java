@@ -62,6 +62,16 @@ public class SpeechPlayerProvider {
     }
   }
 
+  /**
+   * Pre-synthesizes the announcements of the route only while {@link AndroidSpeechPlayer} is the one
+   * playing them, because the Mapbox Voice API isn't supported or can't be reached.
+   */
+  void preSynthesize(DirectionsRoute route) {
+    if (retrieveSpeechPlayer() == androidSpeechPlayer) {
+      androidSpeechPlayer.preSynthesize(route);
+    }
+  }
+
   AndroidSpeechPlayer retrieveAndroidSpeechPlayer() {
     return androidSpeechPlayer;
   }
@@ -0,0 +1,234 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.Looper;
+import android.speech.tts.TextToSpeech;
+
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Synthesizes the upcoming announcements to files ahead of time, so that {@link AndroidSpeechPlayer}
+ * only has to play them back when they're announced.
+ * <p>
+ * Only one synthesis is queued at a time, only a few announcements ahead of the last one played,
+ * and only while nothing is being announced. A synthesis in progress is cancelled as soon as an
+ * announcement is queued, so that announcements never wait behind it in the {@link TextToSpeech} queue.
+ */
+class SpeechSynthesizer {
+
+  private static final String UTTERANCE_ID_PREFIX = "synthesis_";
+  private static final char UTTERANCE_ID_SEPARATOR = '#';
+  private static final String EARCON_PREFIX = "[synthesized:";
+  private static final String EARCON_POSTFIX = "]";
+  private static final int ANNOUNCEMENTS_TO_SYNTHESIZE_AHEAD = 5;
+  private final TextToSpeech textToSpeech;
+  private final SynthesizedSpeechCache cache;
+  private final Handler mainHandler;
+  private final List<String> announcements = new ArrayList<>();
+  private Locale locale;
+  private int nextToSynthesize = 0;
+  private int lastAnnounced = -1;
+  private int pendingAnnouncements = 0;
+  private int synthesisCount = 0;
+  private int synthesizingIndex;
+  private String synthesizingUtteranceId;
+  private boolean isShutdown = false;
+
+  SpeechSynthesizer(TextToSpeech textToSpeech, final SynthesizedSpeechCache cache) {
+    this(textToSpeech, cache, new Handler(Looper.getMainLooper()));
+    AsyncTask.THREAD_POOL_EXECUTOR.execute(new Runnable() {
+      @Override
+      public void run() {
+        cache.load();
+        onCacheLoaded();
+      }
+    });
+  }
+
+  SpeechSynthesizer(TextToSpeech textToSpeech, SynthesizedSpeechCache cache, Handler mainHandler) {
+    this.textToSpeech = textToSpeech;
+    this.cache = cache;
+    this.mainHandler = mainHandler;
+  }
+
+  /**
+   * To be called once the {@link TextToSpeech} engine is ready for the given locale.
+   */
+  void setLocale(Locale locale) {
+    this.locale = locale;
+    synthesizeNext();
+  }
+
+  void preSynthesize(List<String> announcements) {
+    cancelSynthesis();
+    this.announcements.clear();
+    this.announcements.addAll(announcements);
+    nextToSynthesize = 0;
+    lastAnnounced = -1;
+    synthesizeNext();
+  }
+
+  /**
+   * To be called before an announcement is queued, cancels the synthesis in progress if any
+   * and pauses synthesis until the announcement is done.
+   */
+  void onAnnouncementQueued() {
+    pendingAnnouncements++;
+    cancelSynthesis();
+  }
+
+  /**
+   * Called from the {@link TextToSpeech} binder thread once an announcement finished, successfully or not.
+   */
+  void onAnnouncementDone() {
+    mainHandler.post(new Runnable() {
+      @Override
+      public void run() {
+        if (isShutdown) {
+          return;
+        }
+        pendingAnnouncements = Math.max(0, pendingAnnouncements - 1);
+        synthesizeNext();
+      }
+    });
+  }
+
+  /**
+   * To be called once the {@link TextToSpeech} queue has been stopped, which drops the announcements
+   * and the synthesis in progress without always notifying their listener.
+   */
+  void onStopped() {
+    pendingAnnouncements = 0;
+    cancelSynthesis();
+    synthesizeNext();
+  }
+
+  /**
+   * To be called before the {@link TextToSpeech} engine is shut down, drops the announcements left
+   * to synthesize and ignores the callbacks still posted.
+   */
+  void shutdown() {
+    isShutdown = true;
+    announcements.clear();
+    synthesizingUtteranceId = null;
+    mainHandler.removeCallbacksAndMessages(null);
+  }
+
+  /**
+   * @return the earcon playing the synthesized announcement, null if it isn't synthesized yet
+   */
+  @Nullable
+  String retrieveEarcon(String announcement) {
+    updateLastAnnounced(announcement);
+    synthesizeNext();
+    if (locale == null) {
+      return null;
+    }
+    String key = SynthesizedSpeechCache.keyFor(announcement, locale);
+    File file = cache.get(key);
+    if (file == null) {
+      return null;
+    }
+    String earcon = EARCON_PREFIX + key + EARCON_POSTFIX;
+    textToSpeech.addEarcon(earcon, file.getAbsolutePath());
+    return earcon;
+  }
+
+  boolean isSynthesis(String utteranceId) {
+    return utteranceId != null && utteranceId.startsWith(UTTERANCE_ID_PREFIX);
+  }
+
+  /**
+   * Called from the {@link TextToSpeech} binder thread once a synthesis finished, was stopped or failed.
+   */
+  void onSynthesized(final String utteranceId, final boolean isSuccessful) {
+    mainHandler.post(new Runnable() {
+      @Override
+      public void run() {
+        if (isShutdown || !utteranceId.equals(synthesizingUtteranceId)) {
+          // cancelled synthesis, already cleaned up
+          return;
+        }
+        String key = keyOf(utteranceId);
+        if (isSuccessful) {
+          cache.put(key);
+        } else {
+          cache.fileFor(key).delete();
+        }
+        synthesizingUtteranceId = null;
+        synthesizeNext();
+      }
+    });
+  }
+
+  private void onCacheLoaded() {
+    mainHandler.post(new Runnable() {
+      @Override
+      public void run() {
+        synthesizeNext();
+      }
+    });
+  }
+
+  private void updateLastAnnounced(String announcement) {
+    int end = Math.min(announcements.size(), lastAnnounced + 1 + ANNOUNCEMENTS_TO_SYNTHESIZE_AHEAD);
+    for (int i = lastAnnounced + 1; i < end; i++) {
+      if (announcements.get(i).equals(announcement)) {
+        lastAnnounced = i;
+        return;
+      }
+    }
+  }
+
+  private void synthesizeNext() {
+    boolean canSynthesize = !isShutdown && locale != null && cache.isLoaded() && pendingAnnouncements == 0;
+    if (!canSynthesize || synthesizingUtteranceId != null) {
+      return;
+    }
+    nextToSynthesize = Math.max(nextToSynthesize, lastAnnounced + 1);
+    while (nextToSynthesize < announcements.size()
+      && nextToSynthesize <= lastAnnounced + ANNOUNCEMENTS_TO_SYNTHESIZE_AHEAD) {
+      int index = nextToSynthesize++;
+      String announcement = announcements.get(index);
+      String key = SynthesizedSpeechCache.keyFor(announcement, locale);
+      if (cache.get(key) == null && synthesize(announcement, key)) {
+        synthesizingIndex = index;
+        return;
+      }
+    }
+  }
+
+  private boolean synthesize(String announcement, String key) {
+    String utteranceId = UTTERANCE_ID_PREFIX + key + UTTERANCE_ID_SEPARATOR + synthesisCount++;
+    HashMap<String, String> params = new HashMap<>(1);
+    params.put(TextToSpeech.Engine.KEY_PARAM_UTTERANCE_ID, utteranceId);
+    String path = cache.fileFor(key).getAbsolutePath();
+    if (textToSpeech.synthesizeToFile(announcement, params, path) != TextToSpeech.SUCCESS) {
+      return false;
+    }
+    synthesizingUtteranceId = utteranceId;
+    return true;
+  }
+
+  private void cancelSynthesis() {
+    if (synthesizingUtteranceId == null) {
+      return;
+    }
+    textToSpeech.stop();
+    cache.fileFor(keyOf(synthesizingUtteranceId)).delete();
+    synthesizingUtteranceId = null;
+    // synthesized again once the announcements are done
+    nextToSynthesize = Math.min(nextToSynthesize, synthesizingIndex);
+  }
+
+  private String keyOf(String utteranceId) {
+    return utteranceId.substring(UTTERANCE_ID_PREFIX.length(), utteranceId.lastIndexOf(UTTERANCE_ID_SEPARATOR));
+  }
+}
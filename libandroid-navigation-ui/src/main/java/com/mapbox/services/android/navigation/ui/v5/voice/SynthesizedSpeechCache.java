@@ -0,0 +1,124 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Disk cache of the announcements synthesized by {@link android.speech.tts.TextToSpeech}, keyed by
+ * text and locale, and bounded in size.
+ * <p>
+ * Files are kept in least recently used order, which survives restarts through their last modified time.
+ * The files of previous sessions are only known once {@link #load()} ran, off the main thread.
+ */
+class SynthesizedSpeechCache {
+
+  private static final String SYNTHESIZED_SPEECH_CACHE = "mapbox_synthesized_speech_cache";
+  private static final String WAV_POSTFIX = ".wav";
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  private final File directory;
+  private final long maxSize;
+  private final Map<String, File> files = new LinkedHashMap<>(16, 0.75f, true);
+  private long size = 0;
+  private boolean isLoaded = false;
+
+  SynthesizedSpeechCache(File cacheDirectory, long maxSize) {
+    this.directory = new File(cacheDirectory, SYNTHESIZED_SPEECH_CACHE);
+    this.maxSize = maxSize;
+  }
+
+  static String keyFor(String text, Locale locale) {
+    byte[] bytes = (locale.toString() + '\n' + text).getBytes(UTF_8);
+    return UUID.nameUUIDFromBytes(bytes).toString();
+  }
+
+  File fileFor(String key) {
+    return new File(directory, key + WAV_POSTFIX);
+  }
+
+  @Nullable
+  synchronized File get(String key) {
+    File file = files.get(key);
+    if (file != null) {
+      file.setLastModified(System.currentTimeMillis());
+    }
+    return file;
+  }
+
+  synchronized void put(String key) {
+    File file = fileFor(key);
+    if (!file.exists() || files.containsKey(key)) {
+      return;
+    }
+    files.put(key, file);
+    size += file.length();
+    trimToSize();
+  }
+
+  synchronized long size() {
+    return size;
+  }
+
+  /**
+   * Reads the files synthesized in previous sessions, to be called once and off the main thread.
+   */
+  void load() {
+    directory.mkdirs();
+    File[] cachedFiles = directory.listFiles();
+    if (cachedFiles == null) {
+      cachedFiles = new File[0];
+    }
+    Arrays.sort(cachedFiles, new Comparator<File>() {
+      @Override
+      public int compare(File first, File second) {
+        long difference = first.lastModified() - second.lastModified();
+        return difference < 0 ? -1 : (difference > 0 ? 1 : 0);
+      }
+    });
+    Map<String, File> loadedFiles = new LinkedHashMap<>(16, 0.75f, true);
+    for (File file : cachedFiles) {
+      String name = file.getName();
+      if (name.endsWith(WAV_POSTFIX)) {
+        loadedFiles.put(name.substring(0, name.length() - WAV_POSTFIX.length()), file);
+      } else {
+        file.delete();
+      }
+    }
+    synchronized (this) {
+      // files put meanwhile are the most recently used ones
+      loadedFiles.keySet().removeAll(files.keySet());
+      loadedFiles.putAll(files);
+      files.clear();
+      files.putAll(loadedFiles);
+      size = 0;
+      for (File file : files.values()) {
+        size += file.length();
+      }
+      isLoaded = true;
+      trimToSize();
+    }
+  }
+
+  synchronized boolean isLoaded() {
+    return isLoaded;
+  }
+
+  private void trimToSize() {
+    Iterator<File> leastRecentlyUsed = files.values().iterator();
+    // the most recent file is kept, even if alone over the budget
+    while (size > maxSize && files.size() > 1) {
+      File file = leastRecentlyUsed.next();
+      size -= file.length();
+      file.delete();
+      leastRecentlyUsed.remove();
+    }
+  }
+}
@@ -8,23 +8,46 @@ import androidx.annotation.RequiresApi;
 @RequiresApi(api = Build.VERSION_CODES.ICE_CREAM_SANDWICH_MR1)
 class UtteranceListener extends UtteranceProgressListener {
   private SpeechListener speechListener;
+  private SpeechSynthesizer speechSynthesizer;
 
-  UtteranceListener(SpeechListener speechListener) {
+  UtteranceListener(SpeechListener speechListener, SpeechSynthesizer speechSynthesizer) {
     this.speechListener = speechListener;
+    this.speechSynthesizer = speechSynthesizer;
   }
 
   @Override
   public void onStart(String utteranceId) {
+    if (speechSynthesizer.isSynthesis(utteranceId)) {
+      return;
+    }
     speechListener.onStart();
   }
 
   @Override
   public void onDone(String utteranceId) {
+    if (speechSynthesizer.isSynthesis(utteranceId)) {
+      speechSynthesizer.onSynthesized(utteranceId, true);
+      return;
+    }
+    speechSynthesizer.onAnnouncementDone();
     speechListener.onDone();
   }
 
   @Override
   public void onError(String utteranceId) {
-    // Intentionally empty
+    onInterrupted(utteranceId);
   }
-}
\ No newline at end of file
+
+  @Override
+  public void onStop(String utteranceId, boolean interrupted) {
+    onInterrupted(utteranceId);
+  }
+
+  private void onInterrupted(String utteranceId) {
+    if (speechSynthesizer.isSynthesis(utteranceId)) {
+      speechSynthesizer.onSynthesized(utteranceId, false);
+    } else {
+      speechSynthesizer.onAnnouncementDone();
+    }
+  }
+}
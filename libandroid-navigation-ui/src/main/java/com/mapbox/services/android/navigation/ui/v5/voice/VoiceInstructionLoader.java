@@ -9,6 +9,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import okhttp3.Cache;
@@ -21,20 +22,21 @@ import retrofit2.Callback;
 import timber.log.Timber;
 
 public class VoiceInstructionLoader {
-  private static final int VOICE_INSTRUCTIONS_TO_EVICT_THRESHOLD = 4;
+  private static final int MAX_CACHED_INSTRUCTIONS = 100;
   private static final String SSML_TEXT_TYPE = "ssml";
   private final ConnectivityStatusProvider connectivityStatus;
   private final String accessToken;
-  private List<String> urlsCached;
+  private final CachedInstructionUrls urlsCached;
   private final Cache cache;
   private final Context context;
   private MapboxSpeech.Builder mapboxSpeechBuilder = null;
+  private int untrackedAnnouncementId = -1;
 
   public VoiceInstructionLoader(Context context, String accessToken, Cache cache) {
     this.connectivityStatus = new ConnectivityStatusProvider(context);
     this.accessToken = accessToken;
     this.context = context;
-    this.urlsCached = new ArrayList<>();
+    this.urlsCached = new CachedInstructionUrls(MAX_CACHED_INSTRUCTIONS);
     this.cache = cache;
   }
 
@@ -43,43 +45,77 @@ public class VoiceInstructionLoader {
                          ConnectivityStatusProvider connectivityStatus) {
     this.accessToken = accessToken;
     this.context = context;
-    this.urlsCached = new ArrayList<>();
+    this.urlsCached = new CachedInstructionUrls(MAX_CACHED_INSTRUCTIONS);
     this.cache = cache;
     this.mapboxSpeechBuilder = mapboxSpeechBuilder;
     this.connectivityStatus = connectivityStatus;
   }
 
+  /**
+   * Removes from the cache the instructions already passed, or least recently used once more than
+   * {@value #MAX_CACHED_INSTRUCTIONS} are cached, going through the cached urls only once.
+   *
+   * @return the evicted urls
+   */
   public List<String> evictVoiceInstructions() {
-    List<String> urlsToRemove = new ArrayList<>();
-    for (int i = 0; i < urlsCached.size() && i < VOICE_INSTRUCTIONS_TO_EVICT_THRESHOLD; i++) {
-      String urlToRemove = urlsCached.get(i);
-      try {
-        Iterator<String> urlsCurrentlyCached = cache.urls();
-        for (Iterator<String> urlCached = urlsCurrentlyCached; urlCached.hasNext(); ) {
-          String url = urlCached.next();
-          if (url.equals(urlToRemove)) {
-            urlCached.remove();
-            urlsToRemove.add(urlToRemove);
-            break;
-          }
+    Set<String> urlsToEvict = urlsCached.urlsToEvict();
+    List<String> urlsEvicted = new ArrayList<>(urlsToEvict.size());
+    if (urlsToEvict.isEmpty()) {
+      return urlsEvicted;
+    }
+    try {
+      for (Iterator<String> urlCached = cache.urls(); urlCached.hasNext(); ) {
+        String url = urlCached.next();
+        if (urlsToEvict.contains(url)) {
+          urlCached.remove();
+          urlsEvicted.add(url);
         }
-      } catch (IOException exception) {
-        exception.printStackTrace();
       }
+    } catch (IOException exception) {
+      Timber.e(exception);
     }
-    urlsCached.removeAll(urlsToRemove);
-    return urlsToRemove;
+    urlsToEvict.clear();
+    return urlsEvicted;
   }
 
-  public void cacheInstructions(List<String> instructions) {
-    for (String instruction : instructions) {
-      cacheInstruction(instruction);
+  /**
+   * Marks the announcement as passed, its instruction will be removed from the cache the next time
+   * {@link #evictVoiceInstructions()} is called, unless another announcement still needs it.
+   *
+   * @param announcementId of the announcement already announced
+   */
+  public void markAsPassed(int announcementId) {
+    urlsCached.markAsPassed(announcementId);
+  }
+
+  /**
+   * Requests the instruction so that it's available from the cache when announced.
+   *
+   * @param announcementId identifies the announcement along the route, the same instruction
+   *                       can be announced several times
+   * @param instruction    SSML instruction to cache
+   * @param listener       notified once the request finished
+   */
+  public void cacheInstruction(int announcementId, String instruction, InstructionCacheListener listener) {
+    InstructionCacheCallback callback = new InstructionCacheCallback(this, announcementId, instruction, listener);
+    if (!requestInstruction(instruction, SSML_TEXT_TYPE, callback) && listener != null) {
+      listener.onInstructionCached(instruction, false);
     }
   }
 
-  // Package private (no modifier) for testing purposes
-  void addStubUrlsToCache(List<String> urlsToCache) {
-    this.urlsCached = urlsToCache;
+  /**
+   * Requests the instructions so that they're available from the cache when announced.
+   *
+   * @param instructions SSML instructions to cache
+   * @deprecated instructions cached this way aren't tied to an announcement, so they can't be marked
+   * as passed and are only evicted once more than {@value #MAX_CACHED_INSTRUCTIONS} are cached.
+   * Use {@link #cacheInstruction(int, String, InstructionCacheListener)} instead.
+   */
+  @Deprecated
+  public void cacheInstructions(List<String> instructions) {
+    for (String instruction : instructions) {
+      cacheInstruction(untrackedAnnouncementId--, instruction, null);
+    }
   }
 
   void setupMapboxSpeechBuilder(String language) {
@@ -92,14 +128,16 @@ public class VoiceInstructionLoader {
     }
   }
 
-  void requestInstruction(String instruction, String textType, Callback<ResponseBody> callback) {
+  boolean requestInstruction(String instruction, String textType, Callback<ResponseBody> callback) {
     if (context != null && !cache.isClosed() && mapboxSpeechBuilder != null) {
       MapboxSpeech mapboxSpeech = mapboxSpeechBuilder
           .instruction(instruction)
           .textType(textType)
           .build();
       mapboxSpeech.enqueueCall(callback);
+      return true;
     }
+    return false;
   }
 
   boolean hasCache() {
@@ -107,6 +145,7 @@ public class VoiceInstructionLoader {
   }
 
   void flushCache() {
+    urlsCached.clear();
     try {
       cache.evictAll();
     } catch (IOException exception) {
@@ -114,12 +153,8 @@ public class VoiceInstructionLoader {
     }
   }
 
-  void addCachedUrl(String url) {
-    urlsCached.add(url);
-  }
-
-  private void cacheInstruction(String instruction) {
-    requestInstruction(instruction, SSML_TEXT_TYPE, new InstructionCacheCallback(this));
+  void addCachedUrl(int announcementId, String url) {
+    urlsCached.put(announcementId, url);
   }
 
   private Interceptor provideOfflineCacheInterceptor() {
@@ -5,122 +5,213 @@ import android.location.Location;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.RouteOptions;
 import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
 import com.mapbox.geojson.gson.GeometryGeoJson;
-import com.mapbox.mapboxsdk.offline.OfflineGeometryRegionDefinition;
 import com.mapbox.mapboxsdk.offline.OfflineManager;
+import com.mapbox.mapboxsdk.offline.OfflineRegion;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import org.junit.Test;
-import org.mockito.InOrder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.inOrder;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class MapOfflineManagerTest {
 
+  private static final String A_ROUTE_SUMMARY = "cjuykbm4705v26pnpvqlbjm5n";
+
   @Test
   public void checksDefaultMapConnectivityIsSetWhenDownloadingRouteBuffer() {
-    String aRouteSummary = "cjuykbm4705v26pnpvqlbjm5n";
     MapConnectivityController mockedMapConnectivityController = mock(MapConnectivityController.class);
-    MapOfflineManager theMapOfflineManager = buildMapOfflineManager(aRouteSummary, mockedMapConnectivityController);
-    Location mockedLocation = mock(Location.class);
-    Geometry aRouteBufferGeometry = buildARouteBufferGeometry();
-    RouteProgress mockedRouteProgress = buildMockRouteProgress(aRouteSummary, aRouteBufferGeometry);
+    MapOfflineManager theMapOfflineManager = buildMapOfflineManager(buildOfflineManagerWith(),
+      mockedMapConnectivityController, mock(RegionDownloadCallback.class));
     Boolean defaultState = null;
 
-    theMapOfflineManager.onProgressChange(mockedLocation, mockedRouteProgress);
+    theMapOfflineManager.onProgressChange(mock(Location.class), buildMockRouteProgress(buildARouteBufferGeometry()));
 
     verify(mockedMapConnectivityController).assign(eq(defaultState));
   }
 
   @Test
   public void checksCreateOfflineRegionIsCalledWhenDownloadingRouteBuffer() {
-    OfflineManager mockedOfflineManager = mock(OfflineManager.class);
-    OfflineRegionDefinitionProvider mockedOfflineRegionDefinitionProvider = mock(OfflineRegionDefinitionProvider.class);
-    String guidanceStyleUrl = "mapbox://styles/mapbox/navigation-guidance-day-v4";
-    float anyPixelRatio = 3.0f;
-    OfflineRegionDefinitionProvider anOfflineRegionDefinitionProvider =
-      new OfflineRegionDefinitionProvider(guidanceStyleUrl, anyPixelRatio);
+    OfflineManager mockedOfflineManager = buildOfflineManagerWith();
+    MapOfflineManager theMapOfflineManager = buildMapOfflineManager(mockedOfflineManager,
+      mock(MapConnectivityController.class), mock(RegionDownloadCallback.class));
+
+    theMapOfflineManager.onProgressChange(mock(Location.class), buildMockRouteProgress(buildARouteBufferGeometry()));
+
+    verify(mockedOfflineManager).createOfflineRegion(isNull(), any(byte[].class), any(CorridorRegionCallback.class));
+  }
+
+  @Test
+  public void checksCorridorBlocksAreDownloadedOneAfterTheOther() {
+    OfflineManager mockedOfflineManager = buildOfflineManagerWith();
+    RegionDownloadCallback mockedRegionDownloadCallback = mock(RegionDownloadCallback.class);
+    MapOfflineManager theMapOfflineManager = buildMapOfflineManager(mockedOfflineManager,
+      mock(MapConnectivityController.class), mockedRegionDownloadCallback);
     Geometry aRouteBufferGeometry = buildARouteBufferGeometry();
-    OfflineGeometryRegionDefinition routeBufferDefinition =
-      anOfflineRegionDefinitionProvider.buildRegionFor(aRouteBufferGeometry);
-    when(mockedOfflineRegionDefinitionProvider.buildRegionFor(eq(aRouteBufferGeometry))).thenReturn(routeBufferDefinition);
-    OfflineMetadataProvider mockedOfflineMetadataProvider = mock(OfflineMetadataProvider.class);
-    OfflineMetadataProvider anOfflineMetadataProvider = new OfflineMetadataProvider();
-    String aRouteSummary = "cjuykbm4705v26pnpvqlbjm5n";
-    byte[] routeSummaryMetadata = anOfflineMetadataProvider.buildMetadataFor(aRouteSummary);
-    when(mockedOfflineMetadataProvider.buildMetadataFor(eq(aRouteSummary))).thenReturn(routeSummaryMetadata);
-    MapConnectivityController mockedMapConnectivityController = mock(MapConnectivityController.class);
+    int blockCount = OfflineCorridor.groupByBlock(OfflineCorridor.cellsFor(aRouteBufferGeometry)).size();
+    ArgumentCaptor<CorridorRegionCallback> callbacks = ArgumentCaptor.forClass(CorridorRegionCallback.class);
+
+    theMapOfflineManager.onProgressChange(mock(Location.class), buildMockRouteProgress(aRouteBufferGeometry));
+    verify(mockedOfflineManager).createOfflineRegion(isNull(), any(byte[].class), callbacks.capture());
+    for (int downloaded = 1; downloaded < blockCount; downloaded++) {
+      callbacks.getValue().onComplete();
+      verify(mockedOfflineManager, times(downloaded + 1)).createOfflineRegion(isNull(), any(byte[].class),
+        callbacks.capture());
+    }
+    callbacks.getValue().onComplete();
+
+    verify(mockedRegionDownloadCallback).onComplete();
+  }
+
+  @Test
+  public void checksFailedCorridorBlockIsReportedOnceAllBlocksAreDownloaded() {
+    OfflineManager mockedOfflineManager = buildOfflineManagerWith();
     RegionDownloadCallback mockedRegionDownloadCallback = mock(RegionDownloadCallback.class);
-    MapOfflineManager theMapOfflineManager = new MapOfflineManager(mockedOfflineManager,
-      mockedOfflineRegionDefinitionProvider, mockedOfflineMetadataProvider, mockedMapConnectivityController,
-      mockedRegionDownloadCallback);
-    Location mockedLocation = mock(Location.class);
-    RouteProgress mockedRouteProgress = buildMockRouteProgress(aRouteSummary, aRouteBufferGeometry);
+    MapOfflineManager theMapOfflineManager = buildMapOfflineManager(mockedOfflineManager,
+      mock(MapConnectivityController.class), mockedRegionDownloadCallback);
+    Geometry aRouteBufferGeometry = buildARouteBufferGeometry();
+    int blockCount = OfflineCorridor.groupByBlock(OfflineCorridor.cellsFor(aRouteBufferGeometry)).size();
+    ArgumentCaptor<CorridorRegionCallback> callbacks = ArgumentCaptor.forClass(CorridorRegionCallback.class);
+    OfflineRegion aFailedRegion = mock(OfflineRegion.class);
 
-    theMapOfflineManager.onProgressChange(mockedLocation, mockedRouteProgress);
+    theMapOfflineManager.onProgressChange(mock(Location.class), buildMockRouteProgress(aRouteBufferGeometry));
+    verify(mockedOfflineManager).createOfflineRegion(isNull(), any(byte[].class), callbacks.capture());
+    callbacks.getValue().onCreate(aFailedRegion);
+    callbacks.getValue().onError("Offline map tile limit reached 6000");
+    for (int downloaded = 1; downloaded < blockCount; downloaded++) {
+      verify(mockedOfflineManager, times(downloaded + 1)).createOfflineRegion(isNull(), any(byte[].class),
+        callbacks.capture());
+      callbacks.getValue().onComplete();
+    }
 
-    verify(mockedOfflineManager).createOfflineRegion(eq(routeBufferDefinition), eq(routeSummaryMetadata),
-      any(CreateOfflineRegionCallback.class));
+    verify(aFailedRegion).delete(any(DeleteOfflineRegionCallback.class));
+    verify(mockedRegionDownloadCallback).onError(eq("Offline map tile limit reached 6000"));
+    verify(mockedRegionDownloadCallback, never()).onComplete();
   }
 
   @Test
-  public void checksDownloadIfPreviousRouteGeometryIsNotNullAndIsNotEqualToCurrentRouteGeometry() {
-    OfflineManager mockedOfflineManager = mock(OfflineManager.class);
-    OfflineRegionDefinitionProvider mockedOfflineRegionDefinitionProvider = mock(OfflineRegionDefinitionProvider.class);
-    String guidanceStyleUrl = "mapbox://styles/mapbox/navigation-guidance-day-v4";
-    float anyPixelRatio = 3.0f;
-    OfflineRegionDefinitionProvider anOfflineRegionDefinitionProvider =
-      new OfflineRegionDefinitionProvider(guidanceStyleUrl, anyPixelRatio);
-    OfflineMetadataProvider mockedOfflineMetadataProvider = mock(OfflineMetadataProvider.class);
-    OfflineMetadataProvider anOfflineMetadataProvider = new OfflineMetadataProvider();
-    String aRouteSummary = "cjuykbm4705v26pnpvqlbjm5n";
-    byte[] routeSummaryMetadata = anOfflineMetadataProvider.buildMetadataFor(aRouteSummary);
-    when(mockedOfflineMetadataProvider.buildMetadataFor(eq(aRouteSummary))).thenReturn(routeSummaryMetadata);
+  public void checksEvictedCorridorBlockStopsDownloading() {
+    OfflineManager mockedOfflineManager = buildOfflineManagerWith();
+    MapOfflineManager theMapOfflineManager = buildMapOfflineManager(mockedOfflineManager,
+      mock(MapConnectivityController.class), mock(RegionDownloadCallback.class));
+    ArgumentCaptor<CorridorRegionCallback> callbacks = ArgumentCaptor.forClass(CorridorRegionCallback.class);
+    OfflineRegion aDownloadingRegion = mock(OfflineRegion.class);
+    Geometry anotherRouteBufferGeometry = buildSquare(2.0, 2.0, 0.0025);
+
+    theMapOfflineManager.onProgressChange(mock(Location.class), buildMockRouteProgress(buildARouteBufferGeometry()));
+    verify(mockedOfflineManager).createOfflineRegion(isNull(), any(byte[].class), callbacks.capture());
+    callbacks.getValue().onCreate(aDownloadingRegion);
+    theMapOfflineManager.onProgressChange(mock(Location.class), buildMockRouteProgress(anotherRouteBufferGeometry));
+
+    verify(aDownloadingRegion).setDownloadState(eq(OfflineRegion.STATE_INACTIVE));
+    verify(aDownloadingRegion).delete(any(DeleteOfflineRegionCallback.class));
+    verify(mockedOfflineManager, times(2)).createOfflineRegion(isNull(), any(byte[].class),
+      any(CorridorRegionCallback.class));
+  }
+
+  @Test
+  public void checksRegionCreatedForEvictedCorridorBlockIsDeleted() {
+    OfflineManager mockedOfflineManager = buildOfflineManagerWith();
+    MapOfflineManager theMapOfflineManager = buildMapOfflineManager(mockedOfflineManager,
+      mock(MapConnectivityController.class), mock(RegionDownloadCallback.class));
+    ArgumentCaptor<CorridorRegionCallback> callbacks = ArgumentCaptor.forClass(CorridorRegionCallback.class);
+    OfflineRegion aLateRegion = mock(OfflineRegion.class);
+
+    theMapOfflineManager.onProgressChange(mock(Location.class), buildMockRouteProgress(buildARouteBufferGeometry()));
+    verify(mockedOfflineManager).createOfflineRegion(isNull(), any(byte[].class), callbacks.capture());
+    CorridorRegionCallback evictedCallback = callbacks.getValue();
+    theMapOfflineManager.onProgressChange(mock(Location.class),
+      buildMockRouteProgress(buildSquare(2.0, 2.0, 0.0025)));
+    evictedCallback.onCreate(aLateRegion);
+
+    verify(aLateRegion).delete(any(DeleteOfflineRegionCallback.class));
+    verify(aLateRegion, never()).setDownloadState(eq(OfflineRegion.STATE_ACTIVE));
+  }
+
+  @Test
+  public void checksStoredCorridorIsNotDownloadedAgain() {
+    Geometry aRouteBufferGeometry = buildARouteBufferGeometry();
+    OfflineManager mockedOfflineManager = buildOfflineManagerWith(buildStoredRegionsFor(aRouteBufferGeometry));
     MapConnectivityController mockedMapConnectivityController = mock(MapConnectivityController.class);
-    RegionDownloadCallback mockedRegionDownloadCallback = mock(RegionDownloadCallback.class);
+    MapOfflineManager theMapOfflineManager = buildMapOfflineManager(mockedOfflineManager,
+      mockedMapConnectivityController, mock(RegionDownloadCallback.class));
+
+    theMapOfflineManager.onProgressChange(mock(Location.class), buildMockRouteProgress(aRouteBufferGeometry));
+
+    verify(mockedOfflineManager, never()).createOfflineRegion(any(), any(byte[].class),
+      any(CorridorRegionCallback.class));
+    verify(mockedMapConnectivityController, never()).assign(any(Boolean.class));
+  }
+
+  @Test
+  public void checksOnlyMissingCorridorIsDownloadedWhenRouteBufferChanges() {
+    Geometry aStoredRouteBufferGeometry = buildARouteBufferGeometry();
+    OfflineManager mockedOfflineManager = buildOfflineManagerWith(buildStoredRegionsFor(aStoredRouteBufferGeometry));
+    OfflineRegionDefinitionProvider mockedOfflineRegionDefinitionProvider = mock(OfflineRegionDefinitionProvider.class);
     MapOfflineManager theMapOfflineManager = new MapOfflineManager(mockedOfflineManager,
-      mockedOfflineRegionDefinitionProvider, mockedOfflineMetadataProvider, mockedMapConnectivityController,
-      mockedRegionDownloadCallback);
-    Location mockedLocation = mock(Location.class);
-    Geometry aRouteBufferGeometry = buildARouteBufferGeometry();
-    RouteProgress mockedRouteProgress = buildMockRouteProgress(aRouteSummary, aRouteBufferGeometry);
-    Geometry anotherRouteBufferGeometry = buildAnotherRouteBufferGeometry();
-    when(mockedRouteProgress.routeGeometryWithBuffer()).thenReturn(aRouteBufferGeometry, anotherRouteBufferGeometry);
-    OfflineGeometryRegionDefinition aRouteBufferDefinition =
-      anOfflineRegionDefinitionProvider.buildRegionFor(aRouteBufferGeometry);
-    OfflineGeometryRegionDefinition anotherRouteBufferDefinition =
-      anOfflineRegionDefinitionProvider.buildRegionFor(anotherRouteBufferGeometry);
-    when(mockedOfflineRegionDefinitionProvider.buildRegionFor(any(Geometry.class)))
-      .thenReturn(aRouteBufferDefinition, anotherRouteBufferDefinition);
-    Boolean defaultState = null;
-    theMapOfflineManager.onProgressChange(mockedLocation, mockedRouteProgress);
+      mockedOfflineRegionDefinitionProvider, new OfflineMetadataProvider(), mock(MapConnectivityController.class),
+      mock(RegionDownloadCallback.class));
+    Geometry anExtendedRouteBufferGeometry = buildSquare(-77.1525, 39.0800, 0.0025);
+    ArgumentCaptor<Geometry> downloadedGeometry = ArgumentCaptor.forClass(Geometry.class);
+
+    theMapOfflineManager.onProgressChange(mock(Location.class), buildMockRouteProgress(aStoredRouteBufferGeometry));
+    theMapOfflineManager.onProgressChange(mock(Location.class), buildMockRouteProgress(anExtendedRouteBufferGeometry));
+
+    verify(mockedOfflineRegionDefinitionProvider).buildRegionFor(downloadedGeometry.capture());
+    assertCellsEqual(anExtendedRouteBufferGeometry, downloadedGeometry.getValue());
+  }
 
-    theMapOfflineManager.onProgressChange(mockedLocation, mockedRouteProgress);
+  @Test
+  public void checksStaleCorridorRegionsAreDeleted() {
+    OfflineRegion[] staleRegions = buildStoredRegionsFor(buildSquare(2.0, 2.0, 0.0025));
+    OfflineManager mockedOfflineManager = buildOfflineManagerWith(staleRegions);
+    MapOfflineManager theMapOfflineManager = buildMapOfflineManager(mockedOfflineManager,
+      mock(MapConnectivityController.class), mock(RegionDownloadCallback.class));
+
+    theMapOfflineManager.onProgressChange(mock(Location.class), buildMockRouteProgress(buildARouteBufferGeometry()));
+
+    verify(staleRegions[0]).delete(any(DeleteOfflineRegionCallback.class));
+  }
+
+  @Test
+  public void checksNonCorridorRegionsAreNotDeleted() {
+    OfflineRegion aMergedRegion = mock(OfflineRegion.class);
+    when(aMergedRegion.getMetadata()).thenReturn("{\"route_summary\":\"a summary\"}".getBytes());
+    OfflineManager mockedOfflineManager = buildOfflineManagerWith(aMergedRegion);
+    MapOfflineManager theMapOfflineManager = buildMapOfflineManager(mockedOfflineManager,
+      mock(MapConnectivityController.class), mock(RegionDownloadCallback.class));
+
+    theMapOfflineManager.onProgressChange(mock(Location.class), buildMockRouteProgress(buildARouteBufferGeometry()));
 
-    verify(mockedMapConnectivityController, times(2)).assign(eq(defaultState));
-    InOrder inOrder = inOrder(mockedOfflineManager, mockedOfflineManager);
-    inOrder.verify(mockedOfflineManager).createOfflineRegion(eq(aRouteBufferDefinition), eq(routeSummaryMetadata),
-      any(CreateOfflineRegionCallback.class));
-    inOrder.verify(mockedOfflineManager).createOfflineRegion(eq(anotherRouteBufferDefinition), eq(routeSummaryMetadata),
-      any(CreateOfflineRegionCallback.class));
+    verify(aMergedRegion, never()).delete(any(OfflineRegion.OfflineRegionDeleteCallback.class));
   }
 
   @Test
   public void checksMergeOfflineRegionsIsCalledWhenLoadDatabase() {
     OfflineManager mockedOfflineManager = mock(OfflineManager.class);
-    OfflineRegionDefinitionProvider mockedOfflineRegionDefinitionProvider = mock(OfflineRegionDefinitionProvider.class);
-    OfflineMetadataProvider mockedOfflineMetadataProvider = mock(OfflineMetadataProvider.class);
-    MapConnectivityController mockedMapConnectivityController = mock(MapConnectivityController.class);
-    RegionDownloadCallback mockedRegionDownloadCallback = mock(RegionDownloadCallback.class);
-    MapOfflineManager theMapOfflineManager = new MapOfflineManager(mockedOfflineManager,
-      mockedOfflineRegionDefinitionProvider, mockedOfflineMetadataProvider, mockedMapConnectivityController,
-      mockedRegionDownloadCallback);
+    MapOfflineManager theMapOfflineManager = buildMapOfflineManager(mockedOfflineManager,
+      mock(MapConnectivityController.class), mock(RegionDownloadCallback.class));
     String aDatabasePath = "a/database/path";
     OfflineDatabaseLoadedCallback mockedOfflineDatabaseLoadedCallback = mock(OfflineDatabaseLoadedCallback.class);
 
@@ -146,30 +237,65 @@ public class MapOfflineManagerTest {
     verify(mockedMergeOfflineRegionsCallback).onDestroy();
   }
 
-  private MapOfflineManager buildMapOfflineManager(String routeSummary,
-                                                   MapConnectivityController mapConnectivityController) {
-    OfflineManager mockedOfflineManager = mock(OfflineManager.class);
+  private MapOfflineManager buildMapOfflineManager(OfflineManager offlineManager,
+                                                   MapConnectivityController mapConnectivityController,
+                                                   RegionDownloadCallback regionDownloadCallback) {
     OfflineRegionDefinitionProvider mockedOfflineRegionDefinitionProvider = mock(OfflineRegionDefinitionProvider.class);
-    OfflineMetadataProvider mockedOfflineMetadataProvider = mock(OfflineMetadataProvider.class);
+    return new MapOfflineManager(offlineManager, mockedOfflineRegionDefinitionProvider,
+      new OfflineMetadataProvider(), mapConnectivityController, regionDownloadCallback);
+  }
+
+  private OfflineManager buildOfflineManagerWith(final OfflineRegion... storedRegions) {
+    OfflineManager mockedOfflineManager = mock(OfflineManager.class);
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        OfflineManager.ListOfflineRegionsCallback callback = invocation.getArgument(0);
+        callback.onList(storedRegions);
+        return null;
+      }
+    }).when(mockedOfflineManager).listOfflineRegions(any(OfflineManager.ListOfflineRegionsCallback.class));
+    return mockedOfflineManager;
+  }
+
+  private OfflineRegion[] buildStoredRegionsFor(Geometry routeBufferGeometry) {
     OfflineMetadataProvider anOfflineMetadataProvider = new OfflineMetadataProvider();
-    byte[] routeSummaryMetadata = anOfflineMetadataProvider.buildMetadataFor(routeSummary);
-    when(mockedOfflineMetadataProvider.buildMetadataFor(eq(routeSummary))).thenReturn(routeSummaryMetadata);
-    RegionDownloadCallback mockedRegionDownloadCallback = mock(RegionDownloadCallback.class);
-    return new MapOfflineManager(mockedOfflineManager, mockedOfflineRegionDefinitionProvider,
-      mockedOfflineMetadataProvider, mapConnectivityController, mockedRegionDownloadCallback);
+    List<OfflineRegion> storedRegions = new ArrayList<>();
+    Map<Long, Set<Long>> blocks = OfflineCorridor.groupByBlock(OfflineCorridor.cellsFor(routeBufferGeometry));
+    for (Set<Long> cells : blocks.values()) {
+      OfflineRegion mockedOfflineRegion = mock(OfflineRegion.class);
+      when(mockedOfflineRegion.getMetadata()).thenReturn(anOfflineMetadataProvider.buildMetadataFor(A_ROUTE_SUMMARY,
+        cells));
+      storedRegions.add(mockedOfflineRegion);
+    }
+    return storedRegions.toArray(new OfflineRegion[0]);
   }
 
-  private RouteProgress buildMockRouteProgress(String routeSummary, Geometry routeBufferGeometry) {
+  private RouteProgress buildMockRouteProgress(Geometry routeBufferGeometry) {
     RouteProgress mockedRouteProgress = mock(RouteProgress.class);
     when(mockedRouteProgress.routeGeometryWithBuffer()).thenReturn(routeBufferGeometry);
     DirectionsRoute mockedRoute = mock(DirectionsRoute.class);
     RouteOptions mockedRouteOptions = mock(RouteOptions.class);
-    when(mockedRouteOptions.requestUuid()).thenReturn(routeSummary);
+    when(mockedRouteOptions.requestUuid()).thenReturn(A_ROUTE_SUMMARY);
     when(mockedRoute.routeOptions()).thenReturn(mockedRouteOptions);
     when(mockedRouteProgress.directionsRoute()).thenReturn(mockedRoute);
     return mockedRouteProgress;
   }
 
+  private void assertCellsEqual(Geometry expected, Geometry actual) {
+    assertEquals(OfflineCorridor.cellsFor(expected), OfflineCorridor.cellsFor(actual));
+  }
+
+  private Polygon buildSquare(double west, double south, double size) {
+    return Polygon.fromLngLats(Collections.singletonList(Arrays.asList(
+      Point.fromLngLat(west, south),
+      Point.fromLngLat(west + size, south),
+      Point.fromLngLat(west + size, south + size),
+      Point.fromLngLat(west, south + size),
+      Point.fromLngLat(west, south)
+    )));
+  }
+
   private Geometry buildARouteBufferGeometry() {
     return GeometryGeoJson.fromJson("{\"type\":\"Polygon\",\"coordinates\":[[[-77" +
       ".152533,39.085537],[-77.152533,39.083038],[-77.150031,39.083038],[-77.150031,39.085537],[-77.147529,39" +
@@ -183,10 +309,4 @@ public class MapOfflineManagerTest {
       ".157531,39.100536],[-77.157531,39.098038],[-77.157531,39.095535],[-77.157531,39.093037],[-77.157531,39" +
       ".090538],[-77.157531,39.088039],[-77.155036,39.088036],[-77.155036,39.085537],[-77.152533,39.085537]]]}");
   }
-
-  private Geometry buildAnotherRouteBufferGeometry() {
-    return GeometryGeoJson.fromJson("{\"type\":\"Polygon\",\"coordinates\":[[[-77" +
-      ".152533,39.085537],[-77.152533,39.083038],[-77.150031,39.083038],[-77.150031,39.085537],[-77.147529,39" +
-      ".085537],[-77.147529,39.088039],[-77.147529,39.090538]]]}");
-  }
-}
\ No newline at end of file
+}
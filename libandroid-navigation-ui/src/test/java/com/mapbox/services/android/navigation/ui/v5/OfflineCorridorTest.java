@@ -0,0 +1,103 @@
+package com.mapbox.services.android.navigation.ui.v5;
+
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OfflineCorridorTest {
+
+  @Test
+  public void checksCellsInsideRouteBufferAreFound() {
+    Polygon aRouteBuffer = buildSquare(0.0, 0.0, 0.005);
+
+    Set<Long> cells = OfflineCorridor.cellsFor(aRouteBuffer);
+
+    assertEquals(4, cells.size());
+    assertTrue(cells.contains(OfflineCorridor.cellAt(Point.fromLngLat(0.001, 0.001))));
+    assertTrue(cells.contains(OfflineCorridor.cellAt(Point.fromLngLat(0.004, 0.004))));
+  }
+
+  @Test
+  public void checksCellsOutsideRouteBufferHolesAreFound() {
+    Polygon aRouteBufferWithHole = Polygon.fromLngLats(Arrays.asList(
+      buildSquare(0.0, 0.0, 0.0075).outer().coordinates(),
+      buildSquare(0.0025, 0.0025, 0.0025).outer().coordinates()
+    ));
+
+    Set<Long> cells = OfflineCorridor.cellsFor(aRouteBufferWithHole);
+
+    assertEquals(8, cells.size());
+  }
+
+  @Test
+  public void checksCellsAreGroupedByBlock() {
+    Polygon aRouteBuffer = buildSquare(0.0, 0.0, 0.025);
+
+    Map<Long, Set<Long>> blocks = OfflineCorridor.groupByBlock(OfflineCorridor.cellsFor(aRouteBuffer));
+
+    assertEquals(4, blocks.size());
+    assertEquals(64, blocks.get(OfflineCorridor.blockOf(OfflineCorridor.cellAt(Point.fromLngLat(0.0, 0.0)))).size());
+  }
+
+  @Test
+  public void checksGeometryIsMadeOfCellSquares() {
+    Set<Long> someCells = OfflineCorridor.cellsFor(buildSquare(0.0, 0.0, 0.005));
+
+    MultiPolygon geometry = (MultiPolygon) OfflineCorridor.geometryFor(someCells);
+
+    assertEquals(someCells, OfflineCorridor.cellsFor(geometry));
+  }
+
+  @Test
+  public void checksBlocksAheadOfVehicleAreOrderedFirst() {
+    List<Point> aRoute = Arrays.asList(
+      Point.fromLngLat(0.01, 0.01),
+      Point.fromLngLat(0.03, 0.01),
+      Point.fromLngLat(0.05, 0.01),
+      Point.fromLngLat(0.07, 0.01)
+    );
+    List<Long> blocks = Arrays.asList(blockAt(aRoute.get(0)), blockAt(aRoute.get(1)),
+      blockAt(aRoute.get(2)), blockAt(aRoute.get(3)));
+
+    List<Long> orderedBlocks = OfflineCorridor.orderAhead(blocks, aRoute, aRoute.get(2));
+
+    assertEquals(Arrays.asList(blocks.get(2), blocks.get(3), blocks.get(0), blocks.get(1)), orderedBlocks);
+  }
+
+  @Test
+  public void checksBlocksNextToRouteAreOrderedWithRoute() {
+    List<Point> aRoute = Arrays.asList(Point.fromLngLat(0.01, 0.01), Point.fromLngLat(0.03, 0.01));
+    long aBlockNextToRouteEnd = blockAt(Point.fromLngLat(0.05, 0.03));
+    long aBlockAwayFromRoute = blockAt(Point.fromLngLat(0.09, 0.09));
+    List<Long> blocks = Arrays.asList(aBlockAwayFromRoute, aBlockNextToRouteEnd, blockAt(aRoute.get(0)));
+
+    List<Long> orderedBlocks = OfflineCorridor.orderAhead(blocks, aRoute, null);
+
+    assertEquals(Arrays.asList(blockAt(aRoute.get(0)), aBlockNextToRouteEnd, aBlockAwayFromRoute), orderedBlocks);
+  }
+
+  private long blockAt(Point point) {
+    return OfflineCorridor.blockOf(OfflineCorridor.cellAt(point));
+  }
+
+  private Polygon buildSquare(double west, double south, double size) {
+    return Polygon.fromLngLats(Collections.singletonList(Arrays.asList(
+      Point.fromLngLat(west, south),
+      Point.fromLngLat(west + size, south),
+      Point.fromLngLat(west + size, south + size),
+      Point.fromLngLat(west, south + size),
+      Point.fromLngLat(west, south)
+    )));
+  }
+}
@@ -1,18 +1,47 @@
 package com.mapbox.services.android.navigation.ui.v5;
 
+import org.json.JSONObject;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public class OfflineMetadataProviderTest {
 
   @Test
-  public void checksOfflineRouteMetadataCreation() {
+  public void checksOfflineRouteMetadataCreation() throws Exception {
     String aRouteSummary = "cjuykbm4705v26pnpvqlbjm5n";
     OfflineMetadataProvider theOfflineMetadataProvider = new OfflineMetadataProvider();
 
-    byte[] routeSummaryMetadata = theOfflineMetadataProvider.buildMetadataFor(aRouteSummary);
+    byte[] routeSummaryMetadata = theOfflineMetadataProvider.buildMetadataFor(aRouteSummary,
+      new HashSet<Long>());
+
+    JSONObject metadata = new JSONObject(new String(routeSummaryMetadata));
+    assertEquals(aRouteSummary, metadata.getString("route_summary"));
+  }
+
+  @Test
+  public void checksCorridorCellsAreRetrievedFromMetadata() {
+    Set<Long> someCorridorCells = new HashSet<>(Arrays.asList(1L, -2L, 8589934595L));
+    OfflineMetadataProvider theOfflineMetadataProvider = new OfflineMetadataProvider();
+    byte[] metadata = theOfflineMetadataProvider.buildMetadataFor("cjuykbm4705v26pnpvqlbjm5n", someCorridorCells);
+
+    Set<Long> corridorCells = theOfflineMetadataProvider.retrieveCorridorCellsFrom(metadata);
+
+    assertEquals(someCorridorCells, corridorCells);
+  }
+
+  @Test
+  public void checksRegionsWithoutCorridorCellsAreNotCorridorRegions() {
+    byte[] routeSummaryMetadata = "{\"route_summary\":\"cjuykbm4705v26pnpvqlbjm5n\"}".getBytes();
+    OfflineMetadataProvider theOfflineMetadataProvider = new OfflineMetadataProvider();
+
+    Set<Long> corridorCells = theOfflineMetadataProvider.retrieveCorridorCellsFrom(routeSummaryMetadata);
 
-    assertEquals("{\"route_summary\":\"cjuykbm4705v26pnpvqlbjm5n\"}", new String(routeSummaryMetadata));
+    assertNull(corridorCells);
   }
-}
\ No newline at end of file
+}
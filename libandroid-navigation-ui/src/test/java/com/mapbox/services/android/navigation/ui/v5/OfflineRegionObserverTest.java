@@ -5,8 +5,10 @@ import com.mapbox.mapboxsdk.offline.OfflineRegionStatus;
 
 import org.junit.Test;
 
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -25,7 +27,7 @@ public class OfflineRegionObserverTest {
   }
 
   @Test
-  public void onError_errorCallbackIsTriggered() {
+  public void onError_errorCallbackIsNotTriggered() {
     OfflineRegionDownloadCallback callback = mock(OfflineRegionDownloadCallback.class);
     OfflineRegionError error = mock(OfflineRegionError.class);
     when(error.getMessage()).thenReturn("an error occurred");
@@ -34,7 +36,7 @@ public class OfflineRegionObserverTest {
 
     offlineRegionObserver.onError(error);
 
-    verify(callback).onError(eq("an error occurred because xyz"));
+    verify(callback, never()).onError(anyString());
   }
 
   @Test
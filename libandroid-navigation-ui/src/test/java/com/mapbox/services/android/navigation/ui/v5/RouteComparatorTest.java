@@ -0,0 +1,110 @@
+package com.mapbox.services.android.navigation.ui.v5;
+
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.api.directions.v5.models.StepIntersection;
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RouteComparatorTest extends BaseTest {
+
+  @Test
+  public void compare_withoutChosenRouteUpdatesFirstRoute() throws Exception {
+    NavigationViewRouter router = mock(NavigationViewRouter.class);
+    RouteComparator comparator = new RouteComparator(router);
+    DirectionsRoute route = buildTestDirectionsRoute();
+    DirectionsRoute otherRoute = buildRouteWithoutLegs(route);
+
+    comparator.compare(buildResponse(otherRoute, route), null);
+
+    verify(router).updateCurrentRoute(otherRoute);
+  }
+
+  @Test
+  public void compare_withChosenRouteUpdatesRouteOnSameRoads() throws Exception {
+    NavigationViewRouter router = mock(NavigationViewRouter.class);
+    RouteComparator comparator = new RouteComparator(router);
+    DirectionsRoute route = buildTestDirectionsRoute();
+    DirectionsRoute otherRoute = buildRouteWithoutLegs(route);
+
+    comparator.compare(buildResponse(otherRoute, route), route);
+
+    verify(router).updateCurrentRoute(route);
+  }
+
+  @Test
+  public void compare_withEquallySimilarRoutesUpdatesFirstRoute() throws Exception {
+    NavigationViewRouter router = mock(NavigationViewRouter.class);
+    RouteComparator comparator = new RouteComparator(router);
+    DirectionsRoute route = buildTestDirectionsRoute();
+    DirectionsRoute sameRoute = buildTestDirectionsRoute();
+
+    comparator.compare(buildResponse(route, sameRoute), route);
+
+    verify(router).updateCurrentRoute(route);
+  }
+
+  @Test
+  public void compare_withChosenRouteUpdatesRouteWithMostSharedIntersections() {
+    NavigationViewRouter router = mock(NavigationViewRouter.class);
+    RouteComparator comparator = new RouteComparator(router);
+    Point first = Point.fromLngLat(-77.0300, 38.9000);
+    Point second = Point.fromLngLat(-77.0310, 38.9010);
+    Point third = Point.fromLngLat(-77.0320, 38.9020);
+    DirectionsRoute chosenRoute = buildRoute("Main Street, Oak Avenue",
+      first, second, third, Point.fromLngLat(-77.0330, 38.9030));
+    DirectionsRoute sameSummaryRoute = buildRoute("Main Street, Oak Avenue",
+      first, Point.fromLngLat(-77.0400, 38.9100), Point.fromLngLat(-77.0410, 38.9110),
+      Point.fromLngLat(-77.0420, 38.9120));
+    DirectionsRoute sameRoadsRoute = buildRoute("Elm Road",
+      first, second, third, Point.fromLngLat(-77.0500, 38.9200));
+
+    comparator.compare(buildResponse(sameSummaryRoute, sameRoadsRoute), chosenRoute);
+
+    verify(router).updateCurrentRoute(sameRoadsRoute);
+  }
+
+  private DirectionsRoute buildRoute(String summary, Point... intersectionLocations) {
+    List<StepIntersection> intersections = new ArrayList<>();
+    for (Point location : intersectionLocations) {
+      StepIntersection intersection = mock(StepIntersection.class);
+      when(intersection.location()).thenReturn(location);
+      intersections.add(intersection);
+    }
+    LegStep step = mock(LegStep.class);
+    when(step.distance()).thenReturn(100d * intersectionLocations.length);
+    when(step.intersections()).thenReturn(intersections);
+    RouteLeg leg = mock(RouteLeg.class);
+    when(leg.summary()).thenReturn(summary);
+    when(leg.steps()).thenReturn(Collections.singletonList(step));
+    DirectionsRoute route = mock(DirectionsRoute.class);
+    when(route.legs()).thenReturn(Collections.singletonList(leg));
+    return route;
+  }
+
+  private DirectionsRoute buildRouteWithoutLegs(DirectionsRoute route) {
+    return route.toBuilder().legs(new ArrayList<RouteLeg>()).build();
+  }
+
+  private DirectionsResponse buildResponse(DirectionsRoute... routes) {
+    List<DirectionsRoute> routeList = new ArrayList<>();
+    for (DirectionsRoute route : routes) {
+      routeList.add(route);
+    }
+    return DirectionsResponse.builder()
+      .code("Ok")
+      .routes(routeList)
+      .build();
+  }
+}
@@ -0,0 +1,145 @@
+package com.mapbox.services.android.navigation.ui.v5;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.text.SpannableString;
+
+import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.Observer;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.services.android.navigation.ui.v5.instruction.InstructionModel;
+import com.mapbox.services.android.navigation.ui.v5.summary.SummaryModel;
+import com.mapbox.services.android.navigation.v5.navigation.NavigationTimeFormatKt;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteStepProgress;
+import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+public class RouteProgressModelPublisherTest {
+
+  @Test
+  public void publish_modelsArePosted() {
+    MutableLiveData<InstructionModel> instructionModel = new MutableLiveData<>();
+    MutableLiveData<SummaryModel> summaryModel = new MutableLiveData<>();
+    RouteProgressModelPublisher publisher = buildPublisher(instructionModel, summaryModel, 0);
+    RouteProgress routeProgress = buildRouteProgress(mock(DirectionsRoute.class), 100d);
+
+    publisher.publish(routeProgress);
+
+    assertEquals(routeProgress, instructionModel.getValue().retrieveProgress());
+    assertNotNull(summaryModel.getValue());
+  }
+
+  @Test
+  public void publish_sameTextIsNotPostedAgain() {
+    MutableLiveData<InstructionModel> instructionModel = new MutableLiveData<>();
+    MutableLiveData<SummaryModel> summaryModel = new MutableLiveData<>();
+    CountingObserver<InstructionModel> instructionObserver = new CountingObserver<>();
+    CountingObserver<SummaryModel> summaryObserver = new CountingObserver<>();
+    instructionModel.observeForever(instructionObserver);
+    summaryModel.observeForever(summaryObserver);
+    RouteProgressModelPublisher publisher = buildPublisher(instructionModel, summaryModel, 0);
+    DirectionsRoute route = mock(DirectionsRoute.class);
+
+    publisher.publish(buildRouteProgress(route, 100d));
+    publisher.publish(buildRouteProgress(route, 100d));
+
+    assertEquals(1, instructionObserver.changes);
+    assertEquals(1, summaryObserver.changes);
+  }
+
+  @Test
+  public void publish_newRouteIsPosted() {
+    MutableLiveData<InstructionModel> instructionModel = new MutableLiveData<>();
+    CountingObserver<InstructionModel> instructionObserver = new CountingObserver<>();
+    instructionModel.observeForever(instructionObserver);
+    RouteProgressModelPublisher publisher = buildPublisher(instructionModel, new MutableLiveData<SummaryModel>(), 0);
+
+    publisher.publish(buildRouteProgress(mock(DirectionsRoute.class), 100d));
+    publisher.publish(buildRouteProgress(mock(DirectionsRoute.class), 100d));
+
+    assertEquals(2, instructionObserver.changes);
+  }
+
+  @Test
+  public void publish_progressWithinIntervalIsFormattedOnceIntervalElapsed() {
+    DistanceFormatter distanceFormatter = buildDistanceFormatter();
+    RouteProgressModelPublisher publisher = new RouteProgressModelPublisher(RuntimeEnvironment.application,
+      new MutableLiveData<InstructionModel>(), new MutableLiveData<SummaryModel>(),
+      new Handler(Looper.getMainLooper()));
+    publisher.updateFormatting(distanceFormatter, NavigationTimeFormatKt.TWELVE_HOURS, 1000);
+    DirectionsRoute route = mock(DirectionsRoute.class);
+
+    publisher.publish(buildRouteProgress(route, 100d));
+    publisher.publish(buildRouteProgress(route, 90d));
+    publisher.publish(buildRouteProgress(route, 80d));
+    verify(distanceFormatter, times(2)).formatDistance(anyDouble());
+    Robolectric.getForegroundThreadScheduler().advanceBy(1000, TimeUnit.MILLISECONDS);
+
+    verify(distanceFormatter, times(4)).formatDistance(anyDouble());
+  }
+
+  private RouteProgressModelPublisher buildPublisher(MutableLiveData<InstructionModel> instructionModel,
+                                                     MutableLiveData<SummaryModel> summaryModel,
+                                                     long minimumUpdateInterval) {
+    Context context = RuntimeEnvironment.application;
+    RouteProgressModelPublisher publisher = new RouteProgressModelPublisher(context, instructionModel,
+      summaryModel, new Handler(Looper.getMainLooper()));
+    publisher.updateFormatting(buildDistanceFormatter(), NavigationTimeFormatKt.TWELVE_HOURS, minimumUpdateInterval);
+    return publisher;
+  }
+
+  private DistanceFormatter buildDistanceFormatter() {
+    DistanceFormatter distanceFormatter = mock(DistanceFormatter.class);
+    when(distanceFormatter.formatDistance(anyDouble())).thenReturn(new SpannableString("100 m"));
+    return distanceFormatter;
+  }
+
+  private RouteProgress buildRouteProgress(DirectionsRoute route, double distanceRemaining) {
+    RouteStepProgress stepProgress = mock(RouteStepProgress.class);
+    when(stepProgress.distanceRemaining()).thenReturn(distanceRemaining);
+    LegStep step = mock(LegStep.class);
+    when(step.drivingSide()).thenReturn("right");
+    RouteLegProgress legProgress = mock(RouteLegProgress.class);
+    when(legProgress.currentStepProgress()).thenReturn(stepProgress);
+    when(legProgress.currentStep()).thenReturn(step);
+    when(legProgress.stepIndex()).thenReturn(0);
+    when(legProgress.durationRemaining()).thenReturn(60d);
+    RouteProgress routeProgress = mock(RouteProgress.class);
+    when(routeProgress.directionsRoute()).thenReturn(route);
+    when(routeProgress.legIndex()).thenReturn(0);
+    when(routeProgress.currentLegProgress()).thenReturn(legProgress);
+    when(routeProgress.distanceRemaining()).thenReturn(distanceRemaining);
+    return routeProgress;
+  }
+
+  private static class CountingObserver<T> implements Observer<T> {
+
+    private int changes;
+
+    @Override
+    public void onChanged(T value) {
+      changes++;
+    }
+  }
+}
@@ -2,8 +2,11 @@ package com.mapbox.services.android.navigation.ui.v5;
 
 import com.mapbox.api.directions.v5.models.DirectionsResponse;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.api.directions.v5.models.VoiceInstructions;
 import com.mapbox.services.android.navigation.ui.v5.voice.VoiceInstructionLoader;
-import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -12,6 +15,9 @@ import java.io.IOException;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -21,73 +27,103 @@ import static org.mockito.Mockito.when;
 public class VoiceInstructionCacheTest extends BaseTest {
 
   private static final String DIRECTIONS_PRECISION_6 = "directions_v5_precision_6.json";
+  private static final double UNLIMITED_LOOKAHEAD = Double.MAX_VALUE;
 
   @Test
-  public void checksPreCachingCachesNineInstructions() throws Exception {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
+  public void checksPreCachingRequestsFourInstructionsOnFastConnection() throws Exception {
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
-    ConnectivityStatusProvider aConnectivityStatus = mock(ConnectivityStatusProvider.class);
-    when(aConnectivityStatus.isConnected()).thenReturn(true);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
-      aVoiceInstructionLoader, aConnectivityStatus);
+    ConnectivityStatusProvider aConnectivityStatus = buildConnectivityStatus(true);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader,
+      aConnectivityStatus, UNLIMITED_LOOKAHEAD, 0);
+
+    theVoiceInstructionCache.preCache(buildDirectionsRoute());
+
+    verify(aVoiceInstructionLoader, times(4)).cacheInstruction(anyInt(), anyString(), eq(theVoiceInstructionCache));
+  }
+
+  @Test
+  public void checksPreCachingRequestsOneInstructionOnSlowConnection() throws Exception {
+    VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
+    ConnectivityStatusProvider aConnectivityStatus = buildConnectivityStatus(false);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader,
+      aConnectivityStatus, UNLIMITED_LOOKAHEAD, 0);
+
+    theVoiceInstructionCache.preCache(buildDirectionsRoute());
+
+    verify(aVoiceInstructionLoader, times(1)).cacheInstruction(anyInt(), anyString(), eq(theVoiceInstructionCache));
+  }
+
+  @Test
+  public void checksNextInstructionIsRequestedOncePreviousIsCached() throws Exception {
+    VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
+    ConnectivityStatusProvider aConnectivityStatus = buildConnectivityStatus(false);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader,
+      aConnectivityStatus, UNLIMITED_LOOKAHEAD, 0);
     DirectionsRoute aRoute = buildDirectionsRoute();
-    ArgumentCaptor<List> voiceInstructionsToCache = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<String> instructions = ArgumentCaptor.forClass(String.class);
 
     theVoiceInstructionCache.preCache(aRoute);
+    theVoiceInstructionCache.onInstructionCached("any_instruction", true);
 
-    verify(aVoiceInstructionLoader, times(1)).cacheInstructions(voiceInstructionsToCache.capture());
-    assertEquals(9, voiceInstructionsToCache.getValue().size());
+    verify(aVoiceInstructionLoader, times(2)).cacheInstruction(anyInt(), instructions.capture(),
+      eq(theVoiceInstructionCache));
+    List<String> requestedInstructions = instructions.getAllValues();
+    assertEquals(firstSsmlAnnouncement(aRoute, 0), requestedInstructions.get(0));
+    assertEquals(firstSsmlAnnouncement(aRoute, 1), requestedInstructions.get(1));
   }
 
   @Test
-  public void checksCacheIsNotCalledIfIsVoiceInstructionsToCacheThresholdNotReached() {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
+  public void checksInstructionsBeyondLookaheadAreNotRequested() throws Exception {
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
-    ConnectivityStatusProvider aConnectivityStatus = mock(ConnectivityStatusProvider.class);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
-      aVoiceInstructionLoader, aConnectivityStatus);
+    ConnectivityStatusProvider aConnectivityStatus = buildConnectivityStatus(true);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader,
+      aConnectivityStatus, 300, 0);
 
-    theVoiceInstructionCache.cache();
+    theVoiceInstructionCache.preCache(buildDirectionsRoute());
 
-    verifyZeroInteractions(aVoiceInstructionLoader);
+    verify(aVoiceInstructionLoader, times(2)).cacheInstruction(anyInt(), anyString(), eq(theVoiceInstructionCache));
   }
 
   @Test
-  public void checksCaching() throws Exception {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
+  public void checksAnnouncedInstructionsAreMarkedAsPassed() throws Exception {
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
-    ConnectivityStatusProvider aConnectivityStatus = mock(ConnectivityStatusProvider.class);
-    when(aConnectivityStatus.isConnected()).thenReturn(true);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
-      aVoiceInstructionLoader, aConnectivityStatus);
-    DirectionsRoute twentyOneInstructionsRoute = buildDirectionsRoute();
-    ArgumentCaptor<List> voiceInstructionsToCache = ArgumentCaptor.forClass(List.class);
-
-    theVoiceInstructionCache.preCache(twentyOneInstructionsRoute);
-    theVoiceInstructionCache.update(5);
-    theVoiceInstructionCache.cache();
-    theVoiceInstructionCache.update(10);
-    theVoiceInstructionCache.cache();
-
-    verify(aVoiceInstructionLoader, times(3)).cacheInstructions(voiceInstructionsToCache.capture());
-    List<List> capturedVoiceInstructionsToCache = voiceInstructionsToCache.getAllValues();
-    assertEquals(9, capturedVoiceInstructionsToCache.get(0).size());
-    assertEquals(10, capturedVoiceInstructionsToCache.get(1).size());
-    assertEquals(2, capturedVoiceInstructionsToCache.get(2).size());
+    ConnectivityStatusProvider aConnectivityStatus = buildConnectivityStatus(true);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader,
+      aConnectivityStatus, 0, 0);
+    RouteProgress aRouteProgress = mock(RouteProgress.class);
+    when(aRouteProgress.distanceTraveled()).thenReturn(400d);
+
+    theVoiceInstructionCache.preCache(buildDirectionsRoute());
+    theVoiceInstructionCache.update(aRouteProgress);
+
+    verify(aVoiceInstructionLoader).markAsPassed(0);
+    verify(aVoiceInstructionLoader).markAsPassed(1);
+    verify(aVoiceInstructionLoader).markAsPassed(2);
   }
 
   @Test
-  public void checksEvictVoiceInstructionsIsCalledWhenCaching() throws Exception {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
+  public void checksAnnouncementIdsOfNewRouteFollowPreviousRoute() throws Exception {
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
-    ConnectivityStatusProvider aConnectivityStatus = mock(ConnectivityStatusProvider.class);
-    when(aConnectivityStatus.isConnected()).thenReturn(true);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
-      aVoiceInstructionLoader, aConnectivityStatus);
+    ConnectivityStatusProvider aConnectivityStatus = buildConnectivityStatus(false);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader,
+      aConnectivityStatus, UNLIMITED_LOOKAHEAD, 0);
     DirectionsRoute aRoute = buildDirectionsRoute();
+    theVoiceInstructionCache.preCache(aRoute);
 
     theVoiceInstructionCache.preCache(aRoute);
-    theVoiceInstructionCache.update(5);
+
+    verify(aVoiceInstructionLoader).cacheInstruction(eq(0), anyString(), eq(theVoiceInstructionCache));
+    verify(aVoiceInstructionLoader).cacheInstruction(eq(countSsmlAnnouncements(aRoute)), anyString(),
+      eq(theVoiceInstructionCache));
+  }
+
+  @Test
+  public void checksEvictVoiceInstructionsIsCalledWhenCaching() {
+    VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
+    ConnectivityStatusProvider aConnectivityStatus = buildConnectivityStatus(true);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader,
+      aConnectivityStatus);
+
     theVoiceInstructionCache.cache();
 
     verify(aVoiceInstructionLoader, times(1)).evictVoiceInstructions();
@@ -95,12 +131,11 @@ public class VoiceInstructionCacheTest extends BaseTest {
 
   @Test
   public void noConnectivityDoesNotAllowPreCaching() throws Exception {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
     ConnectivityStatusProvider aConnectivityStatus = mock(ConnectivityStatusProvider.class);
     when(aConnectivityStatus.isConnected()).thenReturn(false);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
-      aVoiceInstructionLoader, aConnectivityStatus);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader,
+      aConnectivityStatus);
     DirectionsRoute aRoute = buildDirectionsRoute();
 
     theVoiceInstructionCache.preCache(aRoute);
@@ -110,22 +145,45 @@ public class VoiceInstructionCacheTest extends BaseTest {
 
   @Test
   public void noConnectivityDoesNotAllowCaching() {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
     ConnectivityStatusProvider aConnectivityStatus = mock(ConnectivityStatusProvider.class);
     when(aConnectivityStatus.isConnected()).thenReturn(false);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
-      aVoiceInstructionLoader, aConnectivityStatus);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader,
+      aConnectivityStatus);
 
     theVoiceInstructionCache.cache();
 
     verifyZeroInteractions(aVoiceInstructionLoader);
   }
 
+  private ConnectivityStatusProvider buildConnectivityStatus(boolean isConnectedFast) {
+    ConnectivityStatusProvider connectivityStatus = mock(ConnectivityStatusProvider.class);
+    when(connectivityStatus.isConnected()).thenReturn(true);
+    when(connectivityStatus.isConnectedFast()).thenReturn(isConnectedFast);
+    return connectivityStatus;
+  }
+
+  private String firstSsmlAnnouncement(DirectionsRoute route, int index) {
+    return route.legs().get(0).steps().get(0).voiceInstructions().get(index).ssmlAnnouncement();
+  }
+
+  private int countSsmlAnnouncements(DirectionsRoute route) {
+    int count = 0;
+    for (RouteLeg leg : route.legs()) {
+      for (LegStep step : leg.steps()) {
+        for (VoiceInstructions voiceInstructions : step.voiceInstructions()) {
+          if (voiceInstructions.ssmlAnnouncement() != null && voiceInstructions.distanceAlongGeometry() != null) {
+            count++;
+          }
+        }
+      }
+    }
+    return count;
+  }
+
   private DirectionsRoute buildDirectionsRoute() throws IOException {
     String body = loadJsonFixture(DIRECTIONS_PRECISION_6);
     DirectionsResponse response = DirectionsResponse.fromJson(body);
     return response.routes().get(0);
   }
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,162 @@
+package com.mapbox.services.android.navigation.ui.v5.instruction;
+
+import android.graphics.Bitmap;
+import android.text.Spanned;
+import android.text.style.ImageSpan;
+import android.widget.TextView;
+
+import com.mapbox.api.directions.v5.models.BannerComponents;
+import com.mapbox.api.directions.v5.models.BannerInstructions;
+import com.mapbox.api.directions.v5.models.BannerText;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.services.android.navigation.v5.internal.navigation.SdkVersionChecker;
+import com.squareup.picasso.Callback;
+import com.squareup.picasso.Picasso;
+import com.squareup.picasso.RequestCreator;
+import com.squareup.picasso.Target;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+public class ImageCreatorTest {
+
+  private static final String SHIELD_URL = "https://mapbox.com/shields/i-5";
+  private static final String SHIELD_TEXT = "I-5";
+
+  private RequestCreator requestCreator;
+  private ImageCreator imageCreator;
+
+  @Before
+  public void setUp() {
+    Picasso picasso = mock(Picasso.class);
+    requestCreator = mock(RequestCreator.class);
+    when(picasso.load(anyString())).thenReturn(requestCreator);
+    UrlDensityMap urlDensityMap = new UrlDensityMap(160, new SdkVersionChecker(21));
+    imageCreator = new ImageCreator(new ImageVerifier(), picasso, urlDensityMap);
+  }
+
+  @Test
+  public void prefetchImageCache_loadedShieldIsNotFetchedAgain() {
+    imageCreator.prefetchImageCache(buildRoute());
+    captureFetchCallback().onSuccess();
+
+    imageCreator.prefetchImageCache(buildRoute());
+
+    verify(requestCreator, times(1)).fetch(any(Callback.class));
+  }
+
+  @Test
+  public void prefetchImageCache_failedShieldIsFetchedAgainForNextRoute() {
+    imageCreator.prefetchImageCache(buildRoute());
+    captureFetchCallback().onError(new Exception());
+
+    imageCreator.prefetchImageCache(buildRoute());
+
+    verify(requestCreator, times(2)).fetch(any(Callback.class));
+  }
+
+  @Test
+  public void prefetchImageCache_shieldBeingFetchedIsNotFetchedAgain() {
+    imageCreator.prefetchImageCache(buildRoute());
+
+    imageCreator.prefetchImageCache(buildRoute());
+
+    verify(requestCreator, times(1)).fetch(any(Callback.class));
+  }
+
+  @Test
+  public void postProcess_loadedBannerIsSetWithoutLoadingShields() {
+    TextView textView = new TextView(RuntimeEnvironment.application);
+    loadBanner(textView);
+    captureTarget().onBitmapLoaded(Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888), Picasso.LoadedFrom.MEMORY);
+
+    loadBanner(textView);
+
+    verify(requestCreator, times(1)).into(any(Target.class));
+    Spanned text = (Spanned) textView.getText();
+    assertEquals(1, text.getSpans(0, text.length(), ImageSpan.class).length);
+  }
+
+  @Test
+  public void postProcess_loadedBannerSpansAreNotShared() {
+    TextView textView = new TextView(RuntimeEnvironment.application);
+    TextView otherTextView = new TextView(RuntimeEnvironment.application);
+    loadBanner(textView);
+    captureTarget().onBitmapLoaded(Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888), Picasso.LoadedFrom.MEMORY);
+
+    loadBanner(otherTextView);
+
+    Spanned text = (Spanned) textView.getText();
+    Spanned otherText = (Spanned) otherTextView.getText();
+    assertNotSame(text.getSpans(0, text.length(), ImageSpan.class)[0],
+      otherText.getSpans(0, otherText.length(), ImageSpan.class)[0]);
+  }
+
+  @Test
+  public void postProcess_bannerWithFailedShieldIsLoadedAgain() {
+    TextView textView = new TextView(RuntimeEnvironment.application);
+    loadBanner(textView);
+    captureTarget().onBitmapFailed(new Exception(), null);
+
+    loadBanner(textView);
+
+    verify(requestCreator, times(2)).into(any(Target.class));
+  }
+
+  private void loadBanner(TextView textView) {
+    textView.setText(SHIELD_TEXT);
+    BannerComponentNode node = imageCreator.setupNode(buildShieldComponents(), 0, 0, null);
+    imageCreator.postProcess(textView, Collections.singletonList(node));
+  }
+
+  private Callback captureFetchCallback() {
+    ArgumentCaptor<Callback> callback = ArgumentCaptor.forClass(Callback.class);
+    verify(requestCreator).fetch(callback.capture());
+    return callback.getValue();
+  }
+
+  private Target captureTarget() {
+    ArgumentCaptor<Target> target = ArgumentCaptor.forClass(Target.class);
+    verify(requestCreator).into(target.capture());
+    return target.getValue();
+  }
+
+  private BannerComponents buildShieldComponents() {
+    return BannerComponentsFaker.bannerComponentsBuilder()
+      .text(SHIELD_TEXT)
+      .imageBaseUrl(SHIELD_URL)
+      .build();
+  }
+
+  private DirectionsRoute buildRoute() {
+    BannerText primary = mock(BannerText.class);
+    when(primary.components()).thenReturn(Collections.singletonList(buildShieldComponents()));
+    BannerInstructions bannerInstructions = mock(BannerInstructions.class);
+    when(bannerInstructions.primary()).thenReturn(primary);
+    LegStep step = mock(LegStep.class);
+    when(step.bannerInstructions()).thenReturn(Collections.singletonList(bannerInstructions));
+    RouteLeg leg = mock(RouteLeg.class);
+    when(leg.steps()).thenReturn(Collections.singletonList(step));
+    DirectionsRoute route = mock(DirectionsRoute.class);
+    when(route.legs()).thenReturn(Collections.singletonList(leg));
+    return route;
+  }
+}
@@ -0,0 +1,79 @@
+package com.mapbox.services.android.navigation.ui.v5.instruction.maneuver;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.PointF;
+
+import androidx.core.util.Pair;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(RobolectricTestRunner.class)
+public class ManeuverBitmapCacheTest {
+
+  private static final Pair<String, String> TURN_RIGHT = new Pair<>(null, "right");
+  private static final Pair<String, String> ROUNDABOUT = new Pair<>("roundabout", null);
+  private static final PointF SIZE = new PointF(64f, 64f);
+
+  @Test
+  public void retrieve_sameManeuverIsRenderedOnce() {
+    ManeuverBitmapCache cache = new ManeuverBitmapCache();
+    ManeuverViewUpdate update = mock(ManeuverViewUpdate.class);
+
+    Bitmap first = cache.retrieve(TURN_RIGHT, update, 1, 2, SIZE, 180f);
+    Bitmap second = cache.retrieve(TURN_RIGHT, update, 1, 2, new PointF(64f, 64f), 180f);
+
+    assertSame(first, second);
+    assertEquals(64, first.getWidth());
+    verify(update, times(1)).updateManeuverView(any(Canvas.class), anyInt(), anyInt(), any(PointF.class), anyFloat());
+  }
+
+  @Test
+  public void retrieve_otherColorIsRenderedAgain() {
+    ManeuverBitmapCache cache = new ManeuverBitmapCache();
+    ManeuverViewUpdate update = mock(ManeuverViewUpdate.class);
+
+    Bitmap first = cache.retrieve(TURN_RIGHT, update, 1, 2, SIZE, 180f);
+    Bitmap second = cache.retrieve(TURN_RIGHT, update, 3, 2, SIZE, 180f);
+
+    assertNotSame(first, second);
+    verify(update, times(2)).updateManeuverView(any(Canvas.class), anyInt(), anyInt(), any(PointF.class), anyFloat());
+  }
+
+  @Test
+  public void retrieve_closeRoundaboutAnglesShareTheirBitmap() {
+    ManeuverBitmapCache cache = new ManeuverBitmapCache();
+    ManeuverViewUpdate update = mock(ManeuverViewUpdate.class);
+
+    Bitmap first = cache.retrieve(ROUNDABOUT, update, 1, 2, SIZE, 181f);
+    Bitmap second = cache.retrieve(ROUNDABOUT, update, 1, 2, SIZE, 179f);
+
+    assertSame(first, second);
+    verify(update).updateManeuverView(any(Canvas.class), eq(1), eq(2), any(PointF.class), eq(180f));
+  }
+
+  @Test
+  public void retrieve_unknownSizeIsNotRendered() {
+    ManeuverBitmapCache cache = new ManeuverBitmapCache();
+    ManeuverViewUpdate update = mock(ManeuverViewUpdate.class);
+
+    assertNull(cache.retrieve(TURN_RIGHT, update, 1, 2, null, 180f));
+    assertNull(cache.retrieve(TURN_RIGHT, update, 1, 2, new PointF(0f, 0f), 180f));
+    verify(update, never()).updateManeuverView(any(Canvas.class), anyInt(), anyInt(), any(PointF.class), anyFloat());
+  }
+}
@@ -0,0 +1,60 @@
+package com.mapbox.services.android.navigation.ui.v5.instruction.turnlane;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.view.ContextThemeWrapper;
+
+import com.mapbox.services.android.navigation.ui.v5.R;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+@RunWith(RobolectricTestRunner.class)
+public class TurnLaneBitmapCacheTest {
+
+  private Context context;
+  private TurnLaneBitmapCache cache;
+
+  @Before
+  public void setUp() {
+    context = new ContextThemeWrapper(RuntimeEnvironment.application, R.style.NavigationViewLight);
+    cache = new TurnLaneBitmapCache();
+  }
+
+  @Test
+  public void retrieve_laneIsRasterizedWithTheGivenSize() {
+    Bitmap bitmap = cache.retrieve(context, R.drawable.ic_lane_straight, 40, 60);
+
+    assertEquals(40, bitmap.getWidth());
+    assertEquals(60, bitmap.getHeight());
+  }
+
+  @Test
+  public void retrieve_sameLaneAndSizeIsRasterizedOnce() {
+    Bitmap first = cache.retrieve(context, R.drawable.ic_lane_straight, 40, 60);
+    Bitmap second = cache.retrieve(context, R.drawable.ic_lane_straight, 40, 60);
+
+    assertSame(first, second);
+  }
+
+  @Test
+  public void retrieve_otherSizeIsRasterizedAgain() {
+    Bitmap first = cache.retrieve(context, R.drawable.ic_lane_straight, 40, 60);
+    Bitmap second = cache.retrieve(context, R.drawable.ic_lane_straight, 80, 120);
+
+    assertNotSame(first, second);
+  }
+
+  @Test
+  public void retrieve_unknownSizeIsNotRasterized() {
+    assertNull(cache.retrieve(context, R.drawable.ic_lane_straight, 0, 0));
+  }
+}
@@ -2,24 +2,33 @@ package com.mapbox.services.android.navigation.ui.v5.map;
 
 import android.graphics.PointF;
 import android.location.Location;
+import android.os.SystemClock;
 
 import androidx.annotation.NonNull;
 
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxsdk.style.layers.PropertyValue;
 import com.mapbox.mapboxsdk.style.layers.SymbolLayer;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
 import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowLooper;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import static junit.framework.Assert.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -49,7 +58,7 @@ public class MapWayNameTest {
     MapWayName mapWayName = buildMapWayname(point, roads);
     List<Point> stepPoints = new ArrayList<>();
     stepPoints.add(mock(Point.class));
-    mapWayName.updateProgress(mock(Location.class), stepPoints);
+    mapWayName.updateProgress(mock(Location.class), buildRouteProgress(stepPoints, null));
     OnWayNameChangedListener listener = mock(OnWayNameChangedListener.class);
 
     mapWayName.addOnWayNameChangedListener(listener);
@@ -66,7 +75,7 @@ public class MapWayNameTest {
     MapWayName mapWayName = buildMapWayname(point, roads);
     List<Point> stepPoints = new ArrayList<>();
     stepPoints.add(mock(Point.class));
-    mapWayName.updateProgress(mock(Location.class), stepPoints);
+    mapWayName.updateProgress(mock(Location.class), buildRouteProgress(stepPoints, null));
     OnWayNameChangedListener listener = mock(OnWayNameChangedListener.class);
 
     mapWayName.removeOnWayNameChangedListener(listener);
@@ -89,6 +98,102 @@ public class MapWayNameTest {
     verify(waynameLayer, times(0)).setProperties(any(PropertyValue.class));
   }
 
+  @Test
+  public void onStepWithName_wayNameIsUpdatedWithStepName() {
+    PointF point = mock(PointF.class);
+    MapWayName mapWayName = buildMapWayname(point, buildRoadFeatureList("roadName"));
+    OnWayNameChangedListener listener = mock(OnWayNameChangedListener.class);
+    mapWayName.addOnWayNameChangedListener(listener);
+
+    mapWayName.updateProgress(mock(Location.class), buildRouteProgress(new ArrayList<Point>(), "stepName"));
+
+    verify(listener).onWayNameChanged("stepName");
+  }
+
+  @Test
+  public void onStepWithName_queryRenderedFeaturesIsNotCalled() {
+    String[] layerIds = {"streetsLayer"};
+    WaynameFeatureFinder featureFinder = mock(WaynameFeatureFinder.class);
+    MapWayName mapWayName = new MapWayName(featureFinder, mock(MapPaddingAdjustor.class));
+    mapWayName.updateWayNameQueryMap(true);
+    PointF point = mock(PointF.class);
+    mapWayName.updateProgress(mock(Location.class), buildRouteProgress(new ArrayList<Point>(), "stepName"));
+
+    mapWayName.updateWayNameWithPoint(point);
+
+    verify(featureFinder, never()).queryRenderedFeatures(point, layerIds);
+  }
+
+  @Test
+  public void onStepWithoutName_queryRenderedFeaturesIsThrottled() {
+    String[] layerIds = {"streetsLayer"};
+    WaynameFeatureFinder featureFinder = mock(WaynameFeatureFinder.class);
+    MapWayName mapWayName = new MapWayName(featureFinder, mock(MapPaddingAdjustor.class));
+    mapWayName.updateWayNameQueryMap(true);
+    PointF point = mock(PointF.class);
+
+    mapWayName.updateWayNameWithPoint(point);
+    mapWayName.updateWayNameWithPoint(point);
+
+    verify(featureFinder, times(1)).queryRenderedFeatures(point, layerIds);
+  }
+
+  @Test
+  public void onWayNameQueryMapDisabled_stepNameIsIgnored() {
+    MapWayName mapWayName = new MapWayName(mock(WaynameFeatureFinder.class), mock(MapPaddingAdjustor.class));
+    OnWayNameChangedListener listener = mock(OnWayNameChangedListener.class);
+    mapWayName.addOnWayNameChangedListener(listener);
+
+    mapWayName.updateProgress(mock(Location.class), buildRouteProgress(new ArrayList<Point>(), "stepName"));
+
+    verify(listener, never()).onWayNameChanged(anyString());
+  }
+
+  @Test
+  public void onRouteChanged_wayNameOfPreviousRouteSegmentIsNotReused() {
+    String[] layerIds = {"streetsLayer"};
+    PointF point = mock(PointF.class);
+    WaynameFeatureFinder featureFinder = mock(WaynameFeatureFinder.class);
+    when(featureFinder.queryRenderedFeatures(point, layerIds)).thenReturn(buildRoadFeatureList("previousRoad"));
+    MapWayName mapWayName = new MapWayName(featureFinder, mock(MapPaddingAdjustor.class));
+    mapWayName.updateWayNameQueryMap(true);
+    OnWayNameChangedListener listener = mock(OnWayNameChangedListener.class);
+    mapWayName.addOnWayNameChangedListener(listener);
+    List<Point> stepPoints = new ArrayList<>();
+    stepPoints.add(mock(Point.class));
+    mapWayName.updateProgress(mock(Location.class), buildRouteProgress(mock(DirectionsRoute.class), stepPoints, null));
+    mapWayName.updateWayNameWithPoint(point);
+    Robolectric.flushBackgroundThreadScheduler();
+    ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+    SystemClock.sleep(1000);
+
+    mapWayName.updateProgress(mock(Location.class), buildRouteProgress(mock(DirectionsRoute.class), stepPoints, null));
+    mapWayName.updateWayNameWithPoint(point);
+
+    verify(listener, times(1)).onWayNameChanged("previousRoad");
+    verify(featureFinder, times(2)).queryRenderedFeatures(point, layerIds);
+  }
+
+  @NonNull
+  private RouteProgress buildRouteProgress(List<Point> stepPoints, String stepName) {
+    return buildRouteProgress(null, stepPoints, stepName);
+  }
+
+  @NonNull
+  private RouteProgress buildRouteProgress(DirectionsRoute route, List<Point> stepPoints, String stepName) {
+    LegStep step = mock(LegStep.class);
+    when(step.name()).thenReturn(stepName);
+    RouteLegProgress legProgress = mock(RouteLegProgress.class);
+    when(legProgress.stepIndex()).thenReturn(0);
+    when(legProgress.currentStep()).thenReturn(step);
+    RouteProgress routeProgress = mock(RouteProgress.class);
+    when(routeProgress.directionsRoute()).thenReturn(route);
+    when(routeProgress.legIndex()).thenReturn(0);
+    when(routeProgress.currentLegProgress()).thenReturn(legProgress);
+    when(routeProgress.currentStepPoints()).thenReturn(stepPoints);
+    return routeProgress;
+  }
+
   @NonNull
   private MapWayName buildMapWayname(PointF point, List<Feature> roads) {
     String[] layerIds = {"streetsLayer"};
@@ -0,0 +1,99 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import android.os.Handler;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegAnnotation;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.CONGESTION_KEY;
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.LEG_INDEX_PROPERTY_KEY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class CongestionUpdateTaskTest {
+
+  private final List<Point> points = Arrays.asList(Point.fromLngLat(0, 0), Point.fromLngLat(0.001, 0),
+    Point.fromLngLat(0.002, 0));
+
+  @Test
+  public void run_onlyChangedLegsAreRebuilt() {
+    Feature routeFeature = Feature.fromGeometry(LineString.fromLngLats(points));
+    Feature firstLegFeature = buildCongestionFeature("low", 0);
+    Feature secondLegFeature = buildCongestionFeature("low", 1);
+    FeatureCollection routeFeatureCollection = FeatureCollection.fromFeatures(
+      Arrays.asList(routeFeature, firstLegFeature, secondLegFeature));
+    DirectionsRoute refreshedRoute = DirectionsRoute.builder()
+      .legs(Arrays.asList(buildLeg("low"), buildLeg("heavy")))
+      .build();
+    OnCongestionUpdatedCallback callback = mock(OnCongestionUpdatedCallback.class);
+    Handler mockedHandler = mock(Handler.class);
+    CongestionUpdateTask task = new CongestionUpdateTask(0, routeFeatureCollection, refreshedRoute,
+      Collections.singleton(1), new RouteGeometryPyramid(points), callback, mockedHandler);
+
+    task.run();
+
+    List<Feature> features = runPostedCallback(mockedHandler, callback).features();
+    assertEquals(3, features.size());
+    assertSame(routeFeature, features.get(0));
+    assertSame(firstLegFeature, features.get(1));
+    assertEquals("heavy", features.get(2).getStringProperty(CONGESTION_KEY));
+    assertEquals(1, features.get(2).getNumberProperty(LEG_INDEX_PROPERTY_KEY).intValue());
+  }
+
+  @Test
+  public void run_canceledTaskDoesNotCallBack() {
+    Handler mockedHandler = mock(Handler.class);
+    OnCongestionUpdatedCallback callback = mock(OnCongestionUpdatedCallback.class);
+    FeatureCollection routeFeatureCollection = FeatureCollection.fromFeatures(
+      Arrays.asList(Feature.fromGeometry(LineString.fromLngLats(points)), buildCongestionFeature("low", 0)));
+    DirectionsRoute refreshedRoute = DirectionsRoute.builder()
+      .legs(Collections.singletonList(buildLeg("heavy")))
+      .build();
+    CongestionUpdateTask task = new CongestionUpdateTask(0, routeFeatureCollection, refreshedRoute,
+      Collections.singleton(0), new RouteGeometryPyramid(points), callback, mockedHandler);
+    task.cancel();
+
+    task.run();
+
+    verify(mockedHandler, never()).post(any(Runnable.class));
+  }
+
+  private FeatureCollection runPostedCallback(Handler handler, OnCongestionUpdatedCallback callback) {
+    ArgumentCaptor<Runnable> runnable = ArgumentCaptor.forClass(Runnable.class);
+    verify(handler).post(runnable.capture());
+    runnable.getValue().run();
+    ArgumentCaptor<FeatureCollection> collection = ArgumentCaptor.forClass(FeatureCollection.class);
+    verify(callback).onCongestionUpdated(eq(0), collection.capture());
+    return collection.getValue();
+  }
+
+  private Feature buildCongestionFeature(String congestion, int legIndex) {
+    Feature feature = Feature.fromGeometry(LineString.fromLngLats(new ArrayList<>(points)));
+    feature.addStringProperty(CONGESTION_KEY, congestion);
+    feature.addNumberProperty(LEG_INDEX_PROPERTY_KEY, legIndex);
+    return feature;
+  }
+
+  private RouteLeg buildLeg(String congestion) {
+    LegAnnotation annotation = LegAnnotation.builder().congestion(Collections.singletonList(congestion)).build();
+    return RouteLeg.builder().annotation(annotation).build();
+  }
+}
@@ -0,0 +1,109 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.Point;
+import com.mapbox.mapboxsdk.maps.MapView;
+import com.mapbox.mapboxsdk.maps.MapboxMap;
+import com.mapbox.mapboxsdk.maps.Style;
+import com.mapbox.mapboxsdk.style.layers.Layer;
+import com.mapbox.mapboxsdk.style.layers.PropertyValue;
+import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MapRouteArrowTest {
+
+  private static final List<Point> CURRENT_STEP_POINTS = Arrays.asList(
+    Point.fromLngLat(-122.4, 37.7), Point.fromLngLat(-122.401, 37.701)
+  );
+  private static final List<Point> UPCOMING_STEP_POINTS = Arrays.asList(
+    Point.fromLngLat(-122.401, 37.701), Point.fromLngLat(-122.402, 37.701)
+  );
+
+  private GeoJsonSource shaftSource;
+  private GeoJsonSource headSource;
+  private Style style;
+  private MapRouteArrow routeArrow;
+
+  @Before
+  public void setUp() {
+    shaftSource = mock(GeoJsonSource.class);
+    headSource = mock(GeoJsonSource.class);
+    style = mock(Style.class);
+    Layer layer = mock(Layer.class);
+    PropertyValue visibility = mock(PropertyValue.class);
+    when(layer.getVisibility()).thenReturn(visibility);
+    when(style.getLayer(anyString())).thenReturn(layer);
+    MapboxMap mapboxMap = mock(MapboxMap.class);
+    when(mapboxMap.getStyle()).thenReturn(style);
+    List<String> layerIds = new ArrayList<>(Arrays.asList("shaft", "head"));
+    routeArrow = new MapRouteArrow(mock(MapView.class), mapboxMap, shaftSource, headSource, layerIds);
+  }
+
+  @Test
+  public void addUpcomingManeuverArrow_sameStepIsNotUpdatedAgain() {
+    DirectionsRoute route = mock(DirectionsRoute.class);
+
+    routeArrow.addUpcomingManeuverArrow(buildRouteProgress(route, 0, 1));
+    routeArrow.addUpcomingManeuverArrow(buildRouteProgress(route, 0, 1));
+
+    verify(shaftSource, times(1)).setGeoJson(any(Feature.class));
+    verify(headSource, times(1)).setGeoJson(any(Feature.class));
+  }
+
+  @Test
+  public void addUpcomingManeuverArrow_newStepIsUpdated() {
+    DirectionsRoute route = mock(DirectionsRoute.class);
+
+    routeArrow.addUpcomingManeuverArrow(buildRouteProgress(route, 0, 1));
+    routeArrow.addUpcomingManeuverArrow(buildRouteProgress(route, 0, 2));
+
+    verify(shaftSource, times(2)).setGeoJson(any(Feature.class));
+  }
+
+  @Test
+  public void addUpcomingManeuverArrow_newRouteIsUpdated() {
+    routeArrow.addUpcomingManeuverArrow(buildRouteProgress(mock(DirectionsRoute.class), 0, 1));
+    routeArrow.addUpcomingManeuverArrow(buildRouteProgress(mock(DirectionsRoute.class), 0, 1));
+
+    verify(shaftSource, times(2)).setGeoJson(any(Feature.class));
+  }
+
+  @Test
+  public void addUpcomingManeuverArrow_unchangedVisibilityIsNotUpdatedAgain() {
+    DirectionsRoute route = mock(DirectionsRoute.class);
+
+    routeArrow.addUpcomingManeuverArrow(buildRouteProgress(route, 0, 1));
+    routeArrow.addUpcomingManeuverArrow(buildRouteProgress(route, 0, 1));
+    routeArrow.addUpcomingManeuverArrow(buildRouteProgress(route, 0, 2));
+
+    verify(style, times(2)).getLayer(anyString());
+  }
+
+  private RouteProgress buildRouteProgress(DirectionsRoute route, int legIndex, int stepIndex) {
+    RouteLegProgress legProgress = mock(RouteLegProgress.class);
+    when(legProgress.stepIndex()).thenReturn(stepIndex);
+    RouteProgress routeProgress = mock(RouteProgress.class);
+    when(routeProgress.directionsRoute()).thenReturn(route);
+    when(routeProgress.legIndex()).thenReturn(legIndex);
+    when(routeProgress.currentLegProgress()).thenReturn(legProgress);
+    when(routeProgress.currentStepPoints()).thenReturn(CURRENT_STEP_POINTS);
+    when(routeProgress.upcomingStepPoints()).thenReturn(UPCOMING_STEP_POINTS);
+    return routeProgress;
+  }
+}
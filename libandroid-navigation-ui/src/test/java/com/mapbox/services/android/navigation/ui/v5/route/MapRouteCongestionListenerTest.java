@@ -0,0 +1,36 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.v5.navigation.CongestionRange;
+import com.mapbox.services.android.navigation.v5.navigation.RouteAnnotations;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MapRouteCongestionListenerTest {
+
+  @Test
+  public void onRouteAnnotationsRefresh_changedLegsAreRedrawn() {
+    MapRouteLine routeLine = mock(MapRouteLine.class);
+    DirectionsRoute refreshedRoute = mock(DirectionsRoute.class);
+    RouteAnnotations routeAnnotations = mock(RouteAnnotations.class);
+    when(routeAnnotations.getRoute()).thenReturn(refreshedRoute);
+    CongestionRange firstRange = mock(CongestionRange.class);
+    when(firstRange.getLegIndex()).thenReturn(1);
+    CongestionRange secondRange = mock(CongestionRange.class);
+    when(secondRange.getLegIndex()).thenReturn(1);
+    MapRouteCongestionListener listener = new MapRouteCongestionListener(routeLine);
+
+    listener.onRouteAnnotationsRefresh(routeAnnotations, Arrays.asList(firstRange, secondRange));
+
+    verify(routeLine).updateCongestion(eq(refreshedRoute), eq(new HashSet<>(Collections.singletonList(1))));
+  }
+}
@@ -11,6 +11,7 @@ import java.util.List;
 
 import edu.emory.mathcs.backport.java.util.Collections;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -71,6 +72,24 @@ public class NavigationMapRouteTest {
       .addProgressChangeListener(eq(mockedProgressChangeListener));
   }
 
+  @Test
+  public void checksMapRouteCongestionListenerIsAddedAtConstructionTime() {
+    MapboxNavigation mockedNavigation = mock(MapboxNavigation.class);
+    MapView mockedMapView = mock(MapView.class);
+    MapboxMap mockedMapboxMap = mock(MapboxMap.class);
+    int mockedStyleRes = 0;
+    MapRouteClickListener mockedMapClickListener = mock(MapRouteClickListener.class);
+    MapView.OnDidFinishLoadingStyleListener mockedDidFinishLoadingStyleListener =
+      mock(MapView.OnDidFinishLoadingStyleListener.class);
+    MapRouteProgressChangeListener mockedProgressChangeListener = mock(MapRouteProgressChangeListener.class);
+
+    new NavigationMapRoute(mockedNavigation, mockedMapView, mockedMapboxMap, mockedStyleRes, "",
+      mockedMapClickListener, mockedDidFinishLoadingStyleListener, mockedProgressChangeListener);
+
+    verify(mockedNavigation, times(1))
+      .addRouteAnnotationsListener(any(MapRouteCongestionListener.class));
+  }
+
   @Test
   public void checksMapClickListenerIsNotAddedIfIsMapClickListenerAdded() {
     MapboxNavigation mockedNavigation = mock(MapboxNavigation.class);
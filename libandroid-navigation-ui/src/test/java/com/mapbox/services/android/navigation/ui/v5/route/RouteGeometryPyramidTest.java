@@ -0,0 +1,75 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class RouteGeometryPyramidTest {
+
+  @Test
+  public void retrievePoints_straightLineKeepsEndpoints() {
+    List<Point> points = buildStraightLine(100);
+    RouteGeometryPyramid pyramid = new RouteGeometryPyramid(points);
+
+    List<Point> levelPoints = pyramid.retrievePoints(RouteGeometryPyramid.LEVEL_DETAILED);
+
+    assertEquals(2, levelPoints.size());
+    assertEquals(points.get(0), levelPoints.get(0));
+    assertEquals(points.get(99), levelPoints.get(1));
+  }
+
+  @Test
+  public void retrievePoints_cornerIsKept() {
+    List<Point> points = buildStraightLine(50);
+    for (int i = 1; i <= 50; i++) {
+      points.add(Point.fromLngLat(0.049, 0.001 * i));
+    }
+    RouteGeometryPyramid pyramid = new RouteGeometryPyramid(points);
+
+    List<Point> levelPoints = pyramid.retrievePoints(RouteGeometryPyramid.LEVEL_ALTERNATIVE);
+
+    assertEquals(3, levelPoints.size());
+    assertEquals(points.get(49), levelPoints.get(1));
+  }
+
+  @Test
+  public void retrievePoints_partKeepsItsEndpoints() {
+    List<Point> points = buildStraightLine(100);
+    RouteGeometryPyramid pyramid = new RouteGeometryPyramid(points);
+
+    List<Point> levelPoints = pyramid.retrievePoints(RouteGeometryPyramid.LEVEL_DETAILED, 10, 20);
+
+    assertEquals(2, levelPoints.size());
+    assertEquals(points.get(10), levelPoints.get(0));
+    assertEquals(points.get(20), levelPoints.get(1));
+  }
+
+  @Test
+  public void retrievePoints_coarserLevelHasFewerPoints() {
+    List<Point> points = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      points.add(Point.fromLngLat(0.0001 * i, 0.00003 * Math.sin(i)));
+    }
+    RouteGeometryPyramid pyramid = new RouteGeometryPyramid(points);
+
+    int detailedSize = pyramid.retrievePoints(RouteGeometryPyramid.LEVEL_DETAILED).size();
+    int alternativeSize = pyramid.retrievePoints(RouteGeometryPyramid.LEVEL_ALTERNATIVE).size();
+
+    assertTrue(alternativeSize < detailedSize);
+    assertTrue(detailedSize < points.size());
+  }
+
+  private List<Point> buildStraightLine(int size) {
+    List<Point> points = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      points.add(Point.fromLngLat(0.001 * i, 0));
+    }
+    return points;
+  }
+}
@@ -0,0 +1,101 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import android.graphics.Color;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.mapboxsdk.style.expressions.Expression;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.CONGESTION_KEY;
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.MODERATE_CONGESTION_VALUE;
+import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.SEVERE_CONGESTION_VALUE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+public class RouteLineGradientTest {
+
+  @Test
+  public void buildRouteExpression_withoutCongestionHasOneStop() {
+    List<Feature> features = new ArrayList<>();
+    features.add(Feature.fromGeometry(buildLine(0, 2)));
+    RouteLineGradient gradient = buildGradient(features);
+
+    Expression expression = gradient.buildRouteExpression(0.5f);
+
+    assertEquals(5, expression.toArray().length);
+  }
+
+  @Test
+  public void buildRouteExpression_keepsCongestionStopsAfterTheFraction() {
+    RouteLineGradient gradient = buildGradient(buildCongestionFeatures());
+
+    Expression expression = gradient.buildRouteExpression(0.25f);
+
+    assertEquals(7, expression.toArray().length);
+  }
+
+  @Test
+  public void buildRouteExpression_dropsCongestionStopsBeforeTheFraction() {
+    RouteLineGradient gradient = buildGradient(buildCongestionFeatures());
+
+    Expression expression = gradient.buildRouteExpression(0.75f);
+
+    assertEquals(5, expression.toArray().length);
+  }
+
+  @Test
+  public void buildRouteExpression_skipsZeroLengthCongestionSegments() {
+    List<Feature> features = buildCongestionFeatures();
+    features.add(2, Feature.fromGeometry(buildLine(1, 1)));
+    RouteLineGradient gradient = buildGradient(features);
+
+    Expression expression = gradient.buildRouteExpression(0.25f);
+
+    Object[] stops = expression.toArray();
+    assertEquals(7, stops.length);
+    assertTrue(((Number) stops[3]).floatValue() < ((Number) stops[5]).floatValue());
+  }
+
+  @Test
+  public void buildShieldExpression_hasOneStop() {
+    RouteLineGradient gradient = buildGradient(buildCongestionFeatures());
+
+    Expression expression = gradient.buildShieldExpression(0.25f);
+
+    assertEquals(5, expression.toArray().length);
+  }
+
+  private List<Feature> buildCongestionFeatures() {
+    List<Feature> features = new ArrayList<>();
+    features.add(Feature.fromGeometry(buildLine(0, 2)));
+    Feature moderateFeature = Feature.fromGeometry(buildLine(0, 1));
+    moderateFeature.addStringProperty(CONGESTION_KEY, MODERATE_CONGESTION_VALUE);
+    features.add(moderateFeature);
+    Feature severeFeature = Feature.fromGeometry(buildLine(1, 2));
+    severeFeature.addStringProperty(CONGESTION_KEY, SEVERE_CONGESTION_VALUE);
+    features.add(severeFeature);
+    return features;
+  }
+
+  private LineString buildLine(double fromLongitude, double toLongitude) {
+    List<Point> points = new ArrayList<>();
+    points.add(Point.fromLngLat(fromLongitude * 0.01, 0));
+    points.add(Point.fromLngLat(toLongitude * 0.01, 0));
+    return LineString.fromLngLats(points);
+  }
+
+  private RouteLineGradient buildGradient(List<Feature> features) {
+    return new RouteLineGradient(FeatureCollection.fromFeatures(features),
+      Color.BLUE, Color.YELLOW, Color.RED, Color.WHITE);
+  }
+}
@@ -3,6 +3,7 @@ package com.mapbox.services.android.navigation.ui.v5.summary.list;
 import android.text.SpannableString;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListUpdateCallback;
 
 import com.mapbox.api.directions.v5.models.BannerInstructions;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
@@ -23,8 +24,11 @@ import static junit.framework.Assert.assertNull;
 import static junit.framework.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -97,6 +101,51 @@ public class InstructionListPresenterTest extends BaseTest {
     verify(listView).updateManeuverViewDrivingSide(anyString());
   }
 
+  @Test
+  public void onBindInstructionListView_distanceTextIsFormattedOnce() throws Exception {
+    RouteProgress routeProgress = buildRouteProgress();
+    DistanceFormatter distanceFormatter = buildDistanceFormatter();
+    InstructionListPresenter presenter = buildPresenter(distanceFormatter);
+    presenter.updateBannerListWith(routeProgress);
+    InstructionListView listView = mock(InstructionListView.class);
+
+    presenter.onBindInstructionListViewAtPosition(0, listView);
+    presenter.onBindInstructionListViewAtPosition(0, listView);
+
+    verify(distanceFormatter, times(1)).formatDistance(anyDouble());
+  }
+
+  @Test
+  public void dispatchUpdatesTo_newLegRowsAreInserted() throws Exception {
+    RouteProgress routeProgress = buildRouteProgress();
+    InstructionListPresenter presenter = buildPresenter(buildDistanceFormatter());
+    presenter.updateBannerListWith(routeProgress);
+    ListUpdateCallback callback = mock(ListUpdateCallback.class);
+
+    presenter.dispatchUpdatesTo(callback);
+
+    verify(callback).onInserted(0, presenter.retrieveBannerInstructionListSize());
+  }
+
+  @Test
+  public void dispatchUpdatesTo_passedRowsAreRemoved() throws Exception {
+    RouteProgress routeProgress = buildRouteProgress();
+    InstructionListPresenter presenter = buildPresenter(buildDistanceFormatter());
+    presenter.updateBannerListWith(routeProgress);
+    presenter.dispatchUpdatesTo(null);
+    int previousSize = presenter.retrieveBannerInstructionListSize();
+    long lastId = presenter.retrieveBannerInstructionIdAtPosition(previousSize - 1);
+    ListUpdateCallback callback = mock(ListUpdateCallback.class);
+
+    presenter.updateBannerListWith(routeProgress.toBuilder().stepIndex(1).stepDistanceRemaining(500).build());
+    presenter.dispatchUpdatesTo(callback);
+
+    int removedCount = previousSize - presenter.retrieveBannerInstructionListSize();
+    verify(callback).onRemoved(0, removedCount);
+    verify(callback, never()).onInserted(anyInt(), anyInt());
+    assertEquals(lastId, presenter.retrieveBannerInstructionIdAtPosition(previousSize - removedCount - 1));
+  }
+
   @Test
   public void retrieveBannerInstructionListSize_returnsCorrectListSize() throws Exception {
     RouteProgress routeProgress = buildRouteProgress();
@@ -24,11 +24,11 @@ public class InstructionCacheCallbackTest {
     when(response.body()).thenReturn(body);
     String url = "http://some.url";
     Call call = buildMockCall(url);
-    InstructionCacheCallback callback = new InstructionCacheCallback(loader);
+    InstructionCacheCallback callback = new InstructionCacheCallback(loader, 0, "any_instruction", null);
 
     callback.onResponse(call, response);
 
-    verify(loader).addCachedUrl(eq(url));
+    verify(loader).addCachedUrl(eq(0), eq(url));
   }
 
   @Test
@@ -39,7 +39,7 @@ public class InstructionCacheCallbackTest {
     when(response.body()).thenReturn(body);
     String url = "http://some.url";
     Call call = buildMockCall(url);
-    InstructionCacheCallback callback = new InstructionCacheCallback(loader);
+    InstructionCacheCallback callback = new InstructionCacheCallback(loader, 0, "any_instruction", null);
 
     callback.onResponse(call, response);
 
@@ -52,13 +52,40 @@ public class InstructionCacheCallbackTest {
     Response<ResponseBody> response = mock(Response.class);
     String url = "http://some.url";
     Call call = buildMockCall(url);
-    InstructionCacheCallback callback = new InstructionCacheCallback(loader);
+    InstructionCacheCallback callback = new InstructionCacheCallback(loader, 0, "any_instruction", null);
 
     callback.onResponse(call, response);
 
     verifyZeroInteractions(loader);
   }
 
+  @Test
+  public void onResponse_listenerIsNotified() {
+    VoiceInstructionLoader loader = mock(VoiceInstructionLoader.class);
+    InstructionCacheListener listener = mock(InstructionCacheListener.class);
+    Response<ResponseBody> response = mock(Response.class);
+    ResponseBody body = mock(ResponseBody.class);
+    when(response.body()).thenReturn(body);
+    Call call = buildMockCall("http://some.url");
+    InstructionCacheCallback callback = new InstructionCacheCallback(loader, 0, "any_instruction", listener);
+
+    callback.onResponse(call, response);
+
+    verify(listener).onInstructionCached(eq("any_instruction"), eq(true));
+  }
+
+  @Test
+  public void onFailure_listenerIsNotified() {
+    VoiceInstructionLoader loader = mock(VoiceInstructionLoader.class);
+    InstructionCacheListener listener = mock(InstructionCacheListener.class);
+    Call call = buildMockCall("http://some.url");
+    InstructionCacheCallback callback = new InstructionCacheCallback(loader, 0, "any_instruction", listener);
+
+    callback.onFailure(call, new Throwable());
+
+    verify(listener).onInstructionCached(eq("any_instruction"), eq(false));
+  }
+
   private Call buildMockCall(String stringUrl) {
     Call call = mock(Call.class);
     Request request = mock(Request.class);
@@ -2,6 +2,7 @@ package com.mapbox.services.android.navigation.ui.v5.voice;
 
 import android.content.Context;
 
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.services.android.navigation.ui.v5.ConnectivityStatusProvider;
 
 import org.junit.Test;
@@ -11,6 +12,8 @@ import java.util.Locale;
 import static junit.framework.Assert.assertNotNull;
 import static junit.framework.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class SpeechPlayerProviderTest {
@@ -97,6 +100,16 @@ public class SpeechPlayerProviderTest {
     assertTrue(speechPlayer instanceof MapboxSpeechPlayer);
   }
 
+  @Test
+  public void mapboxSpeechPlayerRetrieved_routeIsNotPreSynthesized() {
+    SpeechPlayerProvider provider = buildSpeechPlayerProvider(true);
+    DirectionsRoute route = mock(DirectionsRoute.class);
+
+    provider.preSynthesize(route);
+
+    verify(route, never()).legs();
+  }
+
   private SpeechPlayerProvider buildSpeechPlayerProvider(boolean voiceLanguageSupported) {
     Context context = mock(Context.class);
     String language = Locale.US.getLanguage();
@@ -0,0 +1,165 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import android.os.Handler;
+import android.speech.tts.TextToSpeech;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SpeechSynthesizerTest {
+
+  private TextToSpeech textToSpeech;
+  private SynthesizedSpeechCache cache;
+  private SpeechSynthesizer speechSynthesizer;
+
+  @Before
+  public void setUp() {
+    textToSpeech = mock(TextToSpeech.class);
+    when(textToSpeech.synthesizeToFile(anyString(), any(HashMap.class), anyString())).thenReturn(TextToSpeech.SUCCESS);
+    cache = mock(SynthesizedSpeechCache.class);
+    when(cache.isLoaded()).thenReturn(true);
+    when(cache.fileFor(anyString())).thenReturn(new File("synthesized.wav"));
+    Handler handler = mock(Handler.class);
+    when(handler.post(any(Runnable.class))).thenAnswer(new Answer<Boolean>() {
+      @Override
+      public Boolean answer(InvocationOnMock invocation) {
+        ((Runnable) invocation.getArgument(0)).run();
+        return true;
+      }
+    });
+    speechSynthesizer = new SpeechSynthesizer(textToSpeech, cache, handler);
+  }
+
+  @Test
+  public void preSynthesize_firstAnnouncementIsSynthesized() {
+    speechSynthesizer.setLocale(Locale.ENGLISH);
+
+    speechSynthesizer.preSynthesize(Arrays.asList("first", "second"));
+
+    verify(textToSpeech).synthesizeToFile(eq("first"), any(HashMap.class), anyString());
+    verify(textToSpeech, never()).synthesizeToFile(eq("second"), any(HashMap.class), anyString());
+  }
+
+  @Test
+  public void preSynthesize_nothingIsSynthesizedBeforeCacheIsLoaded() {
+    when(cache.isLoaded()).thenReturn(false);
+    speechSynthesizer.setLocale(Locale.ENGLISH);
+
+    speechSynthesizer.preSynthesize(Arrays.asList("first", "second"));
+
+    verify(textToSpeech, never()).synthesizeToFile(anyString(), any(HashMap.class), anyString());
+  }
+
+  @Test
+  public void onSynthesized_nextAnnouncementIsSynthesized() {
+    speechSynthesizer.setLocale(Locale.ENGLISH);
+    speechSynthesizer.preSynthesize(Arrays.asList("first", "second"));
+
+    speechSynthesizer.onSynthesized(lastUtteranceId(), true);
+
+    verify(cache).put(SynthesizedSpeechCache.keyFor("first", Locale.ENGLISH));
+    verify(textToSpeech).synthesizeToFile(eq("second"), any(HashMap.class), anyString());
+  }
+
+  @Test
+  public void onSynthesized_stoppedSynthesisDoesNotStallNextOnes() {
+    speechSynthesizer.setLocale(Locale.ENGLISH);
+    speechSynthesizer.preSynthesize(Arrays.asList("first", "second"));
+
+    speechSynthesizer.onSynthesized(lastUtteranceId(), false);
+
+    verify(cache, never()).put(anyString());
+    verify(textToSpeech).synthesizeToFile(eq("second"), any(HashMap.class), anyString());
+  }
+
+  @Test
+  public void preSynthesize_synthesisInProgressIsReplaced() {
+    speechSynthesizer.setLocale(Locale.ENGLISH);
+    speechSynthesizer.preSynthesize(Arrays.asList("first", "second"));
+
+    speechSynthesizer.preSynthesize(Arrays.asList("rerouted"));
+
+    verify(textToSpeech).stop();
+    verify(textToSpeech).synthesizeToFile(eq("rerouted"), any(HashMap.class), anyString());
+  }
+
+  @Test
+  public void onAnnouncementQueued_synthesisIsCancelledUntilAnnouncementIsDone() {
+    speechSynthesizer.setLocale(Locale.ENGLISH);
+    speechSynthesizer.preSynthesize(Arrays.asList("first", "second"));
+
+    speechSynthesizer.onAnnouncementQueued();
+    speechSynthesizer.retrieveEarcon("other");
+
+    verify(textToSpeech).stop();
+    verify(textToSpeech, times(1)).synthesizeToFile(eq("first"), any(HashMap.class), anyString());
+
+    speechSynthesizer.onAnnouncementDone();
+
+    verify(textToSpeech, times(2)).synthesizeToFile(eq("first"), any(HashMap.class), anyString());
+  }
+
+  @Test
+  public void onSynthesized_cancelledSynthesisIsIgnored() {
+    speechSynthesizer.setLocale(Locale.ENGLISH);
+    speechSynthesizer.preSynthesize(Arrays.asList("first", "second"));
+    String cancelledUtteranceId = lastUtteranceId();
+    speechSynthesizer.onAnnouncementQueued();
+    speechSynthesizer.onAnnouncementDone();
+
+    speechSynthesizer.onSynthesized(cancelledUtteranceId, false);
+
+    verify(textToSpeech, never()).synthesizeToFile(eq("second"), any(HashMap.class), anyString());
+  }
+
+  @Test
+  public void onStopped_synthesisResumes() {
+    speechSynthesizer.setLocale(Locale.ENGLISH);
+    speechSynthesizer.preSynthesize(Arrays.asList("first", "second"));
+    speechSynthesizer.onAnnouncementQueued();
+
+    speechSynthesizer.onStopped();
+
+    verify(textToSpeech, times(2)).synthesizeToFile(eq("first"), any(HashMap.class), anyString());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shutdown_postedCallbacksDontSynthesize() {
+    speechSynthesizer.setLocale(Locale.ENGLISH);
+    speechSynthesizer.preSynthesize(Arrays.asList("first", "second"));
+    String utteranceId = lastUtteranceId();
+
+    speechSynthesizer.shutdown();
+    speechSynthesizer.onSynthesized(utteranceId, true);
+    speechSynthesizer.onAnnouncementDone();
+
+    verify(cache, never()).put(anyString());
+    verify(textToSpeech, never()).synthesizeToFile(eq("second"), any(HashMap.class), anyString());
+  }
+
+  private String lastUtteranceId() {
+    ArgumentCaptor<HashMap> params = ArgumentCaptor.forClass(HashMap.class);
+    verify(textToSpeech, atLeastOnce()).synthesizeToFile(anyString(), params.capture(), anyString());
+    HashMap<String, String> lastParams = params.getValue();
+    return lastParams.get(TextToSpeech.Engine.KEY_PARAM_UTTERANCE_ID);
+  }
+}
@@ -0,0 +1,122 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class SynthesizedSpeechCacheTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void keyFor_differsByLocale() {
+    String english = SynthesizedSpeechCache.keyFor("Turn right", Locale.ENGLISH);
+    String german = SynthesizedSpeechCache.keyFor("Turn right", Locale.GERMAN);
+
+    assertNotEquals(english, german);
+    assertEquals(english, SynthesizedSpeechCache.keyFor("Turn right", Locale.ENGLISH));
+  }
+
+  @Test
+  public void put_synthesizedFileIsCached() throws IOException {
+    SynthesizedSpeechCache cache = buildLoadedCache();
+    writeFile(cache.fileFor("key"), 10);
+
+    cache.put("key");
+
+    assertNotNull(cache.get("key"));
+    assertEquals(10, cache.size());
+  }
+
+  @Test
+  public void put_missingFileIsIgnored() {
+    SynthesizedSpeechCache cache = buildLoadedCache();
+
+    cache.put("key");
+
+    assertNull(cache.get("key"));
+  }
+
+  @Test
+  public void put_leastRecentlyUsedFileIsEvictedOverBudget() throws IOException {
+    SynthesizedSpeechCache cache = buildLoadedCache();
+    writeFile(cache.fileFor("first"), 50);
+    cache.put("first");
+    writeFile(cache.fileFor("second"), 50);
+    cache.put("second");
+    cache.get("first");
+    writeFile(cache.fileFor("third"), 50);
+
+    cache.put("third");
+
+    assertNull(cache.get("second"));
+    assertFalse(cache.fileFor("second").exists());
+    assertNotNull(cache.get("first"));
+    assertNotNull(cache.get("third"));
+    assertEquals(100, cache.size());
+  }
+
+  @Test
+  public void filesAreLoadedFromPreviousSession() throws IOException {
+    SynthesizedSpeechCache previousCache = buildLoadedCache();
+    writeFile(previousCache.fileFor("key"), 10);
+    previousCache.put("key");
+
+    SynthesizedSpeechCache cache = buildLoadedCache();
+
+    assertNotNull(cache.get("key"));
+    assertEquals(10, cache.size());
+  }
+
+  @Test
+  public void put_beforeLoadIsKeptAsMostRecentlyUsed() throws IOException {
+    SynthesizedSpeechCache previousCache = buildLoadedCache();
+    writeFile(previousCache.fileFor("previous"), 60);
+    previousCache.put("previous");
+    SynthesizedSpeechCache cache = new SynthesizedSpeechCache(temporaryFolder.getRoot(), 100);
+    writeFile(cache.fileFor("current"), 60);
+    cache.put("current");
+
+    cache.load();
+
+    assertNull(cache.get("previous"));
+    assertNotNull(cache.get("current"));
+    assertEquals(60, cache.size());
+  }
+
+  @Test
+  public void get_beforeLoadMisses() throws IOException {
+    SynthesizedSpeechCache previousCache = buildLoadedCache();
+    writeFile(previousCache.fileFor("key"), 10);
+    previousCache.put("key");
+
+    SynthesizedSpeechCache cache = new SynthesizedSpeechCache(temporaryFolder.getRoot(), 100);
+
+    assertFalse(cache.isLoaded());
+    assertNull(cache.get("key"));
+  }
+
+  private SynthesizedSpeechCache buildLoadedCache() {
+    SynthesizedSpeechCache cache = new SynthesizedSpeechCache(temporaryFolder.getRoot(), 100);
+    cache.load();
+    return cache;
+  }
+
+  private void writeFile(File file, int length) throws IOException {
+    FileOutputStream outputStream = new FileOutputStream(file);
+    outputStream.write(new byte[length]);
+    outputStream.close();
+  }
+}
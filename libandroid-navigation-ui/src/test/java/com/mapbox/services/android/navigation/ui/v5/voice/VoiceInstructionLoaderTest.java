@@ -9,16 +9,20 @@ import com.mapbox.services.android.navigation.ui.v5.ConnectivityStatusProvider;
 import org.junit.Test;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import okhttp3.Cache;
 import retrofit2.Callback;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,21 +30,70 @@ import static org.mockito.Mockito.when;
 public class VoiceInstructionLoaderTest extends BaseTest {
 
   @Test
-  public void checksEvictFourInstructions() throws Exception {
+  public void checksEvictPassedInstructions() throws Exception {
     Context anyContext = mock(Context.class);
     Cache aCache = mock(Cache.class);
     List<String> urlsToBeCached = buildUrlsToCache();
-    urlsToBeCached.remove(4);
-    Iterator<String> urlsCached = urlsToBeCached.iterator();
-    when(aCache.urls()).thenReturn(urlsCached);
+    when(aCache.urls()).thenReturn(new ArrayList<>(urlsToBeCached).iterator());
     VoiceInstructionLoader theVoiceInstructionLoader = new VoiceInstructionLoader(anyContext, "any_access_token",
       aCache);
-    List<String> urlsToCache = buildUrlsToCache();
-    theVoiceInstructionLoader.addStubUrlsToCache(urlsToCache);
+    for (int i = 0; i < urlsToBeCached.size(); i++) {
+      theVoiceInstructionLoader.addCachedUrl(i, urlsToBeCached.get(i));
+    }
+    theVoiceInstructionLoader.markAsPassed(0);
+    theVoiceInstructionLoader.markAsPassed(1);
 
     List<String> urlsEvicted = theVoiceInstructionLoader.evictVoiceInstructions();
 
-    assertEquals(4, urlsEvicted.size());
+    assertEquals(urlsToBeCached.subList(0, 2), urlsEvicted);
+  }
+
+  @Test
+  public void checksRepeatedInstructionNotEvictedWhileStillAhead() throws Exception {
+    Context anyContext = mock(Context.class);
+    Cache aCache = mock(Cache.class);
+    String repeatedUrl = buildUrlsToCache().get(0);
+    when(aCache.urls()).thenReturn(new ArrayList<>(Collections.singletonList(repeatedUrl)).iterator());
+    VoiceInstructionLoader theVoiceInstructionLoader = new VoiceInstructionLoader(anyContext, "any_access_token",
+      aCache);
+    theVoiceInstructionLoader.addCachedUrl(0, repeatedUrl);
+    theVoiceInstructionLoader.addCachedUrl(5, repeatedUrl);
+    theVoiceInstructionLoader.markAsPassed(0);
+
+    assertTrue(theVoiceInstructionLoader.evictVoiceInstructions().isEmpty());
+
+    theVoiceInstructionLoader.markAsPassed(5);
+
+    assertEquals(Collections.singletonList(repeatedUrl), theVoiceInstructionLoader.evictVoiceInstructions());
+  }
+
+  @Test
+  public void checksNothingEvictedWithoutPassedInstructions() throws Exception {
+    Context anyContext = mock(Context.class);
+    Cache aCache = mock(Cache.class);
+    VoiceInstructionLoader theVoiceInstructionLoader = new VoiceInstructionLoader(anyContext, "any_access_token",
+      aCache);
+    theVoiceInstructionLoader.addCachedUrl(0, buildUrlsToCache().get(0));
+
+    List<String> urlsEvicted = theVoiceInstructionLoader.evictVoiceInstructions();
+
+    assertTrue(urlsEvicted.isEmpty());
+    verify(aCache, never()).urls();
+  }
+
+  @Test
+  public void checksListenerNotifiedIfRequestNotEnqueued() {
+    Cache anyCache = mock(Cache.class);
+    when(anyCache.isClosed()).thenReturn(true);
+    ConnectivityStatusProvider connectivityStatus = mock(ConnectivityStatusProvider.class);
+    Context context = mock(Context.class);
+    VoiceInstructionLoader theVoiceInstructionLoader = new VoiceInstructionLoader(context, "any_access_token",
+      anyCache, null, connectivityStatus);
+    InstructionCacheListener aListener = mock(InstructionCacheListener.class);
+
+    theVoiceInstructionLoader.cacheInstruction(0, "anyInstruction", aListener);
+
+    verify(aListener).onInstructionCached(eq("anyInstruction"), eq(false));
   }
 
   @Test
@@ -63,6 +116,27 @@ public class VoiceInstructionLoaderTest extends BaseTest {
     verify(aSpeech, times(1)).enqueueCall(eq(aCallback));
   }
 
+  @Test
+  public void checksDeprecatedCacheInstructionsRequestsEachInstruction() {
+    Cache anyCache = mock(Cache.class);
+    when(anyCache.isClosed()).thenReturn(false);
+    MapboxSpeech.Builder aSpeechBuilder = mock(MapboxSpeech.Builder.class);
+    when(aSpeechBuilder.instruction(anyString())).thenReturn(aSpeechBuilder);
+    when(aSpeechBuilder.textType(anyString())).thenReturn(aSpeechBuilder);
+    MapboxSpeech aSpeech = mock(MapboxSpeech.class);
+    when(aSpeechBuilder.build()).thenReturn(aSpeech);
+    ConnectivityStatusProvider connectivityStatus = mock(ConnectivityStatusProvider.class);
+    Context context = mock(Context.class);
+    VoiceInstructionLoader theVoiceInstructionLoader = new VoiceInstructionLoader(context, "any_access_token",
+      anyCache, aSpeechBuilder, connectivityStatus);
+
+    theVoiceInstructionLoader.cacheInstructions(Arrays.asList("firstInstruction", "secondInstruction"));
+
+    verify(aSpeechBuilder).instruction(eq("firstInstruction"));
+    verify(aSpeechBuilder).instruction(eq("secondInstruction"));
+    verify(aSpeech, times(2)).enqueueCall(any(Callback.class));
+  }
+
   @Test
   public void checksRequestNotEnqueuedIfCacheIsClosed() {
     Cache anyCache = mock(Cache.class);
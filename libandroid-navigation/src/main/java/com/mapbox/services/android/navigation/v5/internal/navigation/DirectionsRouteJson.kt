@@ -0,0 +1,59 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.services.android.navigation.v5.internal.utils.WeakIdentityCache
+
+/**
+ * Keeps the JSON a [DirectionsRoute] was parsed from, so that it isn't serialized again when handed to the navigator.
+ * That's the JSON of the routes of a [com.mapbox.services.android.navigation.v5.navigation.NavigationRoute] response,
+ * of an offline route, and of a route restored by the navigation launcher. Routes built afterwards, such as refreshed
+ * routes, are serialized.
+ *
+ * Only the last few parsed routes are kept, by identity and without preventing them from being collected.
+ */
+object DirectionsRouteJson {
+
+    private const val MAX_ROUTES = 4
+    private val routeJson = WeakIdentityCache<DirectionsRoute, String>(MAX_ROUTES)
+
+    /**
+     * Parses a route and keeps the given JSON for it.
+     *
+     * @param json of a single route
+     * @return the parsed route
+     */
+    @JvmStatic
+    fun fromJson(json: String): DirectionsRoute =
+        DirectionsRoute.fromJson(json).also { route ->
+            routeJson.put(route, json)
+        }
+
+    /**
+     * Keeps the JSON a route was parsed from.
+     *
+     * @param route parsed
+     * @param json of this single route
+     */
+    @JvmStatic
+    fun put(route: DirectionsRoute, json: String) {
+        routeJson.put(route, json)
+    }
+
+    /**
+     * Returns the JSON the route was parsed from, serializing it otherwise.
+     *
+     * @param route to serialize
+     * @return the route JSON
+     */
+    @JvmStatic
+    fun toJson(route: DirectionsRoute): String =
+        routeJson[route] ?: route.toJson()
+
+    /**
+     * Drops the JSON of all the routes.
+     */
+    @JvmStatic
+    fun clear() {
+        routeJson.clear()
+    }
+}
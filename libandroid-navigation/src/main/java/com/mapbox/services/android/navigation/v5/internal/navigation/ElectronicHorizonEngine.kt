@@ -0,0 +1,107 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+import com.mapbox.services.android.navigation.v5.navigation.ElectronicHorizon
+import com.mapbox.services.android.navigation.v5.utils.time.Time
+
+private const val DEFAULT_RECOMPUTE_BEARING = 45.0
+private const val MIN_HEADING_DISTANCE = 5.0
+private const val NEWEST_POSITIONS = 2
+// the former fixed horizon interval, so that a failing navigator isn't asked more often than it used to be
+private const val INITIAL_FAILURE_BACKOFF = 20_000L
+private const val MAX_FAILURE_BACKOFF = 5 * 60 * 1000L
+private const val MAX_FAILURE_BACKOFF_SHIFT = 4
+
+/**
+ * Keeps the last electronic horizon and only asks the navigator for a new one when the vehicle
+ * is about to leave it: either it travelled more than [recomputeDistance] meters from the position
+ * the horizon was computed for, or it turned more than [recomputeBearing] degrees away from the
+ * direction it was heading to, i.e. it left the most probable path.
+ *
+ * The navigator can't expand an existing horizon, so a recomputation is still a full request,
+ * but most periodic checks end up without one. After a failed horizon, the next request waits
+ * for a backoff starting at [INITIAL_FAILURE_BACKOFF] and doubling with each consecutive failure.
+ */
+internal class ElectronicHorizonEngine(
+    private val mapboxNavigator: MapboxNavigator,
+    private val requestBuilder: ElectronicHorizonRequestBuilder,
+    private val expansion: ElectronicHorizonRequestBuilder.Expansion,
+    private val recomputeDistance: Double,
+    private val recomputeBearing: Double = DEFAULT_RECOMPUTE_BEARING,
+    private val time: Time = Time.SystemImpl
+) {
+
+    private val newestPositions = DoubleArray(NEWEST_POSITIONS * 2)
+    private var failureCount = 0
+
+    @Volatile
+    var lastHorizon: ElectronicHorizon? = null
+        private set
+
+    /**
+     * @return the new horizon, or null if the last one is still valid
+     */
+    fun update(recentPositions: RecentPositions): ElectronicHorizon? {
+        val count = recentPositions.copyNewest(newestPositions)
+        if (count == 0) {
+            return null
+        }
+        val latitude = newestPositions[0]
+        val longitude = newestPositions[1]
+        val heading = if (count > 1) {
+            heading(newestPositions[2], newestPositions[3], latitude, longitude)
+        } else {
+            Double.NaN
+        }
+        if (!needsRecompute(latitude, longitude, heading)) {
+            return null
+        }
+
+        val request = requestBuilder.build(expansion, recentPositions)
+        val result = mapboxNavigator.retrieveElectronicHorizon(request)
+        failureCount = if (result.success) 0 else failureCount + 1
+        return ElectronicHorizon(
+            result.json,
+            result.success,
+            latitude,
+            longitude,
+            heading,
+            time.millis()
+        ).also { lastHorizon = it }
+    }
+
+    fun reset() {
+        lastHorizon = null
+        failureCount = 0
+    }
+
+    private fun needsRecompute(latitude: Double, longitude: Double, heading: Double): Boolean {
+        val last = lastHorizon ?: return true
+        return when {
+            !last.isSuccessful -> time.millis() - last.timestamp >= failureBackoff()
+            distance(last.latitude, last.longitude, latitude, longitude) > recomputeDistance -> true
+            heading.isNaN() -> false
+            // the last horizon was computed before the direction of travel was known
+            last.bearing.isNaN() -> true
+            else -> bearingDifference(last.bearing, heading) > recomputeBearing
+        }
+    }
+
+    private fun failureBackoff(): Long {
+        val shift = minOf(failureCount - 1, MAX_FAILURE_BACKOFF_SHIFT)
+        return minOf(INITIAL_FAILURE_BACKOFF shl shift, MAX_FAILURE_BACKOFF)
+    }
+
+    // consecutive fixes closer than a few meters are mostly noise, so they can't tell a direction
+    private fun heading(
+        previousLatitude: Double,
+        previousLongitude: Double,
+        latitude: Double,
+        longitude: Double
+    ): Double {
+        return if (distance(previousLatitude, previousLongitude, latitude, longitude) < MIN_HEADING_DISTANCE) {
+            Double.NaN
+        } else {
+            bearing(previousLatitude, previousLongitude, latitude, longitude)
+        }
+    }
+}
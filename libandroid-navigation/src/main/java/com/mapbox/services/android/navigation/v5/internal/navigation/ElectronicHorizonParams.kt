@@ -3,25 +3,36 @@ package com.mapbox.services.android.navigation.v5.internal.navigation
 class ElectronicHorizonParams private constructor(
     val delay: Long,
     val interval: Long,
-    val locationsCacheSize: Int
+    val locationsCacheSize: Int,
+    val recomputeDistance: Double
 ) {
     class Builder {
         companion object {
             internal const val DEFAULT_ELECTRONIC_HORIZON_DELAY = 20_000L
-            internal const val DEFAULT_ELECTRONIC_HORIZON_INTERVAL = 20_000L
+            // a check keeping the last horizon costs no request, and failures back off from the former
+            // 20 s interval, so checking every second only makes recomputations timely
+            internal const val DEFAULT_ELECTRONIC_HORIZON_INTERVAL = 1_000L
             internal const val DEFAULT_LOCATIONS_CACHE_SIZE = 5
             internal const val LOCATIONS_CACHE_MIN_SIZE = 2
             internal const val LOCATIONS_CACHE_MAX_SIZE = 10
+            internal const val DEFAULT_RECOMPUTE_DISTANCE = 500.0
         }
 
         private var delay: Long = DEFAULT_ELECTRONIC_HORIZON_DELAY
         private var interval: Long = DEFAULT_ELECTRONIC_HORIZON_INTERVAL
         private var locationsCacheSize: Int = DEFAULT_LOCATIONS_CACHE_SIZE
+        private var recomputeDistance: Double = DEFAULT_RECOMPUTE_DISTANCE
 
         fun delay(delay: Long) = apply {
             invokeIf(delay > 0) { this.delay = delay }
         }
 
+        /**
+         * Time in milliseconds between two checks of the last horizon, 1 s by default instead of
+         * the former 20 s between two horizon requests. A check only requests a new horizon once
+         * the vehicle is about to leave the last one, or once a failure backed off, so a short
+         * interval makes recomputations timely without adding requests.
+         */
         fun interval(interval: Long) = apply {
             invokeIf(interval > 0) { this.interval = interval }
         }
@@ -32,10 +43,18 @@ class ElectronicHorizonParams private constructor(
             }
         }
 
+        /**
+         * Distance in meters the vehicle can travel before the last horizon is recomputed.
+         */
+        fun recomputeDistance(distance: Double) = apply {
+            invokeIf(distance > 0) { this.recomputeDistance = distance }
+        }
+
         fun build() = ElectronicHorizonParams(
             delay,
             interval,
-            locationsCacheSize
+            locationsCacheSize,
+            recomputeDistance
         )
 
         private inline fun invokeIf(condition: Boolean, block: () -> Unit) {
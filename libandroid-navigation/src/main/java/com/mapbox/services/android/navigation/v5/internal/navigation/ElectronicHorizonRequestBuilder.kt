@@ -1,26 +1,58 @@
 package com.mapbox.services.android.navigation.v5.internal.navigation
 
 import android.location.Location
-import com.google.gson.Gson
-import com.google.gson.annotations.SerializedName
 
+/**
+ * Writes electronic horizon requests by hand into a buffer that is reused between requests,
+ * so that building one only allocates the resulting [String].
+ */
 internal object ElectronicHorizonRequestBuilder {
-    private val gson = Gson()
+    private const val INITIAL_BUFFER_CAPACITY = 512
+    private val buffer = StringBuilder(INITIAL_BUFFER_CAPACITY)
 
+    @Synchronized
     fun build(
         expansion: Expansion,
         locations: List<Location>
     ): String {
-        val positions = locations.map {
-            Position(
-                it.latitude,
-                it.longitude
-            )
+        startShape()
+        locations.forEachIndexed { index, location ->
+            appendPosition(index, location.latitude, location.longitude)
         }
-        val options = mapOf("expansion" to expansion.value)
-        val request = ElectronicHorizonRequest(positions, options)
+        return endShape(expansion)
+    }
+
+    @Synchronized
+    fun build(
+        expansion: Expansion,
+        recentPositions: RecentPositions
+    ): String {
+        startShape()
+        recentPositions.forEachIndexed { index, latitude, longitude ->
+            appendPosition(index, latitude, longitude)
+        }
+        return endShape(expansion)
+    }
 
-        return gson.toJson(request)
+    private fun startShape() {
+        buffer.setLength(0)
+        buffer.append("{\"shape\":[")
+    }
+
+    private fun appendPosition(index: Int, latitude: Double, longitude: Double) {
+        if (index > 0) {
+            buffer.append(',')
+        }
+        buffer.append("{\"lat\":").append(latitude)
+            .append(",\"lon\":").append(longitude)
+            .append('}')
+    }
+
+    private fun endShape(expansion: Expansion): String {
+        buffer.append("],\"eh_options\":{\"expansion\":\"")
+            .append(expansion.value)
+            .append("\"}}")
+        return buffer.toString()
     }
 
     internal enum class Expansion(val value: String) {
@@ -28,15 +60,4 @@ internal object ElectronicHorizonRequestBuilder {
         _1_5D("1.5D"),
         _2D("2D")
     }
-
-    private data class Position(
-        val lat: Double,
-        val lon: Double
-    )
-
-    private data class ElectronicHorizonRequest(
-        val shape: List<Position>,
-        @SerializedName("eh_options")
-        val options: Map<String, Any>
-    )
 }
@@ -12,7 +12,6 @@ import com.mapbox.services.android.navigation.v5.navigation.OfflineNavigator
 import com.mapbox.services.android.navigation.v5.navigation.OnOfflineTilesConfiguredCallback
 import java.lang.ref.WeakReference
 import java.util.Date
-import java.util.LinkedList
 import java.util.concurrent.ScheduledExecutorService
 import java.util.concurrent.ScheduledFuture
 import java.util.concurrent.TimeUnit
@@ -33,7 +32,14 @@ internal class FreeDriveLocationUpdater(
     private var electronicHorizonFuture: ScheduledFuture<*>? = null
     private var rawLocation: Location? = null
     private val handler = Handler(Looper.getMainLooper())
-    private val cachedLocations = LinkedList<Location>()
+    private val recentPositions = RecentPositions(electronicHorizonParams.locationsCacheSize)
+    private val movementDetector = MovementDetector()
+    private val electronicHorizonEngine = ElectronicHorizonEngine(
+        mapboxNavigator,
+        electronicHorizonRequestBuilder,
+        ElectronicHorizonRequestBuilder.Expansion._1D,
+        electronicHorizonParams.recomputeDistance
+    )
 
     fun configure(
         tilePath: String,
@@ -46,7 +52,7 @@ internal class FreeDriveLocationUpdater(
         if (future == null) {
             locationEngine.requestLocationUpdates(locationEngineRequest, callback, null)
             future = executorService.scheduleAtFixedRate({
-                if (rawLocation != null) {
+                if (rawLocation != null && !movementDetector.isIdle) {
                     // Pass the same lag as when in active guidance i.e. 1500 ms
                     val enhancedLocation = getLocation(Date(), 1500, rawLocation)
                     handler.post {
@@ -60,8 +66,14 @@ internal class FreeDriveLocationUpdater(
 
         if (electronicHorizonFuture == null) {
             electronicHorizonFuture = executorService.scheduleAtFixedRate({
-                val request = electronicHorizonRequestBuilder.build(ElectronicHorizonRequestBuilder.Expansion._1D, cachedLocations)
-                mapboxNavigator.retrieveElectronicHorizon(request)
+                // the horizon can't change while the device is not moving
+                if (!movementDetector.isIdle) {
+                    electronicHorizonEngine.update(recentPositions)?.let { electronicHorizon ->
+                        handler.post {
+                            navigationEventDispatcher.onElectronicHorizonUpdate(electronicHorizon)
+                        }
+                    }
+                }
             }, electronicHorizonParams.delay, electronicHorizonParams.interval, TimeUnit.MILLISECONDS)
         }
     }
@@ -128,33 +140,30 @@ internal class FreeDriveLocationUpdater(
         locationEngine.removeLocationUpdates(callback)
         future?.cancel(false)
         future = null
+        movementDetector.reset()
     }
 
     private fun stopRetrieveElectronicHorizon() {
         electronicHorizonFuture?.cancel(false)
         electronicHorizonFuture = null
-        cachedLocations.clear()
+        recentPositions.clear()
+        electronicHorizonEngine.reset()
     }
 
     private fun onLocationChanged(location: Location?) {
         location?.let { currentLocation ->
             rawLocation = currentLocation
-            cacheLocation(currentLocation)
-            executorService.execute {
-                mapboxNavigator.updateLocation(currentLocation)
+            // while idle, status and horizon are not computed and the fix is the same as the
+            // last significant one, so it doesn't need to reach the navigator either
+            if (movementDetector.onLocation(currentLocation) || !movementDetector.isIdle) {
+                recentPositions.add(currentLocation.latitude, currentLocation.longitude)
+                executorService.execute {
+                    mapboxNavigator.updateLocation(currentLocation)
+                }
             }
         }
     }
 
-    private fun cacheLocation(location: Location) {
-        // remove the oldest location to fit the max cache size
-        if (cachedLocations.size == electronicHorizonParams.locationsCacheSize) {
-            cachedLocations.removeFirst()
-        }
-
-        cachedLocations.add(location)
-    }
-
     private class CurrentLocationEngineCallback(locationUpdater: FreeDriveLocationUpdater) :
         LocationEngineCallback<LocationEngineResult> {
 
@@ -0,0 +1,28 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+import com.mapbox.geojson.Point
+import com.mapbox.turf.TurfConstants.UNIT_METERS
+import com.mapbox.turf.TurfMeasurement
+import kotlin.math.abs
+
+/**
+ * Distance in meters between two positions.
+ */
+internal fun distance(lat1: Double, lon1: Double, lat2: Double, lon2: Double): Double =
+    TurfMeasurement.distance(Point.fromLngLat(lon1, lat1), Point.fromLngLat(lon2, lat2), UNIT_METERS)
+
+/**
+ * Initial bearing in degrees, in the [0, 360) range, from the first position to the second one.
+ */
+internal fun bearing(lat1: Double, lon1: Double, lat2: Double, lon2: Double): Double {
+    val bearing = TurfMeasurement.bearing(Point.fromLngLat(lon1, lat1), Point.fromLngLat(lon2, lat2))
+    return (bearing + 360.0) % 360.0
+}
+
+/**
+ * Smallest angle in degrees between two bearings.
+ */
+internal fun bearingDifference(bearing1: Double, bearing2: Double): Double {
+    val difference = abs(bearing1 - bearing2) % 360.0
+    return if (difference > 180.0) 360.0 - difference else difference
+}
@@ -0,0 +1,64 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+import android.location.Location
+
+private const val DEFAULT_DISTANCE_THRESHOLD = 10.0
+private const val DEFAULT_SPEED_THRESHOLD = 1f
+private const val DEFAULT_IDLE_AFTER_FIXES = 10
+private const val MAX_ACCURACY_THRESHOLD = 50.0
+
+/**
+ * Tells whether the device moved since the last significant fix.
+ *
+ * A fix is significant when it's further than [distanceThreshold] (or its accuracy, whichever is bigger)
+ * from the last significant fix, or when its speed is over [speedThreshold]. After [idleAfterFixes]
+ * consecutive insignificant fixes the device is considered idle, until the next significant fix.
+ */
+internal class MovementDetector(
+    private val distanceThreshold: Double = DEFAULT_DISTANCE_THRESHOLD,
+    private val speedThreshold: Float = DEFAULT_SPEED_THRESHOLD,
+    private val idleAfterFixes: Int = DEFAULT_IDLE_AFTER_FIXES
+) {
+
+    @Volatile
+    var isIdle = false
+        private set
+
+    private var anchorLatitude = Double.NaN
+    private var anchorLongitude = Double.NaN
+    private var unchangedFixes = 0
+
+    /**
+     * @return true if the fix is significantly different from the last significant one
+     */
+    fun onLocation(location: Location): Boolean {
+        val isMoving = location.hasSpeed() && location.speed > speedThreshold
+        if (anchorLatitude.isNaN() || isMoving || isDisplaced(location)) {
+            anchorLatitude = location.latitude
+            anchorLongitude = location.longitude
+            unchangedFixes = 0
+            isIdle = false
+            return true
+        }
+        if (++unchangedFixes >= idleAfterFixes) {
+            isIdle = true
+        }
+        return false
+    }
+
+    fun reset() {
+        anchorLatitude = Double.NaN
+        anchorLongitude = Double.NaN
+        unchangedFixes = 0
+        isIdle = false
+    }
+
+    private fun isDisplaced(location: Location): Boolean {
+        val threshold = if (location.hasAccuracy()) {
+            maxOf(distanceThreshold, location.accuracy.toDouble().coerceAtMost(MAX_ACCURACY_THRESHOLD))
+        } else {
+            distanceThreshold
+        }
+        return distance(anchorLatitude, anchorLongitude, location.latitude, location.longitude) > threshold
+    }
+}
@@ -6,8 +6,13 @@ import com.mapbox.services.android.navigation.v5.internal.navigation.metrics.Nav
 import com.mapbox.services.android.navigation.v5.location.RawLocationListener
 import com.mapbox.services.android.navigation.v5.milestone.Milestone
 import com.mapbox.services.android.navigation.v5.milestone.MilestoneEventListener
+import com.mapbox.services.android.navigation.v5.navigation.CongestionRange
+import com.mapbox.services.android.navigation.v5.navigation.ElectronicHorizon
+import com.mapbox.services.android.navigation.v5.navigation.ElectronicHorizonListener
 import com.mapbox.services.android.navigation.v5.navigation.EnhancedLocationListener
 import com.mapbox.services.android.navigation.v5.navigation.NavigationEventListener
+import com.mapbox.services.android.navigation.v5.navigation.RouteAnnotations
+import com.mapbox.services.android.navigation.v5.navigation.RouteAnnotationsListener
 import com.mapbox.services.android.navigation.v5.offroute.OffRouteListener
 import com.mapbox.services.android.navigation.v5.route.FasterRouteListener
 import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener
@@ -25,6 +30,8 @@ internal class NavigationEventDispatcher {
     private val fasterRouteListeners: CopyOnWriteArrayList<FasterRouteListener>
     private val rawLocationListeners: CopyOnWriteArrayList<RawLocationListener>
     private val enhancedLocationListeners: CopyOnWriteArrayList<EnhancedLocationListener>
+    private val electronicHorizonListeners: CopyOnWriteArrayList<ElectronicHorizonListener>
+    private val routeAnnotationsListeners: CopyOnWriteArrayList<RouteAnnotationsListener>
     private val routeUtils: RouteUtils
     private var metricEventListener: NavigationMetricListener? = null
 
@@ -39,6 +46,8 @@ internal class NavigationEventDispatcher {
         fasterRouteListeners = CopyOnWriteArrayList()
         rawLocationListeners = CopyOnWriteArrayList()
         enhancedLocationListeners = CopyOnWriteArrayList()
+        electronicHorizonListeners = CopyOnWriteArrayList()
+        routeAnnotationsListeners = CopyOnWriteArrayList()
     }
 
     fun addMilestoneEventListener(milestoneEventListener: MilestoneEventListener) {
@@ -167,6 +176,42 @@ internal class NavigationEventDispatcher {
         }
     }
 
+    fun addElectronicHorizonListener(electronicHorizonListener: ElectronicHorizonListener) {
+        if (electronicHorizonListeners.contains(electronicHorizonListener)) {
+            Timber.w("The specified ElectronicHorizonListener has already been added to the stack.")
+            return
+        }
+        electronicHorizonListeners.add(electronicHorizonListener)
+    }
+
+    fun removeElectronicHorizonListener(electronicHorizonListener: ElectronicHorizonListener?) {
+        if (electronicHorizonListener == null) {
+            electronicHorizonListeners.clear()
+        } else if (!electronicHorizonListeners.contains(electronicHorizonListener)) {
+            Timber.w("The specified ElectronicHorizonListener isn't found in stack, therefore, cannot be removed.")
+        } else {
+            electronicHorizonListeners.remove(electronicHorizonListener)
+        }
+    }
+
+    fun addRouteAnnotationsListener(routeAnnotationsListener: RouteAnnotationsListener) {
+        if (routeAnnotationsListeners.contains(routeAnnotationsListener)) {
+            Timber.w("The specified RouteAnnotationsListener has already been added to the stack.")
+            return
+        }
+        routeAnnotationsListeners.add(routeAnnotationsListener)
+    }
+
+    fun removeRouteAnnotationsListener(routeAnnotationsListener: RouteAnnotationsListener?) {
+        if (routeAnnotationsListener == null) {
+            routeAnnotationsListeners.clear()
+        } else if (!routeAnnotationsListeners.contains(routeAnnotationsListener)) {
+            Timber.w("The specified RouteAnnotationsListener isn't found in stack, therefore, cannot be removed.")
+        } else {
+            routeAnnotationsListeners.remove(routeAnnotationsListener)
+        }
+    }
+
     fun onMilestoneEvent(routeProgress: RouteProgress, instruction: String, milestone: Milestone) {
         checkForArrivalEvent(routeProgress)
         for (milestoneEventListener in milestoneEventListeners) {
@@ -212,6 +257,18 @@ internal class NavigationEventDispatcher {
         }
     }
 
+    fun onElectronicHorizonUpdate(electronicHorizon: ElectronicHorizon) {
+        for (listener in electronicHorizonListeners) {
+            listener.onElectronicHorizonUpdate(electronicHorizon)
+        }
+    }
+
+    fun onRouteAnnotationsRefresh(routeAnnotations: RouteAnnotations, changedCongestion: List<CongestionRange>) {
+        for (listener in routeAnnotationsListeners) {
+            listener.onRouteAnnotationsRefresh(routeAnnotations, changedCongestion)
+        }
+    }
+
     fun addMetricEventListeners(eventListeners: NavigationMetricListener) {
         if (metricEventListener == null) {
             metricEventListener = eventListeners
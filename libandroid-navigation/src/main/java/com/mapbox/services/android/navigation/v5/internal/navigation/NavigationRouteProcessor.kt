@@ -16,6 +16,7 @@ import com.mapbox.navigator.NavigationStatus
 import com.mapbox.navigator.RouteState
 import com.mapbox.navigator.VoiceInstruction
 import com.mapbox.services.android.navigation.v5.routeprogress.CurrentLegAnnotation
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteIdentity
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgressStateMap
 import com.mapbox.services.android.navigation.v5.utils.extensions.ifNonNull
@@ -59,10 +60,14 @@ internal class NavigationRouteProcessor {
     }
 
     private fun updateRoute(route: DirectionsRoute, navigator: MapboxNavigator) {
-        if (this.route != route) {
-            this.route = route
+        if (this.route === route) {
+            return
+        }
+        // A refreshed route keeps its identity and geometry, only its annotations changed
+        if (!RouteIdentity.isSameRoute(this.route, route)) {
             routeGeometryWithBuffer = navigator.retrieveRouteGeometryWithBuffer()
         }
+        this.route = route
     }
 
     private fun buildRouteProgressFrom(
@@ -0,0 +1,66 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+/**
+ * Fixed size ring of the most recent positions, stored in primitive arrays.
+ * Written from the location callback and read from the electronic horizon task, hence synchronized.
+ */
+internal class RecentPositions(private val capacity: Int) {
+
+    private val latitudes = DoubleArray(capacity)
+    private val longitudes = DoubleArray(capacity)
+    private var start = 0
+    private var size = 0
+
+    @Synchronized
+    fun add(latitude: Double, longitude: Double) {
+        if (capacity == 0) {
+            return
+        }
+        val index = (start + size) % capacity
+        latitudes[index] = latitude
+        longitudes[index] = longitude
+        if (size < capacity) {
+            size++
+        } else {
+            // the oldest position got overwritten
+            start = (start + 1) % capacity
+        }
+    }
+
+    @Synchronized
+    fun size(): Int = size
+
+    @Synchronized
+    fun clear() {
+        start = 0
+        size = 0
+    }
+
+    /**
+     * Iterates positions from the oldest to the newest one, without allocating.
+     */
+    @Synchronized
+    fun forEachIndexed(action: (index: Int, latitude: Double, longitude: Double) -> Unit) {
+        for (i in 0 until size) {
+            val index = (start + i) % capacity
+            action(i, latitudes[index], longitudes[index])
+        }
+    }
+
+    /**
+     * Copies the newest positions into [out] as consecutive latitude, longitude pairs,
+     * starting with the newest one.
+     *
+     * @return the number of copied positions
+     */
+    @Synchronized
+    fun copyNewest(out: DoubleArray): Int {
+        val count = minOf(size, out.size / 2)
+        for (i in 0 until count) {
+            val index = (start + size - 1 - i) % capacity
+            out[2 * i] = latitudes[index]
+            out[2 * i + 1] = longitudes[index]
+        }
+        return count
+    }
+}
@@ -0,0 +1,34 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.services.android.navigation.v5.navigation.CongestionRange
+import com.mapbox.services.android.navigation.v5.navigation.RouteAnnotations
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * Keeps the [RouteAnnotations] of the route being navigated, built the first time they're needed
+ * and swapped as a whole when the route is refreshed.
+ */
+internal class RouteAnnotationsHolder {
+
+    private val annotations = AtomicReference<RouteAnnotations?>()
+
+    fun get(route: DirectionsRoute): RouteAnnotations {
+        annotations.get()?.let { current ->
+            if (current.route === route) {
+                return current
+            }
+        }
+        return RouteAnnotations.from(route).also { annotations.set(it) }
+    }
+
+    /**
+     * @return the segments whose congestion changed from the route to the refreshed one
+     */
+    fun refresh(route: DirectionsRoute, refreshedRoute: DirectionsRoute): List<CongestionRange> {
+        val previous = get(route)
+        val refreshed = previous.refreshedWith(refreshedRoute)
+        annotations.set(refreshed)
+        return refreshed.changedCongestion(previous)
+    }
+}
@@ -10,19 +10,27 @@ internal class RouteHandler(private val mapboxNavigator: MapboxNavigator) {
         private const val INDEX_FIRST_LEG = 0
     }
 
+    private var currentRoute: DirectionsRoute? = null
+
     fun updateRoute(route: DirectionsRoute, routeType: DirectionsRouteType) {
         if (routeType == DirectionsRouteType.NEW_ROUTE) {
-            val routeJson = route.toJson()
+            val routeJson = DirectionsRouteJson.toJson(route)
             // TODO route_index (Which route to follow) and leg_index (Which leg to follow) are hardcoded for now
             mapboxNavigator.setRoute(routeJson, INDEX_FIRST_ROUTE, INDEX_FIRST_LEG)
         } else {
             route.legs()?.let { routeLegs ->
+                val currentLegs = currentRoute?.legs()
                 for (i in routeLegs.indices) {
+                    // Refreshed routes keep the legs whose annotation didn't change
+                    if (currentLegs != null && i < currentLegs.size && currentLegs[i] === routeLegs[i]) {
+                        continue
+                    }
                     routeLegs[i].annotation()?.toJson()?.let { annotationJson ->
                         mapboxNavigator.updateAnnotations(annotationJson, INDEX_FIRST_ROUTE, i)
                     }
                 }
             }
         }
+        currentRoute = route
     }
 }
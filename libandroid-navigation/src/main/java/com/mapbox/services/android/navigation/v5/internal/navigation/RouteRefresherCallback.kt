@@ -1,7 +1,6 @@
 package com.mapbox.services.android.navigation.v5.internal.navigation
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute
-import com.mapbox.services.android.navigation.v5.navigation.DirectionsRouteType
 import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation
 import com.mapbox.services.android.navigation.v5.navigation.RefreshCallback
 import com.mapbox.services.android.navigation.v5.navigation.RefreshError
@@ -14,7 +13,10 @@ internal class RouteRefresherCallback(
 ) : RefreshCallback {
 
     override fun onRefresh(directionsRoute: DirectionsRoute) {
-        mapboxNavigation.startNavigation(directionsRoute, DirectionsRouteType.FRESH_ROUTE)
+        // The refreshed route is the current one when none of its annotations changed
+        if (directionsRoute !== mapboxNavigation.route) {
+            mapboxNavigation.updateRouteAnnotations(directionsRoute)
+        }
         routeRefresher.updateLastRefresh(Date())
         routeRefresher.updateIsChecking(false)
     }
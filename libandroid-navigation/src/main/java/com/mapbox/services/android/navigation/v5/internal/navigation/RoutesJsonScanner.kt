@@ -0,0 +1,134 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+import com.google.gson.JsonParseException
+
+/**
+ * Finds the JSON of each route in a directions response without materializing any of it, so that
+ * the routes decoded from the response can keep their own JSON in [DirectionsRouteJson].
+ */
+internal class RoutesJsonScanner(private val json: String) {
+
+    companion object {
+        private const val ROUTES_KEY = "routes"
+        private const val LITERAL_END = ",:{}[]\" \t\r\n"
+
+        /**
+         * @param responseJson of a directions response
+         * @return the JSON of each route, in the order of the response
+         * @throws JsonParseException if the response is malformed
+         */
+        @JvmStatic
+        fun routesJson(responseJson: String): List<String> =
+            RoutesJsonScanner(responseJson).scan()
+    }
+
+    private var position = 0
+
+    private fun scan(): List<String> {
+        val routes = mutableListOf<String>()
+        expect('{')
+        if (!consume('}')) {
+            do {
+                val name = readString()
+                expect(':')
+                if (name == ROUTES_KEY && peek() == '[') {
+                    readElements(routes)
+                } else {
+                    skipValue()
+                }
+            } while (consume(','))
+            expect('}')
+        }
+        return routes
+    }
+
+    private fun readElements(elements: MutableList<String>) {
+        expect('[')
+        if (consume(']')) {
+            return
+        }
+        do {
+            skipWhitespace()
+            val start = position
+            skipValue()
+            elements.add(json.substring(start, position))
+        } while (consume(','))
+        expect(']')
+    }
+
+    private fun readString(): String {
+        expect('"')
+        val start = position
+        while (position < json.length) {
+            when (json[position]) {
+                '\\' -> position += 2
+                '"' -> return json.substring(start, position++)
+                else -> position++
+            }
+        }
+        throw malformed()
+    }
+
+    private fun skipValue() {
+        when (peek()) {
+            '"' -> readString()
+            '{', '[' -> skipNested()
+            else -> skipLiteral()
+        }
+    }
+
+    private fun skipNested() {
+        var depth = 0
+        while (position < json.length) {
+            val char = json[position]
+            if (char == '"') {
+                readString()
+            } else {
+                position++
+                if (char == '{' || char == '[') {
+                    depth++
+                } else if ((char == '}' || char == ']') && --depth == 0) {
+                    return
+                }
+            }
+        }
+        throw malformed()
+    }
+
+    private fun skipLiteral() {
+        val start = position
+        while (position < json.length && json[position] !in LITERAL_END) {
+            position++
+        }
+        if (position == start) {
+            throw malformed()
+        }
+    }
+
+    private fun consume(char: Char): Boolean {
+        if (peek() == char) {
+            position++
+            return true
+        }
+        return false
+    }
+
+    private fun expect(char: Char) {
+        if (!consume(char)) {
+            throw malformed()
+        }
+    }
+
+    private fun peek(): Char? {
+        skipWhitespace()
+        return if (position < json.length) json[position] else null
+    }
+
+    private fun skipWhitespace() {
+        while (position < json.length && json[position].isWhitespace()) {
+            position++
+        }
+    }
+
+    private fun malformed() = JsonParseException("Malformed directions response at $position")
+}
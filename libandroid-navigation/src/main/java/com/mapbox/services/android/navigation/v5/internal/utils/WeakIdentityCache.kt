@@ -0,0 +1,72 @@
+package com.mapbox.services.android.navigation.v5.internal.utils
+
+import androidx.annotation.IntRange
+import java.lang.ref.ReferenceQueue
+import java.lang.ref.WeakReference
+
+/**
+ * Keeps a value for each of the last few keys it was given. Keys are matched by reference rather
+ * than by equality and held weakly, so that they can still be collected.
+ * The value of a collected key is dropped on the next access.
+ */
+class WeakIdentityCache<K, V>(
+    @IntRange(from = 1) private val maxSize: Int
+) {
+
+    private val collectedKeys = ReferenceQueue<K>()
+    private val entries = arrayOfNulls<Entry<K, V>>(maxSize)
+    private var nextIndex = 0
+
+    /**
+     * @param key to look up
+     * @return the value kept for this very instance, null if there's none
+     */
+    @Synchronized
+    operator fun get(key: K): V? {
+        expungeCollectedKeys()
+        return entries.firstOrNull { it?.get() === key }?.value
+    }
+
+    /**
+     * Keeps the value for the key, in place of the oldest entry once full.
+     *
+     * @param key the value is kept for
+     * @param value to keep
+     */
+    @Synchronized
+    fun put(key: K, value: V) {
+        expungeCollectedKeys()
+        entries[nextIndex] = Entry(key, value, collectedKeys)
+        nextIndex = (nextIndex + 1) % maxSize
+    }
+
+    /**
+     * Drops all the entries.
+     */
+    @Synchronized
+    fun clear() {
+        entries.fill(null)
+        nextIndex = 0
+        while (collectedKeys.poll() != null) {
+            // already dropped
+        }
+    }
+
+    private fun expungeCollectedKeys() {
+        var collected = collectedKeys.poll()
+        while (collected != null) {
+            for (i in 0 until maxSize) {
+                if (entries[i] === collected) {
+                    entries[i] = null
+                }
+            }
+            collected = collectedKeys.poll()
+        }
+    }
+
+    private class Entry<K, V>(
+        key: K,
+        val value: V,
+        queue: ReferenceQueue<K>
+    ) : WeakReference<K>(key, queue)
+}
@@ -61,4 +61,51 @@ object Operation {
                 valueOne[0].toDouble() > valueOne[1].toDouble()
             }
         } else valueOne[0].toDouble() <= valueTwo.toDouble()
+
+    /*
+     * Primitive operations, used by the statements of [Trigger] with the values of
+     * [TriggerValues]. A property without a value never meets a statement.
+     */
+
+    internal fun greaterThan(values: TriggerValues, key: Int, value: Double, isTrue: Boolean): Boolean =
+        when (values.count(key)) {
+            0 -> false
+            1 -> values.first(key) > value
+            else -> if (isTrue) values.first(key) > values.second(key) else values.first(key) <= values.second(key)
+        }
+
+    internal fun lessThan(values: TriggerValues, key: Int, value: Double, isTrue: Boolean): Boolean =
+        when (values.count(key)) {
+            0 -> false
+            1 -> values.first(key) < value
+            else -> if (isTrue) values.first(key) < values.second(key) else values.first(key) >= values.second(key)
+        }
+
+    internal fun notEqual(values: TriggerValues, key: Int, value: Double, valueKind: Int, isTrue: Boolean): Boolean =
+        when (values.count(key)) {
+            0 -> false
+            1 -> values.kind(key) != valueKind || values.first(key) != value
+            else -> if (isTrue) values.first(key) != values.second(key) else values.first(key) == values.second(key)
+        }
+
+    internal fun equal(values: TriggerValues, key: Int, value: Double, valueKind: Int, isTrue: Boolean): Boolean =
+        when (values.count(key)) {
+            0 -> false
+            1 -> values.kind(key) == valueKind && values.first(key) == value
+            else -> if (isTrue) values.first(key) == values.second(key) else values.first(key) != values.second(key)
+        }
+
+    internal fun greaterThanEqual(values: TriggerValues, key: Int, value: Double, isTrue: Boolean): Boolean =
+        when (values.count(key)) {
+            0 -> false
+            1 -> values.first(key) >= value
+            else -> if (isTrue) values.first(key) >= values.second(key) else values.first(key) < values.second(key)
+        }
+
+    internal fun lessThanEqual(values: TriggerValues, key: Int, value: Double, isTrue: Boolean): Boolean =
+        when (values.count(key)) {
+            0 -> false
+            1 -> values.first(key) <= value
+            else -> if (isTrue) values.first(key) <= values.second(key) else values.first(key) > values.second(key)
+        }
 }
@@ -22,8 +22,8 @@ private constructor(
         routeProgress: RouteProgress
     ): Boolean =
         ifNonNull(builder.getTrigger()) { trigger ->
-            val statementObjects = TriggerProperty.getSparseArray(previousRouteProgress, routeProgress)
-            called = trigger.isOccurring(statementObjects) && !called
+            val values = TriggerValues.retrieve(previousRouteProgress, routeProgress)
+            called = trigger.isOccurring(values) && !called
             called
         } ?: false
 
@@ -31,8 +31,8 @@ private constructor(
             return false
         }
         return ifNonNull(builder.getTrigger()) { trigger ->
-            val statementObjects = TriggerProperty.getSparseArray(previousRouteProgress, routeProgress)
-            called = trigger.isOccurring(statementObjects)
+            val values = TriggerValues.retrieve(previousRouteProgress, routeProgress)
+            called = trigger.isOccurring(values)
             called
         } ?: false
     }
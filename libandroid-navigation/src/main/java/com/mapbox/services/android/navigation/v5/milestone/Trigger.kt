@@ -24,6 +24,26 @@ object Trigger {
          * @since 0.4.0
          */
         abstract fun isOccurring(statementObjects: SparseArray<Array<Number>>): Boolean
+
+        /**
+         * Validates the statement against the primitive values of a progress update. The statements
+         * of the SDK compare their values directly, others get the [SparseArray] of the same values.
+         */
+        internal open fun isOccurring(values: TriggerValues): Boolean =
+            isOccurring(values.toSparseArray())
+    }
+
+    /**
+     * Base of the simple statements, with the statement value unboxed once.
+     */
+    private abstract class ValueStatement(
+        protected val key: Int,
+        value: Any
+    ) : Statement() {
+
+        protected val doubleValue: Double = (value as? Number)?.toDouble() ?: Double.NaN
+        protected val valueKind: Int = TriggerValues.kindOf(value)
+        protected val isTrue: Boolean = value == TriggerProperty.TRUE
     }
 
     /*
@@ -47,6 +67,15 @@ object Trigger {
             }
             return true
         }
+
+        override fun isOccurring(values: TriggerValues): Boolean {
+            for (statement in statements) {
+                if (!statement.isOccurring(values)) {
+                    return false
+                }
+            }
+            return true
+        }
     }
 
     /**
@@ -66,6 +95,15 @@ object Trigger {
             }
             return true
         }
+
+        override fun isOccurring(values: TriggerValues): Boolean {
+            for (statement in statements) {
+                if (statement.isOccurring(values)) {
+                    return false
+                }
+            }
+            return true
+        }
     }
 
     /**
@@ -85,6 +123,15 @@ object Trigger {
             }
             return false
         }
+
+        override fun isOccurring(values: TriggerValues): Boolean {
+            for (statement in statements) {
+                if (statement.isOccurring(values)) {
+                    return true
+                }
+            }
+            return false
+        }
     }
 
     /*
@@ -98,12 +145,15 @@ object Trigger {
      * @since 0.4.0
      */
     private class GreaterThanStatement(
-        private val key: Int,
+        key: Int,
         private val value: Any
-    ) : Statement() {
+    ) : ValueStatement(key, value) {
 
         override fun isOccurring(statementObjects: SparseArray<Array<Number>>): Boolean =
             Operation.greaterThan(statementObjects.get(key), value as Number)
+
+        override fun isOccurring(values: TriggerValues): Boolean =
+            Operation.greaterThan(values, key, doubleValue, isTrue)
     }
 
     /**
@@ -113,12 +163,15 @@ object Trigger {
      * @since 0.4.0
      */
     private class GreaterThanEqualStatement(
-        private val key: Int,
+        key: Int,
         private val value: Any
-    ) : Statement() {
+    ) : ValueStatement(key, value) {
 
         override fun isOccurring(statementObjects: SparseArray<Array<Number>>): Boolean =
             Operation.greaterThanEqual(statementObjects.get(key), value as Number)
+
+        override fun isOccurring(values: TriggerValues): Boolean =
+            Operation.greaterThanEqual(values, key, doubleValue, isTrue)
     }
 
     /**
@@ -127,12 +180,15 @@ object Trigger {
      * @since 0.4.0
      */
     private class LessThanStatement(
-        private val key: Int,
+        key: Int,
         private val value: Any
-    ) : Statement() {
+    ) : ValueStatement(key, value) {
 
         override fun isOccurring(statementObjects: SparseArray<Array<Number>>): Boolean =
             Operation.lessThan(statementObjects.get(key), value as Number)
+
+        override fun isOccurring(values: TriggerValues): Boolean =
+            Operation.lessThan(values, key, doubleValue, isTrue)
     }
 
     /**
@@ -142,12 +198,15 @@ object Trigger {
      * @since 0.4.0
      */
     private class LessThanEqualStatement(
-        private val key: Int,
+        key: Int,
         private val value: Any
-    ) : Statement() {
+    ) : ValueStatement(key, value) {
 
         override fun isOccurring(statementObjects: SparseArray<Array<Number>>): Boolean =
             Operation.lessThanEqual(statementObjects.get(key), value as Number)
+
+        override fun isOccurring(values: TriggerValues): Boolean =
+            Operation.lessThanEqual(values, key, doubleValue, isTrue)
     }
 
     /**
@@ -156,12 +215,15 @@ object Trigger {
      * @since 0.4.0
      */
     private class NotEqualStatement(
-        private val key: Int,
+        key: Int,
         private vararg val values: Any
-    ) : Statement() {
+    ) : ValueStatement(key, values[0]) {
 
         override fun isOccurring(statementObjects: SparseArray<Array<Number>>): Boolean =
             Operation.notEqual(statementObjects.get(key), values[0] as Number)
+
+        override fun isOccurring(values: TriggerValues): Boolean =
+            Operation.notEqual(values, key, doubleValue, valueKind, isTrue)
     }
 
     /**
@@ -170,12 +232,15 @@ object Trigger {
      * @since 0.4.0
      */
     private class EqualStatement(
-        private val key: Int,
+        key: Int,
         private val value: Any
-    ) : Statement() {
+    ) : ValueStatement(key, value) {
 
         override fun isOccurring(statementObjects: SparseArray<Array<Number>>): Boolean =
             Operation.equal(statementObjects.get(key), value as Number)
+
+        override fun isOccurring(values: TriggerValues): Boolean =
+            Operation.equal(values, key, doubleValue, valueKind, isTrue)
     }
 
     /**
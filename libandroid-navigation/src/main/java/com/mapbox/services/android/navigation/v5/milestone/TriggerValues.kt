@@ -0,0 +1,142 @@
+package com.mapbox.services.android.navigation.v5.milestone
+
+import android.util.SparseArray
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress
+import com.mapbox.services.android.navigation.v5.utils.extensions.ifNonNull
+
+/**
+ * The [TriggerProperty] values of a progress update, stored in primitive arrays indexed by
+ * property key, so that evaluating the triggers of all milestones doesn't allocate.
+ *
+ * A property holds either a single value compared to the statement value, or two values compared
+ * to each other. The values are filled once for a given pair of [RouteProgress], one instance is
+ * reused per thread.
+ */
+internal class TriggerValues {
+
+    private val firstValues = DoubleArray(PROPERTY_COUNT)
+    private val secondValues = DoubleArray(PROPERTY_COUNT)
+    private val valueCounts = IntArray(PROPERTY_COUNT)
+    private val valueKinds = IntArray(PROPERTY_COUNT)
+    private var previousRouteProgress: RouteProgress? = null
+    private var routeProgress: RouteProgress? = null
+    private var sparseArray: SparseArray<Array<Number>>? = null
+
+    companion object {
+
+        const val INT_KIND = 0
+        const val DOUBLE_KIND = 1
+        const val OTHER_KIND = 2
+        private const val PROPERTY_COUNT = TriggerProperty.NEXT_STEP_DURATION_SECONDS + 1
+        private val threadValues = object : ThreadLocal<TriggerValues>() {
+            override fun initialValue() = TriggerValues()
+        }
+
+        /**
+         * Returns the values of this thread, filled from the given progress if they aren't already.
+         */
+        @JvmStatic
+        fun retrieve(previousRouteProgress: RouteProgress, routeProgress: RouteProgress): TriggerValues =
+            threadValues.get()!!.apply {
+                if (this.previousRouteProgress !== previousRouteProgress || this.routeProgress !== routeProgress) {
+                    fill(previousRouteProgress, routeProgress)
+                }
+            }
+
+        /**
+         * Kind of a statement value, a property only equals values of its own kind, like
+         * [Number.equals] would tell.
+         */
+        @JvmStatic
+        fun kindOf(value: Any): Int =
+            when (value) {
+                is Int -> INT_KIND
+                is Double -> DOUBLE_KIND
+                else -> OTHER_KIND
+            }
+    }
+
+    fun count(key: Int): Int = if (key in 0 until PROPERTY_COUNT) valueCounts[key] else 0
+
+    fun first(key: Int): Double = firstValues[key]
+
+    fun second(key: Int): Double = secondValues[key]
+
+    fun kind(key: Int): Int = valueKinds[key]
+
+    /**
+     * For the statements which weren't written against the primitive values.
+     */
+    fun toSparseArray(): SparseArray<Array<Number>> =
+        sparseArray ?: TriggerProperty.getSparseArray(previousRouteProgress!!, routeProgress!!).also {
+            sparseArray = it
+        }
+
+    /**
+     * Mirrors [TriggerProperty.getSparseArray], later properties overriding earlier ones with the same key.
+     */
+    private fun fill(previousRouteProgress: RouteProgress, routeProgress: RouteProgress) {
+        this.previousRouteProgress = previousRouteProgress
+        this.routeProgress = routeProgress
+        sparseArray = null
+        valueCounts.fill(0)
+        ifNonNull(routeProgress.currentLegProgress()?.currentStep()) { currentStep ->
+            put(TriggerProperty.STEP_DISTANCE_TOTAL_METERS, currentStep.distance())
+            put(TriggerProperty.STEP_DURATION_TOTAL_SECONDS, currentStep.duration())
+        }
+        ifNonNull(routeProgress.currentLegProgress()?.currentStepProgress()) { currentStepProgress ->
+            putIfNonNull(TriggerProperty.STEP_DISTANCE_REMAINING_METERS, currentStepProgress.distanceRemaining())
+            putIfNonNull(TriggerProperty.STEP_DURATION_REMAINING_SECONDS, currentStepProgress.durationRemaining())
+            putIfNonNull(TriggerProperty.STEP_DISTANCE_TRAVELED_METERS, currentStepProgress.distanceTraveled())
+        }
+        ifNonNull(routeProgress.currentLegProgress()) { currentLegProgress ->
+            ifNonNull(currentLegProgress.stepIndex()) { stepIndex ->
+                put(TriggerProperty.STEP_INDEX, stepIndex)
+                put(TriggerProperty.NEW_STEP, stepIndex, stepIndex)
+                put(
+                    TriggerProperty.LAST_STEP,
+                    stepIndex,
+                    ifNonNull(routeProgress.currentLeg()?.steps()) { it.size - 2 } ?: 0
+                )
+                put(TriggerProperty.FIRST_STEP, stepIndex, 0)
+            }
+            put(TriggerProperty.NEXT_STEP_DURATION_SECONDS, currentLegProgress.upComingStep()?.duration() ?: 0.0)
+            put(TriggerProperty.NEXT_STEP_DISTANCE_METERS, currentLegProgress.upComingStep()?.distance() ?: 0.0)
+        }
+        ifNonNull(routeProgress.legIndex()) { legIndex ->
+            put(TriggerProperty.FIRST_LEG, legIndex, 0)
+            ifNonNull(routeProgress.directionsRoute()) { directionsRoute ->
+                put(
+                    TriggerProperty.LAST_LEG,
+                    legIndex,
+                    ifNonNull(directionsRoute.legs()) { it.size - 1 } ?: 0
+                )
+            }
+        }
+    }
+
+    private fun putIfNonNull(key: Int, value: Double?) {
+        if (value != null) {
+            put(key, value)
+        }
+    }
+
+    private fun put(key: Int, value: Double) {
+        firstValues[key] = value
+        valueCounts[key] = 1
+        valueKinds[key] = DOUBLE_KIND
+    }
+
+    private fun put(key: Int, value: Int) {
+        firstValues[key] = value.toDouble()
+        valueCounts[key] = 1
+        valueKinds[key] = INT_KIND
+    }
+
+    private fun put(key: Int, firstValue: Int, secondValue: Int) {
+        firstValues[key] = firstValue.toDouble()
+        secondValues[key] = secondValue.toDouble()
+        valueCounts[key] = 2
+        valueKinds[key] = INT_KIND
+    }
+}
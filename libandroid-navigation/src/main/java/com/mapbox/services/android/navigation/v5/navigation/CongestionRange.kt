@@ -0,0 +1,25 @@
+package com.mapbox.services.android.navigation.v5.navigation
+
+/**
+ * Segments of a route leg whose congestion changed when the route was refreshed.
+ *
+ * @param legIndex of the leg in the route
+ * @param startIndex of the first changed segment of the leg geometry
+ * @param endIndex after the last changed segment of the leg geometry
+ */
+class CongestionRange internal constructor(
+    val legIndex: Int,
+    val startIndex: Int,
+    val endIndex: Int
+) {
+
+    override fun equals(other: Any?): Boolean =
+        other is CongestionRange &&
+            legIndex == other.legIndex &&
+            startIndex == other.startIndex &&
+            endIndex == other.endIndex
+
+    override fun hashCode(): Int = (legIndex * 31 + startIndex) * 31 + endIndex
+
+    override fun toString(): String = "CongestionRange(legIndex=$legIndex, startIndex=$startIndex, endIndex=$endIndex)"
+}
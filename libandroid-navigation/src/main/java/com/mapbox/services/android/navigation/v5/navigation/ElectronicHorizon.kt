@@ -0,0 +1,25 @@
+package com.mapbox.services.android.navigation.v5.navigation
+
+/**
+ * Electronic horizon computed by the navigator ahead of the vehicle while in free drive.
+ *
+ * A horizon is only recomputed once the vehicle travelled a significant distance from the
+ * position it was computed for, or turned away from the direction it was heading to. In between,
+ * the last one is still valid and no new horizon is dispatched.
+ *
+ * @param json the horizon, along with the attributes of its edges, as returned by the navigator
+ * @param isSuccessful true if the navigator was able to compute the horizon
+ * @param latitude latitude of the position the horizon was computed for
+ * @param longitude longitude of the position the horizon was computed for
+ * @param bearing direction of travel in degrees when the horizon was computed,
+ * [Double.NaN] if it couldn't be inferred from the recent positions
+ * @param timestamp time in milliseconds since epoch when the horizon was computed
+ */
+data class ElectronicHorizon(
+    val json: String,
+    val isSuccessful: Boolean,
+    val latitude: Double,
+    val longitude: Double,
+    val bearing: Double,
+    val timestamp: Long
+)
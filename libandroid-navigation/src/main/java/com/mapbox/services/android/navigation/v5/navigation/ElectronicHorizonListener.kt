@@ -0,0 +1,16 @@
+package com.mapbox.services.android.navigation.v5.navigation
+
+/**
+ * A listener for getting [ElectronicHorizon] updates while in free drive.
+ *
+ * @see [MapboxNavigation.enableFreeDrive]
+ */
+interface ElectronicHorizonListener {
+
+    /**
+     * Invoked on the main thread each time a new horizon has been computed.
+     *
+     * @param electronicHorizon the horizon ahead of the vehicle
+     */
+    fun onElectronicHorizonUpdate(electronicHorizon: ElectronicHorizon)
+}
@@ -0,0 +1,113 @@
+package com.mapbox.services.android.navigation.v5.navigation
+
+import com.mapbox.api.directions.v5.models.LegAnnotation
+
+/**
+ * The speed, duration and congestion annotations of a route leg kept in primitive arrays, with
+ * the congestion levels coded as bytes.
+ *
+ * Instances are immutable: a refreshed leg gets new annotations, while the legs which didn't
+ * change keep theirs.
+ */
+class LegAnnotations private constructor(
+    private val speeds: DoubleArray,
+    private val durations: DoubleArray,
+    private val congestions: ByteArray
+) {
+
+    companion object {
+        const val CONGESTION_UNKNOWN: Byte = 0
+        const val CONGESTION_LOW: Byte = 1
+        const val CONGESTION_MODERATE: Byte = 2
+        const val CONGESTION_HEAVY: Byte = 3
+        const val CONGESTION_SEVERE: Byte = 4
+
+        private const val LOW = "low"
+        private const val MODERATE = "moderate"
+        private const val HEAVY = "heavy"
+        private const val SEVERE = "severe"
+        private val NO_ANNOTATIONS = LegAnnotations(DoubleArray(0), DoubleArray(0), ByteArray(0))
+
+        /**
+         * @param annotation of a route leg, null if the leg has none
+         * @return the annotations of the leg in primitive arrays
+         */
+        @JvmStatic
+        fun from(annotation: LegAnnotation?): LegAnnotations {
+            if (annotation == null) {
+                return NO_ANNOTATIONS
+            }
+            val speeds = annotation.speed()
+            val durations = annotation.duration()
+            val congestions = annotation.congestion()
+            return LegAnnotations(
+                speeds?.let { DoubleArray(it.size) { index -> it[index] ?: 0.0 } } ?: DoubleArray(0),
+                durations?.let { DoubleArray(it.size) { index -> it[index] ?: 0.0 } } ?: DoubleArray(0),
+                congestions?.let { ByteArray(it.size) { index -> congestionCode(it[index]) } } ?: ByteArray(0)
+            )
+        }
+
+        private fun congestionCode(congestion: String?): Byte =
+            when (congestion) {
+                LOW -> CONGESTION_LOW
+                MODERATE -> CONGESTION_MODERATE
+                HEAVY -> CONGESTION_HEAVY
+                SEVERE -> CONGESTION_SEVERE
+                else -> CONGESTION_UNKNOWN
+            }
+    }
+
+    /**
+     * @return the number of speed annotations, one per segment of the leg geometry
+     */
+    fun speedCount(): Int = speeds.size
+
+    /**
+     * @param index of the leg geometry segment
+     * @return the average speed along the segment, in meters per second
+     */
+    fun speed(index: Int): Double = speeds[index]
+
+    /**
+     * @return the number of duration annotations, one per segment of the leg geometry
+     */
+    fun durationCount(): Int = durations.size
+
+    /**
+     * @param index of the leg geometry segment
+     * @return the time it takes to travel the segment, in seconds
+     */
+    fun duration(index: Int): Double = durations[index]
+
+    /**
+     * @return the number of congestion annotations, one per segment of the leg geometry
+     */
+    fun congestionCount(): Int = congestions.size
+
+    /**
+     * @param index of the leg geometry segment
+     * @return the congestion level of the segment, one of the `CONGESTION_*` codes
+     */
+    fun congestion(index: Int): Byte = congestions[index]
+
+    /**
+     * @return the segment indices whose congestion differs from the other annotations, from the
+     * first to the last one, null if none does
+     */
+    internal fun changedCongestion(other: LegAnnotations): IntRange? {
+        var first = -1
+        var last = -1
+        for (index in 0 until maxOf(congestions.size, other.congestions.size)) {
+            if (congestionOrUnknown(index) != other.congestionOrUnknown(index)) {
+                if (first == -1) {
+                    first = index
+                }
+                last = index
+            }
+        }
+        return if (first == -1) null else first..last
+    }
+
+    private fun congestionOrUnknown(index: Int): Byte =
+        if (index < congestions.size) congestions[index] else CONGESTION_UNKNOWN
+}
@@ -18,6 +18,7 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.navigator.Navigator;
 import com.mapbox.navigator.NavigatorConfig;
 import com.mapbox.services.android.navigation.BuildConfig;
+import com.mapbox.services.android.navigation.v5.internal.navigation.DirectionsRouteJson;
 import com.mapbox.services.android.navigation.v5.internal.navigation.ElectronicHorizonParams;
 import com.mapbox.services.android.navigation.v5.internal.navigation.ElectronicHorizonRequestBuilder;
 import com.mapbox.services.android.navigation.v5.internal.navigation.FreeDriveLocationUpdater;
@@ -26,6 +27,7 @@ import com.mapbox.services.android.navigation.v5.internal.navigation.NavigationE
 import com.mapbox.services.android.navigation.v5.internal.navigation.NavigationEventDispatcher;
 import com.mapbox.services.android.navigation.v5.internal.navigation.NavigationService;
 import com.mapbox.services.android.navigation.v5.internal.navigation.NavigationTelemetry;
+import com.mapbox.services.android.navigation.v5.internal.navigation.RouteAnnotationsHolder;
 import com.mapbox.services.android.navigation.v5.internal.navigation.RouteRefresher;
 import com.mapbox.services.android.navigation.v5.internal.navigation.metrics.FeedbackEvent;
 import com.mapbox.services.android.navigation.v5.navigation.metrics.MapboxMetricsReporter;
@@ -89,6 +91,7 @@ public class MapboxNavigation implements ServiceConnection {
   private Context applicationContext;
   private boolean isBound;
   private RouteRefresher routeRefresher;
+  private final RouteAnnotationsHolder routeAnnotations = new RouteAnnotationsHolder();
   private AtomicBoolean isFreeDriveEnabled = new AtomicBoolean(false);
   private AtomicBoolean isFreeDriveConfigured = new AtomicBoolean(false);
   private AtomicBoolean isActiveGuidanceOnGoing = new AtomicBoolean(false);
@@ -202,6 +205,7 @@ public class MapboxNavigation implements ServiceConnection {
    */
   public void onDestroy() {
     killNavigation();
+    DirectionsRouteJson.clear();
     removeOffRouteListener(null);
     removeProgressChangeListener(null);
     removeMilestoneEventListener(null);
@@ -209,6 +213,8 @@ public class MapboxNavigation implements ServiceConnection {
     removeFasterRouteListener(null);
     removeRawLocationListener(null);
     removeEnhancedLocationListener(null);
+    removeElectronicHorizonListener(null);
+    removeRouteAnnotationsListener(null);
   }
 
   // Public APIs
@@ -391,6 +397,25 @@ public class MapboxNavigation implements ServiceConnection {
     startNavigationWith(directionsRoute, routeType);
   }
 
+  /**
+   * Swaps in the current route with refreshed annotations, see {@link RouteRefresh}, without
+   * starting navigation again: only the leg annotations which changed are handed to the navigator
+   * and the {@link RouteAnnotationsListener}s are notified of the congestion which changed.
+   *
+   * @param refreshedRoute the current route with refreshed leg annotations
+   * @see RouteAnnotationUpdater
+   */
+  public void updateRouteAnnotations(@NonNull DirectionsRoute refreshedRoute) {
+    DirectionsRoute currentRoute = directionsRoute;
+    if (currentRoute == null || currentRoute == refreshedRoute) {
+      return;
+    }
+    List<CongestionRange> changedCongestion = routeAnnotations.refresh(currentRoute, refreshedRoute);
+    directionsRoute = refreshedRoute;
+    mapboxNavigator.updateRoute(refreshedRoute, DirectionsRouteType.FRESH_ROUTE);
+    navigationEventDispatcher.onRouteAnnotationsRefresh(routeAnnotations.get(refreshedRoute), changedCongestion);
+  }
+
   /**
    * Call this when the navigation session needs to end before the user reaches their final
    * destination.
@@ -683,6 +708,65 @@ public class MapboxNavigation implements ServiceConnection {
     navigationEventDispatcher.removeEnhancedLocationListener(enhancedLocationListener);
   }
 
+  /**
+   * This adds a new electronic horizon listener which is invoked when a new {@link ElectronicHorizon}
+   * has been computed ahead of the vehicle while in free drive, see {@link #enableFreeDrive()}.
+   * <p>
+   * The last horizon is kept and only recomputed once the vehicle travelled far enough from the
+   * position it was computed for, or turned away from the direction it was heading to.
+   * </p><p>
+   * It is not possible to add the same listener implementation more then once and a warning will be
+   * printed in the log if attempted.
+   * </p>
+   *
+   * @param electronicHorizonListener an implementation of {@code ElectronicHorizonListener}
+   */
+  public void addElectronicHorizonListener(@NonNull ElectronicHorizonListener electronicHorizonListener) {
+    navigationEventDispatcher.addElectronicHorizonListener(electronicHorizonListener);
+  }
+
+  /**
+   * This removes a specific electronic horizon listener by passing in the instance of it or you can
+   * pass in null to remove all the listeners. When {@link #onDestroy()} is called, all listeners
+   * get removed automatically, removing the requirement for developers to manually handle this.
+   * <p>
+   * If the listener you are trying to remove does not exist in the list, a warning will be printed
+   * in the log.
+   *
+   * @param electronicHorizonListener an implementation of {@code ElectronicHorizonListener}
+   */
+  public void removeElectronicHorizonListener(@Nullable ElectronicHorizonListener electronicHorizonListener) {
+    navigationEventDispatcher.removeElectronicHorizonListener(electronicHorizonListener);
+  }
+
+  /**
+   * This adds a new route annotations listener which is invoked when the annotations of the route
+   * being navigated have been refreshed, see {@link #updateRouteAnnotations(DirectionsRoute)}.
+   * <p>
+   * It is not possible to add the same listener implementation more then once and a warning will be
+   * printed in the log if attempted.
+   * </p>
+   *
+   * @param routeAnnotationsListener an implementation of {@code RouteAnnotationsListener}
+   */
+  public void addRouteAnnotationsListener(@NonNull RouteAnnotationsListener routeAnnotationsListener) {
+    navigationEventDispatcher.addRouteAnnotationsListener(routeAnnotationsListener);
+  }
+
+  /**
+   * This removes a specific route annotations listener by passing in the instance of it or you can
+   * pass in null to remove all the listeners. When {@link #onDestroy()} is called, all listeners
+   * get removed automatically, removing the requirement for developers to manually handle this.
+   * <p>
+   * If the listener you are trying to remove does not exist in the list, a warning will be printed
+   * in the log.
+   *
+   * @param routeAnnotationsListener an implementation of {@code RouteAnnotationsListener}
+   */
+  public void removeRouteAnnotationsListener(@Nullable RouteAnnotationsListener routeAnnotationsListener) {
+    navigationEventDispatcher.removeRouteAnnotationsListener(routeAnnotationsListener);
+  }
+
   /**
    * Calling this method enables free drive mode.
    * <p>
@@ -104,6 +104,7 @@ internal constructor(
      */
     class Builder internal constructor(private val directionsBuilder: MapboxDirections.Builder) {
         private val eventListener: NavigationRouteEventListener
+        private var interceptor: Interceptor? = null
         private var origin: NavigationRouteWaypoint? = null
         private var destination: NavigationRouteWaypoint? = null
         private val waypoints = ArrayList<NavigationRouteWaypoint>()
@@ -570,7 +571,7 @@ internal constructor(
          * @return this builder for chaining options together
          */
         fun interceptor(interceptor: Interceptor): Builder {
-            directionsBuilder.interceptor(interceptor)
+            this.interceptor = interceptor
             return this
         }
 
@@ -728,6 +729,7 @@ internal constructor(
                 .roundaboutExits(true)
                 .eventListener(eventListener)
                 .enableRefresh(true)
+                .interceptor(RoutesJsonInterceptor(interceptor))
             return NavigationRoute(directionsBuilder.build())
         }
 
@@ -1,6 +1,7 @@
 package com.mapbox.services.android.navigation.v5.navigation
 
 import com.mapbox.api.directions.v5.models.DirectionsResponse
+import com.mapbox.services.android.navigation.v5.internal.navigation.DirectionsRouteJson
 import com.mapbox.services.android.navigation.v5.internal.navigation.NavigationTelemetry
 import com.mapbox.services.android.navigation.v5.utils.time.ElapsedTime
 import retrofit2.Call
@@ -16,6 +17,7 @@ internal class NavigationRouteCallback(
         call: Call<DirectionsResponse>,
         response: Response<DirectionsResponse>
     ) {
+        keepRoutesJson(response)
         callback.onResponse(call, response)
         if (isValid(response)) {
             response.body()?.uuid()?.let { uuid ->
@@ -28,6 +30,16 @@ internal class NavigationRouteCallback(
         callback.onFailure(call, throwable)
     }
 
+    private fun keepRoutesJson(response: Response<DirectionsResponse>) {
+        val routes = response.body()?.routes() ?: return
+        val routesJson = response.raw().request().tag(RoutesJson::class.java)?.routes ?: return
+        if (routes.size == routesJson.size) {
+            routes.forEachIndexed { index, route ->
+                DirectionsRouteJson.put(route, routesJson[index])
+            }
+        }
+    }
+
     private fun isValid(response: Response<DirectionsResponse>): Boolean {
         return response.body()?.routes()?.isNotEmpty() ?: false
     }
@@ -1,10 +1,11 @@
 package com.mapbox.services.android.navigation.v5.navigation
 
 import androidx.annotation.FloatRange
-import com.mapbox.api.directions.v5.models.DirectionsResponse
 import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.core.exceptions.ServicesException
 import com.mapbox.navigator.RouterResult
+import com.mapbox.services.android.navigation.v5.internal.navigation.DirectionsRouteJson
+import com.mapbox.services.android.navigation.v5.internal.navigation.RoutesJsonScanner
 import com.mapbox.services.android.navigation.v5.utils.extensions.ifNonNull
 import okhttp3.HttpUrl
 
@@ -116,7 +117,9 @@ class OfflineRoute private constructor(
     }
 
     private fun obtainRouteFor(response: String): DirectionsRoute? =
-        DirectionsResponse.fromJson(response).routes().firstOrNull()
+        RoutesJsonScanner.routesJson(response).firstOrNull()?.let { routeJson ->
+            DirectionsRouteJson.fromJson(routeJson)
+        }
 
     class Builder internal constructor(private val navigationRouteBuilder: NavigationRoute.Builder) {
         private var bicycleType: OfflineCriteria.BicycleType? = null
@@ -1,10 +1,18 @@
 package com.mapbox.services.android.navigation.v5.navigation
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteIdentity
 import java.util.ArrayList
 
 class RouteAnnotationUpdater {
 
+    /**
+     * Returns the old route with the annotations of the refreshed legs. The legs whose annotation
+     * didn't change are kept as they are, and the old route itself is returned if none did, so that
+     * consumers can tell what changed by reference.
+     *
+     * The updated route keeps the [RouteIdentity] of the old one, only its annotations changed.
+     */
     fun update(
         oldRoute: DirectionsRoute,
         annotationHolder: DirectionsRoute,
@@ -13,15 +21,24 @@ class RouteAnnotationUpdater {
 
         oldRoute.legs()?.let { oldRouteLegsList ->
             val legs = ArrayList(oldRouteLegsList)
+            var hasChanged = false
             for (i in currentLegIndex until legs.size) {
                 annotationHolder.legs()?.let { annotationHolderRouteLegsList ->
                     val updatedAnnotation = annotationHolderRouteLegsList[i - currentLegIndex].annotation()
-                    legs[i] = legs[i].toBuilder().annotation(updatedAnnotation).build()
+                    if (legs[i].annotation() != updatedAnnotation) {
+                        legs[i] = legs[i].toBuilder().annotation(updatedAnnotation).build()
+                        hasChanged = true
+                    }
                 }
             }
-            return oldRoute.toBuilder()
+            if (!hasChanged) {
+                return oldRoute
+            }
+            val updatedRoute = oldRoute.toBuilder()
                     .legs(legs)
                     .build()
+            RouteIdentity.keepIdentity(updatedRoute, oldRoute)
+            return updatedRoute
         }
         return oldRoute
     }
@@ -0,0 +1,67 @@
+package com.mapbox.services.android.navigation.v5.navigation
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+
+/**
+ * The [LegAnnotations] of each leg of a route.
+ *
+ * Instances are immutable and replaced as a whole when the route is refreshed, the legs whose
+ * annotation didn't change sharing their [LegAnnotations] with the previous instance.
+ *
+ * @param route the annotations are from
+ */
+class RouteAnnotations private constructor(
+    val route: DirectionsRoute,
+    private val legs: List<LegAnnotations>
+) {
+
+    internal companion object {
+        fun from(route: DirectionsRoute): RouteAnnotations =
+            RouteAnnotations(route, route.legs()?.map { LegAnnotations.from(it.annotation()) } ?: emptyList())
+    }
+
+    /**
+     * @return the number of legs of the route
+     */
+    fun legCount(): Int = legs.size
+
+    /**
+     * @param legIndex of the leg in the route
+     * @return the annotations of the leg
+     */
+    fun leg(legIndex: Int): LegAnnotations = legs[legIndex]
+
+    /**
+     * The legs of the refreshed route which share their annotation with this route keep their
+     * [LegAnnotations], see [RouteAnnotationUpdater].
+     */
+    internal fun refreshedWith(refreshedRoute: DirectionsRoute): RouteAnnotations {
+        val legs = route.legs()
+        val refreshedLegs = refreshedRoute.legs() ?: return from(refreshedRoute)
+        return RouteAnnotations(refreshedRoute, refreshedLegs.mapIndexed { index, refreshedLeg ->
+            val isSameAnnotation = legs != null && index < legs.size && index < this.legs.size &&
+                legs[index].annotation() === refreshedLeg.annotation()
+            if (isSameAnnotation) this.legs[index] else LegAnnotations.from(refreshedLeg.annotation())
+        })
+    }
+
+    internal fun changedCongestion(previous: RouteAnnotations): List<CongestionRange> {
+        val ranges = mutableListOf<CongestionRange>()
+        for (index in legs.indices) {
+            val leg = legs[index]
+            val previousLeg = previous.legs.getOrNull(index)
+            if (leg === previousLeg) {
+                continue
+            }
+            val range = if (previousLeg == null) {
+                if (leg.congestionCount() > 0) 0 until leg.congestionCount() else null
+            } else {
+                leg.changedCongestion(previousLeg)
+            }
+            range?.let {
+                ranges.add(CongestionRange(index, it.first, it.last + 1))
+            }
+        }
+        return ranges
+    }
+}
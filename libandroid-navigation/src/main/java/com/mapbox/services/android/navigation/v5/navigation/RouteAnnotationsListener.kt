@@ -0,0 +1,18 @@
+package com.mapbox.services.android.navigation.v5.navigation
+
+/**
+ * A listener for the annotations of the route being navigated, refreshed by [RouteRefresh].
+ *
+ * @see [MapboxNavigation.addRouteAnnotationsListener]
+ */
+interface RouteAnnotationsListener {
+
+    /**
+     * Invoked on the main thread once the annotations of the route have been refreshed. The route
+     * itself is the same, only the annotations of some of its legs changed.
+     *
+     * @param routeAnnotations of the refreshed route
+     * @param changedCongestion the segments whose congestion changed, empty if none did
+     */
+    fun onRouteAnnotationsRefresh(routeAnnotations: RouteAnnotations, changedCongestion: List<CongestionRange>)
+}
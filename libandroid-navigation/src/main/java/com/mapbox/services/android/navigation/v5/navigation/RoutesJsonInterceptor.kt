@@ -0,0 +1,41 @@
+package com.mapbox.services.android.navigation.v5.navigation
+
+import com.google.gson.JsonParseException
+import com.mapbox.services.android.navigation.v5.internal.navigation.RoutesJsonScanner
+import okhttp3.Interceptor
+import okhttp3.Response
+
+/**
+ * Finds the JSON of each route in a successful directions response on the network thread, and attaches it to the
+ * response as [RoutesJson], a tag of its request, so that [NavigationRouteCallback] can keep it for the routes
+ * Retrofit decodes from the same response.
+ *
+ * @param interceptor set on the [NavigationRoute.Builder], run first
+ */
+internal class RoutesJsonInterceptor(
+    private val interceptor: Interceptor?
+) : Interceptor {
+
+    override fun intercept(chain: Interceptor.Chain): Response {
+        val response = interceptor?.intercept(chain) ?: chain.proceed(chain.request())
+        if (!response.isSuccessful) {
+            return response
+        }
+        val routesJson = try {
+            RoutesJsonScanner.routesJson(response.peekBody(Long.MAX_VALUE).string())
+        } catch (e: JsonParseException) {
+            return response
+        }
+        val request = response.request().newBuilder()
+            .tag(RoutesJson::class.java, RoutesJson(routesJson))
+            .build()
+        return response.newBuilder()
+            .request(request)
+            .build()
+    }
+}
+
+/**
+ * The JSON of each route of a directions response, in the order of the response.
+ */
+internal class RoutesJson(val routes: List<String>)
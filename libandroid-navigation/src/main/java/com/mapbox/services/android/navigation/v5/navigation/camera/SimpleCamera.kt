@@ -4,6 +4,7 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.core.constants.Constants
 import com.mapbox.geojson.LineString
 import com.mapbox.geojson.Point
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteIdentity
 import com.mapbox.services.android.navigation.v5.utils.extensions.ifNonNull
 import java.util.ArrayList
 
@@ -44,7 +45,7 @@ open class SimpleCamera : Camera() {
     }
 
     private fun setupLineStringAndBearing(route: DirectionsRoute) {
-        if (route == initialRoute) {
+        if (RouteIdentity.isSameRoute(route, initialRoute)) {
             return // no need to recalculate these values
         }
         initialRoute = route
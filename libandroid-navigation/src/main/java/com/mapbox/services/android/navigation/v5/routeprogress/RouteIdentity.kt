@@ -0,0 +1,102 @@
+package com.mapbox.services.android.navigation.v5.routeprogress
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.services.android.navigation.v5.internal.utils.WeakIdentityCache
+
+/**
+ * Identifies a [DirectionsRoute] by the request it comes from, its index in the response and a
+ * hash of its content, so that checking whether two routes are the same doesn't walk all of
+ * their legs, steps and annotations.
+ *
+ * The identity of a route instance is computed once and kept for the last few route instances,
+ * which are looked up by reference so that a lookup never hashes the route again.
+ *
+ * @param requestUuid of the directions request, null for routes which weren't requested
+ * @param routeIndex of the route in the directions response
+ * @param contentHash of the route geometry and all of its properties
+ */
+class RouteIdentity internal constructor(
+    val requestUuid: String?,
+    val routeIndex: String?,
+    val contentHash: Long
+) {
+
+    companion object {
+
+        private const val FNV_OFFSET_BASIS = -0x340d631b7bdddcdbL
+        private const val FNV_PRIME = 0x100000001b3L
+        private const val MAX_ROUTES = 8
+        private val identities = WeakIdentityCache<DirectionsRoute, RouteIdentity>(MAX_ROUTES)
+
+        /**
+         * Returns the identity of the given route, computed the first time it's requested.
+         *
+         * @param route to identify
+         * @return the route identity
+         */
+        @JvmStatic
+        fun of(route: DirectionsRoute): RouteIdentity {
+            identities[route]?.let { return it }
+            val identity = RouteIdentity(
+                route.routeOptions()?.requestUuid(),
+                route.routeIndex(),
+                hashContent(route)
+            )
+            identities.put(route, identity)
+            return identity
+        }
+
+        /**
+         * Gives a refreshed route the identity of the route it was refreshed from, as only its
+         * annotations changed.
+         */
+        internal fun keepIdentity(refreshedRoute: DirectionsRoute, route: DirectionsRoute) {
+            identities.put(refreshedRoute, of(route))
+        }
+
+        /**
+         * Checks whether the two routes are the same, by reference first and by identity otherwise.
+         *
+         * @param route to compare
+         * @param otherRoute to compare
+         * @return true if both routes are null or have the same identity
+         */
+        @JvmStatic
+        fun isSameRoute(route: DirectionsRoute?, otherRoute: DirectionsRoute?): Boolean =
+            when {
+                route === otherRoute -> true
+                route == null || otherRoute == null -> false
+                else -> of(route) == of(otherRoute)
+            }
+
+        /**
+         * The geometry is hashed on 64 bits, the rest of the route with its own hash code,
+         * which the geometry dominates on large routes.
+         */
+        private fun hashContent(route: DirectionsRoute): Long {
+            var hash = FNV_OFFSET_BASIS
+            route.geometry()?.let { geometry ->
+                for (character in geometry) {
+                    hash = (hash xor character.toLong()) * FNV_PRIME
+                }
+            }
+            return (hash xor route.hashCode().toLong()) * FNV_PRIME
+        }
+    }
+
+    override fun equals(other: Any?): Boolean =
+        other is RouteIdentity &&
+            requestUuid == other.requestUuid &&
+            routeIndex == other.routeIndex &&
+            contentHash == other.contentHash
+
+    override fun hashCode(): Int {
+        var result = requestUuid?.hashCode() ?: 0
+        result = 31 * result + (routeIndex?.hashCode() ?: 0)
+        result = 31 * result + contentHash.hashCode()
+        return result
+    }
+
+    override fun toString(): String =
+        "RouteIdentity(requestUuid=$requestUuid, routeIndex=$routeIndex, contentHash=$contentHash)"
+}
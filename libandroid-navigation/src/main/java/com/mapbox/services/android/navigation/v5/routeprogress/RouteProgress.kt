@@ -54,6 +54,14 @@ data class RouteProgress internal constructor(
      */
     fun directionsRoute() = directionsRoute
 
+    /**
+     * Identity of the route the navigation session is currently using, cheaper to compare than
+     * the route itself when checking whether the route has changed.
+     *
+     * @return the [RouteIdentity] of [directionsRoute], null if there's no route
+     */
+    fun routeIdentity(): RouteIdentity? = directionsRoute?.let { RouteIdentity.of(it) }
+
     /**
      * Index representing the current leg the user is on. If the directions route currently in use
      * contains more then two waypoints, the route is likely to have multiple legs representing the
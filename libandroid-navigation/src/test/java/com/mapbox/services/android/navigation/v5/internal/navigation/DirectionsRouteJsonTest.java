@@ -0,0 +1,62 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
+
+public class DirectionsRouteJsonTest extends BaseTest {
+
+  @Test
+  public void fromJson_keepsParsedJson() throws Exception {
+    String json = buildTestDirectionsRoute().toJson();
+
+    DirectionsRoute route = DirectionsRouteJson.fromJson(json);
+
+    assertSame(json, DirectionsRouteJson.toJson(route));
+  }
+
+  @Test
+  public void put_keepsJsonOfRoute() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    String json = new String(route.toJson());
+
+    DirectionsRouteJson.put(route, json);
+
+    assertSame(json, DirectionsRouteJson.toJson(route));
+  }
+
+  @Test
+  public void toJson_serializedJsonIsNotKept() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+
+    String json = DirectionsRouteJson.toJson(route);
+
+    assertEquals(route.toJson(), json);
+    assertNotSame(json, DirectionsRouteJson.toJson(route));
+  }
+
+  @Test
+  public void clear_parsedJsonIsDropped() throws Exception {
+    String json = buildTestDirectionsRoute().toJson();
+    DirectionsRoute route = DirectionsRouteJson.fromJson(json);
+
+    DirectionsRouteJson.clear();
+
+    assertNotSame(json, DirectionsRouteJson.toJson(route));
+  }
+
+  @Test
+  public void toJson_equalRouteIsSerialized() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    String json = DirectionsRouteJson.toJson(route);
+
+    String otherJson = DirectionsRouteJson.toJson(buildTestDirectionsRoute());
+
+    assertEquals(json, otherJson);
+  }
+}
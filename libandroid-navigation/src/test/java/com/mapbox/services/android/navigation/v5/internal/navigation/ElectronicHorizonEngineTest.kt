@@ -0,0 +1,141 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+import com.mapbox.navigator.RouterResult
+import com.mapbox.services.android.navigation.v5.utils.time.Time
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotNull
+import org.junit.Assert.assertNull
+import org.junit.Test
+
+class ElectronicHorizonEngineTest {
+
+    private val routerResult = mockk<RouterResult>().also {
+        every { it.json } returns "{}"
+        every { it.success } returns true
+    }
+    private val mapboxNavigator = mockk<MapboxNavigator>().also {
+        every { it.retrieveElectronicHorizon(any()) } returns routerResult
+    }
+    private var now = 0L
+    private val time = mockk<Time>().also {
+        every { it.millis() } answers { now }
+    }
+    private val engine = ElectronicHorizonEngine(
+        mapboxNavigator,
+        ElectronicHorizonRequestBuilder,
+        ElectronicHorizonRequestBuilder.Expansion._1D,
+        RECOMPUTE_DISTANCE,
+        time = time
+    )
+    private val positions = RecentPositions(5)
+
+    @Test
+    fun `checks first update computes horizon`() {
+        positions.add(0.0, 0.0)
+
+        val horizon = engine.update(positions)
+
+        assertNotNull(horizon)
+        assertEquals(horizon, engine.lastHorizon)
+    }
+
+    @Test
+    fun `checks no horizon is computed without positions`() {
+        assertNull(engine.update(positions))
+        verify(exactly = 0) { mapboxNavigator.retrieveElectronicHorizon(any()) }
+    }
+
+    @Test
+    fun `checks last horizon is kept while on the same path`() {
+        positions.add(0.0, 0.0)
+        positions.add(ONE_HUNDRED_METERS, 0.0)
+        engine.update(positions)
+
+        positions.add(2 * ONE_HUNDRED_METERS, 0.0)
+
+        assertNull(engine.update(positions))
+        verify(exactly = 1) { mapboxNavigator.retrieveElectronicHorizon(any()) }
+    }
+
+    @Test
+    fun `checks horizon is recomputed after recompute distance`() {
+        positions.add(0.0, 0.0)
+        positions.add(ONE_HUNDRED_METERS, 0.0)
+        engine.update(positions)
+
+        positions.add(4 * ONE_HUNDRED_METERS, 0.0)
+
+        assertNotNull(engine.update(positions))
+    }
+
+    @Test
+    fun `checks horizon is recomputed when leaving the direction of travel`() {
+        positions.add(0.0, 0.0)
+        positions.add(ONE_HUNDRED_METERS, 0.0)
+        engine.update(positions)
+
+        positions.add(ONE_HUNDRED_METERS, ONE_HUNDRED_METERS)
+
+        val horizon = engine.update(positions)
+
+        assertNotNull(horizon)
+        assertEquals(90.0, horizon!!.bearing, 1.0)
+    }
+
+    @Test
+    fun `checks horizon is not recomputed right after failure`() {
+        every { routerResult.success } returns false
+        positions.add(0.0, 0.0)
+        engine.update(positions)
+
+        now += 1_000L
+
+        assertNull(engine.update(positions))
+        verify(exactly = 1) { mapboxNavigator.retrieveElectronicHorizon(any()) }
+    }
+
+    @Test
+    fun `checks horizon is recomputed after failure backoff`() {
+        every { routerResult.success } returns false
+        positions.add(0.0, 0.0)
+        engine.update(positions)
+
+        now += 20_000L
+
+        assertNotNull(engine.update(positions))
+    }
+
+    @Test
+    fun `checks failure backoff doubles with consecutive failures`() {
+        every { routerResult.success } returns false
+        positions.add(0.0, 0.0)
+        engine.update(positions)
+        now += 20_000L
+        engine.update(positions)
+
+        now += 20_000L
+        assertNull(engine.update(positions))
+
+        now += 20_000L
+        assertNotNull(engine.update(positions))
+    }
+
+    @Test
+    fun `checks reset drops last horizon`() {
+        positions.add(0.0, 0.0)
+        engine.update(positions)
+
+        engine.reset()
+
+        assertNull(engine.lastHorizon)
+    }
+
+    private companion object {
+        private const val RECOMPUTE_DISTANCE = 250.0
+        // roughly 100 meters in degrees, at the equator
+        private const val ONE_HUNDRED_METERS = 0.0009
+    }
+}
@@ -3,6 +3,7 @@ package com.mapbox.services.android.navigation.v5.internal.navigation
 import com.mapbox.services.android.navigation.v5.internal.navigation.ElectronicHorizonParams.Builder.Companion.DEFAULT_ELECTRONIC_HORIZON_DELAY
 import com.mapbox.services.android.navigation.v5.internal.navigation.ElectronicHorizonParams.Builder.Companion.DEFAULT_ELECTRONIC_HORIZON_INTERVAL
 import com.mapbox.services.android.navigation.v5.internal.navigation.ElectronicHorizonParams.Builder.Companion.DEFAULT_LOCATIONS_CACHE_SIZE
+import com.mapbox.services.android.navigation.v5.internal.navigation.ElectronicHorizonParams.Builder.Companion.DEFAULT_RECOMPUTE_DISTANCE
 import com.mapbox.services.android.navigation.v5.internal.navigation.ElectronicHorizonParams.Builder.Companion.LOCATIONS_CACHE_MAX_SIZE
 import com.mapbox.services.android.navigation.v5.internal.navigation.ElectronicHorizonParams.Builder.Companion.LOCATIONS_CACHE_MIN_SIZE
 import org.junit.Assert
@@ -23,11 +24,13 @@ internal class ElectronicHorizonParamsTest(
             .delay(initParams.delay)
             .interval(initParams.interval)
             .locationsCacheSize(initParams.locationsCacheSize)
+            .recomputeDistance(initParams.recomputeDistance)
             .build()
 
         Assert.assertEquals(expectedResults.delay, actualParams.delay)
         Assert.assertEquals(expectedResults.interval, actualParams.interval)
         Assert.assertEquals(expectedResults.locationsCacheSize, actualParams.locationsCacheSize)
+        Assert.assertEquals(expectedResults.recomputeDistance, actualParams.recomputeDistance, 0.0)
     }
 
     internal data class TestData(
@@ -38,13 +41,15 @@ internal class ElectronicHorizonParamsTest(
     internal data class TestParams(
         val delay: Long = 0,
         val interval: Long = 0,
-        val locationsCacheSize: Int = 0
+        val locationsCacheSize: Int = 0,
+        val recomputeDistance: Double = 0.0
     )
 
     internal data class ExpectedResults(
         val delay: Long = DEFAULT_ELECTRONIC_HORIZON_DELAY,
         val interval: Long = DEFAULT_ELECTRONIC_HORIZON_INTERVAL,
-        val locationsCacheSize: Int = DEFAULT_LOCATIONS_CACHE_SIZE
+        val locationsCacheSize: Int = DEFAULT_LOCATIONS_CACHE_SIZE,
+        val recomputeDistance: Double = DEFAULT_RECOMPUTE_DISTANCE
     )
 
     private companion object {
@@ -120,6 +125,16 @@ internal class ElectronicHorizonParamsTest(
                 TestData(
                     TestParams(locationsCacheSize = LOCATIONS_CACHE_MAX_SIZE + 1),
                     ExpectedResults(locationsCacheSize = DEFAULT_LOCATIONS_CACHE_SIZE)
+                ),
+
+                TestData(
+                    TestParams(recomputeDistance = -1.0),
+                    ExpectedResults(recomputeDistance = DEFAULT_RECOMPUTE_DISTANCE)
+                ),
+
+                TestData(
+                    TestParams(recomputeDistance = 100.0),
+                    ExpectedResults(recomputeDistance = 100.0)
                 )
             )
         }
@@ -80,7 +80,7 @@ class FreeDriveLocationUpdaterTest {
             mockedScheduledExecutorService.scheduleAtFixedRate(
                 any(),
                 eq(20_000),
-                eq(20_000),
+                eq(1_000),
                 eq(TimeUnit.MILLISECONDS)
             )
         }
@@ -135,7 +135,7 @@ class FreeDriveLocationUpdaterTest {
             mockedScheduledExecutorService.scheduleAtFixedRate(
                 any(),
                 eq(20_000),
-                eq(20_000),
+                eq(1_000),
                 eq(TimeUnit.MILLISECONDS)
             )
         }
@@ -0,0 +1,61 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+import android.location.Location
+import io.mockk.every
+import io.mockk.mockk
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class MovementDetectorTest {
+
+    @Test
+    fun `checks first location is significant`() {
+        val detector = MovementDetector()
+
+        assertTrue(detector.onLocation(mockLocation(10.0, 20.0, 0f)))
+        assertFalse(detector.isIdle)
+    }
+
+    @Test
+    fun `checks detector becomes idle after unchanged fixes`() {
+        val detector = MovementDetector(idleAfterFixes = 3)
+        detector.onLocation(mockLocation(10.0, 20.0, 0f))
+
+        repeat(3) {
+            assertFalse(detector.onLocation(mockLocation(10.00001, 20.0, 0.2f)))
+        }
+
+        assertTrue(detector.isIdle)
+    }
+
+    @Test
+    fun `checks detector wakes on displaced fix`() {
+        val detector = MovementDetector(idleAfterFixes = 1)
+        detector.onLocation(mockLocation(10.0, 20.0, 0f))
+        detector.onLocation(mockLocation(10.0, 20.0, 0f))
+
+        assertTrue(detector.onLocation(mockLocation(10.001, 20.0, 0f)))
+        assertFalse(detector.isIdle)
+    }
+
+    @Test
+    fun `checks detector wakes on speed`() {
+        val detector = MovementDetector(idleAfterFixes = 1)
+        detector.onLocation(mockLocation(10.0, 20.0, 0f))
+        detector.onLocation(mockLocation(10.0, 20.0, 0f))
+
+        assertTrue(detector.onLocation(mockLocation(10.0, 20.0, 5f)))
+        assertFalse(detector.isIdle)
+    }
+
+    private fun mockLocation(latitude: Double, longitude: Double, speed: Float): Location {
+        return mockk<Location>().also {
+            every { it.latitude } returns latitude
+            every { it.longitude } returns longitude
+            every { it.hasSpeed() } returns true
+            every { it.speed } returns speed
+            every { it.hasAccuracy() } returns false
+        }
+    }
+}
@@ -20,6 +20,8 @@ import com.mapbox.services.android.navigation.v5.milestone.MilestoneEventListene
 import com.mapbox.services.android.navigation.v5.navigation.EnhancedLocationListener;
 import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation;
 import com.mapbox.services.android.navigation.v5.navigation.NavigationEventListener;
+import com.mapbox.services.android.navigation.v5.navigation.RouteAnnotations;
+import com.mapbox.services.android.navigation.v5.navigation.RouteAnnotationsListener;
 import com.mapbox.services.android.navigation.v5.offroute.OffRouteListener;
 import com.mapbox.services.android.navigation.v5.route.FasterRouteListener;
 import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
@@ -34,6 +36,8 @@ import org.mockito.MockitoAnnotations;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.RuntimeEnvironment;
 
+import java.util.Collections;
+
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -427,6 +431,31 @@ public class NavigationEventDispatcherTest extends BaseTest {
     verify(listener, times(0)).onEnhancedLocationUpdate(eq(location));
   }
 
+  @Test
+  public void onRouteAnnotationsRefresh_routeAnnotationsListenerIsInvoked() {
+    RouteAnnotationsListener listener = mock(RouteAnnotationsListener.class);
+    RouteAnnotations routeAnnotations = mock(RouteAnnotations.class);
+    NavigationEventDispatcher dispatcher = new NavigationEventDispatcher(mock(RouteUtils.class));
+    dispatcher.addRouteAnnotationsListener(listener);
+
+    dispatcher.onRouteAnnotationsRefresh(routeAnnotations, Collections.emptyList());
+
+    verify(listener).onRouteAnnotationsRefresh(eq(routeAnnotations), eq(Collections.emptyList()));
+  }
+
+  @Test
+  public void onRouteAnnotationsRefresh_removeRouteAnnotationsListenerIsNotInvoked() {
+    RouteAnnotationsListener listener = mock(RouteAnnotationsListener.class);
+    RouteAnnotations routeAnnotations = mock(RouteAnnotations.class);
+    NavigationEventDispatcher dispatcher = new NavigationEventDispatcher(mock(RouteUtils.class));
+    dispatcher.addRouteAnnotationsListener(listener);
+    dispatcher.removeRouteAnnotationsListener(listener);
+
+    dispatcher.onRouteAnnotationsRefresh(routeAnnotations, Collections.emptyList());
+
+    verify(listener, times(0)).onRouteAnnotationsRefresh(eq(routeAnnotations), eq(Collections.emptyList()));
+  }
+
   @NonNull
   private NavigationEventDispatcher buildEventDispatcherHasArrived(String instruction, RouteUtils routeUtils,
                                                                    Milestone milestone) {
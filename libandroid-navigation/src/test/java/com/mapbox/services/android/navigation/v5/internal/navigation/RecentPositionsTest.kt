@@ -0,0 +1,69 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+import org.junit.Assert.assertArrayEquals
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class RecentPositionsTest {
+
+    @Test
+    fun `checks positions are iterated from the oldest one`() {
+        val positions = RecentPositions(3)
+
+        positions.add(1.0, 10.0)
+        positions.add(2.0, 20.0)
+
+        assertEquals(listOf(1.0 to 10.0, 2.0 to 20.0), positions.toList())
+    }
+
+    @Test
+    fun `checks oldest position is overwritten when full`() {
+        val positions = RecentPositions(3)
+
+        (1..5).forEach { positions.add(it.toDouble(), it * 10.0) }
+
+        assertEquals(3, positions.size())
+        assertEquals(
+            listOf(3.0 to 30.0, 4.0 to 40.0, 5.0 to 50.0),
+            positions.toList()
+        )
+    }
+
+    @Test
+    fun `checks newest positions are copied first`() {
+        val positions = RecentPositions(3)
+        (1..4).forEach { positions.add(it.toDouble(), it * 10.0) }
+        val out = DoubleArray(4)
+
+        val count = positions.copyNewest(out)
+
+        assertEquals(2, count)
+        assertArrayEquals(doubleArrayOf(4.0, 40.0, 3.0, 30.0), out, 0.0)
+    }
+
+    @Test
+    fun `checks clear removes all positions`() {
+        val positions = RecentPositions(3)
+        positions.add(1.0, 10.0)
+
+        positions.clear()
+
+        assertEquals(0, positions.size())
+        assertEquals(emptyList<Pair<Double, Double>>(), positions.toList())
+    }
+
+    @Test
+    fun `checks empty ring ignores positions`() {
+        val positions = RecentPositions(0)
+
+        positions.add(1.0, 10.0)
+
+        assertEquals(0, positions.size())
+    }
+
+    private fun RecentPositions.toList(): List<Pair<Double, Double>> {
+        val positions = mutableListOf<Pair<Double, Double>>()
+        forEachIndexed { _, latitude, longitude -> positions.add(latitude to longitude) }
+        return positions
+    }
+}
@@ -1,15 +1,20 @@
 package com.mapbox.services.android.navigation.v5.internal.navigation;
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.services.android.navigation.v5.BaseTest;
 import com.mapbox.services.android.navigation.v5.navigation.DirectionsRouteType;
 
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 public class RouteHandlerTest extends BaseTest {
@@ -38,4 +43,24 @@ public class RouteHandlerTest extends BaseTest {
     String secondLegAnnotationJson = freshRoute.legs().get(1).annotation().toJson();
     verify(mapboxNavigator).updateAnnotations(eq(secondLegAnnotationJson), eq(0), eq(1));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void updateRoute_freshRouteOnlyUpdatesChangedLegAnnotationJson() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute("directions_two_leg_route.json");
+    List<RouteLeg> legs = new ArrayList<>(route.legs());
+    legs.set(1, legs.get(1).toBuilder().annotation(null).build());
+    DirectionsRoute currentRoute = route.toBuilder().legs(legs).build();
+    MapboxNavigator mapboxNavigator = mock(MapboxNavigator.class);
+    RouteHandler routeHandler = new RouteHandler(mapboxNavigator);
+    routeHandler.updateRoute(currentRoute, DirectionsRouteType.NEW_ROUTE);
+    List<RouteLeg> freshLegs = new ArrayList<>(currentRoute.legs());
+    freshLegs.set(1, route.legs().get(1));
+    DirectionsRoute freshRoute = currentRoute.toBuilder().legs(freshLegs).build();
+
+    routeHandler.updateRoute(freshRoute, DirectionsRouteType.FRESH_ROUTE);
+
+    verify(mapboxNavigator, never()).updateAnnotations(anyString(), eq(0), eq(0));
+    String secondLegAnnotationJson = route.legs().get(1).annotation().toJson();
+    verify(mapboxNavigator).updateAnnotations(eq(secondLegAnnotationJson), eq(0), eq(1));
+  }
+}
@@ -6,19 +6,20 @@ import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation;
 import com.mapbox.services.android.navigation.v5.navigation.RefreshError;
 
 import org.junit.Test;
-import org.mockito.ArgumentMatchers;
 
 import java.util.Date;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class RouteRefresherCallbackTest {
 
   @Test
-  public void checksStartNavigationWithRefreshedRouteIsCalledWhenOnRefresh() {
+  public void checksRouteAnnotationsAreUpdatedWhenOnRefresh() {
     MapboxNavigation mockedMapboxNavigation = mock(MapboxNavigation.class);
     RouteRefresher mockedRouteRefresher = mock(RouteRefresher.class);
     RouteRefresherCallback theRouteRefresherCallback = new RouteRefresherCallback(mockedMapboxNavigation,
@@ -27,7 +28,9 @@ public class RouteRefresherCallbackTest {
 
     theRouteRefresherCallback.onRefresh(anyRoute);
 
-    verify(mockedMapboxNavigation).startNavigation(eq(anyRoute), ArgumentMatchers.eq(DirectionsRouteType.FRESH_ROUTE));
+    verify(mockedMapboxNavigation).updateRouteAnnotations(eq(anyRoute));
+    verify(mockedMapboxNavigation, never()).startNavigation(any(DirectionsRoute.class),
+      any(DirectionsRouteType.class));
   }
 
   @Test
@@ -56,6 +59,20 @@ public class RouteRefresherCallbackTest {
     verify(mockedRouteRefresher).updateIsChecking(eq(false));
   }
 
+  @Test
+  public void checksRouteAnnotationsAreNotUpdatedWhenRouteIsUnchanged() {
+    MapboxNavigation mockedMapboxNavigation = mock(MapboxNavigation.class);
+    RouteRefresher mockedRouteRefresher = mock(RouteRefresher.class);
+    RouteRefresherCallback theRouteRefresherCallback = new RouteRefresherCallback(mockedMapboxNavigation,
+      mockedRouteRefresher);
+    DirectionsRoute currentRoute = mock(DirectionsRoute.class);
+    when(mockedMapboxNavigation.getRoute()).thenReturn(currentRoute);
+
+    theRouteRefresherCallback.onRefresh(currentRoute);
+
+    verify(mockedMapboxNavigation, never()).updateRouteAnnotations(any(DirectionsRoute.class));
+  }
+
   @Test
   public void checksUpdateIsNotCheckingIfOnError() {
     MapboxNavigation mockedMapboxNavigation = mock(MapboxNavigation.class);
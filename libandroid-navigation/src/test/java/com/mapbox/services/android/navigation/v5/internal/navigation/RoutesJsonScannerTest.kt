@@ -0,0 +1,40 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+import com.google.gson.JsonParseException
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class RoutesJsonScannerTest {
+
+    @Test
+    fun routesJson_returnsJsonOfEachRoute() {
+        val routesJson = RoutesJsonScanner.routesJson(
+            "{\"waypoints\": [{\"name\": \"a\", \"location\": [1.0, 2.0]}], " +
+                "\"routes\": [{\"distance\": 10.0, \"legs\": [{}]}, {\"distance\": 20.0}], \"code\": \"Ok\"}"
+        )
+
+        assertEquals(listOf("{\"distance\": 10.0, \"legs\": [{}]}", "{\"distance\": 20.0}"), routesJson)
+    }
+
+    @Test
+    fun routesJson_escapedQuotesDontEndRoutes() {
+        val route = "{\"weight_name\": \"a \\\"quoted\\\" ] name\"}"
+
+        val routesJson = RoutesJsonScanner.routesJson("{\"routes\": [$route]}")
+
+        assertEquals(listOf(route), routesJson)
+    }
+
+    @Test
+    fun routesJson_responseWithoutRoutesHasNone() {
+        val routesJson = RoutesJsonScanner.routesJson("{\"code\": \"NoRoute\", \"routes\": null}")
+
+        assertTrue(routesJson.isEmpty())
+    }
+
+    @Test(expected = JsonParseException::class)
+    fun routesJson_malformedResponseThrows() {
+        RoutesJsonScanner.routesJson("{\"routes\": [{\"distance\": 10.0}")
+    }
+}
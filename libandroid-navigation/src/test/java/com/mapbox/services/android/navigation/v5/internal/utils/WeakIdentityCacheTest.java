@@ -0,0 +1,55 @@
+package com.mapbox.services.android.navigation.v5.internal.utils;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+
+public class WeakIdentityCacheTest {
+
+  @Test
+  public void get_returnsValueOfSameInstance() {
+    WeakIdentityCache<String, Integer> cache = new WeakIdentityCache<>(2);
+    String key = new String("key");
+
+    cache.put(key, 1);
+
+    assertEquals(Integer.valueOf(1), cache.get(key));
+  }
+
+  @Test
+  public void get_equalInstanceHasNoValue() {
+    WeakIdentityCache<String, Integer> cache = new WeakIdentityCache<>(2);
+
+    cache.put(new String("key"), 1);
+
+    assertNull(cache.get(new String("key")));
+  }
+
+  @Test
+  public void put_oldestEntryIsReplacedOnceFull() {
+    WeakIdentityCache<String, Integer> cache = new WeakIdentityCache<>(2);
+    String first = new String("first");
+    String second = new String("second");
+    String third = new String("third");
+
+    cache.put(first, 1);
+    cache.put(second, 2);
+    cache.put(third, 3);
+
+    assertNull(cache.get(first));
+    assertEquals(Integer.valueOf(2), cache.get(second));
+    assertEquals(Integer.valueOf(3), cache.get(third));
+  }
+
+  @Test
+  public void clear_dropsAllEntries() {
+    WeakIdentityCache<String, Integer> cache = new WeakIdentityCache<>(2);
+    String key = new String("key");
+    cache.put(key, 1);
+
+    cache.clear();
+
+    assertNull(cache.get(key));
+  }
+}
@@ -1,5 +1,7 @@
 package com.mapbox.services.android.navigation.v5.milestone;
 
+import android.util.SparseArray;
+
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
@@ -353,6 +355,37 @@ public class TriggerTest extends BaseTest {
     Assert.assertTrue(result);
   }
 
+  @Test
+  public void equal_differentNumberTypeValidatesToFalse() throws Exception {
+    RouteProgress routeProgress = buildTriggerRouteProgress();
+    Milestone milestone = new StepMilestone.Builder()
+      .setTrigger(
+        Trigger.eq(TriggerProperty.STEP_INDEX, 1d)
+      )
+      .build();
+
+    boolean result = milestone.isOccurring(routeProgress, routeProgress);
+
+    Assert.assertFalse(result);
+  }
+
+  @Test
+  public void customStatement_receivesTriggerProperties() throws Exception {
+    RouteProgress routeProgress = buildTriggerRouteProgress();
+    Milestone milestone = new StepMilestone.Builder()
+      .setTrigger(new Trigger.Statement() {
+        @Override
+        public boolean isOccurring(SparseArray<Number[]> statementObjects) {
+          return statementObjects.get(TriggerProperty.STEP_INDEX)[0].equals(1);
+        }
+      })
+      .build();
+
+    boolean result = milestone.isOccurring(routeProgress, routeProgress);
+
+    Assert.assertTrue(result);
+  }
+
   private RouteProgress buildTriggerRouteProgress() throws Exception {
     Gson gson = new GsonBuilder()
       .registerTypeAdapterFactory(DirectionsAdapterFactory.create()).create();
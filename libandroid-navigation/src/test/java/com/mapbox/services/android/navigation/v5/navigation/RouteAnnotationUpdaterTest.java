@@ -3,6 +3,7 @@ package com.mapbox.services.android.navigation.v5.navigation;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.LegAnnotation;
 import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteIdentity;
 
 import org.junit.Test;
 
@@ -11,6 +12,8 @@ import java.util.Collections;
 import java.util.List;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
 
 public class RouteAnnotationUpdaterTest {
   @Test
@@ -26,6 +29,30 @@ public class RouteAnnotationUpdaterTest {
     assertEquals(expected, updatedRoute.legs().get(0).annotation());
   }
 
+  @Test
+  public void updateRoute_unchangedAnnotationsReturnOldRoute() {
+    DirectionsRoute oldRoute =
+      DirectionsRoute.builder().legs(getRouteLegs(getAnnotation(getOldCongestionAnnotations()))).build();
+    DirectionsRoute newRoute =
+      DirectionsRoute.builder().legs(getRouteLegs(getAnnotation(getOldCongestionAnnotations()))).build();
+
+    DirectionsRoute updatedRoute = new RouteAnnotationUpdater().update(oldRoute, newRoute, 0);
+
+    assertSame(oldRoute, updatedRoute);
+  }
+
+  @Test
+  public void updateRoute_updatedRouteKeepsIdentity() {
+    DirectionsRoute oldRoute = DirectionsRoute.builder().geometry("_cqeFf~cjV")
+      .legs(getRouteLegs(getAnnotation(getOldCongestionAnnotations()))).build();
+    DirectionsRoute newRoute =
+      DirectionsRoute.builder().legs(getRouteLegs(getAnnotation(getNewCongestionAnnotations()))).build();
+
+    DirectionsRoute updatedRoute = new RouteAnnotationUpdater().update(oldRoute, newRoute, 0);
+
+    assertTrue(RouteIdentity.isSameRoute(oldRoute, updatedRoute));
+  }
+
   private List<String> getOldCongestionAnnotations() {
     List<String> oldCongestionAnnotations = new ArrayList<>();
     oldCongestionAnnotations.add("zero");
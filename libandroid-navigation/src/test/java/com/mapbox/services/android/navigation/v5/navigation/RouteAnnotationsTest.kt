@@ -0,0 +1,92 @@
+package com.mapbox.services.android.navigation.v5.navigation
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.api.directions.v5.models.LegAnnotation
+import com.mapbox.api.directions.v5.models.RouteLeg
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertSame
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class RouteAnnotationsTest {
+
+    @Test
+    fun from_annotationsAreKeptInPrimitiveArrays() {
+        val annotation = LegAnnotation.builder()
+            .speed(listOf(10.0, 12.5))
+            .duration(listOf(1.0, 2.0))
+            .congestion(listOf("low", "severe"))
+            .build()
+
+        val legAnnotations = LegAnnotations.from(annotation)
+
+        assertEquals(2, legAnnotations.speedCount())
+        assertEquals(12.5, legAnnotations.speed(1), 0.0)
+        assertEquals(2.0, legAnnotations.duration(1), 0.0)
+        assertEquals(LegAnnotations.CONGESTION_LOW, legAnnotations.congestion(0))
+        assertEquals(LegAnnotations.CONGESTION_SEVERE, legAnnotations.congestion(1))
+    }
+
+    @Test
+    fun from_unknownCongestionIsCoded() {
+        val annotation = LegAnnotation.builder().congestion(listOf("unknown", null, "moderate")).build()
+
+        val legAnnotations = LegAnnotations.from(annotation)
+
+        assertEquals(LegAnnotations.CONGESTION_UNKNOWN, legAnnotations.congestion(0))
+        assertEquals(LegAnnotations.CONGESTION_UNKNOWN, legAnnotations.congestion(1))
+        assertEquals(LegAnnotations.CONGESTION_MODERATE, legAnnotations.congestion(2))
+    }
+
+    @Test
+    fun from_legWithoutAnnotationHasNone() {
+        val legAnnotations = LegAnnotations.from(null)
+
+        assertEquals(0, legAnnotations.speedCount())
+        assertEquals(0, legAnnotations.durationCount())
+        assertEquals(0, legAnnotations.congestionCount())
+    }
+
+    @Test
+    fun refreshedWith_unchangedLegsKeepTheirAnnotations() {
+        val unchangedLeg = buildLeg("low", "low")
+        val route = buildRoute(unchangedLeg, buildLeg("low", "low"))
+        val refreshedRoute = buildRoute(unchangedLeg, buildLeg("low", "heavy"))
+        val routeAnnotations = RouteAnnotations.from(route)
+
+        val refreshedAnnotations = routeAnnotations.refreshedWith(refreshedRoute)
+
+        assertSame(refreshedRoute, refreshedAnnotations.route)
+        assertSame(routeAnnotations.leg(0), refreshedAnnotations.leg(0))
+        assertEquals(LegAnnotations.CONGESTION_HEAVY, refreshedAnnotations.leg(1).congestion(1))
+    }
+
+    @Test
+    fun changedCongestion_onlyChangedSegmentsAreReported() {
+        val unchangedLeg = buildLeg("low", "low", "low")
+        val route = buildRoute(unchangedLeg, buildLeg("low", "low", "low", "low"))
+        val refreshedRoute = buildRoute(unchangedLeg, buildLeg("low", "heavy", "severe", "low"))
+        val routeAnnotations = RouteAnnotations.from(route)
+
+        val changedCongestion = routeAnnotations.refreshedWith(refreshedRoute).changedCongestion(routeAnnotations)
+
+        assertEquals(listOf(CongestionRange(1, 1, 3)), changedCongestion)
+    }
+
+    @Test
+    fun changedCongestion_refreshedLegWithSameCongestionIsNotReported() {
+        val route = buildRoute(buildLeg("low", "moderate"))
+        val refreshedRoute = buildRoute(buildLeg("low", "moderate"))
+        val routeAnnotations = RouteAnnotations.from(route)
+
+        val changedCongestion = routeAnnotations.refreshedWith(refreshedRoute).changedCongestion(routeAnnotations)
+
+        assertTrue(changedCongestion.isEmpty())
+    }
+
+    private fun buildRoute(vararg legs: RouteLeg): DirectionsRoute =
+        DirectionsRoute.builder().legs(legs.toList()).build()
+
+    private fun buildLeg(vararg congestion: String): RouteLeg =
+        RouteLeg.builder().annotation(LegAnnotation.builder().congestion(congestion.toList()).build()).build()
+}
@@ -0,0 +1,84 @@
+package com.mapbox.services.android.navigation.v5.navigation
+
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import okhttp3.Interceptor
+import okhttp3.MediaType
+import okhttp3.Protocol
+import okhttp3.Request
+import okhttp3.Response
+import okhttp3.ResponseBody
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Test
+
+class RoutesJsonInterceptorTest {
+
+    private val request = Request.Builder().url("https://api.mapbox.com/directions/v5/mapbox/driving/0,0;1,1").build()
+
+    @Test
+    fun intercept_attachesJsonOfEachRoute() {
+        val chain = mockChain(buildResponse(200, "{\"routes\": [{\"distance\": 10.0}], \"code\": \"Ok\"}"))
+
+        val response = RoutesJsonInterceptor(null).intercept(chain)
+
+        val routesJson = response.request().tag(RoutesJson::class.java)
+        assertEquals(listOf("{\"distance\": 10.0}"), routesJson!!.routes)
+    }
+
+    @Test
+    fun intercept_bodyCanStillBeRead() {
+        val body = "{\"routes\": [{\"distance\": 10.0}], \"code\": \"Ok\"}"
+        val chain = mockChain(buildResponse(200, body))
+
+        val response = RoutesJsonInterceptor(null).intercept(chain)
+
+        assertEquals(body, response.body()!!.string())
+    }
+
+    @Test
+    fun intercept_unsuccessfulResponseHasNoJson() {
+        val chain = mockChain(buildResponse(422, "{\"message\": \"Invalid\"}"))
+
+        val response = RoutesJsonInterceptor(null).intercept(chain)
+
+        assertNull(response.request().tag(RoutesJson::class.java))
+    }
+
+    @Test
+    fun intercept_malformedResponseHasNoJson() {
+        val chain = mockChain(buildResponse(200, "{\"routes\": ["))
+
+        val response = RoutesJsonInterceptor(null).intercept(chain)
+
+        assertNull(response.request().tag(RoutesJson::class.java))
+    }
+
+    @Test
+    fun intercept_builderInterceptorIsRun() {
+        val chain = mockk<Interceptor.Chain>()
+        val interceptor = mockk<Interceptor>()
+        every { interceptor.intercept(chain) } returns buildResponse(200, "{\"routes\": []}")
+
+        RoutesJsonInterceptor(interceptor).intercept(chain)
+
+        verify { interceptor.intercept(chain) }
+    }
+
+    private fun mockChain(response: Response): Interceptor.Chain {
+        val chain = mockk<Interceptor.Chain>()
+        every { chain.request() } returns request
+        every { chain.proceed(request) } returns response
+        return chain
+    }
+
+    private fun buildResponse(code: Int, body: String): Response =
+        Response.Builder()
+            .request(request)
+            .protocol(Protocol.HTTP_1_1)
+            .code(code)
+            .message("")
+            .body(ResponseBody.create(MediaType.parse("application/json"), body))
+            .build()
+}
@@ -0,0 +1,55 @@
+package com.mapbox.services.android.navigation.v5.routeprogress;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class RouteIdentityTest extends BaseTest {
+
+  @Test
+  public void of_sameRouteInstanceReturnsSameIdentity() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+
+    RouteIdentity identity = RouteIdentity.of(route);
+
+    assertSame(identity, RouteIdentity.of(route));
+  }
+
+  @Test
+  public void of_equalRoutesHaveEqualIdentities() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    DirectionsRoute sameRoute = buildTestDirectionsRoute();
+
+    assertEquals(RouteIdentity.of(route), RouteIdentity.of(sameRoute));
+  }
+
+  @Test
+  public void isSameRoute_changedRouteIsNotTheSame() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    DirectionsRoute changedRoute = route.toBuilder().duration(route.duration() + 1).build();
+
+    assertFalse(RouteIdentity.isSameRoute(route, changedRoute));
+  }
+
+  @Test
+  public void isSameRoute_nullRoutes() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+
+    assertTrue(RouteIdentity.isSameRoute(null, null));
+    assertFalse(RouteIdentity.isSameRoute(route, null));
+    assertFalse(RouteIdentity.isSameRoute(null, route));
+  }
+
+  @Test
+  public void routeIdentity_matchesDirectionsRoute() throws Exception {
+    RouteProgress routeProgress = buildDefaultTestRouteProgress();
+
+    assertEquals(RouteIdentity.of(routeProgress.directionsRoute()), routeProgress.routeIdentity());
+  }
+}
@@ -1,22 +1,28 @@
 package com.mapbox.navigation.route.offboard
 
 import android.content.Context
+import com.google.gson.JsonParseException
 import com.mapbox.annotation.navigation.module.MapboxNavigationModule
 import com.mapbox.annotation.navigation.module.MapboxNavigationModuleType
-import com.mapbox.api.directions.v5.MapboxDirections
-import com.mapbox.api.directions.v5.models.DirectionsResponse
+import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.api.directions.v5.models.RouteOptions
 import com.mapbox.navigation.base.accounts.SkuTokenProvider
 import com.mapbox.navigation.base.route.Router
+import com.mapbox.navigation.base.route.internal.DirectionsRoutesParser
 import com.mapbox.navigation.route.offboard.router.routeOptions
 import com.mapbox.navigation.utils.exceptions.NavigationException
-import retrofit2.Call
-import retrofit2.Callback
-import retrofit2.Response
+import com.mapbox.navigation.utils.thread.ThreadController
+import java.io.IOException
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.withContext
+import okhttp3.Call
 
 /**
  * MapboxOffboardRouter provides online route-fetching
  *
+ * The response is read by [DirectionsRoutesParser], so only the primary route is decoded fully
+ * and alternatives are decoded once they're selected.
+ *
  * @param accessToken mapboxAccessToken token
  * @param context application Context
  */
@@ -31,41 +37,61 @@ class MapboxOffboardRouter(
         const val ERROR_FETCHING_ROUTE = "Error fetching route"
     }
 
-    private var mapboxDirections: MapboxDirections? = null
+    private val mainJobControl by lazy {
+        ThreadController.getMainScopeAndRootJob()
+    }
+    private val httpClient by lazy {
+        RouteBuilderProvider.getHttpClient(skuTokenProvider)
+    }
+    private var call: Call? = null
 
     override fun getRoute(
         routeOptions: RouteOptions,
         callback: Router.Callback
     ) {
-        mapboxDirections = RouteBuilderProvider.getBuilder(accessToken, context, skuTokenProvider)
+        val request = RouteBuilderProvider.getBuilder(accessToken, context)
             .routeOptions(routeOptions)
             .build()
-        mapboxDirections?.enqueueCall(object : Callback<DirectionsResponse> {
-
-            override fun onResponse(
-                call: Call<DirectionsResponse>,
-                response: Response<DirectionsResponse>
-            ) {
-                val routes = response.body()?.routes()
+            .cloneCall()
+            .request()
+        val call = httpClient.newCall(request)
+        this.call = call
+        mainJobControl.scope.launch {
+            try {
+                val routes = fetchRoutes(call, routeOptions)
                 when {
                     call.isCanceled -> callback.onCanceled()
-                    response.isSuccessful && !routes.isNullOrEmpty() -> callback.onResponse(routes)
+                    routes.isNotEmpty() -> callback.onResponse(routes)
                     else -> callback.onFailure(NavigationException(ERROR_FETCHING_ROUTE))
                 }
-            }
-
-            override fun onFailure(call: Call<DirectionsResponse>, t: Throwable) {
+            } catch (e: IOException) {
                 if (call.isCanceled) {
                     callback.onCanceled()
                 } else {
-                    callback.onFailure(t)
+                    callback.onFailure(e)
                 }
             }
-        })
+        }
     }
 
     override fun cancel() {
-        mapboxDirections?.cancelCall()
-        mapboxDirections = null
+        call?.cancel()
+        call = null
     }
+
+    private suspend fun fetchRoutes(call: Call, routeOptions: RouteOptions): List<DirectionsRoute> =
+        withContext(ThreadController.IODispatcher) {
+            call.execute().use { response ->
+                val body = response.body()
+                if (response.isSuccessful && body != null) {
+                    try {
+                        DirectionsRoutesParser.parse(body.string(), routeOptions)
+                    } catch (e: JsonParseException) {
+                        emptyList<DirectionsRoute>()
+                    }
+                } else {
+                    emptyList()
+                }
+            }
+        }
 }
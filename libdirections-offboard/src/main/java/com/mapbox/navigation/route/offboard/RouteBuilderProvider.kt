@@ -6,13 +6,13 @@ import com.mapbox.api.directions.v5.MapboxDirections
 import com.mapbox.navigation.base.accounts.SkuTokenProvider
 import com.mapbox.navigation.route.offboard.extension.getUnitTypeForLocale
 import com.mapbox.navigation.utils.extensions.inferDeviceLocale
+import okhttp3.OkHttpClient
 
 internal object RouteBuilderProvider {
 
     fun getBuilder(
         accessToken: String,
-        context: Context,
-        skuTokenProvider: SkuTokenProvider
+        context: Context
     ): MapboxDirections.Builder =
         MapboxDirections.builder()
             .profile(DirectionsCriteria.PROFILE_DRIVING_TRAFFIC)
@@ -29,10 +29,18 @@ internal object RouteBuilderProvider {
             .bannerInstructions(true)
             .enableRefresh(false)
             .voiceUnits(context.inferDeviceLocale().getUnitTypeForLocale())
-            .interceptor {
+
+    /**
+     * The directions requests are built by [MapboxDirections] but sent with this client, so that the
+     * router reads the response itself instead of Retrofit materializing all of it.
+     */
+    fun getHttpClient(skuTokenProvider: SkuTokenProvider): OkHttpClient =
+        OkHttpClient.Builder()
+            .addInterceptor {
                 val httpUrl = it.request().url()
                 val skuUrl =
                     skuTokenProvider.obtainUrlWithSkuToken(httpUrl.toString(), httpUrl.querySize())
                 it.proceed(it.request().newBuilder().url(skuUrl).build())
             }
+            .build()
 }
@@ -2,180 +2,189 @@ package com.mapbox.navigation.route.offboard
 
 import android.content.Context
 import com.mapbox.api.directions.v5.MapboxDirections
-import com.mapbox.api.directions.v5.models.DirectionsResponse
 import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.api.directions.v5.models.RouteOptions
 import com.mapbox.navigation.base.accounts.SkuTokenProvider
 import com.mapbox.navigation.base.route.Router
 import com.mapbox.navigation.route.offboard.base.BaseTest
+import com.mapbox.navigation.testing.MainCoroutineRule
+import com.mapbox.navigation.utils.thread.ThreadController
 import io.mockk.every
 import io.mockk.mockk
 import io.mockk.mockkObject
 import io.mockk.slot
+import io.mockk.unmockkObject
 import io.mockk.verify
+import java.io.IOException
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import okhttp3.Call
+import okhttp3.MediaType
+import okhttp3.OkHttpClient
+import okhttp3.Protocol
+import okhttp3.Request
+import okhttp3.Response
+import okhttp3.ResponseBody
+import org.junit.After
+import org.junit.Assert.assertEquals
 import org.junit.Assert.assertNotNull
 import org.junit.Before
+import org.junit.Rule
 import org.junit.Test
-import retrofit2.Call
-import retrofit2.Callback
-import retrofit2.Response
 
+@ExperimentalCoroutinesApi
 class MapboxOffboardRouterTest : BaseTest() {
 
+    @get:Rule
+    var coroutineRule = MainCoroutineRule()
+
     private val mapboxDirections = mockk<MapboxDirections>(relaxed = true)
     private val mapboxDirectionsBuilder = mockk<MapboxDirections.Builder>(relaxed = true)
+    private val httpClient = mockk<OkHttpClient>()
+    private val call = mockk<Call>(relaxUnitFun = true)
     private val context = mockk<Context>()
     private val accessToken = "pk.1234"
+    private val request = Request.Builder().url("https://api.mapbox.com/directions/v5/mapbox/driving/0,0;1,1").build()
     private lateinit var offboardRouter: MapboxOffboardRouter
-    private lateinit var callback: Callback<DirectionsResponse>
     private val routeOptions: RouteOptions = mockk(relaxed = true)
     private val mockSkuTokenProvider = mockk<SkuTokenProvider>(relaxed = true)
-    private val call: Call<DirectionsResponse> = mockk()
+    private val routerCallback = mockk<Router.Callback>(relaxed = true)
 
     @Before
     fun setUp() {
-        val listener = slot<Callback<DirectionsResponse>>()
-
         mockkObject(RouteBuilderProvider)
-        every { mockSkuTokenProvider.obtainUrlWithSkuToken("/mock", 1) } returns ("/mock&sku=102jaksdhfj")
-        every { RouteBuilderProvider.getBuilder(accessToken, context, mockSkuTokenProvider) } returns mapboxDirectionsBuilder
-        every { mapboxDirectionsBuilder.interceptor(any()) } returns mapboxDirectionsBuilder
+        mockkObject(ThreadController)
+        every { ThreadController.IODispatcher } returns coroutineRule.testDispatcher
+        every { RouteBuilderProvider.getBuilder(accessToken, context) } returns mapboxDirectionsBuilder
+        every { RouteBuilderProvider.getHttpClient(mockSkuTokenProvider) } returns httpClient
         every { mapboxDirectionsBuilder.build() } returns mapboxDirections
-        every { mapboxDirections.enqueueCall(capture(listener)) } answers {
-            callback = listener.captured
-        }
+        every { mapboxDirections.cloneCall().request() } returns request
+        every { httpClient.newCall(request) } returns call
         every { routeOptions.coordinates().size } returns 2
         every { call.isCanceled } returns false
         offboardRouter = MapboxOffboardRouter(accessToken, context, mockSkuTokenProvider)
     }
 
+    @After
+    fun cleanUp() {
+        unmockkObject(RouteBuilderProvider)
+        unmockkObject(ThreadController)
+    }
+
     @Test
     fun generationSanityTest() {
         assertNotNull(offboardRouter)
     }
 
     @Test
-    fun getRoute_NavigationRouteGetRouteCalled() {
-        getRoute(mockk())
+    fun getRoute_requestIsSent() {
+        every { call.execute() } returns buildResponse(200, loadJsonFixture(MULTI_LEG_ROUTE_FIXTURE))
 
-        verify { mapboxDirections.enqueueCall(callback) }
+        getRoute()
+
+        verify { call.execute() }
     }
 
     @Test
-    fun cancel_NavigationRouteCancelCallCalled() {
-        getRoute(mockk())
+    fun cancel_callIsCanceled() {
+        every { call.execute() } returns buildResponse(200, loadJsonFixture(MULTI_LEG_ROUTE_FIXTURE))
+        getRoute()
 
         offboardRouter.cancel()
 
-        verify { mapboxDirections.cancelCall() }
+        verify { call.cancel() }
     }
 
     @Test
-    fun cancel_NavigationRouteCancelCallNotCalled() {
+    fun cancel_noCallIsNotCanceled() {
         offboardRouter.cancel()
 
-        verify(exactly = 0) { mapboxDirections.cancelCall() }
+        verify(exactly = 0) { call.cancel() }
     }
 
     @Test
     fun onSuccessfulResponseAndHasRoutes_onRouteReadyCalled() {
-        val routerCallback = mockk<Router.Callback>(relaxed = true)
-        val route = buildMultipleLegRoute()
-        val response = buildResponse(listOf(route), true)
-        getRoute(routerCallback)
+        val routes = slot<List<DirectionsRoute>>()
+        every { call.execute() } returns buildResponse(200, loadJsonFixture(MULTI_LEG_ROUTE_FIXTURE))
 
-        callback.onResponse(call, response)
+        getRoute()
 
-        verify { routerCallback.onResponse(any()) }
+        verify { routerCallback.onResponse(capture(routes)) }
+        assertEquals(buildMultipleLegRoute().geometry(), routes.captured[0].geometry())
+        assertEquals("0", routes.captured[0].routeIndex())
     }
 
     @Test
     fun onUnsuccessfulResponseAndHasRoutes_errorIsProvided() {
-        val routerCallback = mockk<Router.Callback>(relaxed = true)
-        val route = buildMultipleLegRoute()
-        val response = buildResponse(listOf(route), false)
-        getRoute(routerCallback)
+        every { call.execute() } returns buildResponse(500, loadJsonFixture(MULTI_LEG_ROUTE_FIXTURE))
 
-        callback.onResponse(call, response)
+        getRoute()
 
         verify { routerCallback.onFailure(any()) }
     }
 
     @Test
     fun onSuccessfulResponseAndNoRoutes_errorIsProvided() {
-        val routerCallback = mockk<Router.Callback>(relaxed = true)
-        val response = buildResponse(listOf(), true)
-        getRoute(routerCallback)
+        every { call.execute() } returns buildResponse(200, "{\"routes\": [], \"code\": \"NoRoute\"}")
 
-        callback.onResponse(call, response)
+        getRoute()
 
         verify { routerCallback.onFailure(any()) }
     }
 
     @Test
-    fun onUnsuccessfulResponseAndNoRoutes_errorIsProvided() {
-        val routerCallback = mockk<Router.Callback>(relaxed = true)
-        val response = buildResponse(listOf(), false)
-        getRoute(routerCallback)
+    fun onMalformedResponse_errorIsProvided() {
+        every { call.execute() } returns buildResponse(200, "{\"routes\": [")
 
-        callback.onResponse(call, response)
+        getRoute()
 
         verify { routerCallback.onFailure(any()) }
     }
 
     @Test
     fun onFailure_errorIsProvided() {
-        val routerCallback = mockk<Router.Callback>(relaxed = true)
-        val throwable = mockk<Throwable>()
-        getRoute(routerCallback)
+        val exception = IOException()
+        every { call.execute() } throws exception
 
-        callback.onFailure(call, throwable)
+        getRoute()
 
-        verify { routerCallback.onFailure(throwable) }
+        verify { routerCallback.onFailure(exception) }
     }
 
     @Test
     fun onFailure_canceled_onCanceledIsCalled() {
-        val routerCallback = mockk<Router.Callback>(relaxed = true)
-        val throwable = mockk<Throwable>()
-        getRoute(routerCallback)
-
-        val call: Call<DirectionsResponse> = mockk()
+        every { call.execute() } throws IOException("Canceled")
         every { call.isCanceled } returns true
 
-        callback.onFailure(call, throwable)
+        getRoute()
 
         verify { routerCallback.onCanceled() }
     }
 
     @Test
     fun onSuccess_canceled_onCanceledIsCalled() {
-        val routerCallback = mockk<Router.Callback>(relaxed = true)
-        val route = buildMultipleLegRoute()
-        val response = buildResponse(listOf(route), true)
-        getRoute(routerCallback)
-
+        every { call.execute() } returns buildResponse(200, loadJsonFixture(MULTI_LEG_ROUTE_FIXTURE))
         every { call.isCanceled } returns true
 
-        callback.onResponse(call, response)
+        getRoute()
 
         verify { routerCallback.onCanceled() }
+        verify(exactly = 0) { routerCallback.onResponse(any()) }
     }
 
-    private fun getRoute(routerCallback: Router.Callback) {
+    private fun getRoute() {
         offboardRouter.getRoute(routeOptions, routerCallback)
     }
 
-    private fun buildResponse(
-        routeList: List<DirectionsRoute>,
-        isSuccessful: Boolean
-    ): Response<DirectionsResponse> {
-        val response = mockk<Response<DirectionsResponse>>()
-        val directionsResponse = mockk<DirectionsResponse>()
-        every { directionsResponse.routes() } returns routeList
-        every { response.body() } returns directionsResponse
-        every { response.isSuccessful } returns isSuccessful
-
-        return response
+    private fun buildResponse(code: Int, body: String): Response =
+        Response.Builder()
+            .request(request)
+            .protocol(Protocol.HTTP_1_1)
+            .code(code)
+            .message("")
+            .body(ResponseBody.create(MediaType.parse("application/json"), body))
+            .build()
+
+    private companion object {
+        private const val MULTI_LEG_ROUTE_FIXTURE = "directions_two_leg_route.json"
     }
 }
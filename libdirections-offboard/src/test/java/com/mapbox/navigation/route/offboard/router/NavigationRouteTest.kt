@@ -5,7 +5,6 @@ import com.mapbox.api.directions.v5.DirectionsCriteria
 import com.mapbox.api.directions.v5.WalkingOptions
 import com.mapbox.api.directions.v5.models.RouteOptions
 import com.mapbox.geojson.Point
-import com.mapbox.navigation.base.accounts.SkuTokenProvider
 import com.mapbox.navigation.base.extensions.coordinates
 import com.mapbox.navigation.base.route.internal.RouteUrl
 import com.mapbox.navigation.route.offboard.RouteBuilderProvider
@@ -13,7 +12,6 @@ import com.mapbox.navigation.utils.extensions.inferDeviceLocale
 import io.mockk.MockKAnnotations
 import io.mockk.every
 import io.mockk.impl.annotations.MockK
-import io.mockk.mockk
 import io.mockk.mockkStatic
 import java.util.Locale
 import junit.framework.Assert.assertNotNull
@@ -37,7 +35,6 @@ class NavigationRouteTest {
 
     val origin: Point = Point.fromLngLat(0.0, 0.0)
     val destination: Point = Point.fromLngLat(1.0, 1.0)
-    private val mockSkuTokenProvider = mockk<SkuTokenProvider>(relaxed = true)
 
     @MockK
     private lateinit var context: Context
@@ -46,7 +43,6 @@ class NavigationRouteTest {
     fun setup() {
         MockKAnnotations.init(this)
         every { context.inferDeviceLocale() } returns Locale.US
-        every { mockSkuTokenProvider.obtainUrlWithSkuToken("/mock", 1) } returns ("/mock&sku=102jaksdhfj")
     }
 
     @Test
@@ -253,7 +249,7 @@ class NavigationRouteTest {
     }
 
     private fun provideNavigationOffboardRouteBuilder() =
-        RouteBuilderProvider.getBuilder(ACESS_TOKEN, context, mockSkuTokenProvider)
+        RouteBuilderProvider.getBuilder(ACESS_TOKEN, context)
 
     private fun provideDefaultRouteOptionsBuilder() =
         RouteOptions.builder()
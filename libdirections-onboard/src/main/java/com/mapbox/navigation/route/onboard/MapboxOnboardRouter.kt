@@ -4,11 +4,11 @@ import android.util.Log
 import com.google.gson.Gson
 import com.mapbox.annotation.navigation.module.MapboxNavigationModule
 import com.mapbox.annotation.navigation.module.MapboxNavigationModuleType
-import com.mapbox.api.directions.v5.models.DirectionsResponse
 import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.api.directions.v5.models.RouteOptions
 import com.mapbox.navigation.base.options.MapboxOnboardRouterConfig
 import com.mapbox.navigation.base.route.Router
+import com.mapbox.navigation.base.route.internal.DirectionsRoutesParser
 import com.mapbox.navigation.base.route.internal.RouteUrl
 import com.mapbox.navigation.navigator.MapboxNativeNavigator
 import com.mapbox.navigation.route.onboard.model.OfflineRouteError
@@ -128,7 +128,7 @@ class MapboxOnboardRouter(
 
     private suspend fun parseDirectionsRoutes(json: String): List<DirectionsRoute> =
         withContext(ThreadController.IODispatcher) {
-            DirectionsResponse.fromJson(json).routes()
+            DirectionsRoutesParser.parse(json)
         }
 
     private fun generateErrorMessage(response: String): String {
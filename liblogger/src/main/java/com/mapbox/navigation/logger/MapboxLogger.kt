@@ -6,6 +6,7 @@ import com.mapbox.navigation.base.logger.Logger
 import com.mapbox.navigation.base.logger.model.Message
 import com.mapbox.navigation.base.logger.model.Tag
 import com.mapbox.navigation.logger.annotations.LogLevel
+import com.mapbox.navigation.logger.appender.AsyncLogAppender
 import java.util.concurrent.atomic.AtomicReference
 import timber.log.Timber
 
@@ -32,6 +33,11 @@ object MapboxLogger : Logger {
      */
     private val observer: AtomicReference<LoggerObserver> = AtomicReference()
 
+    /**
+     * Delivers logged messages asynchronously when set.
+     */
+    private val appender: AtomicReference<AsyncLogAppender> = AtomicReference()
+
     fun setObserver(observer: LoggerObserver) {
         this.observer.set(observer)
     }
@@ -40,6 +46,24 @@ object MapboxLogger : Logger {
         observer.set(null)
     }
 
+    /**
+     * Moves Timber and [LoggerObserver] calls to the consumer thread of [appender].
+     * Messages passed as lambdas are then also built on that thread.
+     * The appender is started if needed, a previously set appender is stopped.
+     */
+    fun setAppender(appender: AsyncLogAppender) {
+        appender.start()
+        this.appender.getAndSet(appender)?.takeIf { it !== appender }?.stop()
+    }
+
+    /**
+     * Stops the current [AsyncLogAppender] after delivering its pending records
+     * and makes logging synchronous again.
+     */
+    fun removeAppender() {
+        appender.getAndSet(null)?.stop()
+    }
+
     fun v(msg: Message) {
         v(null, msg, null)
     }
@@ -53,7 +77,14 @@ object MapboxLogger : Logger {
     }
 
     override fun v(tag: Tag?, msg: Message, tr: Throwable?) {
-        log(VERBOSE, tag?.tag, msg.message, tr) { Timber.v(tr, msg.message) }
+        log(VERBOSE, tag?.tag, msg.message, null, tr)
+    }
+
+    /**
+     * Same as [v], but [msg] is only invoked if [logLevel] allows verbose logs.
+     */
+    fun v(tag: Tag? = null, tr: Throwable? = null, msg: () -> String) {
+        log(VERBOSE, tag?.tag, null, msg, tr)
     }
 
     fun d(msg: Message) {
@@ -69,7 +100,14 @@ object MapboxLogger : Logger {
     }
 
     override fun d(tag: Tag?, msg: Message, tr: Throwable?) {
-        log(DEBUG, tag?.tag, msg.message, tr) { Timber.d(tr, msg.message) }
+        log(DEBUG, tag?.tag, msg.message, null, tr)
+    }
+
+    /**
+     * Same as [d], but [msg] is only invoked if [logLevel] allows debug logs.
+     */
+    fun d(tag: Tag? = null, tr: Throwable? = null, msg: () -> String) {
+        log(DEBUG, tag?.tag, null, msg, tr)
     }
 
     fun i(msg: Message) {
@@ -85,7 +123,14 @@ object MapboxLogger : Logger {
     }
 
     override fun i(tag: Tag?, msg: Message, tr: Throwable?) {
-        log(INFO, tag?.tag, msg.message, tr) { Timber.i(tr, msg.message) }
+        log(INFO, tag?.tag, msg.message, null, tr)
+    }
+
+    /**
+     * Same as [i], but [msg] is only invoked if [logLevel] allows info logs.
+     */
+    fun i(tag: Tag? = null, tr: Throwable? = null, msg: () -> String) {
+        log(INFO, tag?.tag, null, msg, tr)
     }
 
     fun w(msg: Message) {
@@ -101,7 +146,14 @@ object MapboxLogger : Logger {
     }
 
     override fun w(tag: Tag?, msg: Message, tr: Throwable?) {
-        log(WARN, tag?.tag, msg.message, tr) { Timber.w(tr, msg.message) }
+        log(WARN, tag?.tag, msg.message, null, tr)
+    }
+
+    /**
+     * Same as [w], but [msg] is only invoked if [logLevel] allows warning logs.
+     */
+    fun w(tag: Tag? = null, tr: Throwable? = null, msg: () -> String) {
+        log(WARN, tag?.tag, null, msg, tr)
     }
 
     fun e(msg: Message) {
@@ -117,20 +169,41 @@ object MapboxLogger : Logger {
     }
 
     override fun e(tag: Tag?, msg: Message, tr: Throwable?) {
-        log(ERROR, tag?.tag, msg.message, tr) { Timber.e(tr, msg.message) }
+        log(ERROR, tag?.tag, msg.message, null, tr)
+    }
+
+    /**
+     * Same as [e], but [msg] is only invoked if [logLevel] allows error logs.
+     */
+    fun e(tag: Tag? = null, tr: Throwable? = null, msg: () -> String) {
+        log(ERROR, tag?.tag, null, msg, tr)
     }
 
     private fun log(
         @LogLevel requiredLogLevel: Int,
         tag: String?,
-        msg: String,
-        tr: Throwable?,
-        logBlock: () -> Unit
+        msg: String?,
+        msgSupplier: (() -> String)?,
+        tr: Throwable?
     ) {
-        if (logLevel <= requiredLogLevel) {
-            tag?.let { Timber.tag(it) }
-            logBlock()
-            observer.get()?.log(requiredLogLevel, LogEntry(tag, msg, tr))
+        if (logLevel > requiredLogLevel) {
+            return
+        }
+        val appender = appender.get()
+        if (appender == null || !appender.append(requiredLogLevel, tag, msg, msgSupplier, tr)) {
+            deliver(requiredLogLevel, LogEntry(tag, msg ?: msgSupplier?.invoke() ?: "", tr))
+        }
+    }
+
+    internal fun deliver(@LogLevel level: Int, entry: LogEntry) {
+        entry.tag?.let { Timber.tag(it) }
+        when (level) {
+            VERBOSE -> Timber.v(entry.throwable, entry.message)
+            DEBUG -> Timber.d(entry.throwable, entry.message)
+            INFO -> Timber.i(entry.throwable, entry.message)
+            WARN -> Timber.w(entry.throwable, entry.message)
+            ERROR -> Timber.e(entry.throwable, entry.message)
         }
+        observer.get()?.log(level, entry)
     }
 }
@@ -0,0 +1,210 @@
+package com.mapbox.navigation.logger.appender
+
+import com.mapbox.navigation.logger.LogEntry
+import com.mapbox.navigation.logger.annotations.LogLevel
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+private const val DEFAULT_CAPACITY = 1024
+private const val CONSUMER_THREAD_NAME = "MapboxLoggerAppender"
+
+/**
+ * Moves log delivery off the caller's thread.
+ *
+ * Records are stored in a ring buffer that is preallocated once, so appending a record does not
+ * allocate. Messages can be supplied lazily and are only formatted on the single consumer thread,
+ * which then hands the resulting [LogEntry] to [MapboxLoggerSink] (Timber and the
+ * [com.mapbox.navigation.logger.LoggerObserver]) and to every sink from [additionalSinks].
+ *
+ * @param capacity number of records the ring buffer can hold
+ * @param overflowPolicy what to do with a new record when the ring buffer is full
+ * @param additionalSinks sinks that receive every record after the default one, i.e. [RollingFileLogSink]
+ */
+class AsyncLogAppender @JvmOverloads constructor(
+    capacity: Int = DEFAULT_CAPACITY,
+    private val overflowPolicy: OverflowPolicy = OverflowPolicy.DROP_OLDEST,
+    additionalSinks: List<LogSink> = emptyList()
+) {
+
+    private class LogRecord {
+        var level: Int = 0
+        var tag: String? = null
+        var message: String? = null
+        var messageSupplier: (() -> String)? = null
+        var throwable: Throwable? = null
+
+        fun clear() {
+            tag = null
+            message = null
+            messageSupplier = null
+            throwable = null
+        }
+    }
+
+    private val sinks: List<LogSink> = listOf<LogSink>(MapboxLoggerSink) + additionalSinks
+    private val records = Array(capacity) { LogRecord() }
+    private val lock = ReentrantLock()
+    private val notEmpty = lock.newCondition()
+    private val notFull = lock.newCondition()
+    private var head = 0
+    private var size = 0
+    private var running = false
+    private var consumer: Thread? = null
+
+    /**
+     * Number of records overwritten because the ring buffer was full
+     * and [OverflowPolicy.DROP_OLDEST] was used, or a sink logged with [OverflowPolicy.BLOCK].
+     */
+    @Volatile
+    var droppedRecords: Long = 0
+        private set
+
+    init {
+        require(capacity > 0) { "capacity must be positive" }
+    }
+
+    /**
+     * Starts the consumer thread. Calling it on a started appender has no effect.
+     */
+    fun start() {
+        lock.withLock {
+            if (running) {
+                return
+            }
+            running = true
+            consumer = Thread(Runnable { drainLoop() }, CONSUMER_THREAD_NAME).apply {
+                isDaemon = true
+                priority = Thread.MIN_PRIORITY
+                start()
+            }
+        }
+    }
+
+    /**
+     * Delivers the records that are still pending, stops the consumer thread and closes all sinks.
+     */
+    fun stop() {
+        val thread = lock.withLock {
+            if (!running) {
+                return
+            }
+            running = false
+            notEmpty.signalAll()
+            notFull.signalAll()
+            consumer.also { consumer = null }
+        }
+        if (thread != Thread.currentThread()) {
+            thread?.join()
+        }
+    }
+
+    /**
+     * Puts a record to the ring buffer. Exactly one of [message] and [messageSupplier]
+     * is expected to be non-null, the supplier is invoked on the consumer thread.
+     *
+     * @return false if the appender is not running and the record was not accepted
+     */
+    fun append(
+        @LogLevel level: Int,
+        tag: String?,
+        message: String?,
+        messageSupplier: (() -> String)?,
+        throwable: Throwable?
+    ): Boolean {
+        lock.withLock {
+            if (!running) {
+                return false
+            }
+            if (size == records.size) {
+                when (overflowPolicy) {
+                    OverflowPolicy.DROP_OLDEST -> dropOldest()
+                    // a sink logging on the consumer thread would wait for itself
+                    OverflowPolicy.BLOCK -> if (Thread.currentThread() === consumer) {
+                        dropOldest()
+                    } else {
+                        while (running && size == records.size) {
+                            notFull.awaitUninterruptibly()
+                        }
+                        // stopped while waiting for room
+                        if (!running) {
+                            return false
+                        }
+                    }
+                }
+            }
+            records[(head + size) % records.size].apply {
+                this.level = level
+                this.tag = tag
+                this.message = message
+                this.messageSupplier = messageSupplier
+                this.throwable = throwable
+            }
+            size++
+            notEmpty.signal()
+        }
+        return true
+    }
+
+    private fun dropOldest() {
+        records[head].clear()
+        head = (head + 1) % records.size
+        size--
+        droppedRecords++
+    }
+
+    private fun drainLoop() {
+        var level = 0
+        var tag: String? = null
+        var message: String? = null
+        var messageSupplier: (() -> String)? = null
+        var throwable: Throwable? = null
+        while (true) {
+            val drained = lock.withLock {
+                while (running && size == 0) {
+                    notEmpty.awaitUninterruptibly()
+                }
+                if (size == 0) {
+                    return@withLock null
+                }
+                val record = records[head]
+                level = record.level
+                tag = record.tag
+                message = record.message
+                messageSupplier = record.messageSupplier
+                throwable = record.throwable
+                record.clear()
+                head = (head + 1) % records.size
+                size--
+                notFull.signal()
+                size == 0
+            } ?: break
+
+            val entry = LogEntry(tag, message ?: resolve(messageSupplier), throwable)
+            sinks.forEach { it.safely { write(level, entry) } }
+            if (drained) {
+                sinks.forEach { it.safely { flush() } }
+            }
+        }
+        sinks.forEach {
+            it.safely {
+                flush()
+                close()
+            }
+        }
+    }
+
+    private fun resolve(supplier: (() -> String)?): String =
+        try {
+            supplier?.invoke() ?: ""
+        } catch (e: Exception) {
+            "Failed to build log message: $e"
+        }
+
+    private inline fun LogSink.safely(block: LogSink.() -> Unit) {
+        try {
+            block()
+        } catch (e: Exception) {
+            // a failing sink must not stop delivery to the remaining ones
+        }
+    }
+}
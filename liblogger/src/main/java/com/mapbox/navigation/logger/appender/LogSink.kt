@@ -0,0 +1,29 @@
+package com.mapbox.navigation.logger.appender
+
+import com.mapbox.navigation.logger.LogEntry
+import com.mapbox.navigation.logger.annotations.LogLevel
+
+/**
+ * Defines API for a destination of log records drained by [AsyncLogAppender].
+ * All calls are made from the single appender consumer thread.
+ */
+interface LogSink {
+
+    /**
+     * Write the formatted [LogEntry].
+     *
+     * @param level [LogLevel] of the record.
+     * @param entry [LogEntry] with already resolved message.
+     */
+    fun write(@LogLevel level: Int, entry: LogEntry)
+
+    /**
+     * Called when the appender queue has been drained, so buffered sinks can flush.
+     */
+    fun flush() = Unit
+
+    /**
+     * Called once when the appender is stopped.
+     */
+    fun close() = Unit
+}
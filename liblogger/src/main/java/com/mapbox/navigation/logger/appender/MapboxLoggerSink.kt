@@ -0,0 +1,15 @@
+package com.mapbox.navigation.logger.appender
+
+import com.mapbox.navigation.logger.LogEntry
+import com.mapbox.navigation.logger.MapboxLogger
+
+/**
+ * Forwards records drained by [AsyncLogAppender] to Timber and the
+ * [com.mapbox.navigation.logger.LoggerObserver] registered in [MapboxLogger].
+ */
+internal object MapboxLoggerSink : LogSink {
+
+    override fun write(level: Int, entry: LogEntry) {
+        MapboxLogger.deliver(level, entry)
+    }
+}
@@ -0,0 +1,18 @@
+package com.mapbox.navigation.logger.appender
+
+/**
+ * Defines what [AsyncLogAppender] does when its ring buffer is full.
+ */
+enum class OverflowPolicy {
+
+    /**
+     * Overwrite the oldest pending record. The caller is never blocked.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Block the caller until the consumer thread frees a slot. Records logged by a sink, on the
+     * consumer thread itself, overwrite the oldest pending record instead.
+     */
+    BLOCK
+}
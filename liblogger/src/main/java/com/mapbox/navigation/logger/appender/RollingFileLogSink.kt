@@ -0,0 +1,150 @@
+package com.mapbox.navigation.logger.appender
+
+import com.mapbox.navigation.logger.DEBUG
+import com.mapbox.navigation.logger.ERROR
+import com.mapbox.navigation.logger.INFO
+import com.mapbox.navigation.logger.LogEntry
+import com.mapbox.navigation.logger.VERBOSE
+import com.mapbox.navigation.logger.WARN
+import java.io.File
+import java.io.FileOutputStream
+import java.io.PrintWriter
+import java.io.StringWriter
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.text.SimpleDateFormat
+import java.util.Date
+import java.util.Locale
+
+private const val DEFAULT_FILE_NAME = "navigation"
+private const val DEFAULT_MAX_FILE_SIZE = 1024L * 1024L
+private const val DEFAULT_MAX_FILES = 3
+private const val DEFAULT_BUFFER_SIZE = 8 * 1024
+private const val LOG_FILE_EXTENSION = ".log"
+private const val TIMESTAMP_PATTERN = "yyyy-MM-dd HH:mm:ss.SSS"
+
+/**
+ * [LogSink] that writes records to [directory] through a buffered [FileChannel].
+ *
+ * When the current file grows over [maxFileSize] it is rolled: `navigation.log` becomes
+ * `navigation.1.log`, the previous `navigation.1.log` becomes `navigation.2.log` and so on,
+ * keeping at most [maxFiles] files.
+ *
+ * @param directory folder the log files are written to
+ * @param fileName base name of the log files
+ * @param maxFileSize size in bytes after which the current file is rolled
+ * @param maxFiles number of files kept, including the current one
+ * @param bufferSize size in bytes of the write buffer
+ */
+class RollingFileLogSink @JvmOverloads constructor(
+    private val directory: File,
+    private val fileName: String = DEFAULT_FILE_NAME,
+    private val maxFileSize: Long = DEFAULT_MAX_FILE_SIZE,
+    private val maxFiles: Int = DEFAULT_MAX_FILES,
+    bufferSize: Int = DEFAULT_BUFFER_SIZE
+) : LogSink {
+
+    private val buffer: ByteBuffer = ByteBuffer.allocateDirect(bufferSize)
+    private val timestampFormat = SimpleDateFormat(TIMESTAMP_PATTERN, Locale.US)
+    private val date = Date()
+    private val line = StringBuilder()
+    private var channel: FileChannel? = null
+    private var fileSize = 0L
+
+    init {
+        require(maxFileSize > 0) { "maxFileSize must be positive" }
+        require(maxFiles > 0) { "maxFiles must be positive" }
+    }
+
+    override fun write(level: Int, entry: LogEntry) {
+        date.time = System.currentTimeMillis()
+        line.setLength(0)
+        line.append(timestampFormat.format(date))
+            .append(' ')
+            .append(level.toLevelChar())
+            .append('/')
+            .append(entry.tag ?: "")
+            .append(": ")
+            .append(entry.message)
+            .append('\n')
+        entry.throwable?.let { line.append(it.stackTraceString()) }
+
+        val bytes = line.toString().toByteArray(Charsets.UTF_8)
+        if (channel == null) {
+            openChannel()
+        }
+        if (fileSize > 0 && fileSize + bytes.size > maxFileSize) {
+            roll()
+        }
+        var offset = 0
+        while (offset < bytes.size) {
+            if (!buffer.hasRemaining()) {
+                flush()
+            }
+            val length = minOf(buffer.remaining(), bytes.size - offset)
+            buffer.put(bytes, offset, length)
+            offset += length
+        }
+        fileSize += bytes.size
+    }
+
+    override fun flush() {
+        val channel = channel ?: return
+        if (buffer.position() == 0) {
+            return
+        }
+        buffer.flip()
+        while (buffer.hasRemaining()) {
+            channel.write(buffer)
+        }
+        buffer.clear()
+    }
+
+    override fun close() {
+        flush()
+        channel?.close()
+        channel = null
+    }
+
+    private fun openChannel() {
+        directory.mkdirs()
+        val file = logFile(0)
+        channel = FileOutputStream(file, true).channel
+        fileSize = file.length()
+    }
+
+    private fun roll() {
+        close()
+        logFile(maxFiles - 1).delete()
+        for (index in maxFiles - 2 downTo 0) {
+            val file = logFile(index)
+            if (file.exists()) {
+                file.renameTo(logFile(index + 1))
+            }
+        }
+        openChannel()
+    }
+
+    private fun logFile(index: Int): File =
+        if (index == 0) {
+            File(directory, "$fileName$LOG_FILE_EXTENSION")
+        } else {
+            File(directory, "$fileName.$index$LOG_FILE_EXTENSION")
+        }
+
+    private fun Int.toLevelChar(): Char =
+        when (this) {
+            VERBOSE -> 'V'
+            DEBUG -> 'D'
+            INFO -> 'I'
+            WARN -> 'W'
+            ERROR -> 'E'
+            else -> '?'
+        }
+
+    private fun Throwable.stackTraceString(): String {
+        val writer = StringWriter()
+        printStackTrace(PrintWriter(writer))
+        return writer.toString()
+    }
+}
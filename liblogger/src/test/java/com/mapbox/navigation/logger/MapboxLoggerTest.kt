@@ -5,6 +5,7 @@ import com.mapbox.navigation.base.logger.model.Tag
 import io.mockk.mockk
 import io.mockk.mockkStatic
 import io.mockk.verify
+import org.junit.Assert.assertFalse
 import org.junit.Before
 import org.junit.Test
 import timber.log.Timber
@@ -190,4 +191,30 @@ class MapboxLoggerTest {
 
         verify(exactly = 0) { Timber.tag(any()) }
     }
+
+    @Test
+    fun lazyMessageNotBuiltWhenLogLevelIncorrect() {
+        MapboxLogger.logLevel = INFO
+        var built = false
+
+        MapboxLogger.d(Tag("TAG")) {
+            built = true
+            "some message"
+        }
+
+        assertFalse(built)
+        verify(exactly = 0) { Timber.d(any<Throwable>(), any()) }
+    }
+
+    @Test
+    fun lazyMessageLoggedWhenLogLevelCorrect() {
+        val loggerObserver = mockk<LoggerObserver>(relaxed = true)
+        MapboxLogger.setObserver(loggerObserver)
+        MapboxLogger.logLevel = DEBUG
+
+        MapboxLogger.d(Tag("TAG")) { "some message" }
+
+        verify { Timber.tag("TAG") }
+        verify { loggerObserver.log(DEBUG, LogEntry("TAG", "some message", null)) }
+    }
 }
@@ -0,0 +1,152 @@
+package com.mapbox.navigation.logger.appender
+
+import com.mapbox.navigation.logger.DEBUG
+import com.mapbox.navigation.logger.LogEntry
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class AsyncLogAppenderTest {
+
+    @Test
+    fun recordsDeliveredInOrder() {
+        val sink = RecordingSink()
+        val appender = AsyncLogAppender(4, OverflowPolicy.BLOCK, listOf(sink))
+        appender.start()
+
+        (1..10).forEach { appender.append(DEBUG, "TAG", "message $it", null, null) }
+        appender.stop()
+
+        assertEquals((1..10).map { "message $it" }, sink.messages)
+        assertTrue(sink.closed)
+    }
+
+    @Test
+    fun lazyMessageResolvedOnConsumerThread() {
+        val sink = RecordingSink()
+        val appender = AsyncLogAppender(additionalSinks = listOf(sink))
+        var builtOn: Thread? = null
+        appender.start()
+
+        appender.append(DEBUG, null, null, { builtOn = Thread.currentThread(); "lazy" }, null)
+        appender.stop()
+
+        assertEquals(listOf("lazy"), sink.messages)
+        assertFalse(builtOn == Thread.currentThread())
+    }
+
+    @Test
+    fun oldestRecordDroppedWhenFull() {
+        val firstTaken = CountDownLatch(1)
+        val release = CountDownLatch(1)
+        val sink = object : RecordingSink() {
+            override fun write(level: Int, entry: LogEntry) {
+                super.write(level, entry)
+                if (entry.message == "first") {
+                    firstTaken.countDown()
+                    release.await(5, TimeUnit.SECONDS)
+                }
+            }
+        }
+        val appender = AsyncLogAppender(2, OverflowPolicy.DROP_OLDEST, listOf(sink))
+        appender.start()
+
+        appender.append(DEBUG, null, "first", null, null)
+        firstTaken.await(5, TimeUnit.SECONDS)
+        appender.append(DEBUG, null, "second", null, null)
+        appender.append(DEBUG, null, "third", null, null)
+        appender.append(DEBUG, null, "fourth", null, null)
+        release.countDown()
+        appender.stop()
+
+        assertEquals(listOf("first", "third", "fourth"), sink.messages)
+        assertEquals(1, appender.droppedRecords)
+    }
+
+    @Test
+    fun rejectedRecordDoesNotDropPendingOne() {
+        val firstTaken = CountDownLatch(1)
+        val secondAppended = CountDownLatch(1)
+        val stopped = CountDownLatch(1)
+        val closed = CountDownLatch(1)
+        lateinit var appender: AsyncLogAppender
+        val sink = object : RecordingSink() {
+            override fun write(level: Int, entry: LogEntry) {
+                super.write(level, entry)
+                if (entry.message == "first") {
+                    firstTaken.countDown()
+                    secondAppended.await(5, TimeUnit.SECONDS)
+                    appender.stop()
+                    stopped.countDown()
+                }
+            }
+
+            override fun close() {
+                super.close()
+                closed.countDown()
+            }
+        }
+        appender = AsyncLogAppender(1, OverflowPolicy.DROP_OLDEST, listOf(sink))
+        appender.start()
+        appender.append(DEBUG, null, "first", null, null)
+        firstTaken.await(5, TimeUnit.SECONDS)
+        appender.append(DEBUG, null, "second", null, null)
+        secondAppended.countDown()
+        stopped.await(5, TimeUnit.SECONDS)
+
+        val isAccepted = appender.append(DEBUG, null, "third", null, null)
+        closed.await(5, TimeUnit.SECONDS)
+
+        assertFalse(isAccepted)
+        assertEquals(0, appender.droppedRecords)
+        assertEquals(listOf("first", "second"), sink.messages)
+    }
+
+    @Test(timeout = 5000)
+    fun sinkLoggingWhenFullDoesNotBlockConsumer() {
+        val sinkLogged = CountDownLatch(1)
+        lateinit var appender: AsyncLogAppender
+        val sink = object : RecordingSink() {
+            override fun write(level: Int, entry: LogEntry) {
+                super.write(level, entry)
+                if (entry.message == "first") {
+                    appender.append(DEBUG, null, "from sink 1", null, null)
+                    appender.append(DEBUG, null, "from sink 2", null, null)
+                    sinkLogged.countDown()
+                }
+            }
+        }
+        appender = AsyncLogAppender(1, OverflowPolicy.BLOCK, listOf(sink))
+        appender.start()
+
+        appender.append(DEBUG, null, "first", null, null)
+        sinkLogged.await()
+        appender.stop()
+
+        assertEquals(listOf("first", "from sink 2"), sink.messages)
+        assertEquals(1, appender.droppedRecords)
+    }
+
+    @Test
+    fun appendRejectedWhenNotStarted() {
+        val appender = AsyncLogAppender()
+
+        assertFalse(appender.append(DEBUG, null, "message", null, null))
+    }
+
+    private open class RecordingSink : LogSink {
+        val messages = mutableListOf<String>()
+        var closed = false
+
+        override fun write(level: Int, entry: LogEntry) {
+            messages.add(entry.message)
+        }
+
+        override fun close() {
+            closed = true
+        }
+    }
+}
@@ -0,0 +1,4 @@
+# Generated module factories are looked up by name
+-keep class com.mapbox.navigation.module.factory.** implements com.mapbox.navigation.base.module.NavigationModuleFactory {
+    public <init>();
+}
@@ -0,0 +1,16 @@
+package com.mapbox.navigation.base.formatter
+
+/**
+ * Implemented by a [DistanceFormatter] which can format a distance without building its
+ * SpannableString, for callers which only need the text.
+ */
+interface DistanceTextFormatter {
+
+    /**
+     * Returns the formatted distance without any style
+     *
+     * @param distance in meters
+     * @return String representation of the distance, the text of [DistanceFormatter.formatDistance]
+     */
+    fun formatDistanceText(distance: Double): String
+}
@@ -0,0 +1,83 @@
+package com.mapbox.navigation.base.internal.utils
+
+import androidx.annotation.IntRange
+import java.lang.ref.ReferenceQueue
+import java.lang.ref.WeakReference
+
+/**
+ * Keeps a value for each key it was given, up to [maxSize] keys. Keys are matched by reference
+ * rather than by equality and held weakly, so that they can still be collected.
+ * The value of a collected key is dropped on the next access.
+ *
+ * @param maxSize number of keys after which the oldest one is dropped, unbounded by default
+ */
+class WeakIdentityCache<K : Any, V : Any>(
+    @IntRange(from = 1) private val maxSize: Int = Int.MAX_VALUE
+) {
+
+    private val collectedKeys = ReferenceQueue<K>()
+    private val entries = LinkedHashMap<IdentityKey<K>, V>()
+
+    /**
+     * @param key to look up
+     * @return the value kept for this very instance, null if there's none
+     */
+    @Synchronized
+    operator fun get(key: K): V? {
+        expungeCollectedKeys()
+        return entries[IdentityKey(key)]
+    }
+
+    /**
+     * Keeps the value for the key, in place of the oldest entry once full.
+     *
+     * @param key the value is kept for
+     * @param value to keep
+     */
+    @Synchronized
+    fun put(key: K, value: V) {
+        expungeCollectedKeys()
+        entries[IdentityKey(key, collectedKeys)] = value
+        if (entries.size > maxSize) {
+            entries.remove(entries.keys.first())
+        }
+    }
+
+    /**
+     * Drops all the entries.
+     */
+    @Synchronized
+    fun clear() {
+        entries.clear()
+        while (collectedKeys.poll() != null) {
+            // already dropped
+        }
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    private fun expungeCollectedKeys() {
+        var collected = collectedKeys.poll()
+        while (collected != null) {
+            entries.remove(collected as IdentityKey<K>)
+            collected = collectedKeys.poll()
+        }
+    }
+
+    private class IdentityKey<K>(
+        key: K,
+        queue: ReferenceQueue<K>? = null
+    ) : WeakReference<K>(key, queue) {
+
+        private val hashCode = System.identityHashCode(key)
+
+        override fun hashCode(): Int = hashCode
+
+        override fun equals(other: Any?): Boolean {
+            if (other === this) {
+                return true
+            }
+            val key = get()
+            return key != null && other is IdentityKey<*> && other.get() === key
+        }
+    }
+}
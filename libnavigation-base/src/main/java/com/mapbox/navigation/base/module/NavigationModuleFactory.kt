@@ -0,0 +1,35 @@
+package com.mapbox.navigation.base.module
+
+/**
+ * Package of the generated [NavigationModuleFactory] implementations.
+ */
+const val MODULE_FACTORY_PACKAGE = "com.mapbox.navigation.module.factory"
+
+/**
+ * Class name format of the generated [NavigationModuleFactory] implementations, filled with the module type name.
+ */
+const val MODULE_FACTORY_CLASS_NAME_FORMAT = "Mapbox%sModuleFactory"
+
+/**
+ * Creates a Mapbox navigation module without reflection.
+ *
+ * Implementations are generated at compile time for each module annotated with
+ * `@MapboxNavigationModule(skipConfiguration = true)`, as
+ * [MODULE_FACTORY_PACKAGE].[MODULE_FACTORY_CLASS_NAME_FORMAT].
+ */
+interface NavigationModuleFactory {
+
+    /**
+     * @return true if the module has to be created with constructor arguments,
+     * false if it has a no-arg constructor or is a singleton
+     */
+    fun requiresParams(): Boolean
+
+    /**
+     * Creates the module.
+     *
+     * @param params constructor arguments of the module, in order. Empty if [requiresParams] is false.
+     * @return module instance
+     */
+    fun create(params: Array<Any?>): Any
+}
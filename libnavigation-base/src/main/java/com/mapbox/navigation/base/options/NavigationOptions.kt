@@ -8,6 +8,8 @@ import com.mapbox.navigation.base.typedef.TimeFormatType
 
 const val DEFAULT_NAVIGATOR_POLLING_DELAY = 1500L
 const val DEFAULT_FASTER_ROUTE_DETECTOR_INTERVAL = 2 * 60 * 1000L // 2 minutes
+const val DEFAULT_NOTIFICATION_UPDATE_INTERVAL = 1000L
+const val DEFAULT_ROUTE_REFRESH_INTERVAL = 5 * 60 * 1000L // 5 minutes
 
 data class NavigationOptions constructor(
     @RoundingIncrement val roundingIncrement: Int,
@@ -15,9 +17,17 @@ data class NavigationOptions constructor(
     val navigatorPollingDelay: Long,
     val fasterRouteDetectorInterval: Long,
     val distanceFormatter: DistanceFormatter?,
-    val onboardRouterConfig: MapboxOnboardRouterConfig?
+    val onboardRouterConfig: MapboxOnboardRouterConfig?,
+    val notificationUpdateInterval: Long,
+    val adaptiveLocationRequests: Boolean,
+    val routeRefreshInterval: Long,
+    val enableRouteRefresh: Boolean
 ) {
 
+    init {
+        require(routeRefreshInterval > 0) { "routeRefreshInterval has to be positive: $routeRefreshInterval" }
+    }
+
     /**
      * Get a builder to customize a subset of current options.
      */
@@ -27,7 +37,11 @@ data class NavigationOptions constructor(
         navigatorPollingDelay,
         fasterRouteDetectorInterval,
         distanceFormatter,
-        onboardRouterConfig
+        onboardRouterConfig,
+        notificationUpdateInterval,
+        adaptiveLocationRequests,
+        routeRefreshInterval,
+        enableRouteRefresh
     )
 
     data class Builder(
@@ -36,7 +50,11 @@ data class NavigationOptions constructor(
         private var navigatorPollingDelay: Long = DEFAULT_NAVIGATOR_POLLING_DELAY,
         private var fasterRouteDetectorInterval: Long = DEFAULT_FASTER_ROUTE_DETECTOR_INTERVAL,
         private var distanceFormatter: DistanceFormatter? = null,
-        private var onboardRouterConfig: MapboxOnboardRouterConfig? = null
+        private var onboardRouterConfig: MapboxOnboardRouterConfig? = null,
+        private var notificationUpdateInterval: Long = DEFAULT_NOTIFICATION_UPDATE_INTERVAL,
+        private var adaptiveLocationRequests: Boolean = false,
+        private var routeRefreshInterval: Long = DEFAULT_ROUTE_REFRESH_INTERVAL,
+        private var enableRouteRefresh: Boolean = true
     ) {
 
         fun roundingIncrement(roundingIncrement: Int) =
@@ -57,6 +75,35 @@ data class NavigationOptions constructor(
         fun onboardRouterConfig(onboardRouterConfig: MapboxOnboardRouterConfig?) =
             apply { this.onboardRouterConfig = onboardRouterConfig }
 
+        /**
+         * Minimum time in milliseconds between two trip notification updates
+         * that only change the distance or arrival time.
+         */
+        fun notificationUpdateInterval(interval: Long) =
+            apply { notificationUpdateInterval = interval }
+
+        /**
+         * Lowers the location request rate on long steps and when stationary,
+         * keeping the provided request near maneuvers and in free drive.
+         * Disabled by default, the provided request being always used.
+         */
+        fun adaptiveLocationRequests(enabled: Boolean) =
+            apply { adaptiveLocationRequests = enabled }
+
+        /**
+         * Base time in milliseconds between two refreshes of the primary route annotations.
+         * Refreshes happen more often while traffic along the route changes and less often when it doesn't.
+         * Has to be positive, use [enableRouteRefresh] to turn refreshes off.
+         */
+        fun routeRefreshInterval(interval: Long) =
+            apply { routeRefreshInterval = interval }
+
+        /**
+         * Refreshes the primary route annotations while it's being followed. Enabled by default.
+         */
+        fun enableRouteRefresh(enabled: Boolean) =
+            apply { enableRouteRefresh = enabled }
+
         fun build(): NavigationOptions {
             return NavigationOptions(
                 roundingIncrement,
@@ -64,7 +111,11 @@ data class NavigationOptions constructor(
                 navigatorPollingDelay,
                 fasterRouteDetectorInterval,
                 distanceFormatter,
-                onboardRouterConfig
+                onboardRouterConfig,
+                notificationUpdateInterval,
+                adaptiveLocationRequests,
+                routeRefreshInterval,
+                enableRouteRefresh
             )
         }
     }
@@ -0,0 +1,39 @@
+package com.mapbox.navigation.base.route
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.navigation.base.internal.utils.WeakIdentityCache
+import com.mapbox.navigation.base.route.internal.DirectionsRoutesParser
+
+/**
+ * Alternative routes returned by a [Router] are outlines: their summary, geometry and legs are
+ * decoded, but their legs have no steps or annotations. An outline keeps the JSON it was decoded
+ * from for as long as it's referenced, and is decoded fully when it's selected as the primary route
+ * or when passed to [decode].
+ */
+object RouteAlternatives {
+
+    private val outlineJson = WeakIdentityCache<DirectionsRoute, String>()
+
+    /**
+     * @param route to check
+     * @return true if the route is an outline that hasn't been decoded fully
+     */
+    @JvmStatic
+    fun isOutline(route: DirectionsRoute): Boolean = outlineJson[route] != null
+
+    /**
+     * Decodes an outline fully. Every call decodes the route again.
+     *
+     * @param route an outline, or a full route
+     * @return the full route, or the given route if it isn't an outline
+     */
+    @JvmStatic
+    fun decode(route: DirectionsRoute): DirectionsRoute =
+        outlineJson[route]?.let { json ->
+            DirectionsRoutesParser.decodeFully(route, json)
+        } ?: route
+
+    internal fun putOutline(route: DirectionsRoute, json: String) {
+        outlineJson.put(route, json)
+    }
+}
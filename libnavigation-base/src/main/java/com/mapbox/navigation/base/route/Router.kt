@@ -33,7 +33,7 @@ interface Router {
          * Non-empty list of [DirectionsRoute]
          *
          * @param routes List<DirectionsRoute> the most relevant has index 0. If requested, alternative routes are available on higher indices.
-         * Has at least one Route
+         * Has at least one Route. Alternatives may be outlines without steps or annotations, see [RouteAlternatives].
          */
         fun onResponse(routes: List<DirectionsRoute>)
 
@@ -0,0 +1,43 @@
+package com.mapbox.navigation.base.route.internal
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.navigation.base.internal.utils.WeakIdentityCache
+
+/**
+ * Keeps the JSON the routers decoded each of the last few routes from, so that a route handed to
+ * the navigator isn't serialized again. Routes built afterwards, such as refreshed routes, are
+ * serialized.
+ *
+ * Routes are matched by identity and held weakly.
+ */
+object DirectionsRouteJson {
+
+    private const val MAX_ROUTES = 4
+    private val routeJson = WeakIdentityCache<DirectionsRoute, String>(MAX_ROUTES)
+
+    /**
+     * Keeps the JSON a route was decoded from.
+     *
+     * @param route decoded
+     * @param json of this single route
+     */
+    fun put(route: DirectionsRoute, json: String) {
+        routeJson.put(route, json)
+    }
+
+    /**
+     * Returns the JSON the route was decoded from, serializing it otherwise.
+     *
+     * @param route to serialize
+     * @return the route JSON
+     */
+    fun toJson(route: DirectionsRoute): String =
+        routeJson[route] ?: route.toJson()
+
+    /**
+     * Drops the JSON of all the routes.
+     */
+    fun clear() {
+        routeJson.clear()
+    }
+}
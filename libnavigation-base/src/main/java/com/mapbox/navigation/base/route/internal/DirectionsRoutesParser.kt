@@ -0,0 +1,272 @@
+package com.mapbox.navigation.base.route.internal
+
+import com.google.gson.Gson
+import com.google.gson.GsonBuilder
+import com.google.gson.JsonArray
+import com.google.gson.JsonElement
+import com.google.gson.JsonObject
+import com.google.gson.JsonParseException
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonToken
+import com.mapbox.api.directions.v5.DirectionsAdapterFactory
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.api.directions.v5.models.RouteOptions
+import com.mapbox.geojson.Point
+import com.mapbox.geojson.PointAsCoordinatesTypeAdapter
+import com.mapbox.navigation.base.route.RouteAlternatives
+import java.io.IOException
+import java.io.StringReader
+
+/**
+ * Reads the routes out of a directions response JSON, for both the onboard and the offboard router.
+ *
+ * The response is scanned once to find the JSON of each route, and nothing else of it
+ * (waypoints, code) is materialized. Only the primary route is decoded fully. Alternatives are
+ * decoded as outlines, whose legs have no steps or annotations, and keep their JSON so that
+ * [RouteAlternatives] can decode them fully once they're selected. The JSON of fully decoded
+ * routes is kept in [DirectionsRouteJson] for the navigator.
+ */
+object DirectionsRoutesParser {
+
+    private const val ROUTES_KEY = "routes"
+    private const val UUID_KEY = "uuid"
+    private const val LEGS_KEY = "legs"
+    private const val STEPS_KEY = "steps"
+    private const val ANNOTATION_KEY = "annotation"
+    private const val LITERAL_END = ",:{}[]\" \t\r\n"
+
+    private val gson: Gson by lazy {
+        GsonBuilder()
+            .registerTypeAdapterFactory(DirectionsAdapterFactory.create())
+            .registerTypeAdapter(Point::class.java, PointAsCoordinatesTypeAdapter())
+            .create()
+    }
+
+    /**
+     * @param json of a directions response
+     * @param routeOptions the routes were requested with, attached to them along with their index
+     * and the response uuid. The routes have neither if null.
+     * @return the routes of the response, empty if it doesn't have any
+     * @throws JsonParseException if the response is malformed
+     */
+    @JvmOverloads
+    fun parse(json: String, routeOptions: RouteOptions? = null): List<DirectionsRoute> {
+        val response = ResponseScanner(json).scan()
+        val requestOptions = routeOptions?.let { options ->
+            response.uuid?.let { uuid -> options.toBuilder().requestUuid(uuid).build() } ?: options
+        }
+        return response.routes.mapIndexedNotNull { index, routeJson ->
+            if (index == 0) {
+                decodeRoute(routeJson)?.withRequest(requestOptions, index.toString())?.also { route ->
+                    DirectionsRouteJson.put(route, routeJson)
+                }
+            } else {
+                decodeOutline(routeJson)?.withRequest(requestOptions, index.toString())?.also { outline ->
+                    RouteAlternatives.putOutline(outline, routeJson)
+                }
+            }
+        }
+    }
+
+    /**
+     * Decodes the full route an outline was decoded from.
+     *
+     * @param outline decoded by [parse]
+     * @param json the outline was decoded from
+     * @return the full route, with the request data of the outline
+     * @throws JsonParseException if the route is malformed
+     */
+    fun decodeFully(outline: DirectionsRoute, json: String): DirectionsRoute =
+        decodeRoute(json)?.withRequest(outline.routeOptions(), outline.routeIndex())?.also { route ->
+            DirectionsRouteJson.put(route, json)
+        } ?: throw JsonParseException("Route JSON is null")
+
+    private fun decodeRoute(json: String): DirectionsRoute? =
+        gson.fromJson(json, DirectionsRoute::class.java)
+
+    private fun decodeOutline(json: String): DirectionsRoute? =
+        try {
+            JsonReader(StringReader(json)).use { reader ->
+                if (reader.peek() == JsonToken.NULL) {
+                    return null
+                }
+                val route = JsonObject()
+                reader.beginObject()
+                while (reader.hasNext()) {
+                    val name = reader.nextName()
+                    if (name == LEGS_KEY && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                        route.add(name, readLegOutlines(reader))
+                    } else {
+                        route.add(name, readElement(reader))
+                    }
+                }
+                reader.endObject()
+                gson.fromJson(route, DirectionsRoute::class.java)
+            }
+        } catch (e: IOException) {
+            throw JsonParseException(e)
+        }
+
+    private fun readLegOutlines(reader: JsonReader): JsonArray {
+        val legs = JsonArray()
+        reader.beginArray()
+        while (reader.hasNext()) {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                legs.add(readElement(reader))
+                continue
+            }
+            val leg = JsonObject()
+            reader.beginObject()
+            while (reader.hasNext()) {
+                val name = reader.nextName()
+                if (name == STEPS_KEY || name == ANNOTATION_KEY) {
+                    reader.skipValue()
+                } else {
+                    leg.add(name, readElement(reader))
+                }
+            }
+            reader.endObject()
+            legs.add(leg)
+        }
+        reader.endArray()
+        return legs
+    }
+
+    private fun readElement(reader: JsonReader): JsonElement =
+        gson.fromJson(reader, JsonElement::class.java)
+
+    private fun DirectionsRoute.withRequest(
+        routeOptions: RouteOptions?,
+        index: String?
+    ): DirectionsRoute =
+        if (routeOptions == null) {
+            this
+        } else {
+            toBuilder()
+                .routeOptions(routeOptions)
+                .apply { index?.let { routeIndex(it) } }
+                .build()
+        }
+
+    private class ScannedResponse(val routes: List<String>, val uuid: String?)
+
+    /**
+     * Finds the JSON of each route and the uuid of a response without materializing any of it.
+     */
+    private class ResponseScanner(private val json: String) {
+
+        private var position = 0
+
+        fun scan(): ScannedResponse {
+            val routes = mutableListOf<String>()
+            var uuid: String? = null
+            expect('{')
+            if (!consume('}')) {
+                do {
+                    val name = readString()
+                    expect(':')
+                    when {
+                        name == ROUTES_KEY && peek() == '[' -> readElements(routes)
+                        name == UUID_KEY && peek() == '"' -> uuid = readString()
+                        else -> skipValue()
+                    }
+                } while (consume(','))
+                expect('}')
+            }
+            return ScannedResponse(routes, uuid)
+        }
+
+        private fun readElements(elements: MutableList<String>) {
+            expect('[')
+            if (consume(']')) {
+                return
+            }
+            do {
+                skipWhitespace()
+                val start = position
+                skipValue()
+                elements.add(json.substring(start, position))
+            } while (consume(','))
+            expect(']')
+        }
+
+        /**
+         * @return the raw content of the string at the current position, escapes included
+         */
+        private fun readString(): String {
+            expect('"')
+            val start = position
+            while (position < json.length) {
+                when (json[position]) {
+                    '\\' -> position += 2
+                    '"' -> return json.substring(start, position++)
+                    else -> position++
+                }
+            }
+            throw malformed()
+        }
+
+        private fun skipValue() {
+            when (peek()) {
+                '"' -> readString()
+                '{', '[' -> skipNested()
+                else -> skipLiteral()
+            }
+        }
+
+        private fun skipNested() {
+            var depth = 0
+            while (position < json.length) {
+                val char = json[position]
+                if (char == '"') {
+                    readString()
+                } else {
+                    position++
+                    if (char == '{' || char == '[') {
+                        depth++
+                    } else if ((char == '}' || char == ']') && --depth == 0) {
+                        return
+                    }
+                }
+            }
+            throw malformed()
+        }
+
+        private fun skipLiteral() {
+            val start = position
+            while (position < json.length && json[position] !in LITERAL_END) {
+                position++
+            }
+            if (position == start) {
+                throw malformed()
+            }
+        }
+
+        private fun consume(char: Char): Boolean {
+            if (peek() == char) {
+                position++
+                return true
+            }
+            return false
+        }
+
+        private fun expect(char: Char) {
+            if (!consume(char)) {
+                throw malformed()
+            }
+        }
+
+        private fun peek(): Char? {
+            skipWhitespace()
+            return if (position < json.length) json[position] else null
+        }
+
+        private fun skipWhitespace() {
+            while (position < json.length && json[position].isWhitespace()) {
+                position++
+            }
+        }
+
+        private fun malformed() = JsonParseException("Malformed directions response at $position")
+    }
+}
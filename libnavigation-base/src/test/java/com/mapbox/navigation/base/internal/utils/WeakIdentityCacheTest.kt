@@ -0,0 +1,64 @@
+package com.mapbox.navigation.base.internal.utils
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Test
+
+class WeakIdentityCacheTest {
+
+    @Test
+    fun get_returnsValueOfSameInstance() {
+        val cache = WeakIdentityCache<String, Int>()
+        val key = String("key".toCharArray())
+
+        cache.put(key, 1)
+
+        assertEquals(1, cache[key])
+    }
+
+    @Test
+    fun get_equalInstanceHasNoValue() {
+        val cache = WeakIdentityCache<String, Int>()
+
+        cache.put(String("key".toCharArray()), 1)
+
+        assertNull(cache[String("key".toCharArray())])
+    }
+
+    @Test
+    fun put_oldestEntryIsDroppedOnceFull() {
+        val cache = WeakIdentityCache<String, Int>(2)
+        val first = String("first".toCharArray())
+        val second = String("second".toCharArray())
+        val third = String("third".toCharArray())
+
+        cache.put(first, 1)
+        cache.put(second, 2)
+        cache.put(third, 3)
+
+        assertNull(cache[first])
+        assertEquals(2, cache[second])
+        assertEquals(3, cache[third])
+    }
+
+    @Test
+    fun put_unboundedCacheKeepsAllEntries() {
+        val cache = WeakIdentityCache<String, Int>()
+        val keys = List(100) { String("key$it".toCharArray()) }
+
+        keys.forEachIndexed { index, key -> cache.put(key, index) }
+
+        keys.forEachIndexed { index, key -> assertEquals(index, cache[key]) }
+    }
+
+    @Test
+    fun clear_dropsAllEntries() {
+        val cache = WeakIdentityCache<String, Int>()
+        val key = String("key".toCharArray())
+        cache.put(key, 1)
+
+        cache.clear()
+
+        assertNull(cache[key])
+    }
+}
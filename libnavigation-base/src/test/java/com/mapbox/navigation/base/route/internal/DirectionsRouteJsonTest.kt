@@ -0,0 +1,52 @@
+package com.mapbox.navigation.base.route.internal
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotSame
+import org.junit.Assert.assertSame
+import org.junit.Test
+
+class DirectionsRouteJsonTest {
+
+    @Test
+    fun toJson_returnsKeptJson() {
+        val json = String(ROUTE_JSON.toCharArray())
+        val route = DirectionsRoute.fromJson(json)
+
+        DirectionsRouteJson.put(route, json)
+
+        assertSame(json, DirectionsRouteJson.toJson(route))
+    }
+
+    @Test
+    fun toJson_routeWithoutJsonIsSerialized() {
+        val route = DirectionsRoute.fromJson(ROUTE_JSON)
+
+        val json = DirectionsRouteJson.toJson(route)
+
+        assertEquals(route.toJson(), json)
+    }
+
+    @Test
+    fun toJson_equalRouteIsSerialized() {
+        DirectionsRouteJson.put(DirectionsRoute.fromJson(ROUTE_JSON), ROUTE_JSON)
+
+        val json = DirectionsRouteJson.toJson(DirectionsRoute.fromJson(ROUTE_JSON))
+
+        assertNotSame(ROUTE_JSON, json)
+    }
+
+    @Test
+    fun clear_keptJsonIsDropped() {
+        val route = DirectionsRoute.fromJson(ROUTE_JSON)
+        DirectionsRouteJson.put(route, ROUTE_JSON)
+
+        DirectionsRouteJson.clear()
+
+        assertNotSame(ROUTE_JSON, DirectionsRouteJson.toJson(route))
+    }
+
+    private companion object {
+        private const val ROUTE_JSON = "{\"distance\": 100.0, \"duration\": 10.0}"
+    }
+}
@@ -0,0 +1,139 @@
+package com.mapbox.navigation.base.route.internal
+
+import com.google.gson.JsonParseException
+import com.mapbox.api.directions.v5.models.RouteOptions
+import com.mapbox.navigation.base.route.RouteAlternatives
+import io.mockk.every
+import io.mockk.mockk
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertNotNull
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertSame
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class DirectionsRoutesParserTest {
+
+    @Test
+    fun parsesRoutesAndSkipsRestOfResponse() {
+        val routes = DirectionsRoutesParser.parse(
+            "{\"waypoints\": [{\"name\": \"a\", \"location\": [1.0, 2.0]}], " +
+                "\"routes\": [{\"distance\": 10.0, \"duration\": 5.0}, {\"distance\": 20.0, \"duration\": 8.0}], " +
+                "\"code\": \"Ok\"}"
+        )
+
+        assertEquals(2, routes.size)
+        assertEquals(10.0, routes[0].distance()!!, 0.0)
+        assertEquals(8.0, routes[1].duration()!!, 0.0)
+    }
+
+    @Test
+    fun primaryRouteIsDecodedFully() {
+        val routes = DirectionsRoutesParser.parse("{\"routes\": [$ROUTE_WITH_DETAIL, $ROUTE_WITH_DETAIL]}")
+
+        val leg = routes[0].legs()!![0]
+        assertFalse(RouteAlternatives.isOutline(routes[0]))
+        assertNotNull(leg.steps())
+        assertEquals(listOf(1.5, 2.5), leg.annotation()!!.distance())
+    }
+
+    @Test
+    fun primaryRouteKeepsItsJson() {
+        val routes = DirectionsRoutesParser.parse("{\"routes\": [$ROUTE_WITH_DETAIL, $ROUTE_WITH_DETAIL]}")
+
+        assertEquals(ROUTE_WITH_DETAIL, DirectionsRouteJson.toJson(routes[0]))
+    }
+
+    @Test
+    fun decodedAlternativeKeepsItsJson() {
+        val routes = DirectionsRoutesParser.parse("{\"routes\": [$ROUTE_WITH_DETAIL, $ROUTE_WITH_DETAIL]}")
+
+        val decoded = RouteAlternatives.decode(routes[1])
+
+        assertEquals(ROUTE_WITH_DETAIL, DirectionsRouteJson.toJson(decoded))
+    }
+
+    @Test
+    fun alternativesAreOutlines() {
+        val routes = DirectionsRoutesParser.parse("{\"routes\": [$ROUTE_WITH_DETAIL, $ROUTE_WITH_DETAIL]}")
+
+        val leg = routes[1].legs()!![0]
+        assertTrue(RouteAlternatives.isOutline(routes[1]))
+        assertEquals(100.0, routes[1].distance()!!, 0.0)
+        assertEquals("Main Street", leg.summary())
+        assertNull(leg.steps())
+        assertNull(leg.annotation())
+    }
+
+    @Test
+    fun alternativeIsDecodedFullyFromItsJson() {
+        val routes = DirectionsRoutesParser.parse("{\"routes\": [$ROUTE_WITH_DETAIL, $ROUTE_WITH_DETAIL]}")
+
+        val decoded = RouteAlternatives.decode(routes[1])
+
+        assertEquals(routes[0], decoded)
+        assertFalse(RouteAlternatives.isOutline(decoded))
+    }
+
+    @Test
+    fun fullRouteIsNotDecodedAgain() {
+        val routes = DirectionsRoutesParser.parse("{\"routes\": [$ROUTE_WITH_DETAIL]}")
+
+        assertSame(routes[0], RouteAlternatives.decode(routes[0]))
+    }
+
+    @Test
+    fun requestIsAttachedToRoutes() {
+        val requestOptions = mockk<RouteOptions>()
+        val routeOptions = mockk<RouteOptions> {
+            every { toBuilder().requestUuid("response-uuid").build() } returns requestOptions
+        }
+
+        val routes = DirectionsRoutesParser.parse(
+            "{\"routes\": [$ROUTE_WITH_DETAIL, $ROUTE_WITH_DETAIL], \"uuid\": \"response-uuid\"}",
+            routeOptions
+        )
+        val decoded = RouteAlternatives.decode(routes[1])
+
+        assertSame(requestOptions, routes[0].routeOptions())
+        assertEquals("0", routes[0].routeIndex())
+        assertSame(requestOptions, decoded.routeOptions())
+        assertEquals("1", decoded.routeIndex())
+    }
+
+    @Test
+    fun escapedQuotesDontEndRoutes() {
+        val routes = DirectionsRoutesParser.parse(
+            "{\"routes\": [{\"weight_name\": \"a \\\"quoted\\\" ] name\", \"distance\": 1.0}]}"
+        )
+
+        assertEquals(1, routes.size)
+        assertEquals("a \"quoted\" ] name", routes[0].weightName())
+    }
+
+    @Test
+    fun responseWithoutRoutesHasNoRoutes() {
+        val routes = DirectionsRoutesParser.parse(
+            "{\"status\": \"Bad Request\", \"status_code\": 400, \"error\": \"No suitable edges near location\", \"error_code\": 171}"
+        )
+
+        assertTrue(routes.isEmpty())
+    }
+
+    @Test
+    fun nullRoutesHasNoRoutes() {
+        assertTrue(DirectionsRoutesParser.parse("{\"routes\": null}").isEmpty())
+    }
+
+    @Test(expected = JsonParseException::class)
+    fun malformedResponseThrows() {
+        DirectionsRoutesParser.parse("{\"routes\": [")
+    }
+
+    private companion object {
+        private const val ROUTE_WITH_DETAIL = "{\"distance\": 100.0, \"duration\": 10.0, \"legs\": [{" +
+            "\"distance\": 100.0, \"duration\": 10.0, \"summary\": \"Main Street\", \"steps\": [], " +
+            "\"annotation\": {\"distance\": [1.5, 2.5]}}]}"
+    }
+}
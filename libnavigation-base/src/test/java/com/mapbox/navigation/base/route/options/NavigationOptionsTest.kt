@@ -4,6 +4,8 @@ import android.text.SpannableString
 import com.mapbox.navigation.base.formatter.DistanceFormatter
 import com.mapbox.navigation.base.options.DEFAULT_FASTER_ROUTE_DETECTOR_INTERVAL
 import com.mapbox.navigation.base.options.DEFAULT_NAVIGATOR_POLLING_DELAY
+import com.mapbox.navigation.base.options.DEFAULT_NOTIFICATION_UPDATE_INTERVAL
+import com.mapbox.navigation.base.options.DEFAULT_ROUTE_REFRESH_INTERVAL
 import com.mapbox.navigation.base.options.MapboxOnboardRouterConfig
 import com.mapbox.navigation.base.options.NavigationOptions
 import com.mapbox.navigation.base.typedef.NONE_SPECIFIED
@@ -26,6 +28,10 @@ class NavigationOptionsTest {
         assertEquals(options.distanceFormatter, null)
         assertEquals(options.onboardRouterConfig, null)
         assertEquals(options.fasterRouteDetectorInterval, DEFAULT_FASTER_ROUTE_DETECTOR_INTERVAL)
+        assertEquals(options.notificationUpdateInterval, DEFAULT_NOTIFICATION_UPDATE_INTERVAL)
+        assertEquals(options.adaptiveLocationRequests, false)
+        assertEquals(options.routeRefreshInterval, DEFAULT_ROUTE_REFRESH_INTERVAL)
+        assertEquals(options.enableRouteRefresh, true)
     }
 
     @Test
@@ -34,6 +40,8 @@ class NavigationOptionsTest {
         val roundingIncrement = ROUNDING_INCREMENT_TEN
         val fasterRouteInterval = 120000L
         val pollingDelay = 1020L
+        val notificationInterval = 3000L
+        val refreshInterval = 600000L
         val distanceFormatter = object : DistanceFormatter {
             override fun formatDistance(distance: Double): SpannableString {
                 throw NotImplementedError()
@@ -48,6 +56,9 @@ class NavigationOptionsTest {
             .distanceFormatter(distanceFormatter)
             .onboardRouterConfig(routerConfig)
             .fasterRouteDetectorInterval(fasterRouteInterval)
+            .notificationUpdateInterval(notificationInterval)
+            .routeRefreshInterval(refreshInterval)
+            .enableRouteRefresh(false)
             .build()
 
         assertEquals(options.roundingIncrement, roundingIncrement)
@@ -56,6 +67,16 @@ class NavigationOptionsTest {
         assertEquals(options.distanceFormatter, distanceFormatter)
         assertEquals(options.onboardRouterConfig, routerConfig)
         assertEquals(options.fasterRouteDetectorInterval, fasterRouteInterval)
+        assertEquals(options.notificationUpdateInterval, notificationInterval)
+        assertEquals(options.routeRefreshInterval, refreshInterval)
+        assertEquals(options.enableRouteRefresh, false)
+    }
+
+    @Test(expected = IllegalArgumentException::class)
+    fun whenRouteRefreshIntervalNotPositiveThenBuildFails() {
+        NavigationOptions.Builder()
+            .routeRefreshInterval(0L)
+            .build()
     }
 
     @Test
@@ -7,6 +7,7 @@ import android.text.Spanned
 import android.text.style.RelativeSizeSpan
 import android.text.style.StyleSpan
 import com.mapbox.navigation.base.formatter.DistanceFormatter
+import com.mapbox.navigation.base.formatter.DistanceTextFormatter
 import com.mapbox.navigation.base.typedef.IMPERIAL
 import com.mapbox.navigation.base.typedef.METRIC
 import com.mapbox.navigation.base.typedef.RoundingIncrement
@@ -39,7 +40,7 @@ class MapboxDistanceFormatter(
     language: String?,
     @VoiceUnit unitType: String,
     @RoundingIncrement private val roundingIncrement: Int
-) : DistanceFormatter {
+) : DistanceFormatter, DistanceTextFormatter {
 
     private val unitStrings = hashMapOf<String, String>(
         UNIT_KILOMETERS to context.getString(R.string.kilometers),
@@ -73,33 +74,72 @@ class MapboxDistanceFormatter(
         numberFormat = NumberFormat.getNumberInstance(locale)
     }
 
+    private val formattedDistances =
+        object : LinkedHashMap<Long, FormattedDistance>(MAX_FORMATTED_DISTANCES, LOAD_FACTOR, true) {
+            override fun removeEldestEntry(eldest: MutableMap.MutableEntry<Long, FormattedDistance>?): Boolean =
+                size > MAX_FORMATTED_DISTANCES
+        }
+
     /**
      * Returns a formatted SpannableString with bold and size formatting. I.e., "10 mi", "350 m"
      *
+     * Distances rounded to the same value are only formatted once, a new SpannableString being
+     * spanned from that text on every call.
+     *
      * @param distance in meters
      * @return SpannableString representation which has a bolded number and units which have a
      * relative size of .65 times the size of the number
      */
-    override fun formatDistance(distance: Double): SpannableString {
+    @Synchronized
+    override fun formatDistance(distance: Double): SpannableString =
+        retrieveFormattedDistance(distance).toSpannable()
+
+    /**
+     * Returns the formatted distance without spans. I.e., "10 mi", "350 m"
+     *
+     * @param distance in meters
+     * @return String representation of the distance
+     */
+    @Synchronized
+    override fun formatDistanceText(distance: Double): String =
+        retrieveFormattedDistance(distance).text
+
+    /**
+     * Formats the distance once per rounded value: the rounding bucket is the rounded
+     * number of units, so that a distance is only formatted again when its text changes.
+     */
+    private fun retrieveFormattedDistance(distance: Double): FormattedDistance {
         val distanceSmallUnit =
             TurfConversion.convertLength(distance, UNIT_METERS, smallUnit)
         val distanceLargeUnit =
             TurfConversion.convertLength(distance, UNIT_METERS, largeUnit)
 
-        return when {
+        val rounding: Int
+        val roundedDistance: Long
+        when {
             // If the distance is greater than 10 miles/kilometers, then round to nearest mile/kilometer
             distanceLargeUnit > LARGE_UNIT_THRESHOLD -> {
-                getDistanceString(roundToDecimalPlace(distanceLargeUnit, 0), largeUnit)
+                rounding = ROUNDING_LARGE_UNIT
+                roundedDistance = Math.rint(distanceLargeUnit).toLong()
             }
             // If the distance is less than 401 feet/meters, round by fifty feet/meters
             distanceSmallUnit < SMALL_UNIT_THRESHOLD -> {
-                getDistanceString(roundToClosestIncrement(distanceSmallUnit), smallUnit)
+                rounding = ROUNDING_SMALL_UNIT
+                roundedDistance = roundToClosestIncrement(distanceSmallUnit).toLong()
             }
             // If the distance is between 401 feet/meters and 10 miles/kilometers, then round to one decimal place
             else -> {
-                getDistanceString(roundToDecimalPlace(distanceLargeUnit, 1), largeUnit)
+                rounding = ROUNDING_LARGE_UNIT_DECIMAL
+                roundedDistance = Math.rint(distanceLargeUnit * 10).toLong()
             }
         }
+        val bucket = roundedDistance * ROUNDING_COUNT + rounding
+        // the text is formatted from the rounded value, so that it's the same for every distance of the bucket
+        return formattedDistances[bucket] ?: when (rounding) {
+            ROUNDING_LARGE_UNIT -> FormattedDistance(roundToDecimalPlace(roundedDistance.toDouble(), 0), largeUnit)
+            ROUNDING_SMALL_UNIT -> FormattedDistance(roundedDistance.toString(), smallUnit)
+            else -> FormattedDistance(roundToDecimalPlace(roundedDistance / 10.0, 1), largeUnit)
+        }.also { formattedDistances[bucket] = it }
     }
 
     /**
@@ -109,10 +149,10 @@ class MapboxDistanceFormatter(
      * @param distance to round to closest specified rounding increment
      * @return number rounded to closest rounding increment, or rounding increment if distance is less
      */
-    private fun roundToClosestIncrement(distance: Double): String {
+    private fun roundToClosestIncrement(distance: Double): Int {
         val roundedNumber = Math.round(distance).toInt() / roundingIncrement * roundingIncrement
 
-        return (if (roundedNumber < roundingIncrement) roundingIncrement else roundedNumber).toString()
+        return if (roundedNumber < roundingIncrement) roundingIncrement else roundedNumber
     }
 
     /**
@@ -129,32 +169,34 @@ class MapboxDistanceFormatter(
     }
 
     /**
-     * Takes in a distance and units and returns a formatted SpannableString where the number is bold
-     * and the unit is shrunked to .65 times the size
-     *
-     * @param distance formatted with appropriate decimal places
-     * @param unit string from TurfConstants. This will be converted to the abbreviated form.
-     * @return String with bolded distance and shrunken units
+     * Holds a distance formatted with appropriate decimal places and its units, the number
+     * bold and the unit shrunk to .65 times the size once spanned.
      */
-    private fun getDistanceString(distance: String, unit: String): SpannableString {
-        val spannableString = SpannableString("$distance ${unitStrings[unit]}")
-
-        spannableString.setSpan(
-            StyleSpan(Typeface.BOLD),
-            0,
-            distance.length,
-            Spanned.SPAN_EXCLUSIVE_EXCLUSIVE
-        )
-        spannableString.setSpan(
-            RelativeSizeSpan(0.65f), distance.length + 1,
-            spannableString.length, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE
-        )
-
-        return spannableString
+    private inner class FormattedDistance(distance: String, unit: String) {
+
+        private val numberLength = distance.length
+        val text = "$distance ${unitStrings[unit]}"
+
+        fun toSpannable() = SpannableString(text).apply {
+            setSpan(StyleSpan(Typeface.BOLD), 0, numberLength, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE)
+            setSpan(
+                RelativeSizeSpan(UNIT_RELATIVE_SIZE),
+                numberLength + 1,
+                length,
+                Spanned.SPAN_EXCLUSIVE_EXCLUSIVE
+            )
+        }
     }
 
     companion object {
         private const val LARGE_UNIT_THRESHOLD = 10
         private const val SMALL_UNIT_THRESHOLD = 401
+        private const val UNIT_RELATIVE_SIZE = 0.65f
+        private const val MAX_FORMATTED_DISTANCES = 256
+        private const val LOAD_FACTOR = 0.75f
+        private const val ROUNDING_SMALL_UNIT = 0
+        private const val ROUNDING_LARGE_UNIT = 1
+        private const val ROUNDING_LARGE_UNIT_DECIMAL = 2
+        private const val ROUNDING_COUNT = 3
     }
 }
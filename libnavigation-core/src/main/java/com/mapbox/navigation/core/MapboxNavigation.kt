@@ -16,10 +16,13 @@ import com.mapbox.navigation.base.accounts.SkuTokenProvider
 import com.mapbox.navigation.base.extensions.ifNonNull
 import com.mapbox.navigation.base.options.DEFAULT_FASTER_ROUTE_DETECTOR_INTERVAL
 import com.mapbox.navigation.base.options.DEFAULT_NAVIGATOR_POLLING_DELAY
+import com.mapbox.navigation.base.options.DEFAULT_NOTIFICATION_UPDATE_INTERVAL
+import com.mapbox.navigation.base.options.DEFAULT_ROUTE_REFRESH_INTERVAL
 import com.mapbox.navigation.base.options.Endpoint
 import com.mapbox.navigation.base.options.MapboxOnboardRouterConfig
 import com.mapbox.navigation.base.options.NavigationOptions
 import com.mapbox.navigation.base.route.Router
+import com.mapbox.navigation.base.route.internal.DirectionsRouteJson
 import com.mapbox.navigation.base.trip.TripNotification
 import com.mapbox.navigation.base.trip.model.RouteProgress
 import com.mapbox.navigation.base.typedef.NONE_SPECIFIED
@@ -32,6 +35,7 @@ import com.mapbox.navigation.core.directions.session.RoutesRequestCallback
 import com.mapbox.navigation.core.fasterroute.FasterRouteDetector
 import com.mapbox.navigation.core.fasterroute.FasterRouteObserver
 import com.mapbox.navigation.core.module.NavigationModuleProvider
+import com.mapbox.navigation.core.routerefresh.RouteRefreshController
 import com.mapbox.navigation.core.trip.service.TripService
 import com.mapbox.navigation.core.trip.session.BannerInstructionsObserver
 import com.mapbox.navigation.core.trip.session.LocationObserver
@@ -42,6 +46,7 @@ import com.mapbox.navigation.core.trip.session.TripSessionStateObserver
 import com.mapbox.navigation.core.trip.session.VoiceInstructionsObserver
 import com.mapbox.navigation.navigator.MapboxNativeNavigator
 import com.mapbox.navigation.navigator.MapboxNativeNavigatorImpl
+import com.mapbox.navigation.trip.notification.MapboxTripNotification
 import com.mapbox.navigation.trip.notification.NotificationAction
 import com.mapbox.navigation.utils.network.NetworkStatusService
 import com.mapbox.navigation.utils.thread.JobControl
@@ -49,7 +54,6 @@ import com.mapbox.navigation.utils.thread.ThreadController
 import com.mapbox.navigation.utils.thread.monitorChannelWithException
 import com.mapbox.navigation.utils.timer.MapboxTimer
 import java.io.File
-import java.lang.reflect.Field
 import java.net.URI
 import java.util.concurrent.CopyOnWriteArrayList
 import kotlinx.coroutines.channels.ReceiveChannel
@@ -100,7 +104,9 @@ import kotlinx.coroutines.channels.ReceiveChannel
  * @param accessToken [Mapbox Access Token](https://docs.mapbox.com/help/glossary/access-token/)
  * @param navigationOptions a set of [NavigationOptions] used to customize various features of the SDK
  * @param locationEngine used to listen for raw location updates
- * @param locationEngineRequest used to request raw location updates
+ * @param locationEngineRequest used to request raw location updates. If [NavigationOptions.adaptiveLocationRequests]
+ * is enabled, this request is used near maneuvers and in free drive, while a less frequent one is used on long steps
+ * and when the device is stationary.
  */
 class MapboxNavigation(
     private val context: Context,
@@ -124,8 +130,9 @@ class MapboxNavigation(
     private val internalOffRouteObserver = createInternalOffRouteObserver()
     private val fasterRouteTimer: MapboxTimer
     private val fasterRouteObservers = CopyOnWriteArrayList<FasterRouteObserver>()
+    private val routeRefreshController: RouteRefreshController?
 
-    private var notificationChannelField: Field? = null
+    private val isMapboxTripNotification: Boolean
 
     init {
         ThreadController.init()
@@ -142,12 +149,8 @@ class MapboxNavigation(
             MapboxNavigationModuleType.TripNotification,
             ::paramsProvider
         )
-        if (notification.javaClass.name == "com.mapbox.navigation.trip.notification.MapboxTripNotification") {
-            notificationChannelField =
-                notification.javaClass.getDeclaredField("notificationActionButtonChannel").apply {
-                    isAccessible = true
-                }
-        }
+        // compared by name so that the default notification module can be excluded from the build
+        isMapboxTripNotification = notification.javaClass.name == MAPBOX_TRIP_NOTIFICATION_CLASS_NAME
         tripService = NavigationComponentProvider.createTripService(
             context.applicationContext,
             notification
@@ -156,7 +159,8 @@ class MapboxNavigation(
             tripService,
             locationEngine,
             locationEngineRequest,
-            navigationOptions.navigatorPollingDelay
+            navigationOptions.navigatorPollingDelay,
+            navigationOptions.adaptiveLocationRequests
         )
         tripSession.registerOffRouteObserver(internalOffRouteObserver)
         tripSession.registerStateObserver(navigationSession)
@@ -165,6 +169,22 @@ class MapboxNavigation(
                 .createMapboxTimer(navigationOptions.fasterRouteDetectorInterval) {
             requestFasterRoute()
         }
+
+        routeRefreshController = if (accessToken != null && navigationOptions.enableRouteRefresh) {
+            NavigationComponentProvider.createRouteRefreshController(
+                context.applicationContext,
+                accessToken,
+                directionsSession,
+                tripSession,
+                navigationOptions.routeRefreshInterval
+            )
+        } else {
+            null
+        }
+        routeRefreshController?.let {
+            directionsSession.registerRoutesObserver(it)
+            tripSession.registerStateObserver(it)
+        }
     }
 
     /**
@@ -177,8 +197,8 @@ class MapboxNavigation(
     @RequiresPermission(anyOf = [ACCESS_COARSE_LOCATION, ACCESS_FINE_LOCATION])
     fun startTripSession() {
         tripSession.start()
-        notificationChannelField?.let {
-            monitorNotificationActionButton(it.get(null) as ReceiveChannel<NotificationAction>)
+        if (isMapboxTripNotification) {
+            monitorNotificationActionButton(MapboxTripNotification.notificationActionButtonChannel)
         }
     }
 
@@ -293,6 +313,8 @@ class MapboxNavigation(
         tripSession.unregisterAllVoiceInstructionsObservers()
         fasterRouteObservers.clear()
         fasterRouteTimer.stop()
+        routeRefreshController?.stop()
+        DirectionsRouteJson.clear()
     }
 
     /**
@@ -560,6 +582,8 @@ class MapboxNavigation(
 
     companion object {
         private const val DEFAULT_REROUTE_BEARING_TOLERANCE = 90.0
+        private const val MAPBOX_TRIP_NOTIFICATION_CLASS_NAME =
+            "com.mapbox.navigation.trip.notification.MapboxTripNotification"
 
         /**
          * Returns a pre-build set of [NavigationOptions] with smart defaults.
@@ -573,6 +597,8 @@ class MapboxNavigation(
                 .roundingIncrement(ROUNDING_INCREMENT_FIFTY)
                 .navigatorPollingDelay(DEFAULT_NAVIGATOR_POLLING_DELAY)
                 .fasterRouteDetectorInterval(DEFAULT_FASTER_ROUTE_DETECTOR_INTERVAL)
+                .notificationUpdateInterval(DEFAULT_NOTIFICATION_UPDATE_INTERVAL)
+                .routeRefreshInterval(DEFAULT_ROUTE_REFRESH_INTERVAL)
                 .distanceFormatter(
                     MapboxDistanceFormatter(
                         context.applicationContext,
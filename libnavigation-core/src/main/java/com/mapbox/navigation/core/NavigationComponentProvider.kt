@@ -7,10 +7,14 @@ import com.mapbox.navigation.base.route.Router
 import com.mapbox.navigation.base.trip.TripNotification
 import com.mapbox.navigation.core.directions.session.DirectionsSession
 import com.mapbox.navigation.core.directions.session.MapboxDirectionsSession
+import com.mapbox.navigation.core.routerefresh.RouteRefreshApi
+import com.mapbox.navigation.core.routerefresh.RouteRefreshController
+import com.mapbox.navigation.core.routerefresh.RouteRefreshPolicy
 import com.mapbox.navigation.core.trip.service.MapboxTripService
 import com.mapbox.navigation.core.trip.service.TripService
 import com.mapbox.navigation.core.trip.session.MapboxTripSession
 import com.mapbox.navigation.core.trip.session.TripSession
+import com.mapbox.navigation.utils.network.NetworkStatusService
 import com.mapbox.navigation.utils.timer.MapboxTimer
 
 internal object NavigationComponentProvider {
@@ -29,16 +33,32 @@ internal object NavigationComponentProvider {
         tripService: TripService,
         locationEngine: LocationEngine,
         locationEngineRequest: LocationEngineRequest,
-        navigatorPollingDelay: Long
+        navigatorPollingDelay: Long,
+        adaptiveLocationRequests: Boolean
     ): TripSession = MapboxTripSession(
         tripService,
         locationEngine,
         locationEngineRequest,
-        navigatorPollingDelay
+        navigatorPollingDelay,
+        adaptiveLocationRequests = adaptiveLocationRequests
     )
 
     fun createMapboxTimer(
         restartAfter: Long,
         delayLambda: () -> Unit
     ) = MapboxTimer(restartAfter, delayLambda)
+
+    fun createRouteRefreshController(
+        applicationContext: Context,
+        accessToken: String,
+        directionsSession: DirectionsSession,
+        tripSession: TripSession,
+        refreshInterval: Long
+    ) = RouteRefreshController(
+        RouteRefreshApi(accessToken),
+        directionsSession,
+        tripSession,
+        RouteRefreshPolicy(refreshInterval),
+        NetworkStatusService(applicationContext)
+    )
 }
@@ -22,6 +22,14 @@ internal interface DirectionsSession {
      */
     fun requestFasterRoute(adjustedRouteOptions: RouteOptions, routesRequestCallback: RoutesRequestCallback)
 
+    /**
+     * Replaces the primary route with a refreshed version of it, without interrupting
+     * the requests in progress. The routes didn't change, so [RoutesObserver]s aren't notified.
+     *
+     * @param refreshedRoute the primary route with updated annotations
+     */
+    fun refreshPrimaryRoute(refreshedRoute: DirectionsRoute)
+
     fun cancel()
 
     fun registerRoutesObserver(routesObserver: RoutesObserver)
@@ -3,6 +3,7 @@ package com.mapbox.navigation.core.directions.session
 import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.api.directions.v5.models.RouteOptions
 import com.mapbox.navigation.base.extensions.ifNonNull
+import com.mapbox.navigation.base.route.RouteAlternatives
 import com.mapbox.navigation.base.route.Router
 import java.util.concurrent.CopyOnWriteArrayList
 
@@ -14,21 +15,24 @@ class MapboxDirectionsSession(
     private val routesObservers = CopyOnWriteArrayList<RoutesObserver>()
     private var routeOptions: RouteOptions? = null
 
-    override var routes: List<DirectionsRoute> = emptyList()
+    private var currentRoutes: List<DirectionsRoute> = emptyList()
+
+    override var routes: List<DirectionsRoute>
+        get() = currentRoutes
         set(value) {
             router.cancel()
-            if (routes.isEmpty() && value.isEmpty()) {
-                return
-            }
-            field = value
-            if (!routes.isEmpty()) {
-                this.routeOptions = routes[0].routeOptions()
-            }
-            routesObservers.forEach { it.onRoutesChanged(value) }
+            updateRoutes(value)
         }
 
     override fun getRouteOptions(): RouteOptions? = routeOptions
 
+    override fun refreshPrimaryRoute(refreshedRoute: DirectionsRoute) {
+        if (routes.isEmpty()) {
+            return
+        }
+        currentRoutes = routes.toMutableList().apply { set(0, refreshedRoute) }
+    }
+
     override fun cancel() {
         router.cancel()
     }
@@ -80,6 +84,30 @@ class MapboxDirectionsSession(
         })
     }
 
+    private fun updateRoutes(value: List<DirectionsRoute>) {
+        if (routes.isEmpty() && value.isEmpty()) {
+            return
+        }
+        currentRoutes = value.withDecodedPrimaryRoute()
+        if (!routes.isEmpty()) {
+            this.routeOptions = routes[0].routeOptions()
+        }
+        routesObservers.forEach { it.onRoutesChanged(currentRoutes) }
+    }
+
+    /**
+     * An alternative selected as the primary route is an outline, which is decoded fully here.
+     */
+    private fun List<DirectionsRoute>.withDecodedPrimaryRoute(): List<DirectionsRoute> {
+        val primaryRoute = firstOrNull() ?: return this
+        val decodedRoute = RouteAlternatives.decode(primaryRoute)
+        return if (decodedRoute === primaryRoute) {
+            this
+        } else {
+            toMutableList().apply { set(0, decodedRoute) }
+        }
+    }
+
     override fun registerRoutesObserver(routesObserver: RoutesObserver) {
         routesObservers.add(routesObserver)
         if (routes.isNotEmpty()) {
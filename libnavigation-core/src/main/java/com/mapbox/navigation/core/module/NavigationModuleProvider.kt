@@ -8,14 +8,61 @@ import com.mapbox.annotation.MODULE_CONFIGURATION_SKIPPED_PACKAGE
 import com.mapbox.annotation.MODULE_CONFIGURATION_SKIP_VARIABLE
 import com.mapbox.annotation.MODULE_PROVIDER_PACKAGE_NAVIGATION
 import com.mapbox.annotation.navigation.module.MapboxNavigationModuleType
+import com.mapbox.navigation.base.module.MODULE_FACTORY_CLASS_NAME_FORMAT
+import com.mapbox.navigation.base.module.MODULE_FACTORY_PACKAGE
+import com.mapbox.navigation.base.module.NavigationModuleFactory
 
 internal object NavigationModuleProvider {
 
+    /**
+     * Creates the module of the given type with its generated [NavigationModuleFactory],
+     * falling back to looking the module up reflectively if there's no such factory,
+     * like for custom modules built without the factory processor.
+     */
     fun <T> createModule(
         type: MapboxNavigationModuleType,
         // finding a constructor requires exact params types, not subclass/implementations,
         // that's why we need to pass the expected interface class as well
         paramsProvider: (MapboxNavigationModuleType) -> Array<Pair<Class<*>?, Any?>>
+    ): T {
+        val factory = findModuleFactory(type)
+            ?: return createModuleReflectively(type, paramsProvider)
+        try {
+            val params: Array<Any?> = if (factory.requiresParams()) {
+                paramsProvider.invoke(type).map { it.second }.toTypedArray()
+            } else {
+                emptyArray()
+            }
+            return factory.create(params) as T
+        } catch (ex: Exception) {
+            ex.printStackTrace()
+            throw MapboxInvalidModuleException(type)
+        }
+    }
+
+    /**
+     * @return the generated factory, null if there's none
+     * @throws MapboxInvalidModuleException if the factory can't be instantiated
+     */
+    private fun findModuleFactory(type: MapboxNavigationModuleType): NavigationModuleFactory? {
+        val factoryClass = try {
+            Class.forName(
+                "$MODULE_FACTORY_PACKAGE.${String.format(MODULE_FACTORY_CLASS_NAME_FORMAT, type.name)}"
+            )
+        } catch (ex: ClassNotFoundException) {
+            return null
+        }
+        try {
+            return factoryClass.getDeclaredConstructor().newInstance() as NavigationModuleFactory
+        } catch (ex: Exception) {
+            ex.printStackTrace()
+            throw MapboxInvalidModuleException(type)
+        }
+    }
+
+    private fun <T> createModuleReflectively(
+        type: MapboxNavigationModuleType,
+        paramsProvider: (MapboxNavigationModuleType) -> Array<Pair<Class<*>?, Any?>>
     ): T {
         try {
             val configurationClass = Class.forName(
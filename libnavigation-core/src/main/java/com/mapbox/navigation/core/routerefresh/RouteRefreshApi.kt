@@ -0,0 +1,47 @@
+package com.mapbox.navigation.core.routerefresh
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.api.directionsrefresh.v1.MapboxDirectionsRefresh
+import com.mapbox.api.directionsrefresh.v1.models.DirectionsRefreshResponse
+import retrofit2.Callback
+
+/**
+ * Requests updated leg annotations of a route from the Directions Refresh API.
+ *
+ * @param accessToken mapbox access token
+ */
+internal class RouteRefreshApi(private val accessToken: String) {
+
+    private var mapboxDirectionsRefresh: MapboxDirectionsRefresh? = null
+
+    /**
+     * Only routes coming from a directions request can be refreshed.
+     */
+    fun isRefreshable(route: DirectionsRoute): Boolean =
+        !route.routeOptions()?.requestUuid().isNullOrEmpty() && route.routeIndex() != null
+
+    /**
+     * The annotations of the response start at the given leg index.
+     */
+    fun refresh(
+        route: DirectionsRoute,
+        legIndex: Int,
+        callback: Callback<DirectionsRefreshResponse>
+    ) {
+        cancel()
+        val builder = MapboxDirectionsRefresh.builder()
+            .requestId(route.routeOptions()?.requestUuid())
+        route.routeIndex()?.let { routeIndex ->
+            builder.routeIndex(routeIndex.toInt())
+        }
+        mapboxDirectionsRefresh = builder.legIndex(legIndex)
+            .accessToken(accessToken)
+            .build()
+        mapboxDirectionsRefresh?.enqueueCall(callback)
+    }
+
+    fun cancel() {
+        mapboxDirectionsRefresh?.cancelCall()
+        mapboxDirectionsRefresh = null
+    }
+}
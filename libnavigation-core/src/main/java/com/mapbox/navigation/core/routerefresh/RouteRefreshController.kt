@@ -0,0 +1,200 @@
+package com.mapbox.navigation.core.routerefresh
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.api.directions.v5.models.LegAnnotation
+import com.mapbox.api.directions.v5.models.RouteLeg
+import com.mapbox.api.directionsrefresh.v1.models.DirectionsRefreshResponse
+import com.mapbox.navigation.core.directions.session.DirectionsSession
+import com.mapbox.navigation.core.directions.session.RoutesObserver
+import com.mapbox.navigation.core.trip.session.TripSession
+import com.mapbox.navigation.core.trip.session.TripSessionStateObserver
+import com.mapbox.navigation.utils.network.NetworkStatusService
+import com.mapbox.navigation.utils.thread.JobControl
+import com.mapbox.navigation.utils.thread.ThreadController
+import com.mapbox.navigation.utils.thread.monitorChannelWithException
+import kotlin.math.abs
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.launch
+import retrofit2.Call
+import retrofit2.Callback
+import retrofit2.Response
+
+private const val FIRST_LEG_INDEX = 0
+
+/**
+ * Keeps the annotations of the primary route up to date while it's being followed,
+ * that is while the [TripSession] is started.
+ *
+ * Refreshes are scheduled by the [RouteRefreshPolicy], skipped while the device is offline
+ * and made as soon as it's back online. The refreshed annotations are handed over to the
+ * [TripSession] and the [DirectionsSession] without setting a new route, the legs whose
+ * annotations didn't change being kept as they are.
+ */
+internal class RouteRefreshController(
+    private val routeRefreshApi: RouteRefreshApi,
+    private val directionsSession: DirectionsSession,
+    private val tripSession: TripSession,
+    private val policy: RouteRefreshPolicy,
+    private val networkStatusService: NetworkStatusService,
+    threadController: ThreadController = ThreadController
+) : RoutesObserver, TripSessionStateObserver {
+
+    private val mainJobController: JobControl = threadController.getMainScopeAndRootJob()
+    private var refreshJob: Job? = null
+    private var isOnline = true
+    private var isRefreshPending = false
+    private var isTripSessionStarted = false
+
+    init {
+        mainJobController.scope.monitorChannelWithException(
+            networkStatusService.getNetworkStatusChannel(),
+            { networkStatus -> onNetworkStatusChanged(networkStatus.isNetworkAvailable) }
+        )
+    }
+
+    override fun onRoutesChanged(routes: List<DirectionsRoute>) {
+        restartRefreshes(routes.firstOrNull())
+    }
+
+    override fun onSessionStarted() {
+        isTripSessionStarted = true
+        restartRefreshes(directionsSession.routes.firstOrNull())
+    }
+
+    override fun onSessionStopped() {
+        isTripSessionStarted = false
+        cancelRefresh()
+    }
+
+    fun stop() {
+        cancelRefresh()
+        mainJobController.job.cancel()
+        networkStatusService.cleanup()
+    }
+
+    private fun onNetworkStatusChanged(isNetworkAvailable: Boolean) {
+        isOnline = isNetworkAvailable
+        if (isOnline && isRefreshPending) {
+            refresh()
+        }
+    }
+
+    private fun restartRefreshes(primaryRoute: DirectionsRoute?) {
+        cancelRefresh()
+        policy.reset()
+        if (isTripSessionStarted && primaryRoute != null && routeRefreshApi.isRefreshable(primaryRoute)) {
+            scheduleRefresh(policy.nextRefreshDelay())
+        }
+    }
+
+    private fun scheduleRefresh(delayMillis: Long) {
+        refreshJob?.cancel()
+        refreshJob = mainJobController.scope.launch {
+            delay(delayMillis)
+            refresh()
+        }
+    }
+
+    private fun cancelRefresh() {
+        refreshJob?.cancel()
+        refreshJob = null
+        isRefreshPending = false
+        routeRefreshApi.cancel()
+    }
+
+    private fun refresh() {
+        val route = directionsSession.routes.firstOrNull() ?: return
+        if (!isOnline) {
+            isRefreshPending = true
+            return
+        }
+        isRefreshPending = false
+        val legIndex = tripSession.getRouteProgress()?.currentLegProgress()?.legIndex() ?: FIRST_LEG_INDEX
+        routeRefreshApi.refresh(route, legIndex, object : Callback<DirectionsRefreshResponse> {
+            override fun onResponse(
+                call: Call<DirectionsRefreshResponse>,
+                response: Response<DirectionsRefreshResponse>
+            ) {
+                val refreshedLegs = response.body()?.route()?.legs()
+                if (refreshedLegs == null) {
+                    onRefreshFailed()
+                    return
+                }
+                if (directionsSession.routes.firstOrNull() === route) {
+                    onRefreshed(route, refreshedLegs, legIndex)
+                }
+            }
+
+            override fun onFailure(call: Call<DirectionsRefreshResponse>, throwable: Throwable) {
+                if (!call.isCanceled) {
+                    onRefreshFailed()
+                }
+            }
+        })
+    }
+
+    private fun onRefreshFailed() {
+        policy.onFailure()
+        scheduleRefresh(policy.nextRefreshDelay())
+    }
+
+    private fun onRefreshed(route: DirectionsRoute, refreshedLegs: List<RouteLeg>, legIndex: Int) {
+        val legs = route.legs()?.toMutableList() ?: return
+        val changes = AnnotationChanges()
+        var hasChanged = false
+        for (i in legIndex until legs.size) {
+            val refreshedAnnotation = refreshedLegs.getOrNull(i - legIndex)?.annotation() ?: continue
+            val annotation = legs[i].annotation()
+            changes.add(annotation, refreshedAnnotation)
+            if (annotation != refreshedAnnotation) {
+                legs[i] = legs[i].toBuilder().annotation(refreshedAnnotation).build()
+                hasChanged = true
+            }
+        }
+        policy.onRefreshed(changes.congestionChangeRatio(), changes.durationDrift())
+        if (hasChanged) {
+            val refreshed = route.toBuilder().legs(legs).build()
+            tripSession.refreshRoute(refreshed)
+            directionsSession.refreshPrimaryRoute(refreshed)
+        }
+        scheduleRefresh(policy.nextRefreshDelay())
+    }
+
+    /**
+     * Accumulates how much the refreshed annotations differ from the current ones.
+     */
+    private class AnnotationChanges {
+
+        private var congestionCount = 0
+        private var changedCongestionCount = 0
+        private var duration = 0.0
+        private var refreshedDuration = 0.0
+
+        fun add(annotation: LegAnnotation?, refreshedAnnotation: LegAnnotation) {
+            val congestion = annotation?.congestion()
+            val refreshedCongestion = refreshedAnnotation.congestion()
+            if (congestion != null && refreshedCongestion != null) {
+                val count = minOf(congestion.size, refreshedCongestion.size)
+                for (i in 0 until count) {
+                    if (congestion[i] != refreshedCongestion[i]) {
+                        changedCongestionCount++
+                    }
+                }
+                congestionCount += count
+            }
+            val durations = annotation?.duration()
+            val refreshedDurations = refreshedAnnotation.duration()
+            if (durations != null && refreshedDurations != null) {
+                duration += durations.sum()
+                refreshedDuration += refreshedDurations.sum()
+            }
+        }
+
+        fun congestionChangeRatio(): Double =
+            if (congestionCount > 0) changedCongestionCount.toDouble() / congestionCount else 0.0
+
+        fun durationDrift(): Double =
+            if (duration > 0) abs(refreshedDuration - duration) / duration else 0.0
+    }
+}
@@ -0,0 +1,69 @@
+package com.mapbox.navigation.core.routerefresh
+
+import kotlin.math.min
+import kotlin.random.Random
+
+private const val VOLATILE_CONGESTION_RATIO = 0.2
+private const val STABLE_CONGESTION_RATIO = 0.05
+private const val HIGH_DURATION_DRIFT = 0.05
+private const val LOW_DURATION_DRIFT = 0.01
+private const val VOLATILE_INTERVAL_DIVISOR = 2
+private const val STABLE_INTERVAL_MULTIPLIER = 2
+private const val INITIAL_BACKOFF = 30_000L
+private const val MAX_BACKOFF_SHIFT = 10
+
+/**
+ * Picks the delay until the next refresh of the primary route based on how much the last
+ * refresh changed it.
+ *
+ * - A volatile route, whose congestion or duration changed significantly, is refreshed twice as often as [refreshInterval].
+ * - A stable route, which barely changed, is refreshed half as often.
+ * - After a failure, the refresh is retried with an exponential backoff starting at [INITIAL_BACKOFF],
+ * capped at [refreshInterval] and jittered so that clients which failed together don't retry together.
+ *
+ * @param refreshInterval base time in milliseconds between two refreshes
+ */
+internal class RouteRefreshPolicy(
+    private val refreshInterval: Long,
+    private val random: Random = Random.Default
+) {
+
+    private var interval = refreshInterval
+    private var failureCount = 0
+
+    /**
+     * @return the time in milliseconds until the next refresh
+     */
+    fun nextRefreshDelay(): Long {
+        if (failureCount == 0) {
+            return interval
+        }
+        val shift = min(failureCount - 1, MAX_BACKOFF_SHIFT)
+        val backoff = min(refreshInterval, INITIAL_BACKOFF shl shift)
+        return backoff / 2 + random.nextLong(backoff / 2 + 1)
+    }
+
+    /**
+     * @param congestionChangeRatio share of the refreshed congestion values which changed
+     * @param durationDrift relative change of the refreshed legs duration
+     */
+    fun onRefreshed(congestionChangeRatio: Double, durationDrift: Double) {
+        failureCount = 0
+        interval = when {
+            congestionChangeRatio >= VOLATILE_CONGESTION_RATIO || durationDrift >= HIGH_DURATION_DRIFT ->
+                refreshInterval / VOLATILE_INTERVAL_DIVISOR
+            congestionChangeRatio <= STABLE_CONGESTION_RATIO && durationDrift <= LOW_DURATION_DRIFT ->
+                refreshInterval * STABLE_INTERVAL_MULTIPLIER
+            else -> refreshInterval
+        }
+    }
+
+    fun onFailure() {
+        failureCount++
+    }
+
+    fun reset() {
+        interval = refreshInterval
+        failureCount = 0
+    }
+}
@@ -0,0 +1,181 @@
+package com.mapbox.navigation.core.trip.session
+
+import android.location.Location
+import com.mapbox.android.core.location.LocationEngineRequest
+import com.mapbox.navigation.base.trip.model.RouteProgress
+import com.mapbox.navigation.utils.time.Time
+import java.util.concurrent.TimeUnit
+
+private const val NEAR_MANEUVER_ENTER_DISTANCE = 500f
+private const val NEAR_MANEUVER_EXIT_DISTANCE = 800f
+private const val NEAR_MANEUVER_ENTER_SECONDS = 30f
+private const val NEAR_MANEUVER_EXIT_SECONDS = 45f
+private const val STATIONARY_ENTER_SPEED = 0.5f
+private const val STATIONARY_EXIT_SPEED = 2f
+private const val STATIONARY_ENTER_DURATION = 10_000L
+private const val MIN_DOWNGRADE_DWELL = 15_000L
+private const val CRUISE_INTERVAL_MULTIPLIER = 3
+private const val STATIONARY_INTERVAL_MULTIPLIER = 5
+private const val STATIONARY_DISPLACEMENT = 5f
+
+/**
+ * Picks the [LocationEngineRequest] that should be active based on the latest raw location
+ * and [RouteProgress].
+ *
+ * - [Mode.HIGH_RATE] uses the base request as is. It's used close to a maneuver and in free drive.
+ * - [Mode.CRUISE] uses a longer interval on long steps of an active route.
+ * - [Mode.STATIONARY] uses a much longer interval and lower accuracy when the device doesn't move.
+ *
+ * Switching to [Mode.HIGH_RATE] happens immediately, while switching to a lower rate mode requires
+ * the condition to hold for [MIN_DOWNGRADE_DWELL] so the location engine is not restarted on every tick.
+ * Enter and exit thresholds are different for the same reason.
+ *
+ * @param baseRequest high rate request provided by the user
+ */
+internal class AdaptiveLocationRequestPolicy(
+    private val baseRequest: LocationEngineRequest,
+    private val time: Time = Time.SystemImpl
+) {
+
+    enum class Mode {
+        HIGH_RATE,
+        CRUISE,
+        STATIONARY
+    }
+
+    var mode: Mode = Mode.HIGH_RATE
+        private set
+
+    private var speed = -1f
+    private var stepDistanceRemaining = -1f
+    private var isNearManeuver = false
+    private var slowSince = -1L
+    private var isStationary = false
+    private var candidate: Mode = Mode.HIGH_RATE
+    private var candidateSince = -1L
+
+    /**
+     * @return a new request to re-issue, null if the current one should be kept
+     */
+    fun onRawLocation(location: Location): LocationEngineRequest? {
+        speed = if (location.hasSpeed()) location.speed else -1f
+        updateStationary()
+        return evaluate()
+    }
+
+    /**
+     * @return a new request to re-issue, null if the current one should be kept
+     */
+    fun onRouteProgress(routeProgress: RouteProgress): LocationEngineRequest? {
+        stepDistanceRemaining = routeProgress.currentLegProgress()
+            ?.currentStepProgress()
+            ?.distanceRemaining()
+            ?: -1f
+        updateNearManeuver()
+        return evaluate()
+    }
+
+    /**
+     * Forgets the step of the previous route, the new route's progress or free drive deciding the mode from now on.
+     *
+     * @return a new request to re-issue, null if the current one should be kept
+     */
+    fun onRouteChanged(): LocationEngineRequest? {
+        stepDistanceRemaining = -1f
+        isNearManeuver = false
+        return evaluate()
+    }
+
+    fun reset() {
+        mode = Mode.HIGH_RATE
+        speed = -1f
+        stepDistanceRemaining = -1f
+        isNearManeuver = false
+        slowSince = -1L
+        isStationary = false
+        candidate = Mode.HIGH_RATE
+        candidateSince = -1L
+    }
+
+    fun requestFor(mode: Mode): LocationEngineRequest =
+        when (mode) {
+            Mode.HIGH_RATE -> baseRequest
+            Mode.CRUISE -> LocationEngineRequest.Builder(
+                baseRequest.interval * CRUISE_INTERVAL_MULTIPLIER
+            )
+                .setPriority(baseRequest.priority)
+                .setFastestInterval(baseRequest.fastestInterval)
+                .setDisplacement(baseRequest.displacement)
+                .build()
+            Mode.STATIONARY -> LocationEngineRequest.Builder(
+                baseRequest.interval * STATIONARY_INTERVAL_MULTIPLIER
+            )
+                .setPriority(LocationEngineRequest.PRIORITY_BALANCED_POWER_ACCURACY)
+                .setFastestInterval(baseRequest.interval)
+                .setDisplacement(maxOf(baseRequest.displacement, STATIONARY_DISPLACEMENT))
+                .build()
+        }
+
+    private fun updateStationary() {
+        val now = nowMillis()
+        when {
+            speed < 0f -> Unit
+            speed >= STATIONARY_EXIT_SPEED -> {
+                slowSince = -1L
+                isStationary = false
+            }
+            speed < STATIONARY_ENTER_SPEED -> {
+                if (slowSince < 0) {
+                    slowSince = now
+                }
+                if (now - slowSince >= STATIONARY_ENTER_DURATION) {
+                    isStationary = true
+                }
+            }
+            else -> slowSince = -1L
+        }
+    }
+
+    private fun updateNearManeuver() {
+        if (stepDistanceRemaining < 0f) {
+            isNearManeuver = false
+            return
+        }
+        val secondsToManeuver = if (speed > 0f) stepDistanceRemaining / speed else Float.MAX_VALUE
+        isNearManeuver = if (isNearManeuver) {
+            stepDistanceRemaining <= NEAR_MANEUVER_EXIT_DISTANCE ||
+                secondsToManeuver <= NEAR_MANEUVER_EXIT_SECONDS
+        } else {
+            stepDistanceRemaining <= NEAR_MANEUVER_ENTER_DISTANCE ||
+                secondsToManeuver <= NEAR_MANEUVER_ENTER_SECONDS
+        }
+    }
+
+    private fun evaluate(): LocationEngineRequest? {
+        val desired = when {
+            isNearManeuver -> Mode.HIGH_RATE
+            isStationary -> Mode.STATIONARY
+            stepDistanceRemaining >= 0f -> Mode.CRUISE
+            else -> Mode.HIGH_RATE
+        }
+        if (desired == mode) {
+            candidateSince = -1L
+            return null
+        }
+        val now = nowMillis()
+        if (desired.ordinal > mode.ordinal) {
+            if (desired != candidate || candidateSince < 0) {
+                candidate = desired
+                candidateSince = now
+            }
+            if (now - candidateSince < MIN_DOWNGRADE_DWELL) {
+                return null
+            }
+        }
+        mode = desired
+        candidateSince = -1L
+        return requestFor(desired)
+    }
+
+    private fun nowMillis() = TimeUnit.NANOSECONDS.toMillis(time.nanoTime())
+}
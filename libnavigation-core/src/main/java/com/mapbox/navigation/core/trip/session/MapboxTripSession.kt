@@ -33,15 +33,20 @@ class MapboxTripSession(
     override val locationEngineRequest: LocationEngineRequest,
     private val navigatorPollingDelay: Long,
     private val navigator: MapboxNativeNavigator = MapboxNativeNavigatorImpl,
-    threadController: ThreadController = ThreadController
+    private val threadController: ThreadController = ThreadController,
+    adaptiveLocationRequests: Boolean = false
 ) : TripSession {
 
     private val STATUS_POLLING_INTERVAL = 1000L
-    override var route: DirectionsRoute? = null
+    @Volatile
+    private var currentRoute: DirectionsRoute? = null
+    override var route: DirectionsRoute?
+        get() = currentRoute
         set(value) {
-            field = value
+            currentRoute = value
+            locationRequestPolicy?.onRouteChanged()?.let { reissueLocationRequest(it) }
             if (value != null) {
-                ioJobController.scope.launch {
+                updateNavigatorRoute {
                     navigator.setRoute(value)
                 }
             }
@@ -56,6 +61,13 @@ class MapboxTripSession(
     private val bannerInstructionsObservers = CopyOnWriteArrayList<BannerInstructionsObserver>()
     private val voiceInstructionsObservers = CopyOnWriteArrayList<VoiceInstructionsObserver>()
 
+    private val locationRequestPolicy: AdaptiveLocationRequestPolicy? =
+        if (adaptiveLocationRequests) {
+            AdaptiveLocationRequestPolicy(locationEngineRequest)
+        } else {
+            null
+        }
+
     private val bannerInstructionEvent = BannerInstructionEvent()
     private val voiceInstructionEvent = VoiceInstructionEvent()
 
@@ -90,6 +102,37 @@ class MapboxTripSession(
 
     override fun getRouteProgress() = routeProgress
 
+    override fun refreshRoute(refreshedRoute: DirectionsRoute) {
+        val currentLegs = currentRoute?.legs()
+        val refreshedLegs = refreshedRoute.legs()
+        if (currentLegs == null || refreshedLegs == null || currentLegs.size != refreshedLegs.size) {
+            route = refreshedRoute
+            return
+        }
+        currentRoute = refreshedRoute
+        updateNavigatorRoute {
+            // a route set since then replaces the refreshed one
+            if (currentRoute !== refreshedRoute) {
+                return@updateNavigatorRoute
+            }
+            for (legIndex in refreshedLegs.indices) {
+                if (refreshedLegs[legIndex] !== currentLegs[legIndex]) {
+                    navigator.refreshAnnotations(refreshedRoute, legIndex)
+                }
+            }
+        }
+    }
+
+    /**
+     * Hands a route over to the navigator on a single thread, so that route updates reach it
+     * in the order they were made.
+     */
+    private fun updateNavigatorRoute(update: () -> Unit) {
+        ioJobController.scope.launch(threadController.SerialIODispatcher) {
+            update()
+        }
+    }
+
     override fun start() {
         if (isStarted) {
             return
@@ -124,12 +167,26 @@ class MapboxTripSession(
         locationEngine.removeLocationUpdates(locationEngineCallback)
     }
 
+    private fun reissueLocationRequest(request: LocationEngineRequest) {
+        if (!isStarted) {
+            return
+        }
+        locationEngine.removeLocationUpdates(locationEngineCallback)
+        locationEngine.requestLocationUpdates(
+            request,
+            locationEngineCallback,
+            Looper.getMainLooper()
+        )
+    }
+
     private fun reset() {
-        route = null
+        // not through the setter, which would re-issue a location request while stopping
+        currentRoute = null
         rawLocation = null
         enhancedLocation = null
         routeProgress = null
         isOffRoute = false
+        locationRequestPolicy?.reset()
     }
 
     override fun registerLocationObserver(locationObserver: LocationObserver) {
@@ -247,6 +304,7 @@ class MapboxTripSession(
             fireOffStatusPolling()
         }
         this.rawLocation = rawLocation
+        locationRequestPolicy?.onRawLocation(rawLocation)?.let { reissueLocationRequest(it) }
     }
 
     private fun fireOffStatusPolling() {
@@ -287,6 +345,7 @@ class MapboxTripSession(
                 it.onNewVoiceInstructions(voiceInstruction)
             }
         }
+        locationRequestPolicy?.onRouteProgress(progress)?.let { reissueLocationRequest(it) }
     }
 
     private fun checkBannerInstructionEvent(
@@ -18,6 +18,12 @@ internal interface TripSession {
     fun getEnhancedLocation(): Location?
     fun getRouteProgress(): RouteProgress?
 
+    /**
+     * Replaces [route] with a refreshed version of it, which only differs by the annotations
+     * of the legs that aren't the same instances, without setting the whole route again.
+     */
+    fun refreshRoute(refreshedRoute: DirectionsRoute)
+
     fun start()
     fun stop()
 
@@ -0,0 +1,99 @@
+package com.mapbox.navigation.core
+
+import android.content.Context
+import android.text.Spanned
+import android.text.style.RelativeSizeSpan
+import android.text.style.StyleSpan
+import com.mapbox.navigation.base.typedef.IMPERIAL
+import com.mapbox.navigation.base.typedef.METRIC
+import com.mapbox.navigation.base.typedef.ROUNDING_INCREMENT_FIFTY
+import com.mapbox.navigation.trip.notification.R
+import io.mockk.every
+import io.mockk.mockk
+import java.util.Locale
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotSame
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+@RunWith(RobolectricTestRunner::class)
+class MapboxDistanceFormatterTest {
+
+    private val context: Context = mockk()
+
+    @Before
+    fun setup() {
+        every { context.getString(R.string.kilometers) } returns "km"
+        every { context.getString(R.string.meters) } returns "m"
+        every { context.getString(R.string.miles) } returns "mi"
+        every { context.getString(R.string.feet) } returns "ft"
+    }
+
+    @Test
+    fun formatDistance_smallDistanceIsRoundedByIncrement() {
+        val formatter = buildFormatter(METRIC)
+
+        assertEquals("100 m", formatter.formatDistance(109.73).toString())
+    }
+
+    @Test
+    fun formatDistance_mediumDistanceIsRoundedToOneDecimal() {
+        val formatter = buildFormatter(METRIC)
+
+        assertEquals("9.8 km", formatter.formatDistance(9812.33).toString())
+    }
+
+    @Test
+    fun formatDistance_largeDistanceIsRoundedToUnit() {
+        val formatter = buildFormatter(IMPERIAL)
+
+        assertEquals("11 mi", formatter.formatDistance(18124.65).toString())
+    }
+
+    @Test
+    fun formatDistance_halfwayDistanceIsRoundedLikeItsBucket() {
+        val formatter = buildFormatter(METRIC)
+
+        assertEquals("1.2 km", formatter.formatDistance(1250.0).toString())
+        assertEquals("1.4 km", formatter.formatDistance(1350.0).toString())
+        assertEquals("1.2 km", formatter.formatDistance(1249.0).toString())
+    }
+
+    @Test
+    fun formatDistance_sameBucketReturnsNewInstance() {
+        val formatter = buildFormatter(METRIC)
+        val distance = formatter.formatDistance(120.0)
+
+        distance.removeSpan(distance.getSpans(0, distance.length, StyleSpan::class.java)[0])
+        val otherDistance = formatter.formatDistance(140.0)
+
+        assertNotSame(distance, otherDistance)
+        assertEquals(distance.toString(), otherDistance.toString())
+        assertEquals(1, otherDistance.getSpans(0, otherDistance.length, StyleSpan::class.java).size)
+    }
+
+    @Test
+    fun formatDistance_numberIsBoldAndUnitIsShrunk() {
+        val formatter = buildFormatter(METRIC)
+
+        val distance = formatter.formatDistance(9812.33)
+
+        val numberSpans = distance.getSpans(0, "9.8".length, StyleSpan::class.java)
+        val unitSpans = distance.getSpans("9.8 ".length, distance.length, RelativeSizeSpan::class.java)
+        assertEquals(1, numberSpans.size)
+        assertEquals(1, unitSpans.size)
+        assertEquals(Spanned.SPAN_EXCLUSIVE_EXCLUSIVE, distance.getSpanFlags(numberSpans[0]))
+    }
+
+    @Test
+    fun formatDistanceText_matchesFormatDistance() {
+        val formatter = buildFormatter(IMPERIAL)
+
+        assertEquals(formatter.formatDistance(350.0).toString(), formatter.formatDistanceText(350.0))
+    }
+
+    private fun buildFormatter(unitType: String) =
+        MapboxDistanceFormatter(context, Locale.ENGLISH.language, unitType, ROUNDING_INCREMENT_FIFTY)
+}
@@ -19,10 +19,12 @@ import com.mapbox.navigation.core.directions.session.RoutesRequestCallback
 import com.mapbox.navigation.core.fasterroute.FasterRouteDetector
 import com.mapbox.navigation.core.fasterroute.FasterRouteObserver
 import com.mapbox.navigation.core.module.NavigationModuleProvider
+import com.mapbox.navigation.core.routerefresh.RouteRefreshController
 import com.mapbox.navigation.core.trip.service.TripService
 import com.mapbox.navigation.core.trip.session.TripSession
 import com.mapbox.navigation.utils.extensions.inferDeviceLocale
 import com.mapbox.navigation.utils.timer.MapboxTimer
+import io.mockk.clearMocks
 import io.mockk.every
 import io.mockk.mockk
 import io.mockk.mockkObject
@@ -58,6 +60,7 @@ class MapboxNavigationTest {
     private val routeOptions: RouteOptions = provideDefaultRouteOptionsBuilder().build()
     private val fasterRouteObserver: FasterRouteObserver = mockk(relaxUnitFun = true)
     private val mapboxTimer: MapboxTimer = mockk(relaxUnitFun = true)
+    private val routeRefreshController: RouteRefreshController = mockk(relaxUnitFun = true)
     private val routes: List<DirectionsRoute> = listOf(mockk())
     private val routeProgress: RouteProgress = mockk(relaxed = true)
 
@@ -95,6 +98,7 @@ class MapboxNavigationTest {
         mockTripService()
         mockTripSession()
         mockDirectionSession()
+        mockRouteRefreshController()
 
         val navigationOptions = NavigationOptions
             .Builder()
@@ -170,6 +174,38 @@ class MapboxNavigationTest {
         verify(exactly = 1) { tripSession.unregisterAllVoiceInstructionsObservers() }
     }
 
+    @Test
+    fun onDestroy_stops_RouteRefreshController() {
+        mapboxNavigation.onDestroy()
+
+        verify(exactly = 1) { routeRefreshController.stop() }
+    }
+
+    @Test
+    fun routeRefreshController_observes_DirectionSession() {
+        verify(exactly = 1) { directionsSession.registerRoutesObserver(routeRefreshController) }
+    }
+
+    @Test
+    fun routeRefreshController_observes_TripSessionState() {
+        verify(exactly = 1) { tripSession.registerStateObserver(routeRefreshController) }
+    }
+
+    @Test
+    fun routeRefreshController_notCreated_whenRouteRefreshDisabled() {
+        clearMocks(directionsSession, answers = false)
+
+        MapboxNavigation(
+            context,
+            accessToken,
+            NavigationOptions.Builder().enableRouteRefresh(false).build(),
+            locationEngine,
+            locationEngineRequest
+        )
+
+        verify(exactly = 0) { directionsSession.registerRoutesObserver(routeRefreshController) }
+    }
+
     @Test
     fun fasterRoute_timerStarted() {
         mapboxNavigation.registerFasterRouteObserver(fasterRouteObserver)
@@ -245,12 +281,25 @@ class MapboxNavigationTest {
         }
     }
 
+    private fun mockRouteRefreshController() {
+        every {
+            NavigationComponentProvider.createRouteRefreshController(
+                applicationContext,
+                accessToken,
+                directionsSession,
+                tripSession,
+                any()
+            )
+        } returns routeRefreshController
+    }
+
     private fun mockTripSession() {
         every {
             NavigationComponentProvider.createTripSession(
                 tripService,
                 locationEngine,
                 locationEngineRequest,
+                any(),
                 any()
             )
         } returns tripSession
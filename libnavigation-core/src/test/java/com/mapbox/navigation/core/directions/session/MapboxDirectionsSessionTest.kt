@@ -2,6 +2,7 @@ package com.mapbox.navigation.core.directions.session
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.api.directions.v5.models.RouteOptions
+import com.mapbox.navigation.base.route.RouteAlternatives
 import com.mapbox.navigation.base.route.Router
 import com.mapbox.navigation.core.NavigationComponentProvider
 import io.mockk.clearMocks
@@ -9,6 +10,7 @@ import io.mockk.every
 import io.mockk.mockk
 import io.mockk.mockkObject
 import io.mockk.slot
+import io.mockk.unmockkObject
 import io.mockk.verify
 import org.junit.Assert.assertEquals
 import org.junit.Assert.assertNull
@@ -135,6 +137,52 @@ class MapboxDirectionsSessionTest {
         verify(exactly = 1) { observer.onRoutesChanged(routes) }
     }
 
+    @Test
+    fun routeSetter_selectedAlternativeIsDecoded() {
+        val outline: DirectionsRoute = mockk()
+        val decodedRoute: DirectionsRoute = mockk()
+        every { decodedRoute.routeOptions() } returns routeOptions
+        mockkObject(RouteAlternatives)
+        every { RouteAlternatives.decode(any()) } answers { firstArg() }
+        every { RouteAlternatives.decode(outline) } returns decodedRoute
+        session.registerRoutesObserver(observer)
+
+        try {
+            session.routes = listOf(outline, routes[0])
+        } finally {
+            unmockkObject(RouteAlternatives)
+        }
+
+        assertEquals(listOf(decodedRoute, routes[0]), session.routes)
+        verify(exactly = 1) { observer.onRoutesChanged(listOf(decodedRoute, routes[0])) }
+    }
+
+    @Test
+    fun refreshPrimaryRoute() {
+        val alternativeRoute: DirectionsRoute = mockk()
+        val refreshedRoute: DirectionsRoute = mockk()
+        every { refreshedRoute.routeOptions() } returns routeOptions
+        session.registerRoutesObserver(observer)
+        session.routes = listOf(routes[0], alternativeRoute)
+        clearMocks(router)
+
+        session.refreshPrimaryRoute(refreshedRoute)
+
+        assertEquals(listOf(refreshedRoute, alternativeRoute), session.routes)
+        verify(exactly = 0) { router.cancel() }
+        verify(exactly = 0) { observer.onRoutesChanged(listOf(refreshedRoute, alternativeRoute)) }
+    }
+
+    @Test
+    fun refreshPrimaryRoute_noRoutes() {
+        session.registerRoutesObserver(observer)
+
+        session.refreshPrimaryRoute(mockk())
+
+        assertEquals(emptyList<DirectionsRoute>(), session.routes)
+        verify(exactly = 0) { observer.onRoutesChanged(any()) }
+    }
+
     @Test
     fun routeRequestClearsSession() {
         session.registerRoutesObserver(observer)
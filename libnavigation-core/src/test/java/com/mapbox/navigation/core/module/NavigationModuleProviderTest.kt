@@ -0,0 +1,47 @@
+package com.mapbox.navigation.core.module
+
+import com.mapbox.annotation.navigation.module.MapboxNavigationModuleType
+import com.mapbox.navigation.module.factory.MapboxLoggerModuleFactory
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertSame
+import org.junit.Test
+
+class NavigationModuleProviderTest {
+
+    @Test
+    fun generatedFactoryCreatesModuleWithoutParams() {
+        var paramsRequested = false
+
+        val module: Any = NavigationModuleProvider.createModule(MapboxNavigationModuleType.Logger) {
+            paramsRequested = true
+            arrayOf()
+        }
+
+        assertSame(MapboxLoggerModuleFactory.MODULE, module)
+        assertFalse(paramsRequested)
+    }
+
+    @Test
+    fun generatedFactoryCreatesModuleWithParams() {
+        val module: List<Any?> = NavigationModuleProvider.createModule(MapboxNavigationModuleType.TripService) {
+            arrayOf(String::class.java to "token", Int::class.java to 1)
+        }
+
+        assertEquals(listOf("token", 1), module)
+    }
+
+    @Test(expected = MapboxInvalidModuleException::class)
+    fun invalidFactoryThrowsInvalidModule() {
+        NavigationModuleProvider.createModule<Any>(MapboxNavigationModuleType.DirectionsSession) {
+            arrayOf()
+        }
+    }
+
+    @Test(expected = MapboxInvalidModuleException::class)
+    fun failingParamsThrowInvalidModule() {
+        NavigationModuleProvider.createModule<Any>(MapboxNavigationModuleType.TripService) {
+            throw IllegalStateException()
+        }
+    }
+}
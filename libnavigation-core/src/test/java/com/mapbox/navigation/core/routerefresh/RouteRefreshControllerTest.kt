@@ -0,0 +1,215 @@
+package com.mapbox.navigation.core.routerefresh
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.api.directions.v5.models.LegAnnotation
+import com.mapbox.api.directions.v5.models.RouteLeg
+import com.mapbox.api.directionsrefresh.v1.models.DirectionsRefreshResponse
+import com.mapbox.navigation.core.directions.session.DirectionsSession
+import com.mapbox.navigation.core.trip.session.TripSession
+import com.mapbox.navigation.testing.MainCoroutineRule
+import com.mapbox.navigation.utils.network.NetworkStatus
+import com.mapbox.navigation.utils.network.NetworkStatusService
+import com.mapbox.navigation.utils.thread.JobControl
+import com.mapbox.navigation.utils.thread.ThreadController
+import io.mockk.clearMocks
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.mockkObject
+import io.mockk.slot
+import io.mockk.unmockkObject
+import io.mockk.verify
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.channels.Channel
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertSame
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import retrofit2.Callback
+import retrofit2.Response
+
+@ExperimentalCoroutinesApi
+class RouteRefreshControllerTest {
+
+    @get:Rule
+    var coroutineRule = MainCoroutineRule()
+
+    private val refreshDelay = 1000L
+    private val routeRefreshApi: RouteRefreshApi = mockk(relaxUnitFun = true)
+    private val directionsSession: DirectionsSession = mockk(relaxUnitFun = true)
+    private val tripSession: TripSession = mockk(relaxUnitFun = true)
+    private val policy: RouteRefreshPolicy = mockk(relaxUnitFun = true)
+    private val networkStatusService: NetworkStatusService = mockk(relaxUnitFun = true)
+    private val networkStatusChannel = Channel<NetworkStatus>(Channel.CONFLATED)
+    private val callback = slot<Callback<DirectionsRefreshResponse>>()
+
+    private val parentJob = SupervisorJob()
+    private val testScope = CoroutineScope(parentJob + coroutineRule.testDispatcher)
+
+    private val firstLeg = buildLeg(listOf("low", "low"), listOf(10.0, 10.0))
+    private val secondLeg = buildLeg(listOf("low", "low"), listOf(10.0, 10.0))
+    private val route = DirectionsRoute.builder().legs(listOf(firstLeg, secondLeg)).build()
+
+    private lateinit var controller: RouteRefreshController
+
+    @Before
+    fun setUp() {
+        mockkObject(ThreadController)
+        every { ThreadController.getMainScopeAndRootJob() } returns JobControl(parentJob, testScope)
+        every { networkStatusService.getNetworkStatusChannel() } returns networkStatusChannel
+        every { routeRefreshApi.isRefreshable(any()) } returns true
+        every { routeRefreshApi.refresh(any(), any(), capture(callback)) } answers {}
+        every { directionsSession.routes } returns listOf(route)
+        every { tripSession.getRouteProgress() } returns null
+        every { policy.nextRefreshDelay() } returns refreshDelay
+
+        controller = RouteRefreshController(
+            routeRefreshApi,
+            directionsSession,
+            tripSession,
+            policy,
+            networkStatusService
+        )
+        controller.onSessionStarted()
+        clearMocks(policy, answers = false)
+    }
+
+    @After
+    fun cleanUp() {
+        parentJob.cancel()
+        unmockkObject(ThreadController)
+    }
+
+    @Test
+    fun newRouteSchedulesRefresh() {
+        controller.onRoutesChanged(listOf(route))
+        coroutineRule.testDispatcher.advanceTimeBy(refreshDelay)
+
+        verify(exactly = 1) { policy.reset() }
+        verify(exactly = 1) { routeRefreshApi.refresh(route, 0, any()) }
+    }
+
+    @Test
+    fun noRefreshBeforeDelay() {
+        controller.onRoutesChanged(listOf(route))
+        coroutineRule.testDispatcher.advanceTimeBy(refreshDelay - 1)
+
+        verify(exactly = 0) { routeRefreshApi.refresh(any(), any(), any()) }
+    }
+
+    @Test
+    fun notRefreshableRouteIsNotRefreshed() {
+        every { routeRefreshApi.isRefreshable(route) } returns false
+
+        controller.onRoutesChanged(listOf(route))
+        coroutineRule.testDispatcher.advanceTimeBy(refreshDelay)
+
+        verify(exactly = 0) { routeRefreshApi.refresh(any(), any(), any()) }
+    }
+
+    @Test
+    fun offlineRefreshWaitsForNetwork() {
+        networkStatusChannel.offer(NetworkStatus(false))
+        controller.onRoutesChanged(listOf(route))
+        coroutineRule.testDispatcher.advanceTimeBy(refreshDelay)
+
+        verify(exactly = 0) { routeRefreshApi.refresh(any(), any(), any()) }
+
+        networkStatusChannel.offer(NetworkStatus(true))
+
+        verify(exactly = 1) { routeRefreshApi.refresh(route, 0, any()) }
+    }
+
+    @Test
+    fun refreshedAnnotationsKeepUnchangedLegs() {
+        val refreshedRoute = slot<DirectionsRoute>()
+        every { tripSession.refreshRoute(capture(refreshedRoute)) } answers {}
+        controller.onRoutesChanged(listOf(route))
+        coroutineRule.testDispatcher.advanceTimeBy(refreshDelay)
+
+        val changedLeg = buildLeg(listOf("low", "heavy"), listOf(10.0, 20.0))
+        respondWith(listOf(secondLeg.toBuilder().build(), changedLeg), 0)
+
+        assertSame(firstLeg, refreshedRoute.captured.legs()!![0])
+        assertEquals(changedLeg.annotation(), refreshedRoute.captured.legs()!![1].annotation())
+        verify(exactly = 1) { policy.onRefreshed(0.25, 0.25) }
+        verify(exactly = 1) { directionsSession.refreshPrimaryRoute(refreshedRoute.captured) }
+    }
+
+    @Test
+    fun unchangedAnnotationsDontUpdateRoute() {
+        controller.onRoutesChanged(listOf(route))
+        coroutineRule.testDispatcher.advanceTimeBy(refreshDelay)
+
+        respondWith(listOf(firstLeg, secondLeg), 0)
+
+        verify(exactly = 1) { policy.onRefreshed(0.0, 0.0) }
+        verify(exactly = 0) { tripSession.refreshRoute(any()) }
+        verify(exactly = 0) { directionsSession.refreshPrimaryRoute(any()) }
+    }
+
+    @Test
+    fun noRefreshWhileTripSessionStopped() {
+        controller.onSessionStopped()
+
+        controller.onRoutesChanged(listOf(route))
+        coroutineRule.testDispatcher.advanceTimeBy(refreshDelay)
+
+        verify(exactly = 0) { routeRefreshApi.refresh(any(), any(), any()) }
+    }
+
+    @Test
+    fun stoppingTripSessionCancelsRefresh() {
+        controller.onRoutesChanged(listOf(route))
+
+        controller.onSessionStopped()
+        coroutineRule.testDispatcher.advanceTimeBy(refreshDelay)
+
+        verify(exactly = 0) { routeRefreshApi.refresh(any(), any(), any()) }
+    }
+
+    @Test
+    fun startingTripSessionSchedulesRefresh() {
+        controller.onSessionStopped()
+
+        controller.onSessionStarted()
+        coroutineRule.testDispatcher.advanceTimeBy(refreshDelay)
+
+        verify(exactly = 1) { routeRefreshApi.refresh(route, 0, any()) }
+    }
+
+    @Test
+    fun failedRefreshIsRetried() {
+        controller.onRoutesChanged(listOf(route))
+        coroutineRule.testDispatcher.advanceTimeBy(refreshDelay)
+
+        callback.captured.onResponse(mockk(), Response.success(null))
+        coroutineRule.testDispatcher.advanceTimeBy(refreshDelay)
+
+        verify(exactly = 1) { policy.onFailure() }
+        verify(exactly = 2) { routeRefreshApi.refresh(route, 0, any()) }
+    }
+
+    @Test
+    fun stopCleansUpNetworkStatusService() {
+        controller.stop()
+
+        verify(exactly = 1) { networkStatusService.cleanup() }
+        verify(exactly = 1) { routeRefreshApi.cancel() }
+    }
+
+    private fun respondWith(legs: List<RouteLeg>, legIndex: Int) {
+        val response: DirectionsRefreshResponse = mockk()
+        val responseRoute: DirectionsRoute = DirectionsRoute.builder().legs(legs.drop(legIndex)).build()
+        every { response.route() } returns responseRoute
+        callback.captured.onResponse(mockk(), Response.success(response))
+    }
+
+    private fun buildLeg(congestion: List<String>, duration: List<Double>): RouteLeg =
+        RouteLeg.builder()
+            .annotation(LegAnnotation.builder().congestion(congestion).duration(duration).build())
+            .build()
+}
@@ -0,0 +1,95 @@
+package com.mapbox.navigation.core.routerefresh
+
+import io.mockk.every
+import io.mockk.mockk
+import kotlin.random.Random
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class RouteRefreshPolicyTest {
+
+    private val refreshInterval = 300_000L
+    private val random: Random = mockk()
+    private val policy = RouteRefreshPolicy(refreshInterval, random)
+
+    @Test
+    fun initialDelayIsRefreshInterval() {
+        assertEquals(refreshInterval, policy.nextRefreshDelay())
+    }
+
+    @Test
+    fun volatileCongestionHalvesInterval() {
+        policy.onRefreshed(0.5, 0.0)
+
+        assertEquals(refreshInterval / 2, policy.nextRefreshDelay())
+    }
+
+    @Test
+    fun highDurationDriftHalvesInterval() {
+        policy.onRefreshed(0.0, 0.1)
+
+        assertEquals(refreshInterval / 2, policy.nextRefreshDelay())
+    }
+
+    @Test
+    fun stableRouteDoublesInterval() {
+        policy.onRefreshed(0.0, 0.0)
+
+        assertEquals(refreshInterval * 2, policy.nextRefreshDelay())
+    }
+
+    @Test
+    fun moderateChangesKeepInterval() {
+        policy.onRefreshed(0.1, 0.02)
+
+        assertEquals(refreshInterval, policy.nextRefreshDelay())
+    }
+
+    @Test
+    fun failuresBackOffExponentially() {
+        every { random.nextLong(any()) } answers { firstArg<Long>() - 1 }
+
+        policy.onFailure()
+        val firstDelay = policy.nextRefreshDelay()
+        policy.onFailure()
+        val secondDelay = policy.nextRefreshDelay()
+
+        assertEquals(30_000L, firstDelay)
+        assertEquals(60_000L, secondDelay)
+    }
+
+    @Test
+    fun failureBackoffIsJittered() {
+        every { random.nextLong(any()) } returns 0L
+
+        policy.onFailure()
+
+        assertEquals(15_000L, policy.nextRefreshDelay())
+    }
+
+    @Test
+    fun failureBackoffIsCappedAtRefreshInterval() {
+        every { random.nextLong(any()) } answers { firstArg<Long>() - 1 }
+
+        repeat(20) { policy.onFailure() }
+
+        assertTrue(policy.nextRefreshDelay() <= refreshInterval)
+    }
+
+    @Test
+    fun refreshResetsBackoff() {
+        policy.onFailure()
+        policy.onRefreshed(0.1, 0.02)
+
+        assertEquals(refreshInterval, policy.nextRefreshDelay())
+    }
+
+    @Test
+    fun resetRestoresRefreshInterval() {
+        policy.onRefreshed(0.5, 0.0)
+        policy.reset()
+
+        assertEquals(refreshInterval, policy.nextRefreshDelay())
+    }
+}
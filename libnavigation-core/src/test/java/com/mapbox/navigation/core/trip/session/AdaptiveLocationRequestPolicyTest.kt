@@ -0,0 +1,133 @@
+package com.mapbox.navigation.core.trip.session
+
+import android.location.Location
+import com.mapbox.android.core.location.LocationEngineRequest
+import com.mapbox.navigation.base.trip.model.RouteProgress
+import com.mapbox.navigation.utils.time.Time
+import io.mockk.every
+import io.mockk.mockk
+import java.util.concurrent.TimeUnit
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertSame
+import org.junit.Test
+
+class AdaptiveLocationRequestPolicyTest {
+
+    private var nowMillis = 0L
+    private val time = object : Time {
+        override fun nanoTime(): Long = TimeUnit.MILLISECONDS.toNanos(nowMillis)
+        override fun millis(): Long = nowMillis
+    }
+    private val baseRequest = LocationEngineRequest.Builder(1000L)
+        .setPriority(LocationEngineRequest.PRIORITY_HIGH_ACCURACY)
+        .build()
+    private val policy = AdaptiveLocationRequestPolicy(baseRequest, time)
+
+    @Test
+    fun whenLongStepThenCruiseAfterDwell() {
+        policy.onRawLocation(location(20f))
+
+        assertNull(policy.onRouteProgress(progress(5000f)))
+        nowMillis += 16_000L
+        val request = policy.onRouteProgress(progress(4700f))
+
+        assertEquals(AdaptiveLocationRequestPolicy.Mode.CRUISE, policy.mode)
+        assertEquals(3000L, request?.interval)
+    }
+
+    @Test
+    fun whenApproachingManeuverThenHighRateImmediately() {
+        enterCruise()
+
+        val request = policy.onRouteProgress(progress(400f))
+
+        assertEquals(AdaptiveLocationRequestPolicy.Mode.HIGH_RATE, policy.mode)
+        assertSame(baseRequest, request)
+    }
+
+    @Test
+    fun whenSlightlyOverEnterThresholdThenHighRateKept() {
+        enterCruise()
+        policy.onRouteProgress(progress(400f))
+        nowMillis += 20_000L
+
+        assertNull(policy.onRouteProgress(progress(700f)))
+        assertEquals(AdaptiveLocationRequestPolicy.Mode.HIGH_RATE, policy.mode)
+    }
+
+    @Test
+    fun whenStationaryThenLowPowerRequest() {
+        policy.onRouteProgress(progress(5000f))
+        policy.onRawLocation(location(0f))
+        nowMillis += 11_000L
+        policy.onRawLocation(location(0f))
+        nowMillis += 16_000L
+
+        val request = policy.onRawLocation(location(0f))
+
+        assertEquals(AdaptiveLocationRequestPolicy.Mode.STATIONARY, policy.mode)
+        assertEquals(LocationEngineRequest.PRIORITY_BALANCED_POWER_ACCURACY, request?.priority)
+    }
+
+    @Test
+    fun whenMovingAgainThenStationaryLeftImmediately() {
+        whenStationaryThenLowPowerRequest()
+
+        val request = policy.onRawLocation(location(10f))
+
+        assertEquals(AdaptiveLocationRequestPolicy.Mode.CRUISE, policy.mode)
+        assertEquals(3000L, request?.interval)
+    }
+
+    @Test
+    fun whenFreeDriveThenHighRateKept() {
+        policy.onRawLocation(location(20f))
+        nowMillis += 20_000L
+
+        assertNull(policy.onRawLocation(location(20f)))
+        assertEquals(AdaptiveLocationRequestPolicy.Mode.HIGH_RATE, policy.mode)
+    }
+
+    @Test
+    fun whenRouteClearedThenHighRateImmediately() {
+        enterCruise()
+
+        val request = policy.onRouteChanged()
+
+        assertEquals(AdaptiveLocationRequestPolicy.Mode.HIGH_RATE, policy.mode)
+        assertSame(baseRequest, request)
+    }
+
+    @Test
+    fun whenRouteClearedThenCruiseNotResumedWithoutProgress() {
+        enterCruise()
+        policy.onRouteChanged()
+        nowMillis += 20_000L
+
+        assertNull(policy.onRawLocation(location(20f)))
+        assertEquals(AdaptiveLocationRequestPolicy.Mode.HIGH_RATE, policy.mode)
+    }
+
+    private fun enterCruise() {
+        policy.onRawLocation(location(10f))
+        policy.onRouteProgress(progress(5000f))
+        nowMillis += 16_000L
+        policy.onRouteProgress(progress(4800f))
+    }
+
+    private fun location(speed: Float): Location {
+        val location = mockk<Location>()
+        every { location.hasSpeed() } returns true
+        every { location.speed } returns speed
+        return location
+    }
+
+    private fun progress(stepDistanceRemaining: Float): RouteProgress {
+        val progress = mockk<RouteProgress>()
+        every {
+            progress.currentLegProgress()?.currentStepProgress()?.distanceRemaining()
+        } returns stepDistanceRemaining
+        return progress
+    }
+}
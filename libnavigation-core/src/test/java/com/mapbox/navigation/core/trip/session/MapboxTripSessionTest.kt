@@ -8,6 +8,7 @@ import com.mapbox.android.core.location.LocationEngineRequest
 import com.mapbox.android.core.location.LocationEngineResult
 import com.mapbox.api.directions.v5.models.BannerInstructions
 import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.api.directions.v5.models.RouteLeg
 import com.mapbox.api.directions.v5.models.VoiceInstructions
 import com.mapbox.navigation.base.trip.model.RouteProgress
 import com.mapbox.navigation.core.trip.service.TripService
@@ -16,13 +17,16 @@ import com.mapbox.navigation.navigator.TripStatus
 import com.mapbox.navigation.testing.MainCoroutineRule
 import com.mapbox.navigation.utils.thread.JobControl
 import com.mapbox.navigation.utils.thread.ThreadController
+import com.mapbox.navigation.utils.time.Time
 import com.mapbox.navigator.NavigationStatus
+import io.mockk.clearMocks
 import io.mockk.every
 import io.mockk.mockk
 import io.mockk.mockkObject
 import io.mockk.slot
 import io.mockk.unmockkObject
 import io.mockk.verify
+import java.util.concurrent.TimeUnit
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.ExperimentalCoroutinesApi
 import kotlinx.coroutines.InternalCoroutinesApi
@@ -73,6 +77,7 @@ class MapboxTripSessionTest {
     fun setUp() {
         mockkObject(ThreadController)
         every { ThreadController.IODispatcher } returns coroutineRule.testDispatcher
+        every { ThreadController.SerialIODispatcher } returns coroutineRule.testDispatcher
         every { ThreadController.getIOScopeAndRootJob() } returns JobControl(parentJob, testScope)
         every { ThreadController.getMainScopeAndRootJob() } returns JobControl(parentJob, testScope)
 
@@ -132,6 +137,48 @@ class MapboxTripSessionTest {
         verify { locationEngine.removeLocationUpdates(locationCallbackSlot.captured) }
     }
 
+    @Test
+    fun stopSessionInCruiseMode() {
+        var nowMillis = 0L
+        mockkObject(Time.SystemImpl)
+        every { Time.SystemImpl.nanoTime() } answers { TimeUnit.MILLISECONDS.toNanos(nowMillis) }
+        every { locationEngineRequest.interval } returns 1000L
+        every { locationEngineRequest.fastestInterval } returns 500L
+        every { locationEngineRequest.priority } returns LocationEngineRequest.PRIORITY_HIGH_ACCURACY
+        every { locationEngineRequest.displacement } returns 0f
+        every { location.hasSpeed() } returns false
+        every {
+            routeProgress.currentLegProgress()?.currentStepProgress()?.distanceRemaining()
+        } returns 5000f
+        tripSession = MapboxTripSession(
+            tripService,
+            locationEngine,
+            locationEngineRequest,
+            navigatorPollingDelay,
+            navigator,
+            ThreadController,
+            adaptiveLocationRequests = true
+        )
+        tripSession.route = route
+        tripSession.start()
+        locationCallbackSlot.captured.onSuccess(locationEngineResult)
+        nowMillis += 20_000L
+        locationCallbackSlot.captured.onSuccess(locationEngineResult)
+        verify {
+            locationEngine.requestLocationUpdates(
+                match { it.interval == 3000L },
+                any(),
+                any()
+            )
+        }
+        clearMocks(locationEngine, answers = false)
+
+        tripSession.stop()
+
+        verify { locationEngine.removeLocationUpdates(locationCallbackSlot.captured) }
+        verify(exactly = 0) { locationEngine.requestLocationUpdates(any(), any(), any()) }
+    }
+
     @Test
     fun locationObserverSuccess() = coroutineRule.runBlockingTest {
         tripSession.start()
@@ -343,6 +390,65 @@ class MapboxTripSessionTest {
         verify { navigator.setRoute(route) }
     }
 
+    @Test
+    fun setSameRouteTwice() {
+        tripSession.route = route
+        tripSession.route = route
+
+        verify(exactly = 2) { navigator.setRoute(route) }
+    }
+
+    @Test
+    fun setRefreshedRoute() {
+        val currentRoute: DirectionsRoute = mockk()
+        val refreshedRoute: DirectionsRoute = mockk()
+        every { currentRoute.legs() } returns listOf(mockk())
+        every { refreshedRoute.legs() } returns listOf(mockk())
+        every { navigator.refreshAnnotations(any(), any(), any()) } returns true
+        tripSession.route = currentRoute
+        tripSession.refreshRoute(refreshedRoute)
+
+        tripSession.route = refreshedRoute
+
+        verify(exactly = 1) { navigator.setRoute(refreshedRoute) }
+    }
+
+    @Test
+    fun refreshRoute_replacedRouteIsNotRefreshed() {
+        val currentRoute: DirectionsRoute = mockk()
+        val refreshedRoute: DirectionsRoute = mockk()
+        val newRoute: DirectionsRoute = mockk()
+        every { currentRoute.legs() } returns listOf(mockk())
+        every { refreshedRoute.legs() } returns listOf(mockk())
+        tripSession.route = currentRoute
+        coroutineRule.testDispatcher.pauseDispatcher()
+
+        tripSession.refreshRoute(refreshedRoute)
+        tripSession.route = newRoute
+        coroutineRule.testDispatcher.resumeDispatcher()
+
+        verify(exactly = 0) { navigator.refreshAnnotations(any(), any(), any()) }
+        verify(exactly = 1) { navigator.setRoute(newRoute) }
+    }
+
+    @Test
+    fun refreshRoute() {
+        val unchangedLeg: RouteLeg = mockk()
+        val currentRoute: DirectionsRoute = mockk()
+        val refreshedRoute: DirectionsRoute = mockk()
+        every { currentRoute.legs() } returns listOf(unchangedLeg, mockk())
+        every { refreshedRoute.legs() } returns listOf(unchangedLeg, mockk())
+        every { navigator.refreshAnnotations(any(), any(), any()) } returns true
+        tripSession.route = currentRoute
+
+        tripSession.refreshRoute(refreshedRoute)
+
+        assertEquals(refreshedRoute, tripSession.route)
+        verify(exactly = 0) { navigator.setRoute(refreshedRoute) }
+        verify(exactly = 0) { navigator.refreshAnnotations(refreshedRoute, 0, any()) }
+        verify(exactly = 1) { navigator.refreshAnnotations(refreshedRoute, 1, any()) }
+    }
+
     @Test
     fun unregisterAllLocationObservers() = coroutineRule.runBlockingTest {
         every { routeProgress.bannerInstructions() } returns null
@@ -497,6 +603,7 @@ class MapboxTripSessionTest {
     @After
     fun cleanUp() {
         unmockkObject(ThreadController)
+        unmockkObject(Time.SystemImpl)
     }
 
     private suspend fun updateLocationAndJoin() {
@@ -0,0 +1,24 @@
+package com.mapbox.navigation.module.factory
+
+import com.mapbox.navigation.base.module.NavigationModuleFactory
+
+class MapboxLoggerModuleFactory : NavigationModuleFactory {
+
+    companion object {
+        val MODULE = Any()
+    }
+
+    override fun requiresParams() = false
+
+    override fun create(params: Array<Any?>): Any = MODULE
+}
+
+class MapboxTripServiceModuleFactory : NavigationModuleFactory {
+
+    override fun requiresParams() = true
+
+    override fun create(params: Array<Any?>): Any = params.toList()
+}
+
+// not a NavigationModuleFactory
+class MapboxDirectionsSessionModuleFactory
@@ -0,0 +1,234 @@
+package com.mapbox.navigation.module.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates a NavigationModuleFactory for each class annotated with
+ * {@code @MapboxNavigationModule(skipConfiguration = true)}, so that the module can be created
+ * with a direct constructor call instead of being looked up and instantiated reflectively.
+ * <p>
+ * Modules which are configured at runtime through a module provider are left out.
+ */
+@SupportedAnnotationTypes(NavigationModuleFactoryProcessor.MODULE_ANNOTATION)
+public class NavigationModuleFactoryProcessor extends AbstractProcessor {
+
+  static final String MODULE_ANNOTATION = "com.mapbox.annotation.navigation.module.MapboxNavigationModule";
+  // has to match the constants of com.mapbox.navigation.base.module.NavigationModuleFactory
+  static final String FACTORY_PACKAGE = "com.mapbox.navigation.module.factory";
+  static final String FACTORY_CLASS_NAME_FORMAT = "Mapbox%sModuleFactory";
+  private static final String FACTORY_INTERFACE = "com.mapbox.navigation.base.module.NavigationModuleFactory";
+  private static final String MODULE_TYPE_CLASS_NAME = "MapboxNavigationModuleType";
+  private static final String SKIP_CONFIGURATION = "skipConfiguration";
+  private static final String INSTANCE_FIELD = "INSTANCE";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (TypeElement annotation : annotations) {
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        if (element.getKind() != ElementKind.CLASS) {
+          continue;
+        }
+        AnnotationMirror moduleAnnotation = findModuleAnnotation(element);
+        if (moduleAnnotation == null || !isConfigurationSkipped(moduleAnnotation)) {
+          continue;
+        }
+        String moduleType = findModuleType(moduleAnnotation);
+        if (moduleType == null) {
+          continue;
+        }
+        try {
+          writeFactory((TypeElement) element, moduleType);
+        } catch (IOException exception) {
+          processingEnv.getMessager().printMessage(
+            Diagnostic.Kind.ERROR, "Unable to generate a module factory: " + exception.getMessage(), element
+          );
+        }
+      }
+    }
+    // the configuration classes are generated from the same annotation by another processor
+    return false;
+  }
+
+  private AnnotationMirror findModuleAnnotation(Element element) {
+    for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      TypeElement annotationElement = (TypeElement) mirror.getAnnotationType().asElement();
+      if (annotationElement.getQualifiedName().contentEquals(MODULE_ANNOTATION)) {
+        return mirror;
+      }
+    }
+    return null;
+  }
+
+  private boolean isConfigurationSkipped(AnnotationMirror mirror) {
+    Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+      processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+      if (entry.getKey().getSimpleName().contentEquals(SKIP_CONFIGURATION)) {
+        return Boolean.TRUE.equals(entry.getValue().getValue());
+      }
+    }
+    return false;
+  }
+
+  private String findModuleType(AnnotationMirror mirror) {
+    for (AnnotationValue value : mirror.getElementValues().values()) {
+      if (value.getValue() instanceof VariableElement) {
+        VariableElement constant = (VariableElement) value.getValue();
+        if (constant.getEnclosingElement().getSimpleName().contentEquals(MODULE_TYPE_CLASS_NAME)) {
+          return constant.getSimpleName().toString();
+        }
+      }
+    }
+    return null;
+  }
+
+  private void writeFactory(TypeElement module, String moduleType) throws IOException {
+    String factoryName = String.format(FACTORY_CLASS_NAME_FORMAT, moduleType);
+    String moduleName = module.getQualifiedName().toString();
+    List<ExecutableElement> constructors = findPublicConstructors(module);
+    boolean hasNoArgConstructor = false;
+    for (ExecutableElement constructor : constructors) {
+      hasNoArgConstructor |= constructor.getParameters().isEmpty();
+    }
+    if (!hasNoArgConstructor && hasConstructorsOfSameArity(constructors)) {
+      return;
+    }
+
+    StringBuilder source = new StringBuilder()
+      .append("package ").append(FACTORY_PACKAGE).append(";\n\n")
+      .append("/**\n")
+      .append(" * Creates {@link ").append(moduleName).append("}.\n")
+      .append(" * Generated by ").append(getClass().getSimpleName()).append(", do not modify.\n")
+      .append(" */\n")
+      .append("@SuppressWarnings(\"unchecked\")\n")
+      .append("public final class ").append(factoryName).append(" implements ").append(FACTORY_INTERFACE)
+      .append(" {\n\n");
+
+    if (hasNoArgConstructor) {
+      appendRequiresParams(source, false);
+      appendCreateHeader(source);
+      source.append("    return new ").append(moduleName).append("();\n");
+    } else if (constructors.isEmpty() && hasInstanceField(module)) {
+      appendRequiresParams(source, false);
+      appendCreateHeader(source);
+      source.append("    return ").append(moduleName).append('.').append(INSTANCE_FIELD).append(";\n");
+    } else {
+      appendRequiresParams(source, true);
+      appendCreateHeader(source);
+      source.append("    switch (params.length) {\n");
+      for (ExecutableElement constructor : constructors) {
+        appendConstructorCall(source, moduleName, constructor);
+      }
+      source.append("      default:\n")
+        .append("        throw new IllegalArgumentException(\"")
+        .append(moduleName).append(" has no public constructor with \" + params.length + \" parameters\");\n")
+        .append("    }\n");
+    }
+    source.append("  }\n}\n");
+
+    JavaFileObject file = processingEnv.getFiler().createSourceFile(FACTORY_PACKAGE + "." + factoryName, module);
+    try (Writer writer = file.openWriter()) {
+      writer.write(source.toString());
+    }
+  }
+
+  private List<ExecutableElement> findPublicConstructors(TypeElement module) {
+    List<ExecutableElement> constructors = new ArrayList<>();
+    for (ExecutableElement constructor : ElementFilter.constructorsIn(module.getEnclosedElements())) {
+      if (constructor.getModifiers().contains(Modifier.PUBLIC)) {
+        constructors.add(constructor);
+      }
+    }
+    return constructors;
+  }
+
+  /**
+   * The generated factory picks the constructor from the number of params only,
+   * the types of the params being unknown until runtime.
+   */
+  private boolean hasConstructorsOfSameArity(List<ExecutableElement> constructors) {
+    Set<Integer> arities = new HashSet<>();
+    for (ExecutableElement constructor : constructors) {
+      if (!arities.add(constructor.getParameters().size())) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "Unable to generate a module factory, modules can't have several public constructors with "
+            + constructor.getParameters().size() + " parameters", constructor);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean hasInstanceField(TypeElement module) {
+    for (VariableElement field : ElementFilter.fieldsIn(module.getEnclosedElements())) {
+      if (field.getSimpleName().contentEquals(INSTANCE_FIELD)
+        && field.getModifiers().contains(Modifier.PUBLIC)
+        && field.getModifiers().contains(Modifier.STATIC)
+        && processingEnv.getTypeUtils().isSameType(field.asType(), module.asType())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void appendRequiresParams(StringBuilder source, boolean requiresParams) {
+    source.append("  @Override\n")
+      .append("  public boolean requiresParams() {\n")
+      .append("    return ").append(requiresParams).append(";\n")
+      .append("  }\n\n");
+  }
+
+  private void appendCreateHeader(StringBuilder source) {
+    source.append("  @Override\n")
+      .append("  public Object create(Object[] params) {\n");
+  }
+
+  private void appendConstructorCall(StringBuilder source, String moduleName, ExecutableElement constructor) {
+    List<? extends VariableElement> parameters = constructor.getParameters();
+    source.append("      case ").append(parameters.size()).append(":\n")
+      .append("        return new ").append(moduleName).append('(');
+    for (int i = 0; i < parameters.size(); i++) {
+      if (i > 0) {
+        source.append(", ");
+      }
+      source.append('(').append(castType(parameters.get(i).asType())).append(") params[").append(i).append(']');
+    }
+    source.append(");\n");
+  }
+
+  private String castType(TypeMirror type) {
+    if (type.getKind().isPrimitive()) {
+      return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+    }
+    return processingEnv.getTypeUtils().erasure(type).toString();
+  }
+}
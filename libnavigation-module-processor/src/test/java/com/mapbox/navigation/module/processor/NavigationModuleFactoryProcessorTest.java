@@ -0,0 +1,137 @@
+package com.mapbox.navigation.module.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import static org.junit.Assert.assertTrue;
+
+public class NavigationModuleFactoryProcessorTest {
+
+  private static final String FACTORY_NAME = "com.mapbox.navigation.module.factory.MapboxLoggerModuleFactory";
+  private static final JavaFileObject MODULE_ANNOTATION = JavaFileObjects.forSourceLines(
+    "com.mapbox.annotation.navigation.module.MapboxNavigationModule",
+    "package com.mapbox.annotation.navigation.module;",
+    "public @interface MapboxNavigationModule {",
+    "  MapboxNavigationModuleType value();",
+    "  boolean skipConfiguration() default false;",
+    "}"
+  );
+  private static final JavaFileObject MODULE_TYPE = JavaFileObjects.forSourceLines(
+    "com.mapbox.annotation.navigation.module.MapboxNavigationModuleType",
+    "package com.mapbox.annotation.navigation.module;",
+    "public enum MapboxNavigationModuleType { Logger }"
+  );
+  private static final JavaFileObject FACTORY_INTERFACE = JavaFileObjects.forSourceLines(
+    "com.mapbox.navigation.base.module.NavigationModuleFactory",
+    "package com.mapbox.navigation.base.module;",
+    "public interface NavigationModuleFactory {",
+    "  boolean requiresParams();",
+    "  Object create(Object[] params);",
+    "}"
+  );
+
+  @Test
+  public void noArgConstructor_factoryCallsIt() {
+    Compilation compilation = compile(
+      "@MapboxNavigationModule(value = MapboxNavigationModuleType.Logger, skipConfiguration = true)",
+      "public class Module {",
+      "  public Module() {",
+      "  }",
+      "  public Module(String name) {",
+      "  }",
+      "}"
+    );
+
+    assertThat(compilation).succeeded();
+    assertThat(compilation).generatedSourceFile(FACTORY_NAME).contentsAsUtf8String()
+      .contains("return new test.Module();");
+    assertThat(compilation).generatedSourceFile(FACTORY_NAME).contentsAsUtf8String()
+      .contains("return false;");
+  }
+
+  @Test
+  public void singleton_factoryReturnsInstance() {
+    Compilation compilation = compile(
+      "@MapboxNavigationModule(value = MapboxNavigationModuleType.Logger, skipConfiguration = true)",
+      "public final class Module {",
+      "  public static final Module INSTANCE = new Module();",
+      "  private Module() {",
+      "  }",
+      "}"
+    );
+
+    assertThat(compilation).succeeded();
+    assertThat(compilation).generatedSourceFile(FACTORY_NAME).contentsAsUtf8String()
+      .contains("return test.Module.INSTANCE;");
+  }
+
+  @Test
+  public void multiArgConstructor_factoryCastsParams() {
+    Compilation compilation = compile(
+      "@MapboxNavigationModule(value = MapboxNavigationModuleType.Logger, skipConfiguration = true)",
+      "public class Module {",
+      "  public Module(String name) {",
+      "  }",
+      "  public Module(String name, int count, java.util.List<String> values) {",
+      "  }",
+      "}"
+    );
+
+    assertThat(compilation).succeeded();
+    assertThat(compilation).generatedSourceFile(FACTORY_NAME).contentsAsUtf8String()
+      .contains("return true;");
+    assertThat(compilation).generatedSourceFile(FACTORY_NAME).contentsAsUtf8String()
+      .contains("case 1:\n        return new test.Module((java.lang.String) params[0]);");
+    assertThat(compilation).generatedSourceFile(FACTORY_NAME).contentsAsUtf8String()
+      .contains("case 3:\n        return new test.Module((java.lang.String) params[0], "
+        + "(java.lang.Integer) params[1], (java.util.List) params[2]);");
+  }
+
+  @Test
+  public void configuredModule_noFactoryIsGenerated() {
+    Compilation compilation = compile(
+      "@MapboxNavigationModule(value = MapboxNavigationModuleType.Logger, skipConfiguration = false)",
+      "public class Module {",
+      "  public Module() {",
+      "  }",
+      "}"
+    );
+
+    assertThat(compilation).succeeded();
+    assertTrue(compilation.generatedSourceFiles().isEmpty());
+  }
+
+  @Test
+  public void constructorsOfSameArity_errorIsReported() {
+    Compilation compilation = compile(
+      "@MapboxNavigationModule(value = MapboxNavigationModuleType.Logger, skipConfiguration = true)",
+      "public class Module {",
+      "  public Module(String name) {",
+      "  }",
+      "  public Module(Integer count) {",
+      "  }",
+      "}"
+    );
+
+    assertThat(compilation).failed();
+    assertThat(compilation).hadErrorContaining("several public constructors with 1 parameters");
+  }
+
+  private Compilation compile(String... moduleLines) {
+    String[] lines = new String[moduleLines.length + 3];
+    lines[0] = "package test;";
+    lines[1] = "import com.mapbox.annotation.navigation.module.MapboxNavigationModule;";
+    lines[2] = "import com.mapbox.annotation.navigation.module.MapboxNavigationModuleType;";
+    System.arraycopy(moduleLines, 0, lines, 3, moduleLines.length);
+    JavaFileObject module = JavaFileObjects.forSourceLines("test.Module", lines);
+    return javac()
+      .withProcessors(new NavigationModuleFactoryProcessor())
+      .compile(MODULE_ANNOTATION, MODULE_TYPE, FACTORY_INTERFACE, module);
+  }
+}
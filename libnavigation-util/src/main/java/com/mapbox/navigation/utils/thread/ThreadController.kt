@@ -61,6 +61,12 @@ object ThreadController {
     val IODispatcher: CoroutineDispatcher =
             Executors.newFixedThreadPool(maxCoresUsed).asCoroutineDispatcher()
 
+    /**
+     * Runs coroutines one at a time, in the order they were dispatched, off the main thread.
+     */
+    val SerialIODispatcher: CoroutineDispatcher =
+            Executors.newSingleThreadExecutor().asCoroutineDispatcher()
+
     private var ioRootJob = SupervisorJob()
     private var mainRootJob = SupervisorJob()
 
@@ -35,6 +35,11 @@ interface MapboxNativeNavigator {
     ): NavigationStatus
 
     fun updateAnnotations(legAnnotationJson: String, routeIndex: Int, legIndex: Int): Boolean
+    fun refreshAnnotations(
+        route: DirectionsRoute,
+        legIndex: Int,
+        routeIndex: Int = INDEX_FIRST_ROUTE
+    ): Boolean
     fun getBannerInstruction(index: Int): BannerInstruction?
     fun getRouteGeometryWithBuffer(
         gridSize: Float = GRID_SIZE,
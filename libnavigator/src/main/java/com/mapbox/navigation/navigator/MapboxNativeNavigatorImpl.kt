@@ -13,6 +13,7 @@ import com.mapbox.geojson.Point
 import com.mapbox.geojson.gson.GeometryGeoJson
 import com.mapbox.geojson.utils.PolylineUtils
 import com.mapbox.navigation.base.extensions.ifNonNull
+import com.mapbox.navigation.base.route.internal.DirectionsRouteJson
 import com.mapbox.navigation.base.trip.model.RouteLegProgress
 import com.mapbox.navigation.base.trip.model.RouteProgress
 import com.mapbox.navigation.base.trip.model.RouteProgressState
@@ -72,7 +73,7 @@ object MapboxNativeNavigatorImpl : MapboxNativeNavigator {
         legIndex: Int
     ): NavigationStatus {
         this.route = route
-        val result = navigator.setRoute(route.toJson(), routeIndex, legIndex)
+        val result = navigator.setRoute(DirectionsRouteJson.toJson(route), routeIndex, legIndex)
         navigator.getRouteBufferGeoJson(GRID_SIZE, BUFFER_DILATION)?.also {
             routeBufferGeoJson = GeometryGeoJson.fromJson(it)
         }
@@ -85,6 +86,16 @@ object MapboxNativeNavigatorImpl : MapboxNativeNavigator {
         legIndex: Int
     ): Boolean = navigator.updateAnnotations(legAnnotationJson, routeIndex, legIndex)
 
+    override fun refreshAnnotations(
+        route: DirectionsRoute,
+        legIndex: Int,
+        routeIndex: Int
+    ): Boolean {
+        this.route = route
+        val legAnnotationJson = route.legs()?.getOrNull(legIndex)?.annotation()?.toJson() ?: return false
+        return navigator.updateAnnotations(legAnnotationJson, routeIndex, legIndex)
+    }
+
     override fun getBannerInstruction(index: Int): BannerInstruction? =
         navigator.getBannerInstruction(index)
 
@@ -19,9 +19,9 @@ import androidx.core.app.NotificationCompat
 import androidx.core.content.ContextCompat
 import com.mapbox.annotation.navigation.module.MapboxNavigationModule
 import com.mapbox.annotation.navigation.module.MapboxNavigationModuleType
-import com.mapbox.api.directions.v5.models.BannerInstructions
 import com.mapbox.api.directions.v5.models.LegStep
 import com.mapbox.navigation.base.formatter.DistanceFormatter
+import com.mapbox.navigation.base.formatter.DistanceTextFormatter
 import com.mapbox.navigation.base.options.NavigationOptions
 import com.mapbox.navigation.base.trip.TripNotification
 import com.mapbox.navigation.base.trip.model.RouteProgress
@@ -32,11 +32,18 @@ import com.mapbox.navigation.utils.NOTIFICATION_CHANNEL
 import com.mapbox.navigation.utils.NOTIFICATION_ID
 import com.mapbox.navigation.utils.SET_BACKGROUND_COLOR
 import com.mapbox.navigation.utils.extensions.ifNonNull
+import com.mapbox.navigation.utils.thread.JobControl
+import com.mapbox.navigation.utils.thread.ThreadController
 import com.mapbox.navigation.utils.thread.ifChannelException
+import com.mapbox.navigation.utils.time.Time
 import java.util.Calendar
+import java.util.concurrent.TimeUnit
+import kotlinx.coroutines.Job
 import kotlinx.coroutines.channels.Channel
 import kotlinx.coroutines.channels.ClosedReceiveChannelException
 import kotlinx.coroutines.channels.ClosedSendChannelException
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.launch
 
 /**
  * Default implementation of [TripNotification] interface
@@ -44,20 +51,35 @@ import kotlinx.coroutines.channels.ClosedSendChannelException
  * @param applicationContext is [Context]
  * @param navigationOptions is [NavigationOptions] used here to format
  * distance and time
+ * @param time clock the notification updates are throttled with
  */
 @MapboxNavigationModule(MapboxNavigationModuleType.TripNotification, skipConfiguration = true)
-class MapboxTripNotification constructor(
+class MapboxTripNotification internal constructor(
     private val applicationContext: Context,
-    private val navigationOptions: NavigationOptions
+    private val navigationOptions: NavigationOptions,
+    private val time: Time
 ) : TripNotification {
 
+    /**
+     * @param applicationContext is [Context]
+     * @param navigationOptions is [NavigationOptions] used here to format
+     * distance and time
+     */
+    constructor(
+        applicationContext: Context,
+        navigationOptions: NavigationOptions
+    ) : this(applicationContext, navigationOptions, Time.SystemImpl)
+
     companion object {
         var notificationActionButtonChannel = Channel<NotificationAction>(1)
     }
 
-    private var currentManeuverId = 0
-    private var currentInstructionText: String? = null
-    private var currentDistanceText: SpannableString? = null
+    private var currentViewModel: NotificationViewModel? = null
+    private var lastUpdateTime = 0L
+    private var throttledViewModel: NotificationViewModel? = null
+    private var throttledUpdateJob: Job? = null
+    private val mainJobController: JobControl = ThreadController.getMainScopeAndRootJob()
+    private val notificationUpdateInterval = navigationOptions.notificationUpdateInterval
     private var collapsedNotificationRemoteViews: RemoteViews? = null
     private var expandedNotificationRemoteViews: RemoteViews? = null
     private var pendingOpenIntent: PendingIntent? = null
@@ -93,21 +115,84 @@ class MapboxTripNotification constructor(
 
     override fun getNotificationId(): Int = NOTIFICATION_ID
 
+    /**
+     * Posts the notification only if the content visible to the user changed.
+     * Distance and arrival time changes are posted at most once per
+     * [NavigationOptions.notificationUpdateInterval], the last one once the interval elapsed.
+     * Instruction changes are posted immediately.
+     */
     override fun updateNotification(routeProgress: RouteProgress) {
-        updateNotificationViews(routeProgress)
+        val previousViewModel = currentViewModel
+        val distanceRemaining = routeProgress.currentLegProgress()?.currentStepProgress()
+            ?.distanceRemaining()?.toDouble()
+        val viewModel = NotificationViewModel(
+            routeProgress.bannerInstructions()?.primary()?.text()
+                ?: previousViewModel?.instructionText,
+            routeProgress.currentLegProgress()?.upcomingStep()?.let { getManeuverResource(it) }
+                ?: previousViewModel?.maneuverResource
+                ?: 0,
+            distanceRemaining ?: previousViewModel?.distanceRemaining,
+            distanceRemaining?.let { formatDistanceText(it) } ?: previousViewModel?.distanceText,
+            generateArrivalTime(routeProgress, Calendar.getInstance())
+                ?: previousViewModel?.arrivalText
+        )
+        if (viewModel == previousViewModel) {
+            cancelThrottledUpdate()
+            return
+        }
+        val throttleDelay = lastUpdateTime + notificationUpdateInterval - currentTimeMillis()
+        if (viewModel.hasSameInstruction(previousViewModel) && throttleDelay > 0) {
+            scheduleThrottledUpdate(viewModel, throttleDelay)
+            return
+        }
+        cancelThrottledUpdate()
+        postNotification(viewModel)
+    }
+
+    /**
+     * Keeps the latest throttled content, posted once the update interval elapsed.
+     */
+    private fun scheduleThrottledUpdate(viewModel: NotificationViewModel, delayMillis: Long) {
+        throttledViewModel = viewModel
+        if (throttledUpdateJob?.isActive == true) {
+            return
+        }
+        throttledUpdateJob = mainJobController.scope.launch {
+            delay(delayMillis)
+            val throttled = throttledViewModel
+            throttledViewModel = null
+            if (throttled != null && throttled != currentViewModel) {
+                postNotification(throttled)
+            }
+        }
+    }
+
+    private fun cancelThrottledUpdate() {
+        throttledUpdateJob?.cancel()
+        throttledUpdateJob = null
+        throttledViewModel = null
+    }
+
+    private fun postNotification(viewModel: NotificationViewModel) {
+        updateNotificationViews(viewModel, currentViewModel)
+        currentViewModel = viewModel
+        lastUpdateTime = currentTimeMillis()
+
         notification = navigationNotificationProvider.buildNotification(getNotificationBuilder())
         notificationManager.notify(NOTIFICATION_ID, notification)
     }
 
+    private fun currentTimeMillis(): Long = TimeUnit.NANOSECONDS.toMillis(time.nanoTime())
+
     override fun onTripSessionStarted() {
         registerReceiver()
         notificationActionButtonChannel = Channel(1)
     }
 
     override fun onTripSessionStopped() {
-        currentManeuverId = 0
-        currentInstructionText = null
-        currentDistanceText = null
+        cancelThrottledUpdate()
+        currentViewModel = null
+        lastUpdateTime = 0L
 
         unregisterReceiver()
         try {
@@ -216,52 +301,57 @@ class MapboxTripNotification constructor(
         }
     }
 
-    private fun updateNotificationViews(routeProgress: RouteProgress) {
-        updateInstructionText(routeProgress.bannerInstructions())
-        updateDistanceText(routeProgress)
-        generateArrivalTime(routeProgress, Calendar.getInstance())?.let { formattedTime ->
-            updateViewsWithArrival(formattedTime)
-            val step = routeProgress.currentLegProgress()?.upcomingStep()
-            step?.let { updateManeuverImage(it) }
+    private fun updateNotificationViews(
+        viewModel: NotificationViewModel,
+        previousViewModel: NotificationViewModel?
+    ) {
+        if (viewModel.instructionText != previousViewModel?.instructionText) {
+            updateInstructionText(viewModel.instructionText)
+        }
+        if (!viewModel.hasSameDistance(previousViewModel)) {
+            updateDistanceText(viewModel)
+        }
+        if (!viewModel.hasSameArrival(previousViewModel)) {
+            viewModel.arrivalText?.let { updateViewsWithArrival(it) }
+        }
+        if (viewModel.maneuverResource != previousViewModel?.maneuverResource) {
+            updateManeuverImage(viewModel.maneuverResource)
         }
     }
 
-    private fun updateInstructionText(bannerInstruction: BannerInstructions?) {
-        bannerInstruction?.let { bannerIns ->
-            val primaryText = bannerIns.primary().text()
-            if (currentInstructionText.isNullOrEmpty() || currentInstructionText != primaryText) {
-                collapsedNotificationRemoteViews?.setTextViewText(
-                    R.id.notificationInstructionText, primaryText
-                )
-                expandedNotificationRemoteViews?.setTextViewText(
-                    R.id.notificationInstructionText, primaryText
-                )
-                currentInstructionText = primaryText
-            }
+    private fun updateInstructionText(primaryText: String?) {
+        if (primaryText == null) {
+            return
         }
+        collapsedNotificationRemoteViews?.setTextViewText(
+            R.id.notificationInstructionText, primaryText
+        )
+        expandedNotificationRemoteViews?.setTextViewText(
+            R.id.notificationInstructionText, primaryText
+        )
     }
 
-    private fun updateDistanceText(routeProgress: RouteProgress) {
-        if (currentDistanceText == null || newDistanceText(routeProgress)) {
-            currentDistanceText = ifNonNull(
-                distanceFormatter,
-                routeProgress.currentLegProgress()
-            ) { distanceFormatter, routeLegProgress ->
-                routeLegProgress.currentStepProgress()?.distanceRemaining()?.let {
-                    distanceFormatter.formatDistance(it.toDouble())
-                }
-            }
-            collapsedNotificationRemoteViews?.setTextViewText(
-                R.id.notificationDistanceText,
-                currentDistanceText
-            )
-            expandedNotificationRemoteViews?.setTextViewText(
-                R.id.notificationDistanceText,
-                currentDistanceText
-            )
-        }
+    private fun updateDistanceText(viewModel: NotificationViewModel) {
+        val distanceText = viewModel.distanceText as? SpannableString
+            ?: viewModel.distanceRemaining?.let { distanceFormatter.formatDistance(it) }
+        collapsedNotificationRemoteViews?.setTextViewText(
+            R.id.notificationDistanceText,
+            distanceText
+        )
+        expandedNotificationRemoteViews?.setTextViewText(
+            R.id.notificationDistanceText,
+            distanceText
+        )
     }
 
+    /**
+     * Only the text is needed to tell whether the distance changed, the styled distance is
+     * built once it is posted, if the formatter can format the text alone.
+     */
+    private fun formatDistanceText(distance: Double): CharSequence =
+        (distanceFormatter as? DistanceTextFormatter)?.formatDistanceText(distance)
+            ?: distanceFormatter.formatDistance(distance)
+
     private fun generateArrivalTime(
         routeProgress: RouteProgress,
         time: Calendar
@@ -283,44 +373,25 @@ class MapboxTripNotification constructor(
         expandedNotificationRemoteViews?.setTextViewText(R.id.notificationArrivalText, time)
     }
 
-    private fun newDistanceText(routeProgress: RouteProgress) =
-        ifNonNull(
-            distanceFormatter,
-            routeProgress.currentLegProgress(),
-            currentDistanceText
-        ) { distanceFormatter, currentLegProgress, currentDistanceText ->
-            val item = currentLegProgress.currentStepProgress()?.distanceRemaining()
-            // The call below can return an empty spannable string. toString() will cause a NPE and ?. will not catch it.
-            val str = item?.let {
-                distanceFormatter.formatDistance(it.toDouble())
+    private fun updateManeuverImage(maneuverImageId: Int) {
+        if (maneuverImageId == 0) {
+            return
+        }
+        when (Build.VERSION.SDK_INT > Build.VERSION_CODES.M) {
+            true -> {
+                collapsedNotificationRemoteViews?.setImageViewResource(
+                        R.id.maneuverImage,
+                        maneuverImageId
+                )
+                expandedNotificationRemoteViews?.setImageViewResource(
+                        R.id.maneuverImage,
+                        maneuverImageId
+                )
             }
-            if (str != null) {
-                val formattedDistance = str.toString()
-                currentDistanceText.toString() != formattedDistance
-            } else
-                false
-        } ?: false
-
-    private fun updateManeuverImage(legStep: LegStep) {
-        val maneuverImageId = getManeuverResource(legStep)
-        if (maneuverImageId != currentManeuverId) {
-            currentManeuverId = maneuverImageId
-            when (Build.VERSION.SDK_INT > Build.VERSION_CODES.M) {
-                true -> {
-                    collapsedNotificationRemoteViews?.setImageViewResource(
-                            R.id.maneuverImage,
-                            maneuverImageId
-                    )
-                    expandedNotificationRemoteViews?.setImageViewResource(
-                            R.id.maneuverImage,
-                            maneuverImageId
-                    )
-                }
-                false -> {
-                    getManeuverBitmap(maneuverImageId)?.let { bitmap ->
-                        collapsedNotificationRemoteViews?.setImageViewBitmap(R.id.maneuverImage, bitmap)
-                        expandedNotificationRemoteViews?.setImageViewBitmap(R.id.maneuverImage, bitmap)
-                    }
+            false -> {
+                getManeuverBitmap(maneuverImageId)?.let { bitmap ->
+                    collapsedNotificationRemoteViews?.setImageViewBitmap(R.id.maneuverImage, bitmap)
+                    expandedNotificationRemoteViews?.setImageViewBitmap(R.id.maneuverImage, bitmap)
                 }
             }
         }
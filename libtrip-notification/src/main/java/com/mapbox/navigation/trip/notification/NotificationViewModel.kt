@@ -0,0 +1,52 @@
+package com.mapbox.navigation.trip.notification
+
+/**
+ * Content visible to the user in the trip notification.
+ * Two models rendering the same strings and maneuver image are considered equal,
+ * so an update with an unchanged model can skip the notification post.
+ *
+ * @param instructionText primary banner instruction text
+ * @param maneuverResource drawable id of the upcoming maneuver, 0 if unknown
+ * @param distanceRemaining distance remaining on the current step, in meters
+ * @param distanceText formatted distance remaining on the current step, either its text only or
+ * the styled SpannableString
+ * @param arrivalText formatted arrival time
+ */
+internal class NotificationViewModel(
+    val instructionText: String?,
+    val maneuverResource: Int,
+    val distanceRemaining: Double?,
+    val distanceText: CharSequence?,
+    val arrivalText: String?
+) {
+
+    private val distanceString: String? = distanceText?.toString()
+
+    /**
+     * Instruction and maneuver changes are posted right away, regardless of throttling.
+     */
+    fun hasSameInstruction(other: NotificationViewModel?): Boolean =
+        other != null &&
+            instructionText == other.instructionText &&
+            maneuverResource == other.maneuverResource
+
+    fun hasSameDistance(other: NotificationViewModel?): Boolean =
+        other != null && distanceString == other.distanceString
+
+    fun hasSameArrival(other: NotificationViewModel?): Boolean =
+        other != null && arrivalText == other.arrivalText
+
+    override fun equals(other: Any?): Boolean =
+        other is NotificationViewModel &&
+            hasSameInstruction(other) &&
+            hasSameDistance(other) &&
+            hasSameArrival(other)
+
+    override fun hashCode(): Int {
+        var result = instructionText?.hashCode() ?: 0
+        result = 31 * result + maneuverResource
+        result = 31 * result + (distanceString?.hashCode() ?: 0)
+        result = 31 * result + (arrivalText?.hashCode() ?: 0)
+        return result
+    }
+}
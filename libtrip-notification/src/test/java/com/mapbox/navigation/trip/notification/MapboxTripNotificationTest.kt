@@ -16,11 +16,15 @@ import androidx.appcompat.content.res.AppCompatResources
 import com.mapbox.api.directions.v5.models.BannerInstructions
 import com.mapbox.api.directions.v5.models.BannerText
 import com.mapbox.navigation.base.formatter.DistanceFormatter
+import com.mapbox.navigation.base.formatter.DistanceTextFormatter
 import com.mapbox.navigation.base.options.NavigationOptions
 import com.mapbox.navigation.base.trip.model.RouteLegProgress
 import com.mapbox.navigation.base.trip.model.RouteProgress
 import com.mapbox.navigation.trip.notification.utils.time.TimeFormatter
 import com.mapbox.navigation.utils.NOTIFICATION_ID
+import com.mapbox.navigation.utils.thread.JobControl
+import com.mapbox.navigation.utils.thread.ThreadController
+import com.mapbox.navigation.utils.time.Time
 import io.mockk.Runs
 import io.mockk.every
 import io.mockk.just
@@ -28,15 +32,24 @@ import io.mockk.mockk
 import io.mockk.mockkObject
 import io.mockk.mockkStatic
 import io.mockk.slot
+import io.mockk.unmockkObject
 import io.mockk.verify
 import java.util.Locale
+import java.util.concurrent.TimeUnit
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.test.TestCoroutineDispatcher
+import kotlinx.coroutines.test.TestCoroutineScope
+import org.junit.After
 import org.junit.Assert.assertEquals
 import org.junit.Assert.assertNotNull
 import org.junit.Before
 import org.junit.Test
 
 private const val FORMAT_STRING = "%s 454545 ETA"
+private const val UPDATE_INTERVAL = 60_000L
 
+@ExperimentalCoroutinesApi
 class MapboxTripNotificationTest {
 
     private lateinit var notification: MapboxTripNotification
@@ -46,6 +59,13 @@ class MapboxTripNotificationTest {
     private val navigationOptions: NavigationOptions = mockk(relaxed = true)
     private val distanceSpannable: SpannableString = mockk()
     private val distanceFormatter: DistanceFormatter
+    private val parentJob = SupervisorJob()
+    private val testDispatcher = TestCoroutineDispatcher()
+    private val time = object : Time {
+        override fun nanoTime(): Long = TimeUnit.MILLISECONDS.toNanos(testDispatcher.currentTime)
+
+        override fun millis(): Long = testDispatcher.currentTime
+    }
 
     init {
         val distanceSlot = slot<Double>()
@@ -58,6 +78,10 @@ class MapboxTripNotificationTest {
     fun setUp() {
         mockkStatic(DateFormat::class)
         mockkStatic(PendingIntent::class)
+        mockkObject(ThreadController)
+        every {
+            ThreadController.getMainScopeAndRootJob()
+        } returns JobControl(parentJob, TestCoroutineScope(parentJob + testDispatcher))
         mockedContext = createContext()
         mockRemoteViews()
         notification = MapboxTripNotification(
@@ -66,6 +90,12 @@ class MapboxTripNotificationTest {
         )
     }
 
+    @After
+    fun cleanUp() {
+        parentJob.cancel()
+        unmockkObject(ThreadController)
+    }
+
     private fun mockRemoteViews() {
         mockkObject(RemoteViewsProvider)
         collapsedViews = mockk(relaxUnitFun = true)
@@ -201,6 +231,24 @@ class MapboxTripNotificationTest {
         assertEquals(distanceSpannable, distanceSlot2.captured)
     }
 
+    @Test
+    fun whenDistanceTextUnchangedThenDistanceIsNotFormattedAgain() {
+        val textFormatter = mockk<DistanceFormatter>(moreInterfaces = *arrayOf(DistanceTextFormatter::class))
+        every { (textFormatter as DistanceTextFormatter).formatDistanceText(any()) } returns "30 m"
+        every { textFormatter.formatDistance(any()) } returns distanceSpannable
+        every { navigationOptions.distanceFormatter } returns textFormatter
+        notification = MapboxTripNotification(mockedContext, navigationOptions)
+        val routeProgress = mockk<RouteProgress>(relaxed = true)
+        mockLegProgress(routeProgress, 30f, 112L)
+        mockUpdateNotificationAndroidInteractions()
+
+        notification.updateNotification(routeProgress)
+        notification.updateNotification(routeProgress)
+
+        verify(exactly = 1) { textFormatter.formatDistance(any()) }
+        verify(exactly = 1) { collapsedViews.setTextViewText(any(), distanceSpannable) }
+    }
+
     @Test
     fun whenUpdateNotificationCalledThenArrivalTimeIsSetToRemoteViews() {
         val routeProgress = mockk<RouteProgress>(relaxed = true)
@@ -310,6 +358,87 @@ class MapboxTripNotificationTest {
         verify(exactly = 1) { expandedViews.setTextViewText(any(), primaryText()) }
     }
 
+    @Test
+    fun whenUpdateNotificationCalledTwiceWithSameDataThenNotificationPostedOnce() {
+        val notificationManager =
+            mockedContext.getSystemService(Context.NOTIFICATION_SERVICE) as NotificationManager
+        val routeProgress = mockk<RouteProgress>(relaxed = true)
+        mockBannerText(routeProgress) { "Primary Text" }
+        mockUpdateNotificationAndroidInteractions()
+
+        notification.updateNotification(routeProgress)
+        notification.updateNotification(routeProgress)
+
+        verify(exactly = 1) { notificationManager.notify(NOTIFICATION_ID, any()) }
+    }
+
+    @Test
+    fun whenDistanceChangedWithinUpdateIntervalThenRemoteViewsNotUpdated() {
+        val changedDistanceSpannable = mockk<SpannableString>()
+        val routeProgress = mockThrottledNotification(changedDistanceSpannable)
+
+        notification.updateNotification(routeProgress)
+        notification.updateNotification(routeProgress)
+
+        verify(exactly = 1) { collapsedViews.setTextViewText(any(), distanceSpannable) }
+        verify(exactly = 0) { collapsedViews.setTextViewText(any(), changedDistanceSpannable) }
+    }
+
+    @Test
+    fun whenDistanceChangedWithinUpdateIntervalThenRemoteViewsUpdatedOnceIntervalElapsed() {
+        val changedDistanceSpannable = mockk<SpannableString>()
+        val routeProgress = mockThrottledNotification(changedDistanceSpannable)
+
+        notification.updateNotification(routeProgress)
+        testDispatcher.advanceTimeBy(UPDATE_INTERVAL / 2)
+        notification.updateNotification(routeProgress)
+        testDispatcher.advanceTimeBy(UPDATE_INTERVAL / 2)
+
+        verify(exactly = 1) { collapsedViews.setTextViewText(any(), changedDistanceSpannable) }
+    }
+
+    @Test
+    fun whenTripStoppedThenThrottledUpdateNotPosted() {
+        val changedDistanceSpannable = mockk<SpannableString>()
+        val routeProgress = mockThrottledNotification(changedDistanceSpannable)
+
+        notification.updateNotification(routeProgress)
+        notification.updateNotification(routeProgress)
+        notification.onTripSessionStopped()
+        testDispatcher.advanceTimeBy(UPDATE_INTERVAL)
+
+        verify(exactly = 0) { collapsedViews.setTextViewText(any(), changedDistanceSpannable) }
+    }
+
+    @Test
+    fun whenInstructionChangedWithinUpdateIntervalThenRemoteViewsUpdated() {
+        every { navigationOptions.notificationUpdateInterval } returns UPDATE_INTERVAL
+        notification = MapboxTripNotification(mockedContext, navigationOptions, time)
+        val routeProgress = mockk<RouteProgress>(relaxed = true)
+        var primaryText = "Primary Text"
+        mockBannerText(routeProgress) { primaryText }
+        mockUpdateNotificationAndroidInteractions()
+
+        notification.updateNotification(routeProgress)
+        primaryText = "Changed Primary Text"
+        notification.updateNotification(routeProgress)
+
+        verify(exactly = 1) { collapsedViews.setTextViewText(any(), "Primary Text") }
+        verify(exactly = 1) { collapsedViews.setTextViewText(any(), "Changed Primary Text") }
+    }
+
+    private fun mockThrottledNotification(changedDistanceSpannable: SpannableString): RouteProgress {
+        every { navigationOptions.notificationUpdateInterval } returns UPDATE_INTERVAL
+        notification = MapboxTripNotification(mockedContext, navigationOptions, time)
+        val routeProgress = mockk<RouteProgress>(relaxed = true)
+        mockBannerText(routeProgress) { "Primary Text" }
+        mockLegProgress(routeProgress, 30f, 112L)
+        every { distanceFormatter.formatDistance(any()) } returnsMany
+            listOf(distanceSpannable, changedDistanceSpannable)
+        mockUpdateNotificationAndroidInteractions()
+        return routeProgress
+    }
+
     private fun mockUpdateNotificationAndroidInteractions() {
         mockkStatic(TextUtils::class)
         val slot = slot<CharSequence>()